@@ -0,0 +1,98 @@
+package com.blog.backend.global.concurrency;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 지연이 있는 업로드 요청의 처리량 비교 (플랫폼 스레드 vs 가상 스레드)
+ *
+ * 요청 1건 = DB 작업(풀 크기 세마포어 안에서 dbMillis 블로킹) + S3 putObject(s3LatencyMillis 블로킹)
+ * - platform: Tomcat 기본 최대 스레드 수(200)의 고정 풀
+ * - virtual: 요청마다 가상 스레드 (DB 동시성은 JdbcConcurrencyLimiter와 같은 세마포어로 제한)
+ *
+ * 결과 단위는 초당 요청 수 (S3 지연이 길수록 플랫폼 스레드 풀은 스레드 수에 묶임)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=BlockingIoThroughputBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BlockingIoThroughputBenchmark {
+
+    private static final int REQUESTS = 2_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int JDBC_POOL_SIZE = 10;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"20", "100"})
+    private long s3LatencyMillis;
+
+    @Param({"1"})
+    private long dbMillis;
+
+    private ExecutorService executor;
+    private Semaphore jdbcPermits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        jdbcPermits = new Semaphore(JDBC_POOL_SIZE, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void uploadRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.execute(() -> {
+                try {
+                    handleRequest();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+    }
+
+    private void handleRequest() throws InterruptedException {
+        // 파일 메타데이터 저장 (커넥션 풀 크기만큼만 동시에)
+        jdbcPermits.acquire();
+        try {
+            Thread.sleep(dbMillis);
+        } finally {
+            jdbcPermits.release();
+        }
+
+        // S3 업로드 대기
+        Thread.sleep(s3LatencyMillis);
+    }
+}
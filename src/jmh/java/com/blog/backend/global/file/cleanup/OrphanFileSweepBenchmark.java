@@ -0,0 +1,173 @@
+package com.blog.backend.global.file.cleanup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고아 파일 판별 한 바퀴 비용 비교 (파일 100만 개, H2 인메모리)
+ *
+ * 데이터: storage_file 100만 행, post_file이 60%, user_file이 1%를 참조 (약 39만 개 미사용)
+ * - fullUsedIdSet: 기존 방식. 모든 컬렉터의 사용 ID 전체를 HashSet으로 적재한 뒤 storage_file 전체와 비교
+ * - keysetChunks: OrphanFileSweeper 방식. ID 키셋 청크마다 매핑 테이블을 청크 ID로만 IN 조회
+ *
+ * 삭제는 하지 않고 판별까지만 측정 (S3/삭제 비용은 두 방식이 같음)
+ * 메모리 차이는 -prof gc로 확인 (fullUsedIdSet은 사용 ID 수에 비례, keysetChunks는 청크 크기로 고정)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=OrphanFileSweepBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrphanFileSweepBenchmark {
+
+    private static final int FILE_COUNT = 1_000_000;
+
+    @Param({"500", "1000"})
+    private int chunkSize;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:orphan_sweep;MODE=MariaDB;DB_CLOSE_DELAY=-1");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS storage_file (id BIGINT PRIMARY KEY, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS post_file (post_id BIGINT NOT NULL, file_id BIGINT NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS user_file (user_id BIGINT NOT NULL, file_id BIGINT NOT NULL)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_post_file_file_id ON post_file (file_id)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_user_file_file_id ON user_file (file_id)");
+
+            statement.execute("TRUNCATE TABLE storage_file");
+            statement.execute("TRUNCATE TABLE post_file");
+            statement.execute("TRUNCATE TABLE user_file");
+
+            statement.execute("INSERT INTO storage_file (id, created_at) "
+                    + "SELECT X, DATEADD('DAY', -2, CURRENT_TIMESTAMP) FROM SYSTEM_RANGE(1, " + FILE_COUNT + ")");
+            statement.execute("INSERT INTO post_file (post_id, file_id) "
+                    + "SELECT X / 10, X FROM SYSTEM_RANGE(1, " + FILE_COUNT + ") WHERE MOD(X, 10) < 6");
+            statement.execute("INSERT INTO user_file (user_id, file_id) "
+                    + "SELECT X / 100, X FROM SYSTEM_RANGE(1, " + FILE_COUNT + ") WHERE MOD(X, 100) = 7");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    // ========== 기존: 전체 사용 ID 적재 ========== //
+
+    @Benchmark
+    public long fullUsedIdSet() throws SQLException {
+        Set<Long> usedFileIds = new HashSet<>();
+        readIds("SELECT DISTINCT file_id FROM post_file", usedFileIds);
+        readIds("SELECT DISTINCT file_id FROM user_file", usedFileIds);
+
+        long unused = 0;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id FROM storage_file ORDER BY id")) {
+            while (rs.next()) {
+                if (!usedFileIds.contains(rs.getLong(1))) {
+                    unused++;
+                }
+            }
+        }
+        return unused;
+    }
+
+    // ========== 신규: 키셋 청크 + 후보 한정 조회 ========== //
+
+    @Benchmark
+    public long keysetChunks() throws SQLException {
+        String placeholders = String.join(",", Collections.nCopies(chunkSize, "?"));
+        long boundaryId = FILE_COUNT;
+        long afterId = 0;
+        long unused = 0;
+
+        try (PreparedStatement chunkQuery = connection.prepareStatement(
+                     "SELECT id FROM storage_file WHERE id > ? AND id <= ? ORDER BY id LIMIT ?");
+             PreparedStatement postFileQuery = connection.prepareStatement(
+                     "SELECT DISTINCT file_id FROM post_file WHERE file_id IN (" + placeholders + ")");
+             PreparedStatement userFileQuery = connection.prepareStatement(
+                     "SELECT DISTINCT file_id FROM user_file WHERE file_id IN (" + placeholders + ")")) {
+
+            while (true) {
+                chunkQuery.setLong(1, afterId);
+                chunkQuery.setLong(2, boundaryId);
+                chunkQuery.setInt(3, chunkSize);
+
+                List<Long> chunk = new ArrayList<>(chunkSize);
+                try (ResultSet rs = chunkQuery.executeQuery()) {
+                    while (rs.next()) {
+                        chunk.add(rs.getLong(1));
+                    }
+                }
+
+                if (chunk.isEmpty()) {
+                    return unused;
+                }
+
+                Set<Long> usedFileIds = new HashSet<>();
+                readCandidateIds(postFileQuery, chunk, usedFileIds);
+                readCandidateIds(userFileQuery, chunk, usedFileIds);
+
+                for (Long id : chunk) {
+                    if (!usedFileIds.contains(id)) {
+                        unused++;
+                    }
+                }
+
+                afterId = chunk.get(chunk.size() - 1);
+            }
+        }
+    }
+
+    private void readIds(String sql, Set<Long> target) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                target.add(rs.getLong(1));
+            }
+        }
+    }
+
+    /**
+     * 청크 ID로 IN 조회 (마지막 청크가 짧으면 남는 자리는 마지막 ID로 채움)
+     */
+    private void readCandidateIds(PreparedStatement query, List<Long> chunk, Set<Long> target) throws SQLException {
+        for (int i = 0; i < chunkSize; i++) {
+            query.setLong(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+        }
+
+        try (ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                target.add(rs.getLong(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.blog.backend.global.security.jwt;
+
+import com.blog.backend.feature.user.entity.UserRole;
+import com.blog.backend.global.cache.registry.CacheStatsRegistry;
+import com.blog.backend.global.security.auth.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 1건당 JWT 검증 비용 비교
+ *
+ * - perRequestBefore: 변경 전 필터 (validateToken + getEmail + getUserId, 호출마다 파서 생성 후 파싱 3회)
+ * - singleParse: 미리 만든 파서로 1회 파싱 (검증 캐시 미스와 같은 비용)
+ * - verifyCached: JwtTokenProvider.verify 캐시 히트 (SHA-256 1회 + 캐시 조회)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtTokenProviderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private SecretKey key;
+    private JwtParser parser;
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        String encodedSecret = Base64.getEncoder().encodeToString(secret);
+
+        key = Keys.hmacShaKeyFor(secret);
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        jwtTokenProvider = new JwtTokenProvider(
+                new CacheStatsRegistry(), encodedSecret, 3_600_000L, 1_209_600_000L, 10_000L);
+
+        token = jwtTokenProvider.createAccessToken(CustomUserDetails.builder()
+                .userId(1L)
+                .email("bench@example.com")
+                .nickname("bench")
+                .role(UserRole.USER)
+                .tokenVersion(0)
+                .build());
+    }
+
+    @Benchmark
+    public void perRequestBefore(Blackhole blackhole) {
+        // validateToken
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        // getEmail
+        Claims emailClaims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        blackhole.consume(emailClaims.get("email", String.class));
+        // getUserId
+        Claims idClaims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        blackhole.consume(Long.parseLong(idClaims.getSubject()));
+    }
+
+    @Benchmark
+    public VerifiedToken singleParse() {
+        return VerifiedToken.from(parser.parseClaimsJws(token).getBody());
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyCached() {
+        return jwtTokenProvider.verify(token);
+    }
+}
@@ -0,0 +1,50 @@
+package com.blog.backend.feature.post.cache;
+
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.post.repository.PostRepository;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRegistry;
+import com.blog.backend.global.file.event.ImageVariantsCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 변경 시 공개 데이터 버전 스탬프 갱신 (ETag 무효화)
+ *
+ * - 게시글 변경은 목록/상세/관련 게시글과 스택별 게시글 수에 모두 영향
+ * - 이미지 파생본은 게시글 응답에 썸네일 파생본 목록으로만 포함되므로,
+ *   이미 어떤 게시글의 썸네일인 이미지의 파생본이 생성됐을 때만 갱신
+ *   (업로드 직후 아직 게시글에 연결되지 않은 이미지는 응답을 바꾸지 않음)
+ * - 게시글 변경은 커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션에서 DB 버전을 올려 변경과 함께 커밋하고,
+ *   메모리 반영은 커밋 이후 캐시/검색 인덱스 갱신 리스너보다 나중에 실행되어야
+ *   새 ETag로 이전 데이터가 응답되지 않음 (커밋 직전에 등록되므로 다른 커밋 후처리보다 뒤에 실행)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostContentVersionListener {
+
+    private final ContentVersionRegistry contentVersionRegistry;
+    private final PostRepository postRepository;
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        contentVersionRegistry.bumpAfterCommit(ContentScope.POSTS);
+    }
+
+    /**
+     * 파생본 작업 스레드에서 행 저장(커밋) 이후 발행됨 (트랜잭션 밖이므로 일반 리스너)
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener
+    public void onImageVariantsCreated(ImageVariantsCreatedEvent event) {
+        if (postRepository.existsByThumbnailPath(event.sourcePath())) {
+            contentVersionRegistry.bump(ContentScope.POSTS);
+        }
+    }
+}
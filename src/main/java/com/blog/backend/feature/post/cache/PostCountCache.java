@@ -0,0 +1,98 @@
+package com.blog.backend.feature.post.cache;
+
+import com.blog.backend.feature.post.dto.PostSearchCondition;
+import com.blog.backend.feature.post.entity.PostType;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.global.cache.registry.CacheStatsRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 목록 전체 개수 캐시 (검색 조건 → 개수)
+ *
+ * 설계 의도:
+ * - 목록 페이지마다 실행되던 COUNT(DISTINCT ...) 쿼리를 짧은 시간 동안 재사용
+ * - 키는 정규화된 검색 조건 (빈 값은 null, 대소문자 무시 - MariaDB 기본 collation과 동일)
+ * - 게시글 변경 커밋 이후 전체 무효화, 그 외 오차는 짧은 TTL로 상한을 둠
+ */
+@Slf4j
+@Component
+public class PostCountCache {
+
+    public static final String CACHE_NAME = "postCount";
+
+    private final Cache<Key, Long> cache;
+
+    public PostCountCache(
+            CacheStatsRegistry cacheStatsRegistry,
+            @Value("${app.cache.post-count.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.post-count.expire-after-write-seconds:30}") long expireAfterWriteSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+
+        cacheStatsRegistry.register(CACHE_NAME, cache);
+    }
+
+    /**
+     * 조건별 전체 개수 조회, 없으면 counter로 계산 후 저장
+     *
+     * @param userId 내 게시글 조회 시 사용자 ID (공개 조회는 null)
+     * @param condition 검색 조건
+     * @param counter 캐시 미스 시 실행할 count 쿼리
+     * @return 전체 개수
+     */
+    public long get(Long userId, PostSearchCondition condition, LongSupplier counter) {
+        return cache.get(Key.of(userId, condition), key -> counter.getAsLong());
+    }
+
+    /**
+     * 게시글 생성/수정/삭제/복구/영구 삭제 커밋 이후 전체 무효화
+     * - 키워드 조건 개수는 제목/요약 수정에도 바뀌므로 변경 유형과 무관하게 비움
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        cache.invalidateAll();
+        log.debug("게시글 개수 캐시 무효화: postId={}, type={}", event.postId(), event.changeType());
+    }
+
+    /**
+     * 정규화된 검색 조건 키
+     */
+    private record Key(
+            Long userId,
+            String nickname,
+            PostType postType,
+            String stackName,
+            String keyword
+    ) {
+        static Key of(Long userId, PostSearchCondition condition) {
+            return new Key(
+                    userId,
+                    normalize(condition.getNickname()),
+                    condition.getPostType(),
+                    normalize(condition.getStackName()),
+                    normalize(condition.getKeyword())
+            );
+        }
+
+        private static String normalize(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            return value.toLowerCase(Locale.ROOT);
+        }
+    }
+}
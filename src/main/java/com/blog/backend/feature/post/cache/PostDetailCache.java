@@ -0,0 +1,201 @@
+package com.blog.backend.feature.post.cache;
+
+import com.blog.backend.feature.post.dto.PostResponse;
+import com.blog.backend.feature.post.event.PostChangeType;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.post.event.RelatedPostsChangedEvent;
+import com.blog.backend.feature.stack.event.StackChangedEvent;
+import com.blog.backend.feature.user.event.AuthorChangedEvent;
+import com.blog.backend.global.cache.registry.CacheStatsRegistry;
+import com.blog.backend.global.file.dto.ImageVariantResponse;
+import com.blog.backend.global.file.event.ImageVariantsCreatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 공개 게시글 상세 캐시 (slug → PostResponse.Detail)
+ *
+ * 설계 의도:
+ * - 발행된 게시글은 거의 바뀌지 않으므로 관련 게시글까지 조립된 상세 DTO를 그대로 보관
+ * - 캐시 히트 시 게시글/작성자/관련 게시글 쿼리가 모두 생략됨
+ * - 본문 길이 편차가 크므로 엔트리 수가 아닌 추정 바이트(가중치) 기준으로 용량 제한
+ *
+ * 무효화:
+ * - 게시글 수정/삭제/복구/영구 삭제 트랜잭션이 커밋된 이후에만 무효화 (PostChangedEvent)
+ * - 변경된 게시글을 관련 게시글로 보여주고 있는 상세도 함께 무효화
+ * - 관련 게시글 목록이 재계산된 게시글도 무효화 (RelatedPostsChangedEvent)
+ * - 썸네일 파생본이 뒤늦게 생성되면 그 이미지를 쓰는 상세를 무효화 (ImageVariantsCreatedEvent)
+ * - 작성자 닉네임/프로필 이미지가 바뀌면 전체 무효화 (AuthorChangedEvent)
+ * - 스택 이름이 바뀌거나 스택이 삭제되면 전체 무효화 (StackChangedEvent)
+ * - 그 외 누락된 갱신은 expireAfterWrite로 지연 상한을 둠
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    public static final String CACHE_NAME = "postDetail";
+
+    /**
+     * DTO 객체 헤더, 리스트, 날짜 등 문자열 외 고정 비용 (대략치)
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+    private static final int RELATED_ITEM_OVERHEAD_BYTES = 256;
+    private static final int VARIANT_OVERHEAD_BYTES = 64;
+
+    private final Cache<String, PostResponse.Detail> cache;
+
+    public PostDetailCache(
+            CacheStatsRegistry cacheStatsRegistry,
+            @Value("${app.cache.post-detail.max-weight-mb:64}") long maxWeightMb,
+            @Value("${app.cache.post-detail.expire-after-write-minutes:60}") long expireAfterWriteMinutes
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightMb * 1024 * 1024)
+                .<String, PostResponse.Detail>weigher((slug, detail) -> weigh(slug, detail))
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+
+        cacheStatsRegistry.register(CACHE_NAME, cache);
+    }
+
+    /**
+     * slug로 상세 조회, 없으면 loader로 조립 후 저장
+     * - 같은 slug에 대한 동시 미스는 한 번만 로딩됨
+     * - loader가 예외를 던지면 (게시글 없음 등) 캐시에 저장되지 않음
+     *
+     * @param slug 게시글 slug
+     * @param loader 캐시 미스 시 상세 DTO를 조립하는 함수
+     * @return 게시글 상세
+     */
+    public PostResponse.Detail get(String slug, Function<String, PostResponse.Detail> loader) {
+        return cache.get(slug, loader);
+    }
+
+    /**
+     * 게시글 변경 커밋 이후 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        cache.invalidateAll(event.slugs());
+
+        // 생성은 기존 상세의 관련 게시글을 바꾸지 않음 (TTL로 반영)
+        if (event.changeType() == PostChangeType.CREATED) {
+            return;
+        }
+
+        List<String> referencingSlugs = cache.asMap().entrySet().stream()
+                .filter(entry -> containsRelatedPost(entry.getValue(), event.postId()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        cache.invalidateAll(referencingSlugs);
+
+        log.debug("게시글 상세 캐시 무효화: postId={}, type={}, slugs={}, referencing={}",
+                event.postId(), event.changeType(), event.slugs(), referencingSlugs.size());
+    }
+
+    /**
+     * 관련 게시글 목록 재계산 커밋 이후 해당 게시글 상세 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRelatedPostsChanged(RelatedPostsChangedEvent event) {
+        cache.asMap().values().removeIf(detail -> event.postIds().contains(detail.getId()));
+    }
+
+    /**
+     * 썸네일 파생본 생성 이후 해당 이미지를 썸네일로 쓰는 상세 무효화 (관련 게시글 카드 포함)
+     * - 파생본 작업 스레드에서 행 저장(커밋)이 끝난 뒤 발행됨
+     */
+    @EventListener
+    public void onImageVariantsCreated(ImageVariantsCreatedEvent event) {
+        String sourcePath = event.sourcePath();
+        cache.asMap().values().removeIf(detail -> sourcePath.equals(detail.getThumbnailPath())
+                || detail.getRelatedPosts().stream().anyMatch(item -> sourcePath.equals(item.getThumbnailPath())));
+    }
+
+    /**
+     * 작성자 정보 변경 커밋 이후 전체 무효화
+     * - 상세와 관련 게시글 카드 모두 작성자 정보를 복사해 두며, 닉네임은 공개 URL 검증에도 쓰임
+     * - 상세 DTO에는 작성자 ID가 없어 대상만 골라낼 수 없고, 프로필 변경은 드물어 전체 무효화 비용이 작음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        cache.invalidateAll();
+        log.debug("작성자 변경으로 게시글 상세 캐시 전체 무효화: userId={}", event.userId());
+    }
+
+    /**
+     * 스택 이름 변경/삭제 커밋 이후 전체 무효화
+     * - 상세와 관련 게시글 카드 모두 스택 이름을 복사해 두며, 스택 변경은 드물어 전체 무효화 비용이 작음
+     * - 게시글 ETag 갱신보다 먼저 처리되어 새 ETag로 이전 스택 이름이 나가지 않음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStackChanged(StackChangedEvent event) {
+        cache.invalidateAll();
+        log.debug("스택 변경으로 게시글 상세 캐시 전체 무효화: stackId={}", event.stackId());
+    }
+
+    private static boolean containsRelatedPost(PostResponse.Detail detail, Long postId) {
+        return detail.getRelatedPosts().stream()
+                .anyMatch(item -> item.getId().equals(postId));
+    }
+
+    /**
+     * 상세 DTO의 힙 사용량 추정 (문자열은 UTF-16 기준 상한)
+     */
+    private static int weigh(String slug, PostResponse.Detail detail) {
+        long chars = length(slug)
+                + length(detail.getTitle())
+                + length(detail.getExcerpt())
+                + length(detail.getContent())
+                + length(detail.getThumbnailPath())
+                + totalLength(detail.getTags())
+                + totalLength(detail.getStacks());
+
+        long bytes = ENTRY_OVERHEAD_BYTES + chars * 2 + variantBytes(detail.getThumbnailVariants());
+
+        for (PostResponse.PostItems item : detail.getRelatedPosts()) {
+            long itemChars = length(item.getSlug())
+                    + length(item.getTitle())
+                    + length(item.getExcerpt())
+                    + length(item.getThumbnailPath())
+                    + totalLength(item.getTags())
+                    + totalLength(item.getStacks());
+            bytes += RELATED_ITEM_OVERHEAD_BYTES + itemChars * 2 + variantBytes(item.getThumbnailVariants());
+        }
+
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static long variantBytes(List<ImageVariantResponse> variants) {
+        if (variants == null) {
+            return 0;
+        }
+        return variants.stream()
+                .mapToLong(variant -> VARIANT_OVERHEAD_BYTES + length(variant.path()) * 2L)
+                .sum();
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static long totalLength(List<String> values) {
+        if (values == null) {
+            return 0;
+        }
+        return values.stream().mapToLong(PostDetailCache::length).sum();
+    }
+}
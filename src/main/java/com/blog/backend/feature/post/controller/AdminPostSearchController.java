@@ -0,0 +1,35 @@
+package com.blog.backend.feature.post.controller;
+
+import com.blog.backend.feature.post.dto.PostSearchRebuildResponse;
+import com.blog.backend.feature.post.search.PostSearchEngine;
+import com.blog.backend.global.core.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 어드민 게시글 검색 컨트롤러
+ *
+ * 전문 검색 인덱스 관리 (어드민 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/post-search")
+@RequiredArgsConstructor
+public class AdminPostSearchController {
+
+    private final PostSearchEngine postSearchEngine;
+
+    /**
+     * 전문 검색 인덱스 재구축
+     * POST /api/admin/post-search/rebuild
+     *
+     * - 인덱스 유실, 스택 이름 변경 등으로 어긋난 색인 보정용
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<PostSearchRebuildResponse>> rebuild() {
+        PostSearchRebuildResponse response = postSearchEngine.rebuild();
+        return ResponseEntity.ok(ApiResponse.success(response, "검색 인덱스가 재구축되었습니다"));
+    }
+}
@@ -0,0 +1,35 @@
+package com.blog.backend.feature.post.controller;
+
+import com.blog.backend.feature.post.dto.RelatedPostRebuildResponse;
+import com.blog.backend.feature.post.service.RelatedPostService;
+import com.blog.backend.global.core.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 어드민 관련 게시글 컨트롤러
+ *
+ * 관련 게시글 읽기 모델(related_posts) 관리 (어드민 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/related-posts")
+@RequiredArgsConstructor
+public class AdminRelatedPostController {
+
+    private final RelatedPostService relatedPostService;
+
+    /**
+     * 관련 게시글 전체 재계산
+     * POST /api/admin/related-posts/rebuild
+     *
+     * - 배포 직후 백필, 스택 삭제 등으로 어긋난 데이터 보정용
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<RelatedPostRebuildResponse>> rebuild() {
+        RelatedPostRebuildResponse response = relatedPostService.rebuildAll();
+        return ResponseEntity.ok(ApiResponse.success(response, "관련 게시글이 재계산되었습니다"));
+    }
+}
@@ -6,12 +6,15 @@ import com.blog.backend.feature.post.dto.PostSearchCondition;
 import com.blog.backend.feature.post.entity.PostType;
 import com.blog.backend.feature.post.service.MyPostService;
 import com.blog.backend.global.core.response.ApiResponse;
+import com.blog.backend.global.core.response.CursorPageResponse;
 import com.blog.backend.global.core.response.PageResponse;
+import com.blog.backend.global.core.response.SliceResponse;
 import com.blog.backend.global.security.auth.CustomUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -46,7 +49,7 @@ public class MyPostController {
             @RequestBody @Valid PostRequest.Create request
     ) {
         PostResponse.Detail response = myPostService.createPost(
-                userDetails.getUser(),
+                userDetails.getUserId(),
                 request
         );
         return ResponseEntity
@@ -143,6 +146,55 @@ public class MyPostController {
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(posts)));
     }
 
+    /**
+     * 내 게시글 검색 (Slice, 전체 개수 없음)
+     * GET /api/my/posts/slice
+     *
+     * - 검색 조건은 /api/my/posts와 동일, count 쿼리 없음
+     */
+    @GetMapping("/slice")
+    public ResponseEntity<ApiResponse<SliceResponse<PostResponse.PostItems>>> searchMyPostsSlice(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(required = false) String stack,
+            @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        PostSearchCondition condition = PostSearchCondition.ofMine(postType, stack, keyword);
+        Slice<PostResponse.PostItems> posts = myPostService.searchMyPostsSlice(
+                userDetails.getUserId(),
+                condition,
+                pageable
+        );
+        return ResponseEntity.ok(ApiResponse.success(SliceResponse.from(posts)));
+    }
+
+    /**
+     * 내 게시글 검색 (커서 기반)
+     * GET /api/my/posts/cursor
+     *
+     * - 검색 조건은 /api/my/posts와 동일
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략), size: 기본 10, 최대 50
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PostResponse.PostItems>>> searchMyPostsByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(required = false) String stack,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        PostSearchCondition condition = PostSearchCondition.ofMine(postType, stack, keyword);
+        CursorPageResponse<PostResponse.PostItems> posts = myPostService.searchMyPostsByCursor(
+                userDetails.getUserId(),
+                condition,
+                cursor,
+                size
+        );
+        return ResponseEntity.ok(ApiResponse.success(posts));
+    }
+
     /**
      * 삭제된 게시글 목록 조회
      * GET /api/my/posts/deleted
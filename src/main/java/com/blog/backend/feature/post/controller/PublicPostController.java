@@ -4,13 +4,21 @@ import com.blog.backend.feature.post.dto.PostResponse;
 import com.blog.backend.feature.post.dto.PostSearchCondition;
 import com.blog.backend.feature.post.entity.PostType;
 import com.blog.backend.feature.post.service.PublicPostService;
+import com.blog.backend.global.cache.response.CachedResponse;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRegistry;
 import com.blog.backend.global.core.response.ApiResponse;
+import com.blog.backend.global.core.response.ConditionalResponse;
+import com.blog.backend.global.core.response.CursorPageResponse;
 import com.blog.backend.global.core.response.PageResponse;
+import com.blog.backend.global.core.response.SliceResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,6 +29,7 @@ import java.util.List;
  *
  * 모든 사용자가 접근 가능한 공개 게시글 관련 API
  * - PUBLISHED 상태의 게시글만 조회 가능
+ * - 모든 조회는 ETag(If-None-Match) 조건부 GET 지원: 변경이 없으면 DTO 생성 없이 304
  */
 @RestController
 @RequestMapping("/api/posts")
@@ -28,6 +37,7 @@ import java.util.List;
 public class PublicPostController {
 
     private final PublicPostService publicPostService;
+    private final ContentVersionRegistry contentVersionRegistry;
 
     /**
      * 게시글 상세 조회 (Nickname + Slug 기반)
@@ -39,11 +49,14 @@ public class PublicPostController {
      */
     @GetMapping("/{nickname}/{slug}")
     public ResponseEntity<ApiResponse<PostResponse.Detail>> getPostByNicknameAndSlug(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @PathVariable String nickname,
             @PathVariable String slug
     ) {
-        PostResponse.Detail response = publicPostService.getPostByNicknameAndSlug(nickname, slug);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ConditionalResponse.ok(ifNoneMatch, postsETag(), () -> {
+            PostResponse.Detail response = publicPostService.getPostByNicknameAndSlug(nickname, slug);
+            return ApiResponse.success(response);
+        });
     }
 
     /**
@@ -53,21 +66,80 @@ public class PublicPostController {
      * 쿼리 파라미터:
      * - postType: 게시글 타입 (선택)
      * - stack: 스택명 (선택)
-     * - keyword: 검색어 (선택) - 제목, 요약에서 검색
+     * - keyword: 검색어 (선택) - 제목, 요약, 본문, 태그, 스택에서 검색 (관련도순)
      * - page, size, sort
      *
+     * 첫 페이지(page, keyword 없음)는 직렬화된 응답 바이트 캐시 사용
+     *
      * @return 공개 게시글 페이지
      */
+    @CachedResponse(scopes = ContentScope.POSTS, params = {"postType", "stack", "size", "sort"})
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<PostResponse.PostItems>>> searchPosts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(required = false) String stack,
+            @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return ConditionalResponse.ok(ifNoneMatch, postsETag(), () -> {
+            PostSearchCondition condition = PostSearchCondition.ofPublic(postType, stack, keyword);
+            Page<PostResponse.PostItems> posts = publicPostService.searchPosts(condition, pageable);
+            return ApiResponse.success(PageResponse.from(posts));
+        });
+    }
+
+    /**
+     * 공개 게시글 검색 (Slice, 전체 개수 없음)
+     * GET /api/posts/slice
+     *
+     * 쿼리 파라미터는 /api/posts와 동일
+     * 전체 개수(count 쿼리)가 필요 없는 무한 스크롤용
+     *
+     * @return 공개 게시글 Slice
+     */
+    @GetMapping("/slice")
+    public ResponseEntity<ApiResponse<SliceResponse<PostResponse.PostItems>>> searchPostsSlice(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @RequestParam(required = false) PostType postType,
             @RequestParam(required = false) String stack,
             @RequestParam(required = false) String keyword,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        PostSearchCondition condition = PostSearchCondition.ofPublic(postType, stack, keyword);
-        Page<PostResponse.PostItems> posts = publicPostService.searchPosts(condition, pageable);
-        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(posts)));
+        return ConditionalResponse.ok(ifNoneMatch, postsETag(), () -> {
+            PostSearchCondition condition = PostSearchCondition.ofPublic(postType, stack, keyword);
+            Slice<PostResponse.PostItems> posts = publicPostService.searchPostsSlice(condition, pageable);
+            return ApiResponse.success(SliceResponse.from(posts));
+        });
+    }
+
+    /**
+     * 공개 게시글 검색 (커서 기반)
+     * GET /api/posts/cursor
+     *
+     * 쿼리 파라미터:
+     * - postType, stack, keyword: /api/posts와 동일
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략)
+     * - size: 페이지 크기 (기본 10, 최대 50)
+     *
+     * 최신순 고정, 페이지가 깊어져도 조회 비용이 일정함
+     *
+     * @return 공개 게시글 커서 페이지
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PostResponse.PostItems>>> searchPostsByCursor(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(required = false) String stack,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ConditionalResponse.ok(ifNoneMatch, postsETag(), () -> {
+            PostSearchCondition condition = PostSearchCondition.ofPublic(postType, stack, keyword);
+            CursorPageResponse<PostResponse.PostItems> posts = publicPostService.searchPostsByCursor(condition, cursor, size);
+            return ApiResponse.success(posts);
+        });
     }
 
     /**
@@ -77,7 +149,7 @@ public class PublicPostController {
      * 쿼리 파라미터:
      * - postType: 게시글 타입 (선택)
      * - stack: 스택명 (선택)
-     * - keyword: 검색어 (선택) - 제목, 요약에서 검색
+     * - keyword: 검색어 (선택) - 제목, 요약, 본문, 태그, 스택에서 검색 (관련도순)
      * - page, size, sort
      *
      * @param nickname 사용자 닉네임
@@ -85,15 +157,72 @@ public class PublicPostController {
      */
     @GetMapping("/user/{nickname}")
     public ResponseEntity<ApiResponse<PageResponse<PostResponse.PostItems>>> getUserPublicPosts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @PathVariable String nickname,
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(required = false) String stack,
+            @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return ConditionalResponse.ok(ifNoneMatch, postsETag(), () -> {
+            PostSearchCondition condition = PostSearchCondition.ofUser(nickname, postType, stack, keyword);
+            Page<PostResponse.PostItems> posts = publicPostService.searchPosts(condition, pageable);
+            return ApiResponse.success(PageResponse.from(posts));
+        });
+    }
+
+    /**
+     * 특정 사용자의 공개된 게시글 조회 (Slice, 전체 개수 없음)
+     * GET /api/posts/user/{nickname}/slice
+     *
+     * 쿼리 파라미터는 /api/posts/user/{nickname}과 동일
+     *
+     * @param nickname 사용자 닉네임
+     * @return 해당 사용자의 공개 게시글 Slice
+     */
+    @GetMapping("/user/{nickname}/slice")
+    public ResponseEntity<ApiResponse<SliceResponse<PostResponse.PostItems>>> getUserPublicPostsSlice(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @PathVariable String nickname,
             @RequestParam(required = false) PostType postType,
             @RequestParam(required = false) String stack,
             @RequestParam(required = false) String keyword,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        PostSearchCondition condition = PostSearchCondition.ofUser(nickname, postType, stack, keyword);
-        Page<PostResponse.PostItems> posts = publicPostService.searchPosts(condition, pageable);
-        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(posts)));
+        return ConditionalResponse.ok(ifNoneMatch, postsETag(), () -> {
+            PostSearchCondition condition = PostSearchCondition.ofUser(nickname, postType, stack, keyword);
+            Slice<PostResponse.PostItems> posts = publicPostService.searchPostsSlice(condition, pageable);
+            return ApiResponse.success(SliceResponse.from(posts));
+        });
+    }
+
+    /**
+     * 특정 사용자의 공개된 게시글 조회 (커서 기반)
+     * GET /api/posts/user/{nickname}/cursor
+     *
+     * 쿼리 파라미터:
+     * - postType, stack, keyword: /api/posts/user/{nickname}과 동일
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략)
+     * - size: 페이지 크기 (기본 10, 최대 50)
+     *
+     * @param nickname 사용자 닉네임
+     * @return 해당 사용자의 공개 게시글 커서 페이지
+     */
+    @GetMapping("/user/{nickname}/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PostResponse.PostItems>>> getUserPublicPostsByCursor(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @PathVariable String nickname,
+            @RequestParam(required = false) PostType postType,
+            @RequestParam(required = false) String stack,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ConditionalResponse.ok(ifNoneMatch, postsETag(), () -> {
+            PostSearchCondition condition = PostSearchCondition.ofUser(nickname, postType, stack, keyword);
+            CursorPageResponse<PostResponse.PostItems> posts = publicPostService.searchPostsByCursor(condition, cursor, size);
+            return ApiResponse.success(posts);
+        });
     }
 
     /**
@@ -109,9 +238,20 @@ public class PublicPostController {
      */
     @GetMapping("/autocomplete")
     public ResponseEntity<ApiResponse<List<PostResponse.PostItems>>> autocomplete(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @RequestParam(required = false, defaultValue = "") String keyword
     ) {
-        List<PostResponse.PostItems> results = publicPostService.autocomplete(keyword);
-        return ResponseEntity.ok(ApiResponse.success(results));
+        return ConditionalResponse.ok(ifNoneMatch, postsETag(), () -> {
+            List<PostResponse.PostItems> results = publicPostService.autocomplete(keyword);
+            return ApiResponse.success(results);
+        });
+    }
+
+    /**
+     * 공개 게시글 ETag (게시글 변경 커밋마다 갱신되는 버전 스탬프)
+     * - 상세에도 관련 게시글/작성자 정보가 포함되므로 전체 게시글 버전을 사용
+     */
+    private String postsETag() {
+        return contentVersionRegistry.etag(ContentScope.POSTS);
     }
-}
\ No newline at end of file
+}
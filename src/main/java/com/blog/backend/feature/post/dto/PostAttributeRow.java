@@ -0,0 +1,13 @@
+package com.blog.backend.feature.post.dto;
+
+/**
+ * 게시글별 스택/태그 일괄 조회용 프로젝션
+ *
+ * @param postId 게시글 ID
+ * @param value 스택 이름 또는 태그
+ */
+public record PostAttributeRow(
+        Long postId,
+        String value
+) {
+}
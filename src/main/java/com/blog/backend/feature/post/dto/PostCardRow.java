@@ -0,0 +1,26 @@
+package com.blog.backend.feature.post.dto;
+
+import com.blog.backend.feature.post.entity.PostStatus;
+import com.blog.backend.feature.post.entity.PostType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 조회 프로젝션 (카드 필드만)
+ *
+ * - 본문(content, TEXT)을 조회하지 않음
+ * - 작성자는 ID만 조회 (users 조인 없음), 닉네임/프로필은 PostItemsMapper가 AuthorCache에서 채움
+ * - 스택/태그는 PostItemsMapper가 ID 목록으로 한 번에 조회
+ */
+public record PostCardRow(
+        Long id,
+        String slug,
+        String title,
+        String excerpt,
+        PostType postType,
+        PostStatus status,
+        String thumbnailPath,
+        LocalDateTime createdAt,
+        Long authorId
+) {
+}
@@ -0,0 +1,77 @@
+package com.blog.backend.feature.post.dto;
+
+import com.blog.backend.global.core.exception.CustomException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서 (createdAt, id)
+ *
+ * - 최신순(createdAt DESC, id DESC) 정렬에서 마지막으로 받은 게시글 위치
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출되어 내부 구조에 의존하지 않도록 함
+ *
+ * @param createdAt 마지막 게시글 작성일
+ * @param id 마지막 게시글 ID (작성일이 같을 때 순서 보장)
+ */
+public record PostCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    /**
+     * 커서 모드 정렬 (keyset 조건과 반드시 일치해야 함)
+     */
+    public static final Sort SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 50;
+
+    private static final String DELIMITER = "_";
+
+    public static PostCursor from(PostResponse.PostItems item) {
+        return new PostCursor(item.getCreatedAt(), item.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @return 커서 (첫 페이지면 null)
+     * @throws CustomException 형식이 잘못된 커서
+     */
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw CustomException.badRequest("유효하지 않은 커서입니다");
+            }
+
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.valueOf(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw CustomException.badRequest("유효하지 않은 커서입니다");
+        }
+    }
+
+    /**
+     * 요청 크기를 1 ~ MAX_SIZE 범위로 보정
+     */
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
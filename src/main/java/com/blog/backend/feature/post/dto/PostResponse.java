@@ -2,6 +2,8 @@ package com.blog.backend.feature.post.dto;
 
 import com.blog.backend.feature.post.entity.PostType;
 import com.blog.backend.feature.post.entity.PostStatus;
+import com.blog.backend.feature.user.dto.AuthorSummary;
+import com.blog.backend.global.file.dto.ImageVariantResponse;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -19,6 +21,10 @@ public class PostResponse {
         private String nickname;
         private String profileImagePath;
 
+        public static AuthorInfo from(AuthorSummary author) {
+            return of(author.nickname(), author.profileImagePath());
+        }
+
         public static AuthorInfo of(String nickname, String profileImageUrl) {
             return AuthorInfo.builder()
                     .nickname(nickname)
@@ -41,6 +47,7 @@ public class PostResponse {
         private PostType postType;
         private PostStatus status;
         private String thumbnailPath;
+        private List<ImageVariantResponse> thumbnailVariants;
         private List<String> tags;
         private List<String> stacks;
         private AuthorInfo author;
@@ -58,6 +65,7 @@ public class PostResponse {
                 PostType postType,
                 PostStatus status,
                 String thumbnailPath,
+                List<ImageVariantResponse> thumbnailVariants,
                 List<String> tags,
                 List<String> stacks,
                 AuthorInfo author,
@@ -71,6 +79,7 @@ public class PostResponse {
                     .postType(postType)
                     .status(status)
                     .thumbnailPath(thumbnailPath)
+                    .thumbnailVariants(thumbnailVariants != null ? thumbnailVariants : List.of())
                     .tags(tags)
                     .stacks(stacks)
                     .author(author)
@@ -94,6 +103,7 @@ public class PostResponse {
         private String content;
         private PostStatus status;
         private String thumbnailPath;
+        private List<ImageVariantResponse> thumbnailVariants;
         private List<String> tags;
         private List<String> stacks;
         private AuthorInfo author;
@@ -114,6 +124,7 @@ public class PostResponse {
                 String content,
                 PostStatus status,
                 String thumbnailPath,
+                List<ImageVariantResponse> thumbnailVariants,
                 List<String> tags,
                 List<String> stacks,
                 AuthorInfo author,
@@ -130,6 +141,7 @@ public class PostResponse {
                     .content(content)
                     .status(status)
                     .thumbnailPath(thumbnailPath)
+                    .thumbnailVariants(thumbnailVariants != null ? thumbnailVariants : List.of())
                     .tags(tags)
                     .stacks(stacks)
                     .author(author)
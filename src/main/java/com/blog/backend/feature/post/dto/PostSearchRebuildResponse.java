@@ -0,0 +1,16 @@
+package com.blog.backend.feature.post.dto;
+
+import lombok.Builder;
+
+/**
+ * 전문 검색 인덱스 재구축 결과
+ *
+ * @param documentCount 색인된 공개 게시글 수
+ * @param elapsedMillis 소요 시간 (ms)
+ */
+@Builder
+public record PostSearchRebuildResponse(
+        int documentCount,
+        long elapsedMillis
+) {
+}
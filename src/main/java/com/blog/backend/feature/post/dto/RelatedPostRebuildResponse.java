@@ -0,0 +1,18 @@
+package com.blog.backend.feature.post.dto;
+
+import lombok.Builder;
+
+/**
+ * 관련 게시글 전체 재계산 결과
+ *
+ * @param postCount 재계산한 공개 게시글 수
+ * @param relationCount 저장된 관련 게시글 행 수
+ * @param elapsedMillis 소요 시간 (ms)
+ */
+@Builder
+public record RelatedPostRebuildResponse(
+        int postCount,
+        int relationCount,
+        long elapsedMillis
+) {
+}
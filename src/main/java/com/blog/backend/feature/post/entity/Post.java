@@ -6,14 +6,28 @@ import com.blog.backend.global.core.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+/**
+ * 게시글 (카드/상태 메타데이터)
+ *
+ * - 본문은 PostContent(post_contents)로 분리해 목록/상태 변경 시 로딩하지 않음
+ * - @DynamicUpdate: 상태 변경 등은 바뀐 컬럼만 UPDATE
+ */
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 커서(keyset) 페이지네이션: 공개 목록, 내 게시글 목록
+        @Index(name = "idx_posts_status_created_at", columnList = "status, created_at, id"),
+        @Index(name = "idx_posts_user_created_at", columnList = "user_id, created_at, id"),
+        // 휴지통(삭제된 게시글) 목록
+        @Index(name = "idx_posts_user_status_deleted_at", columnList = "user_id, status, deleted_at")
+})
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseTimeEntity {
@@ -46,10 +60,6 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false, length = 500)
     private String excerpt;
 
-    @Lob
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
-
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private PostStatus status;
@@ -83,13 +93,12 @@ public class Post extends BaseTimeEntity {
     // === 생성자 === //
     @Builder
     public Post(User user, PostType postType, String title, String slug, String excerpt,
-                String content, PostStatus status, String thumbnailPath) {
+                PostStatus status, String thumbnailPath) {
         this.user = user;
         this.postType = postType;
         this.title = title;
         this.slug = slug;
         this.excerpt = excerpt;
-        this.content = content;
         this.status = status != null ? status : PostStatus.DELETED;
         this.thumbnailPath = thumbnailPath;
     }
@@ -97,14 +106,13 @@ public class Post extends BaseTimeEntity {
     // === 비즈니스 로직 === //
 
     /**
-     * 게시글 수정
+     * 게시글 수정 (본문은 PostContent에서 수정)
      */
-    public void update(PostType category, String title, String slug, String excerpt, String content) {
+    public void update(PostType category, String title, String slug, String excerpt) {
         this.postType = category;
         this.title = title;
         this.slug = slug;
         this.excerpt = excerpt;
-        this.content = content;
     }
 
     /**
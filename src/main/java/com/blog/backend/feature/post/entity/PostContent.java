@@ -0,0 +1,59 @@
+package com.blog.backend.feature.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+/**
+ * 게시글 본문 (마크다운)
+ *
+ * 설계 의도:
+ * - 목록/상태 변경에 필요 없는 TEXT 본문을 posts 행에서 분리
+ * - posts와 PK를 공유하는 1:1 (post_contents.post_id = posts.id)
+ * - Post에서는 참조하지 않으므로 상세/수정/색인 경로에서 명시적으로 조회할 때만 로딩
+ */
+@Entity
+@Table(name = "post_contents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostContent {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "post_id")
+    private Post post;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    // === 생성자 === //
+    @Builder
+    public PostContent(Post post, String content) {
+        this.post = post;
+        this.content = content;
+    }
+
+    // === 비즈니스 로직 === //
+
+    /**
+     * 본문 수정
+     *
+     * @return 본문이 실제로 변경되었는지 여부
+     */
+    public boolean update(String content) {
+        if (Objects.equals(this.content, content)) {
+            return false;
+        }
+        this.content = content;
+        return true;
+    }
+}
@@ -0,0 +1,79 @@
+package com.blog.backend.feature.post.entity;
+
+import com.blog.backend.global.core.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관련 게시글 읽기 모델
+ *
+ * 설계 의도:
+ * - 게시글 상세 조회 시 관련 게시글을 매번 계산하지 않도록 미리 계산해 저장
+ * - 게시글의 스택, 타입, 상태가 바뀔 때만 영향받는 게시글의 행을 다시 계산
+ * - 상세 조회는 post_id 인덱스 한 번으로 관련 게시글 ID를 순서대로 읽음
+ * - 최신 게시글로 채운 행은 fallback으로 표시해 새 게시글 공개 시 해당 목록만 다시 계산
+ */
+@Entity
+@Table(name = "related_posts",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_related_post_rank", columnNames = {"post_id", "rank_order"})
+        },
+        indexes = {
+                @Index(name = "idx_related_post_related_post_id", columnList = "related_post_id"),
+                @Index(name = "idx_related_post_fallback", columnList = "fallback, post_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RelatedPost extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 기준 게시글 ID
+     */
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    /**
+     * 관련 게시글 ID
+     */
+    @Column(name = "related_post_id", nullable = false)
+    private Long relatedPostId;
+
+    /**
+     * 노출 순서 (0부터 시작, 작을수록 우선)
+     */
+    @Column(name = "rank_order", nullable = false)
+    private Integer rankOrder;
+
+    /**
+     * 스택 일치가 아니라 최신 공개 게시글로 채운 행인지 여부
+     */
+    @Column(nullable = false)
+    private boolean fallback;
+
+    @Builder
+    public RelatedPost(Long postId, Long relatedPostId, Integer rankOrder, boolean fallback) {
+        this.postId = postId;
+        this.relatedPostId = relatedPostId;
+        this.rankOrder = rankOrder;
+        this.fallback = fallback;
+    }
+
+    /**
+     * 정적 팩토리 메서드
+     */
+    public static RelatedPost of(Long postId, Long relatedPostId, int rankOrder, boolean fallback) {
+        return RelatedPost.builder()
+                .postId(postId)
+                .relatedPostId(relatedPostId)
+                .rankOrder(rankOrder)
+                .fallback(fallback)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.blog.backend.feature.post.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 변경 유형
+ *
+ * - CREATED: 게시글 생성 (즉시 발행)
+ * - UPDATED: 게시글 수정 (제목/본문/스택/태그/썸네일)
+ * - DELETED: 소프트 삭제
+ * - RESTORED: 삭제 복구
+ * - PURGED: 스케줄러에 의한 영구 삭제
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PostChangeType {
+
+    CREATED("created", "생성"),
+    UPDATED("updated", "수정"),
+    DELETED("deleted", "삭제"),
+    RESTORED("restored", "복구"),
+    PURGED("purged", "영구 삭제");
+
+    private final String key;
+    private final String title;
+}
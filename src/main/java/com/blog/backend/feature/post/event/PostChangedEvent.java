@@ -0,0 +1,46 @@
+package com.blog.backend.feature.post.event;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 게시글 변경 이벤트
+ *
+ * 게시글 쓰기 트랜잭션 안에서 발행되고,
+ * 리스너는 @TransactionalEventListener(AFTER_COMMIT)로 커밋 이후에만 처리합니다.
+ * (롤백된 변경으로 캐시가 비워지거나 갱신되는 것을 방지)
+ *
+ * @param postId 게시글 ID
+ * @param userId 작성자 ID
+ * @param slugs 영향을 받은 slug 목록 (제목 변경 시 이전/신규 slug 모두 포함)
+ * @param changeType 변경 유형
+ * @param relationChanged 관련 게시글 계산 기준(스택, 타입, 상태)이 바뀌었는지 여부
+ */
+public record PostChangedEvent(
+        Long postId,
+        Long userId,
+        Set<String> slugs,
+        PostChangeType changeType,
+        boolean relationChanged
+) {
+    /**
+     * 생성/삭제/복구/영구 삭제 이벤트 (항상 관련 게시글 기준이 바뀜)
+     */
+    public static PostChangedEvent of(Long postId, Long userId, PostChangeType changeType, String... slugs) {
+        return new PostChangedEvent(postId, userId, toSlugSet(slugs), changeType, true);
+    }
+
+    /**
+     * 수정 이벤트
+     *
+     * @param relationChanged 스택 또는 타입이 바뀐 경우 true
+     */
+    public static PostChangedEvent updated(Long postId, Long userId, boolean relationChanged, String... slugs) {
+        return new PostChangedEvent(postId, userId, toSlugSet(slugs), PostChangeType.UPDATED, relationChanged);
+    }
+
+    private static Set<String> toSlugSet(String... slugs) {
+        // 제목이 바뀌지 않은 수정은 같은 slug가 두 번 전달될 수 있으므로 copyOf로 중복 제거
+        return Set.copyOf(Arrays.asList(slugs));
+    }
+}
@@ -0,0 +1,16 @@
+package com.blog.backend.feature.post.event;
+
+import java.util.Set;
+
+/**
+ * 관련 게시글 목록 변경 이벤트
+ *
+ * related_posts 읽기 모델이 재계산되어 목록이 실제로 바뀐 게시글 ID를 전달합니다.
+ * 게시글 변경 이벤트와 같은 트랜잭션에서 발행되므로 리스너는 AFTER_COMMIT으로 처리합니다.
+ *
+ * @param postIds 관련 게시글 목록이 바뀐 게시글 ID 목록
+ */
+public record RelatedPostsChangedEvent(
+        Set<Long> postIds
+) {
+}
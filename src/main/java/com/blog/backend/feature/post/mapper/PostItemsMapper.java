@@ -0,0 +1,159 @@
+package com.blog.backend.feature.post.mapper;
+
+import com.blog.backend.feature.post.dto.PostAttributeRow;
+import com.blog.backend.feature.post.dto.PostCardRow;
+import com.blog.backend.feature.post.dto.PostResponse;
+import com.blog.backend.feature.post.entity.PostStatus;
+import com.blog.backend.feature.post.repository.PostRepository;
+import com.blog.backend.feature.user.cache.AuthorCache;
+import com.blog.backend.feature.user.dto.AuthorSummary;
+import com.blog.backend.global.file.dto.ImageVariantResponse;
+import com.blog.backend.global.file.service.FileVariantService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 응답(PostResponse.PostItems) 매퍼
+ *
+ * 목록 조회 프로젝션(PostCardRow)에 스택/태그를 붙여 응답 DTO로 변환
+ * - ID 목록을 받으면 카드를 PK로 조회해 ID 순서대로 변환 (2단계 페이지네이션)
+ * - 스택/태그는 게시글 ID 목록으로 각각 한 번씩만 조회 (행마다 지연 로딩하지 않음)
+ * - 작성자 정보는 AuthorCache에서 작성자 ID 목록으로 일괄 조회
+ * - 썸네일 파생본(리사이즈/WebP)은 썸네일 경로 목록으로 한 번에 조회
+ * - 호출하는 쪽의 트랜잭션 안에서 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class PostItemsMapper {
+
+    private final PostRepository postRepository;
+    private final AuthorCache authorCache;
+    private final FileVariantService fileVariantService;
+
+    /**
+     * 프로젝션 목록 → 응답 DTO 목록 (순서 유지)
+     */
+    public List<PostResponse.PostItems> toPostItems(List<PostCardRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = rows.stream()
+                .map(PostCardRow::id)
+                .toList();
+
+        Map<Long, List<String>> stacksByPostId = groupByPostId(postRepository.findStackNamesByPostIds(postIds));
+        Map<Long, List<String>> tagsByPostId = groupByPostId(postRepository.findTagsByPostIds(postIds));
+        Map<Long, AuthorSummary> authorsById = authorCache.findAllByIds(rows.stream()
+                .map(PostCardRow::authorId)
+                .collect(Collectors.toSet()));
+        Map<String, List<ImageVariantResponse>> variantsByPath = fileVariantService.getVariantsBySourcePaths(rows.stream()
+                .map(PostCardRow::thumbnailPath)
+                .toList());
+
+        return rows.stream()
+                .map(row -> toPostItems(
+                        row,
+                        authorsById.get(row.authorId()),
+                        stacksByPostId.getOrDefault(row.id(), new ArrayList<>()),
+                        tagsByPostId.getOrDefault(row.id(), new ArrayList<>()),
+                        row.thumbnailPath() != null ? variantsByPath.getOrDefault(row.thumbnailPath(), List.of()) : List.of()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 게시글 ID 목록 → 응답 DTO 목록 (ID 순서 유지)
+     * - ID 페이지 조회 이후 2단계로 카드를 PK 조회
+     * - 그 사이 영구 삭제된 게시글은 제외
+     */
+    public List<PostResponse.PostItems> toPostItemsInOrder(List<Long> postIds) {
+        return toPostItemsInOrder(postIds, row -> true);
+    }
+
+    public Slice<PostResponse.PostItems> toPostItemsInOrder(Slice<Long> postIds) {
+        return new SliceImpl<>(toPostItemsInOrder(postIds.getContent()), postIds.getPageable(), postIds.hasNext());
+    }
+
+    public Page<PostResponse.PostItems> toPostItemsInOrder(Page<Long> postIds) {
+        return new PageImpl<>(toPostItemsInOrder(postIds.getContent()), postIds.getPageable(), postIds.getTotalElements());
+    }
+
+    /**
+     * 게시글 ID 목록 → 공개 게시글 응답 DTO 목록 (ID 순서 유지)
+     * - 검색 인덱스처럼 DB와 비동기로 갱신되는 ID 출처용 (비공개 전환된 게시글 제외)
+     */
+    public List<PostResponse.PostItems> toPublishedPostItemsInOrder(List<Long> postIds) {
+        return toPostItemsInOrder(postIds, row -> row.status() == PostStatus.PUBLISHED);
+    }
+
+    private List<PostResponse.PostItems> toPostItemsInOrder(List<Long> postIds, Predicate<PostCardRow> filter) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostCardRow> rowsById = postRepository.findCardsByIdIn(postIds).stream()
+                .filter(filter)
+                .collect(Collectors.toMap(PostCardRow::id, Function.identity()));
+
+        List<PostCardRow> rows = postIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return toPostItems(rows);
+    }
+
+    private PostResponse.PostItems toPostItems(
+            PostCardRow row,
+            AuthorSummary authorSummary,
+            List<String> stacks,
+            List<String> tags,
+            List<ImageVariantResponse> thumbnailVariants
+    ) {
+        // 작성자 정보 생성 (그 사이 삭제된 사용자는 빈 작성자)
+        PostResponse.AuthorInfo author = authorSummary != null
+                ? PostResponse.AuthorInfo.from(authorSummary)
+                : PostResponse.AuthorInfo.of(null, null);
+
+        return PostResponse.PostItems.of(
+                row.id(),
+                row.slug(),
+                row.title(),
+                row.excerpt(),
+                row.postType(),
+                row.status(),
+                row.thumbnailPath(),
+                thumbnailVariants,
+                tags,
+                stacks,
+                author,
+                row.createdAt()
+        );
+    }
+
+    /**
+     * 조회 순서를 유지하며 게시글 ID별로 묶음
+     */
+    private Map<Long, List<String>> groupByPostId(List<PostAttributeRow> rows) {
+        return rows.stream()
+                .collect(Collectors.groupingBy(
+                        PostAttributeRow::postId,
+                        LinkedHashMap::new,
+                        Collectors.mapping(PostAttributeRow::value, Collectors.toList())
+                ));
+    }
+}
@@ -0,0 +1,34 @@
+package com.blog.backend.feature.post.repository;
+
+import com.blog.backend.feature.post.entity.PostContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 게시글 본문 Repository
+ */
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+
+    /**
+     * 게시글 본문만 조회
+     *
+     * @param postId 게시글 ID
+     * @return 본문 (마크다운)
+     */
+    @Query("SELECT pc.content FROM PostContent pc WHERE pc.postId = :postId")
+    Optional<String> findContentByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글 본문 삭제 (영구 삭제 시 posts 행보다 먼저 삭제)
+     *
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PostContent pc WHERE pc.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
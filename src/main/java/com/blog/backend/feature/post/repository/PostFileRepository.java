@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -130,17 +131,16 @@ public interface PostFileRepository extends JpaRepository<PostFile, Long> {
     boolean existsByPostIdAndFileId(Long postId, Long fileId);
 
     /**
-     * 현재 사용 중인 모든 파일 ID 조회 (고아 파일 정리용)
+     * 후보 파일 ID 중 사용 중인 것 조회 (고아 파일 정리용)
      *
-     * PostFile 테이블에 존재하는 모든 fileId를 중복 없이 반환합니다.
-     * 스케줄러에서 "사용 중인 파일" 합집합을 만들 때 사용됩니다.
+     * 정리 엔진이 청크 단위로 넘긴 후보 중 PostFile에 매핑된 fileId를 중복 없이 반환합니다.
      *
      * 성능 최적화:
-     * - DISTINCT로 중복 제거
-     * - idx_file_id 인덱스 활용
+     * - idx_file_id 인덱스로 후보만 조회 (전체 매핑을 읽지 않음)
      *
+     * @param fileIds 후보 파일 ID 목록
      * @return 사용 중인 파일 ID 목록 (중복 제거됨)
      */
-    @Query("SELECT DISTINCT pf.fileId FROM PostFile pf")
-    List<Long> findAllUsedFileIds();
+    @Query("SELECT DISTINCT pf.fileId FROM PostFile pf WHERE pf.fileId IN :fileIds")
+    List<Long> findUsedFileIdsIn(@Param("fileIds") Collection<Long> fileIds);
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.blog.backend.feature.post.repository;
+
+import com.blog.backend.feature.post.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Post 커스텀 조회 Repository (PostRepository에 합성)
+ *
+ * 목록 조회는 2단계로 처리
+ * 1. 검색 조건/정렬/페이지로 게시글 ID만 조회 (인덱스만 사용, 조인 중복 제거도 ID 기준)
+ * 2. 해당 ID의 카드/스택/태그만 PK로 일괄 조회 (PostItemsMapper)
+ */
+public interface PostQueryRepository {
+
+    /**
+     * Specification 조건으로 게시글 ID Slice 조회 (count 쿼리 없음)
+     * - size + 1개를 조회해 다음 페이지 존재 여부만 판단
+     *
+     * @param spec 검색 조건
+     * @param pageable 페이지 정보 (정렬 포함)
+     * @return 게시글 ID Slice (정렬 순서 유지)
+     */
+    Slice<Long> findIdSlice(Specification<Post> spec, Pageable pageable);
+
+    /**
+     * Specification 조건으로 게시글 ID 목록 조회 (커서 페이지네이션용)
+     *
+     * @param spec 검색 조건 (커서 조건 포함)
+     * @param sort 정렬
+     * @param limit 최대 조회 개수
+     * @return 게시글 ID 목록 (정렬 순서 유지)
+     */
+    List<Long> findIds(Specification<Post> spec, Sort sort, int limit);
+}
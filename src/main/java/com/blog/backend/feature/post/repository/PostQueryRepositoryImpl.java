@@ -0,0 +1,88 @@
+package com.blog.backend.feature.post.repository;
+
+import com.blog.backend.feature.post.entity.Post;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PostQueryRepositoryImpl implements PostQueryRepository {
+
+    private static final String ID_ALIAS = "id";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<Long> findIdSlice(Specification<Post> spec, Pageable pageable) {
+        List<Long> ids = createIdQuery(spec, pageable.getSort())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList()
+                .stream()
+                .map(tuple -> tuple.get(ID_ALIAS, Long.class))
+                .toList();
+
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        List<Long> content = hasNext ? ids.subList(0, pageable.getPageSize()) : ids;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Post> spec, Sort sort, int limit) {
+        return createIdQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> tuple.get(ID_ALIAS, Long.class))
+                .toList();
+    }
+
+    /**
+     * 게시글 ID만 선택하는 쿼리 생성
+     * - 스택 조인 시 Specification이 DISTINCT를 켜므로 정렬 컬럼도 함께 선택
+     *   (DISTINCT + ORDER BY는 정렬 컬럼이 SELECT 절에 있어야 함)
+     * - id 정렬은 이미 선택된 경로와 같은 객체이므로 다시 추가하지 않음 (별칭 중복 오류)
+     */
+    private TypedQuery<Tuple> createIdQuery(Specification<Post> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Post> root = query.from(Post.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        List<Order> orders = QueryUtils.toOrders(sort, root, cb);
+        Path<Long> id = root.get("id");
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(id.alias(ID_ALIAS));
+        orders.stream()
+                .map(Order::getExpression)
+                .filter(expression -> expression != id)
+                .forEach(selections::add);
+
+        query.multiselect(selections);
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query);
+    }
+}
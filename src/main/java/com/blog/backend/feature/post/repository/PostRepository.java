@@ -1,22 +1,30 @@
 package com.blog.backend.feature.post.repository;
 
+import com.blog.backend.feature.post.dto.PostAttributeRow;
+import com.blog.backend.feature.post.dto.PostCardRow;
 import com.blog.backend.feature.post.entity.Post;
 import com.blog.backend.feature.post.entity.PostType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post>, PostQueryRepository {
+
+    /**
+     * 목록 카드 프로젝션 SELECT 절 (본문 제외, 작성자는 FK만 - users 조인 없음)
+     */
+    String CARD_SELECT = "SELECT new com.blog.backend.feature.post.dto.PostCardRow(" +
+            "p.id, p.slug, p.title, p.excerpt, p.postType, p.status, p.thumbnailPath, p.createdAt, " +
+            "p.user.id) ";
 
     // ========== 존재 여부 확인 ========== //
 
@@ -30,6 +38,11 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
      */
     boolean existsBySlug(String slug);
 
+    /**
+     * 특정 이미지를 썸네일로 쓰는 게시글 존재 여부 확인 (이미지 파생본 생성 시 ETag 갱신 판단)
+     */
+    boolean existsByThumbnailPath(String thumbnailPath);
+
     /**
      * 제목으로 게시글 조회 (중복 체크용)
      */
@@ -61,84 +74,116 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
             "WHERE p.slug = :slug AND p.user.id = :userId")
     Optional<Post> findBySlugAndUserId(@Param("slug") String slug, @Param("userId") Long userId);
 
-    // ========== Specification 조회 (페이징) ========== //
+    // ========== 관련 게시글 조회 (PUBLISHED만) ========== //
 
     /**
-     * Specification을 사용한 동적 쿼리 조회
-     * - 스택, 태그를 함께 로딩 (N+1 방지)
+     * 관련 게시글 읽기 모델 기반 카드 조회 (노출 순서대로)
+     * - related_posts의 post_id 인덱스 한 번으로 조회
      */
-    @EntityGraph(attributePaths = {"stacks", "tags"})
-    @Override
-    Page<Post> findAll(Specification<Post> spec, Pageable pageable);
+    @Query(CARD_SELECT +
+            "FROM RelatedPost rp " +
+            "JOIN Post p ON p.id = rp.relatedPostId " +
+            "WHERE rp.postId = :postId " +
+            "AND p.status = 'PUBLISHED' " +
+            "ORDER BY rp.rankOrder ASC")
+    List<PostCardRow> findRelatedPublicPostCards(@Param("postId") Long postId);
 
-    // ========== 관련 게시글 조회 (PUBLISHED만) ========== //
+    // ========== 관련 게시글 계산 (읽기 모델 갱신용, ID만 조회) ========== //
 
     /**
-     * 1순위 관련 게시글 조회 (Stack 교집합 많음 + PostType 일치 + 최신순)
+     * 1순위 관련 게시글 ID (Stack 교집합 많음 + PostType 일치 + 최신순)
      */
-    @Query("SELECT DISTINCT p FROM Post p " +
-            "LEFT JOIN FETCH p.stacks " +
-            "LEFT JOIN FETCH p.tags " +
+    @Query("SELECT p.id FROM Post p " +
             "JOIN p.stacks s " +
             "WHERE p.id != :currentPostId " +
             "AND p.status = 'PUBLISHED' " +
             "AND p.postType = :postType " +
-            "AND s.name IN :stackNames " +
-            "GROUP BY p.id " +
+            "AND s.id IN :stackIds " +
+            "GROUP BY p.id, p.createdAt " +
             "ORDER BY COUNT(s.id) DESC, p.createdAt DESC")
-    List<Post> findRelatedPostsByStackAndType(
+    List<Long> findRelatedPostIdsByStackAndType(
             @Param("currentPostId") Long currentPostId,
-            @Param("stackNames") List<String> stackNames,
+            @Param("stackIds") Set<Long> stackIds,
             @Param("postType") PostType postType,
             Pageable pageable
     );
 
     /**
-     * 2순위 관련 게시글 조회 (Stack 교집합 많음 + PostType 다름 + 최신순)
+     * 2순위 관련 게시글 ID (Stack 교집합 많음 + PostType 다름 + 최신순)
      */
-    @Query("SELECT DISTINCT p FROM Post p " +
-            "LEFT JOIN FETCH p.stacks " +
-            "LEFT JOIN FETCH p.tags " +
+    @Query("SELECT p.id FROM Post p " +
             "JOIN p.stacks s " +
             "WHERE p.id != :currentPostId " +
             "AND p.status = 'PUBLISHED' " +
             "AND p.postType != :postType " +
-            "AND s.name IN :stackNames " +
-            "GROUP BY p.id " +
+            "AND s.id IN :stackIds " +
+            "GROUP BY p.id, p.createdAt " +
             "ORDER BY COUNT(s.id) DESC, p.createdAt DESC")
-    List<Post> findRelatedPostsByStackOnly(
+    List<Long> findRelatedPostIdsByStackOnly(
             @Param("currentPostId") Long currentPostId,
-            @Param("stackNames") List<String> stackNames,
+            @Param("stackIds") Set<Long> stackIds,
             @Param("postType") PostType postType,
             Pageable pageable
     );
 
     /**
-     * 3순위 관련 게시글 조회 (최신 공개 게시글)
+     * 3순위 관련 게시글 ID (최신 공개 게시글)
      */
-    @Query("SELECT p FROM Post p " +
-            "LEFT JOIN FETCH p.stacks " +
-            "LEFT JOIN FETCH p.tags " +
+    @Query("SELECT p.id FROM Post p " +
             "WHERE p.id != :currentPostId " +
             "AND p.status = 'PUBLISHED' " +
             "ORDER BY p.createdAt DESC")
-    List<Post> findLatestPublicPosts(
+    List<Long> findLatestPublicPostIds(
             @Param("currentPostId") Long currentPostId,
             Pageable pageable
     );
 
+    /**
+     * 공개 게시글의 타입 조회 (비공개/미존재 시 empty)
+     */
+    @Query("SELECT p.postType FROM Post p WHERE p.id = :postId AND p.status = 'PUBLISHED'")
+    Optional<PostType> findPublicPostTypeById(@Param("postId") Long postId);
+
+    /**
+     * 게시글의 스택 ID 조회
+     */
+    @Query("SELECT s.id FROM Post p JOIN p.stacks s WHERE p.id = :postId")
+    Set<Long> findStackIdsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 주어진 스택 중 하나 이상을 가진 공개 게시글 ID
+     * - 게시글의 스택/타입 변경 시 관련 게시글 재계산 대상 조회
+     */
+    @Query("SELECT DISTINCT p.id FROM Post p " +
+            "JOIN p.stacks s " +
+            "WHERE p.id != :currentPostId " +
+            "AND p.status = 'PUBLISHED' " +
+            "AND s.id IN :stackIds")
+    List<Long> findPublicPostIdsByStackIds(
+            @Param("currentPostId") Long currentPostId,
+            @Param("stackIds") Set<Long> stackIds
+    );
+
+    /**
+     * 전체 공개 게시글 ID (관련 게시글 전체 재계산용)
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.status = 'PUBLISHED' ORDER BY p.id ASC")
+    List<Long> findAllPublicPostIds();
+
     // ========== 삭제된 게시글 조회 (본인용) ========== //
 
     /**
-     * 특정 사용자의 삭제된 게시글 목록 조회 (본인만)
+     * 특정 사용자의 삭제된 게시글 ID 페이지 조회 (본인만)
+     * - ID만 페이징한 뒤 PostItemsMapper로 카드 조회
      */
-    @Query("SELECT p FROM Post p " +
-            "LEFT JOIN FETCH p.stacks " +
-            "LEFT JOIN FETCH p.tags " +
+    @Query(value = "SELECT p.id FROM Post p " +
             "WHERE p.user.id = :userId " +
             "AND p.status = 'DELETED' " +
-            "ORDER BY p.deletedAt DESC")
-    Page<Post> findDeletedPostsByUserId(@Param("userId") Long userId, Pageable pageable);
+            "ORDER BY p.deletedAt DESC, p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p " +
+                    "WHERE p.user.id = :userId " +
+                    "AND p.status = 'DELETED'")
+    Page<Long> findDeletedPostIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 
     // ========== 스케줄러용: 영구 삭제 대상 조회 ========== //
 
@@ -157,16 +202,23 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
     // ========== 자동완성 검색용 ========== //
 
     /**
-     * 제목 부분 일치 검색 (PUBLISHED만)
+     * ID 목록으로 게시글 조회 (작성자 함께 로딩, 스택/태그는 BatchSize로 로딩)
+     * - 본문이 필요한 전문 검색 색인 적재용
      */
     @Query("SELECT p FROM Post p " +
-            "LEFT JOIN FETCH p.stacks " +
-            "LEFT JOIN FETCH p.tags " +
-            "LEFT JOIN FETCH p.user " +
+            "JOIN FETCH p.user " +
+            "WHERE p.id IN :ids")
+    List<Post> findAllByIdInWithUser(@Param("ids") List<Long> ids);
+
+    /**
+     * 제목 부분 일치 검색 (PUBLISHED만)
+     */
+    @Query(CARD_SELECT +
+            "FROM Post p " +
             "WHERE p.status = 'PUBLISHED' " +
             "AND p.title LIKE %:keyword% " +
             "ORDER BY p.createdAt DESC")
-    List<Post> findByTitleContainingAndPublished(
+    List<PostCardRow> findCardsByTitleContainingAndPublished(
             @Param("keyword") String keyword,
             Pageable pageable
     );
@@ -174,14 +226,12 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
     /**
      * 설명 부분 일치 검색 (PUBLISHED만)
      */
-    @Query("SELECT p FROM Post p " +
-            "LEFT JOIN FETCH p.stacks " +
-            "LEFT JOIN FETCH p.tags " +
-            "LEFT JOIN FETCH p.user " +
+    @Query(CARD_SELECT +
+            "FROM Post p " +
             "WHERE p.status = 'PUBLISHED' " +
             "AND p.excerpt LIKE %:keyword% " +
             "ORDER BY p.createdAt DESC")
-    List<Post> findByExcerptContainingAndPublished(
+    List<PostCardRow> findCardsByExcerptContainingAndPublished(
             @Param("keyword") String keyword,
             Pageable pageable
     );
@@ -189,17 +239,46 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
     /**
      * 설명 부분 일치 검색 - 특정 ID 제외 (PUBLISHED만)
      */
-    @Query("SELECT p FROM Post p " +
-            "LEFT JOIN FETCH p.stacks " +
-            "LEFT JOIN FETCH p.tags " +
-            "LEFT JOIN FETCH p.user " +
+    @Query(CARD_SELECT +
+            "FROM Post p " +
             "WHERE p.status = 'PUBLISHED' " +
             "AND p.excerpt LIKE %:keyword% " +
             "AND p.id NOT IN :excludeIds " +
             "ORDER BY p.createdAt DESC")
-    List<Post> findByExcerptContainingAndPublishedExcluding(
+    List<PostCardRow> findCardsByExcerptContainingAndPublishedExcluding(
             @Param("keyword") String keyword,
             @Param("excludeIds") Set<Long> excludeIds,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    // ========== 목록 카드 조회 (본문 제외) ========== //
+
+    /**
+     * ID 목록으로 카드 조회 (순서 보장 없음)
+     * - ID를 먼저 페이징/검색한 뒤 카드만 PK로 조회하는 2단계 조회에서 사용
+     */
+    @Query(CARD_SELECT +
+            "FROM Post p " +
+            "WHERE p.id IN :ids")
+    List<PostCardRow> findCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시글 ID 목록의 스택 이름 일괄 조회 (이름순)
+     */
+    @Query("SELECT new com.blog.backend.feature.post.dto.PostAttributeRow(p.id, s.name) " +
+            "FROM Post p " +
+            "JOIN p.stacks s " +
+            "WHERE p.id IN :postIds " +
+            "ORDER BY s.name ASC")
+    List<PostAttributeRow> findStackNamesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 게시글 ID 목록의 태그 일괄 조회 (저장 순서대로)
+     */
+    @Query("SELECT new com.blog.backend.feature.post.dto.PostAttributeRow(p.id, t) " +
+            "FROM Post p " +
+            "JOIN p.tags t " +
+            "WHERE p.id IN :postIds " +
+            "ORDER BY p.id ASC, INDEX(t) ASC")
+    List<PostAttributeRow> findTagsByPostIds(@Param("postIds") Collection<Long> postIds);
+}
@@ -1,12 +1,16 @@
 package com.blog.backend.feature.post.repository;
 
+import com.blog.backend.feature.post.dto.PostCursor;
 import com.blog.backend.feature.post.dto.PostSearchCondition;
 import com.blog.backend.feature.post.entity.Post;
+import com.blog.backend.feature.post.entity.PostContent;
 import com.blog.backend.feature.post.entity.PostStatus;
 import com.blog.backend.feature.stack.entity.Stack;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
@@ -93,9 +97,18 @@ public class PostSpecification {
             // 키워드 검색
             if (condition.getKeyword() != null && !condition.getKeyword().isBlank()) {
                 String pattern = "%" + condition.getKeyword() + "%";
+                // 본문은 post_contents에 있으므로 상관 서브쿼리로 검색
+                Subquery<Long> contentMatch = query.subquery(Long.class);
+                Root<PostContent> postContent = contentMatch.from(PostContent.class);
+                contentMatch.select(postContent.get("postId"))
+                        .where(
+                                cb.equal(postContent.get("postId"), root.get("id")),
+                                cb.like(postContent.get("content"), pattern)
+                        );
+
                 predicates.add(cb.or(
                         cb.like(root.get("title"), pattern),
-                        cb.like(root.get("content"), pattern),
+                        cb.exists(contentMatch),
                         cb.like(root.get("excerpt"), pattern)
                 ));
             }
@@ -106,6 +119,30 @@ public class PostSpecification {
         };
     }
 
+    /**
+     * 커서 이후 게시글 (createdAt DESC, id DESC 기준 keyset 조건)
+     * - createdAt < 커서 작성일 OR (createdAt = 커서 작성일 AND id < 커서 ID)
+     * - PostCursor.SORT 정렬과 함께 사용
+     *
+     * @param cursor 이전 페이지의 마지막 위치 (null이면 조건 없음)
+     * @return Specification
+     */
+    public static Specification<Post> after(PostCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), cursor.createdAt()),
+                            cb.lessThan(root.get("id"), cursor.id())
+                    )
+            );
+        };
+    }
+
     /**
      * PUBLISHED 상태만 조회 (공개 게시글용)
      */
@@ -0,0 +1,50 @@
+package com.blog.backend.feature.post.repository;
+
+import com.blog.backend.feature.post.entity.RelatedPost;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 관련 게시글 읽기 모델 Repository
+ */
+public interface RelatedPostRepository extends JpaRepository<RelatedPost, Long> {
+
+    /**
+     * 특정 게시글의 관련 게시글 행 조회 (노출 순서대로)
+     *
+     * @param postId 기준 게시글 ID
+     * @return 관련 게시글 행 목록
+     */
+    List<RelatedPost> findByPostIdOrderByRankOrderAsc(Long postId);
+
+    /**
+     * 최신 게시글로 채운 행이 있는 기준 게시글 ID 조회
+     * - 새 게시글이 공개되면 최신 게시글 후보가 바뀌므로 이 목록들을 다시 계산
+     *
+     * @return 기준 게시글 ID 목록
+     */
+    @Query("SELECT DISTINCT rp.postId FROM RelatedPost rp WHERE rp.fallback = true")
+    List<Long> findPostIdsWithFallback();
+
+    /**
+     * 특정 게시글을 관련 게시글로 가지고 있는 게시글 ID 조회
+     *
+     * @param relatedPostId 관련 게시글 ID
+     * @return 기준 게시글 ID 목록
+     */
+    @Query("SELECT rp.postId FROM RelatedPost rp WHERE rp.relatedPostId = :relatedPostId")
+    List<Long> findPostIdsByRelatedPostId(@Param("relatedPostId") Long relatedPostId);
+
+    /**
+     * 특정 게시글의 관련 게시글 행 삭제
+     *
+     * @param postId 기준 게시글 ID
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RelatedPost rp WHERE rp.postId = :postId")
+    void deleteByPostId(@Param("postId") Long postId);
+}
@@ -1,10 +1,15 @@
 package com.blog.backend.feature.post.scheduler;
 
 import com.blog.backend.feature.post.entity.Post;
+import com.blog.backend.feature.post.event.PostChangeType;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.post.repository.PostContentRepository;
 import com.blog.backend.feature.post.repository.PostRepository;
 import com.blog.backend.feature.post.service.PostFileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,10 +25,13 @@ import java.util.List;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.post-cleanup.enabled", havingValue = "true")
 public class PostCleanupScheduler {
 
     private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
     private final PostFileService postFileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 삭제된 게시글 정리 작업
@@ -34,7 +42,8 @@ public class PostCleanupScheduler {
      * 1. 7일 이상 삭제 상태(DELETED)인 게시글 조회
      * 2. 각 게시글의 파일 매핑 삭제 (중간테이블)
      * 3. 게시글 스택 관계 초기화
-     * 4. 게시글 영구 삭제
+     * 4. 게시글 본문 삭제
+     * 5. 게시글 영구 삭제
      */
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정
     @Transactional
@@ -73,11 +82,17 @@ public class PostCleanupScheduler {
                 log.info("게시글 영구 삭제 - 파일 매핑 삭제 완료: postId={}", post.getId());
 
                 // 2. 스택 관계 초기화
+                // (스택별 게시글 수 집계는 소프트 삭제 시점에 이미 차감됨 - DELETED 상태만 대상)
                 log.info("게시글 영구 삭제 - 스택 관계 초기화: postId={}", post.getId());
                 post.clearStack();
 
-                // 3. 게시글 영구 삭제
+                // 3. 게시글 본문 삭제 (post_contents가 posts를 참조하므로 먼저 삭제)
+                postContentRepository.deleteByPostId(post.getId());
+
+                // 4. 게시글 영구 삭제
                 postRepository.delete(post);
+                eventPublisher.publishEvent(PostChangedEvent.of(
+                        post.getId(), post.getUser().getId(), PostChangeType.PURGED, post.getSlug()));
                 log.info("게시글 영구 삭제 완료: postId={}, slug={}", post.getId(), post.getSlug());
 
                 successCount++;
@@ -0,0 +1,47 @@
+package com.blog.backend.feature.post.search;
+
+import com.blog.backend.feature.post.entity.Post;
+import com.blog.backend.feature.post.entity.PostType;
+import com.blog.backend.feature.stack.entity.Stack;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전문 검색 인덱스에 저장되는 게시글 문서
+ *
+ * @param postId 게시글 ID
+ * @param userId 작성자 ID (작성자별 검색 필터)
+ * @param postType 게시글 타입 (필터)
+ * @param title 제목
+ * @param excerpt 요약
+ * @param content 본문 (마크다운)
+ * @param tags 자유 태그
+ * @param stacks 기술 스택 이름
+ * @param createdAt 작성일 (동점 시 최신순 정렬)
+ */
+public record PostSearchDocument(
+        Long postId,
+        Long userId,
+        PostType postType,
+        String title,
+        String excerpt,
+        String content,
+        List<String> tags,
+        List<String> stacks,
+        LocalDateTime createdAt
+) {
+    public static PostSearchDocument from(Post post, String content) {
+        return new PostSearchDocument(
+                post.getId(),
+                post.getUser().getId(),
+                post.getPostType(),
+                post.getTitle(),
+                post.getExcerpt(),
+                content,
+                post.getTags() != null ? List.copyOf(post.getTags()) : List.of(),
+                post.getStacks().stream().map(Stack::getName).toList(),
+                post.getCreatedAt()
+        );
+    }
+}
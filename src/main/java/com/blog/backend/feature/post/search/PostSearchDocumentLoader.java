@@ -0,0 +1,96 @@
+package com.blog.backend.feature.post.search;
+
+import com.blog.backend.feature.post.entity.PostContent;
+import com.blog.backend.feature.post.entity.PostStatus;
+import com.blog.backend.feature.post.repository.PostContentRepository;
+import com.blog.backend.feature.post.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 전문 검색 인덱스 적재용 로더
+ *
+ * 공개 게시글을 PostSearchDocument로 변환해 PostSearchEngine에 전달
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostSearchDocumentLoader {
+
+    /**
+     * 한 번에 조회할 게시글 수 (스택/태그 BatchSize와 동일)
+     */
+    private static final int CHUNK_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 전체 공개 게시글을 청크 단위로 전달
+     * - 본문까지 포함되므로 전체를 메모리에 모으지 않고 청크마다 consumer로 넘김
+     *
+     * @return 전달한 문서 수
+     */
+    public int forEachPublished(Consumer<PostSearchDocument> consumer) {
+        List<Long> postIds = postRepository.findAllPublicPostIds();
+        int count = 0;
+
+        for (int from = 0; from < postIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + CHUNK_SIZE, postIds.size()));
+            Map<Long, String> contents = findContents(chunk);
+            List<PostSearchDocument> documents = postRepository.findAllByIdInWithUser(chunk).stream()
+                    .filter(post -> post.getStatus() == PostStatus.PUBLISHED)
+                    .map(post -> PostSearchDocument.from(post, contents.getOrDefault(post.getId(), "")))
+                    .toList();
+
+            documents.forEach(consumer);
+            count += documents.size();
+
+            // 청크 단위로 영속성 컨텍스트 비움 (본문이 누적되지 않도록)
+            entityManager.clear();
+        }
+
+        return count;
+    }
+
+    /**
+     * 변경된 게시글 묶음 적재
+     * - 색인 스레드에서 호출되므로 게시글 쓰기 트랜잭션과 커넥션을 동시에 쥐지 않음
+     *
+     * @return 게시글 ID → 문서 (공개 게시글이 아니거나 없으면 제외)
+     */
+    public Map<Long, PostSearchDocument> loadPublished(Collection<Long> postIds) {
+        Map<Long, PostSearchDocument> documents = new HashMap<>();
+        List<Long> ids = List.copyOf(postIds);
+
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            Map<Long, String> contents = findContents(chunk);
+
+            postRepository.findAllByIdInWithUser(chunk).stream()
+                    .filter(post -> post.getStatus() == PostStatus.PUBLISHED)
+                    .forEach(post -> documents.put(post.getId(),
+                            PostSearchDocument.from(post, contents.getOrDefault(post.getId(), ""))));
+        }
+
+        return documents;
+    }
+
+    /**
+     * 게시글 ID 목록의 본문 일괄 조회
+     */
+    private Map<Long, String> findContents(List<Long> postIds) {
+        return postContentRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(PostContent::getPostId, PostContent::getContent));
+    }
+}
@@ -0,0 +1,698 @@
+package com.blog.backend.feature.post.search;
+
+import com.blog.backend.feature.post.dto.PostCursor;
+import com.blog.backend.feature.post.dto.PostSearchCondition;
+import com.blog.backend.feature.post.dto.PostSearchRebuildResponse;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.stack.event.StackChangedEvent;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRegistry;
+import com.blog.backend.global.core.exception.CustomException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 전문 검색 엔진 (Lucene 내장)
+ *
+ * 설계 의도:
+ * - 제목, 요약, 본문, 태그, 스택 이름을 역색인해 키워드 검색 시 DB 풀스캔(LIKE '%kw%')을 없앰
+ * - BM25 랭킹 (필드 가중치: 제목 > 태그/스택 > 요약 > 본문), 동점이면 최신순
+ * - 인덱스는 로컬 디렉터리의 세그먼트 파일로 저장, 세그먼트 병합은 ConcurrentMergeScheduler가 백그라운드에서 수행
+ * - 검색 결과는 게시글 ID만 반환하고, 응답 DTO는 PK 조회로 조립
+ *
+ * 갱신:
+ * - 게시글 변경 트랜잭션 커밋 이후(PostChangedEvent) 게시글 ID만 대기열에 넣고 바로 반환
+ * - 전용 스레드 하나가 commit-window-ms 동안 모인 변경을 한 트랜잭션으로 읽어 추가/교체/삭제 후 한 번만 커밋
+ *   (요청 스레드가 색인/fsync를 기다리지 않고, 바깥 트랜잭션의 커넥션을 쥔 채 두 번째 커넥션을 빌리지 않음)
+ * - 색인 커밋 후 게시글 콘텐츠 버전을 다시 올림 (키워드 목록 ETag가 색인 반영 이전 결과에 묶이지 않도록)
+ * - 스택 이름 변경/삭제 커밋 이후(StackChangedEvent) 그 스택을 쓰는 게시글을 같은 대기열로 재색인
+ * - 시작 시 인덱스가 비어 있으면 전체 공개 게시글로 구축 (어드민 재구축 API로 수동 실행 가능)
+ * - 색인 쓰기(변경 반영, 재구축)는 indexLock으로 직렬화
+ * - 재구축 중 들어온 변경은 대기열에 모았다가 재구축 커밋 이후 반영 (재구축 도중 커밋으로 반쪽 인덱스가 공개되지 않도록)
+ *
+ * 동시성:
+ * - writer/searcherManager는 IndexHandle 하나로 묶어 volatile로 교체 (롤백 후 재오픈 중에도 null을 보지 않음)
+ * - 검색 중 핸들이 교체되어 닫힌 경우 새 핸들로 한 번 재시도
+ *
+ * 인덱스를 열지 못하면 isAvailable()이 false가 되어 기존 DB 검색으로 동작
+ */
+@Slf4j
+@Component
+public class PostSearchEngine {
+
+    // ========== 필드 ========== //
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_POST_TYPE = "postType";
+    private static final String FIELD_STACK = "stack";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_POST_ID = "postId";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_EXCERPT = "excerpt";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_TAGS = "tags";
+    private static final String FIELD_STACKS = "stacks";
+
+    /**
+     * 검색 대상 필드별 가중치
+     */
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            FIELD_TITLE, 3.0f,
+            FIELD_TAGS, 2.0f,
+            FIELD_STACKS, 2.0f,
+            FIELD_EXCERPT, 1.5f,
+            FIELD_CONTENT, 1.0f
+    );
+
+    private static final Sort RELEVANCE_SORT = new Sort(
+            SortField.FIELD_SCORE,
+            new SortField(FIELD_CREATED_AT, SortField.Type.LONG, true)
+    );
+
+    /**
+     * 커서 모드 정렬 (PostCursor와 동일한 createdAt DESC, id DESC)
+     */
+    private static final Sort LATEST_SORT = new Sort(
+            new SortField(FIELD_CREATED_AT, SortField.Type.LONG, true),
+            new SortField(FIELD_POST_ID, SortField.Type.LONG, true)
+    );
+
+    /**
+     * 문서 구조가 바뀌면 올려서 시작 시 재구축되도록 함 (커밋 사용자 데이터에 기록)
+     */
+    private static final String SCHEMA_VERSION_KEY = "schemaVersion";
+    private static final String SCHEMA_VERSION = "3";
+
+    private final PostSearchDocumentLoader postSearchDocumentLoader;
+    private final ContentVersionRegistry contentVersionRegistry;
+    private final boolean enabled;
+    private final Path indexPath;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+
+    /**
+     * 색인 쓰기 직렬화 (재구축 시 전체 게시글을 DB에서 읽는 동안 보유)
+     */
+    private final ReentrantLock indexLock = new ReentrantLock();
+
+    /**
+     * 색인 대기 중인 변경 게시글 ID (색인 스레드 또는 재구축 중인 락 보유자가 반영)
+     */
+    private final Set<Long> pendingPostIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 변경 반영 전용 스레드 (게시글 쓰기 요청과 분리)
+     */
+    private final ScheduledExecutorService indexer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final long commitWindowMillis;
+
+    /**
+     * 열린 인덱스 (null: 사용 불가)
+     */
+    private volatile IndexHandle handle;
+    private boolean schemaOutdated = false;
+
+    public PostSearchEngine(
+            PostSearchDocumentLoader postSearchDocumentLoader,
+            ContentVersionRegistry contentVersionRegistry,
+            @Value("${app.search.full-text.enabled:true}") boolean enabled,
+            @Value("${app.search.full-text.index-path:./data/search/posts}") String indexPath,
+            @Value("${app.search.full-text.commit-window-ms:500}") long commitWindowMillis
+    ) {
+        this.postSearchDocumentLoader = postSearchDocumentLoader;
+        this.contentVersionRegistry = contentVersionRegistry;
+        this.enabled = enabled;
+        this.indexPath = Path.of(indexPath);
+        this.commitWindowMillis = commitWindowMillis;
+    }
+
+    // ========== 생명주기 ========== //
+
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            log.info("전문 검색 비활성화 - 키워드 검색은 DB로 처리");
+            return;
+        }
+
+        handle = openHandle();
+    }
+
+    /**
+     * 인덱스 디렉터리/writer/searcherManager 열기
+     *
+     * @return 열린 핸들 (실패 시 null, 일부만 열린 자원은 닫음)
+     */
+    private IndexHandle openHandle() {
+        Directory directory = null;
+        IndexWriter writer = null;
+        try {
+            Files.createDirectories(indexPath);
+            directory = FSDirectory.open(indexPath);
+
+            if (DirectoryReader.indexExists(directory)) {
+                String version = SegmentInfos.readLatestCommit(directory).getUserData().get(SCHEMA_VERSION_KEY);
+                schemaOutdated = !SCHEMA_VERSION.equals(version);
+            }
+
+            IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                    .setSimilarity(new BM25Similarity())
+                    .setMergePolicy(new TieredMergePolicy())
+                    .setMergeScheduler(new ConcurrentMergeScheduler());
+
+            writer = new IndexWriter(directory, config);
+            IndexHandle opened = new IndexHandle(directory, writer, new SearcherManager(writer, null));
+
+            log.info("전문 검색 인덱스 열기 완료: path={}, docCount={}",
+                    indexPath.toAbsolutePath(), writer.getDocStats().numDocs);
+            return opened;
+        } catch (IOException e) {
+            log.error("전문 검색 인덱스 열기 실패 - DB 검색으로 대체: path={}, error={}",
+                    indexPath.toAbsolutePath(), e.getMessage(), e);
+            new IndexHandle(directory, writer, null).closeQuietly();
+            return null;
+        }
+    }
+
+    /**
+     * 인덱스가 비어 있거나 문서 구조가 바뀌었으면 전체 공개 게시글로 구축
+     * (최초 배포, 인덱스 디렉터리 유실, SCHEMA_VERSION 변경 시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfEmptyOrOutdated() {
+        IndexHandle current = handle;
+        if (current == null || (current.writer().getDocStats().numDocs > 0 && !schemaOutdated)) {
+            return;
+        }
+
+        try {
+            rebuild();
+        } catch (IllegalStateException e) {
+            // 구축에 실패해도 애플리케이션은 기동 (키워드 검색은 DB로 대체)
+            log.error("시작 시 전문 검색 인덱스 구축 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 색인 스레드를 멈추고 남은 변경을 반영한 뒤 인덱스를 닫음
+     */
+    @PreDestroy
+    public void close() {
+        indexer.shutdown();
+        try {
+            if (!indexer.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("전문 검색 색인 스레드 종료 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        indexLock.lock();
+        try {
+            applyPending();
+        } finally {
+            indexLock.unlock();
+        }
+
+        IndexHandle current = handle;
+        handle = null;
+        if (current != null) {
+            current.closeQuietly();
+        }
+    }
+
+    public boolean isAvailable() {
+        return handle != null;
+    }
+
+    // ========== 검색 ========== //
+
+    /**
+     * 키워드 전문 검색 (관련도순)
+     *
+     * @param condition 검색 조건 (keyword 필수, postType/stackName 필터)
+     * @param userId 작성자 필터 (null이면 전체)
+     * @param pageable 페이지 정보 (정렬은 관련도순으로 고정)
+     * @return 한 페이지 분량의 게시글 ID와 전체 일치 수
+     */
+    public PostSearchHits search(PostSearchCondition condition, Long userId, Pageable pageable) {
+        Optional<Query> built = buildQuery(condition, userId);
+        if (built.isEmpty()) {
+            return PostSearchHits.empty();
+        }
+
+        Query query = built.get();
+        int offset = (int) pageable.getOffset();
+
+        return withSearcher(searcher -> {
+            int totalHits = searcher.count(query);
+            if (offset >= totalHits) {
+                return new PostSearchHits(List.of(), totalHits);
+            }
+
+            TopDocs topDocs = searcher.search(query, offset + pageable.getPageSize(), RELEVANCE_SORT);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<Long> postIds = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = offset; i < scoreDocs.length; i++) {
+                Document document = storedFields.document(scoreDocs[i].doc, Set.of(FIELD_ID));
+                postIds.add(Long.valueOf(document.get(FIELD_ID)));
+            }
+
+            log.debug("전문 검색: keyword={}, totalHits={}, page={}", condition.getKeyword(), totalHits, pageable.getPageNumber());
+
+            return new PostSearchHits(postIds, totalHits);
+        });
+    }
+
+    /**
+     * 키워드 전문 검색 (최신순, 커서 기반)
+     * - 정렬 값(createdAt, postId)이 커서와 같으므로 searchAfter로 다음 페이지를 바로 조회
+     * - 결과는 색인된 정렬 값 그대로의 위치로 반환 (DB에서 걸러진 문서 다음부터 이어서 조회할 수 있도록)
+     *
+     * @param condition 검색 조건 (keyword 필수, postType/stackName 필터)
+     * @param userId 작성자 필터 (null이면 전체)
+     * @param cursor 이전 페이지의 마지막 위치 (null이면 첫 페이지)
+     * @param limit 조회할 최대 개수
+     * @return 최신순 게시글 위치 목록 (ID + 색인된 작성일)
+     */
+    public List<PostCursor> searchAfter(PostSearchCondition condition, Long userId, PostCursor cursor, int limit) {
+        Optional<Query> built = buildQuery(condition, userId);
+        if (built.isEmpty()) {
+            return List.of();
+        }
+
+        return withSearcher(searcher -> {
+            TopDocs topDocs;
+            if (cursor == null) {
+                topDocs = searcher.search(built.get(), limit, LATEST_SORT);
+            } else {
+                // 정렬 값이 게시글마다 유일하므로 doc 번호는 비교에 쓰이지 않음
+                FieldDoc after = new FieldDoc(Integer.MAX_VALUE, Float.NaN,
+                        new Object[]{toEpochMilli(cursor.createdAt()), cursor.id()});
+                topDocs = searcher.searchAfter(after, built.get(), limit, LATEST_SORT);
+            }
+
+            List<PostCursor> positions = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Object[] fields = ((FieldDoc) scoreDoc).fields;
+                positions.add(new PostCursor(fromEpochMilli((Long) fields[0]), (Long) fields[1]));
+            }
+            return positions;
+        });
+    }
+
+    /**
+     * 현재 핸들의 searcher로 검색 실행
+     * - 롤백/재오픈으로 핸들이 닫힌 경우 새 핸들로 한 번 재시도
+     */
+    private <T> T withSearcher(SearchAction<T> action) {
+        for (int attempt = 0; ; attempt++) {
+            IndexHandle current = handle;
+            if (current == null) {
+                throw new IllegalStateException("전문 검색 인덱스를 사용할 수 없습니다");
+            }
+
+            IndexSearcher searcher = null;
+            try {
+                searcher = current.searcherManager().acquire();
+                return action.search(searcher);
+            } catch (AlreadyClosedException e) {
+                if (attempt > 0) {
+                    throw e;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("전문 검색 실패", e);
+            } finally {
+                releaseQuietly(current, searcher);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface SearchAction<T> {
+        T search(IndexSearcher searcher) throws IOException;
+    }
+
+    /**
+     * 키워드 + 필터 조건으로 Lucene 쿼리 생성 (키워드가 없거나 불용어뿐이면 empty)
+     */
+    private Optional<Query> buildQuery(PostSearchCondition condition, Long userId) {
+        Optional<Query> keywordQuery = parseKeyword(condition.getKeyword());
+        if (keywordQuery.isEmpty()) {
+            return Optional.empty();
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(keywordQuery.get(), BooleanClause.Occur.MUST);
+
+        if (userId != null) {
+            builder.add(new TermQuery(new Term(FIELD_USER_ID, String.valueOf(userId))), BooleanClause.Occur.FILTER);
+        }
+        if (condition.getPostType() != null) {
+            builder.add(new TermQuery(new Term(FIELD_POST_TYPE, condition.getPostType().name())), BooleanClause.Occur.FILTER);
+        }
+        if (condition.getStackName() != null && !condition.getStackName().isBlank()) {
+            builder.add(new TermQuery(new Term(FIELD_STACK, normalizeStack(condition.getStackName()))), BooleanClause.Occur.FILTER);
+        }
+
+        return Optional.of(builder.build());
+    }
+
+    private Optional<Query> parseKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+
+        // 사용자 입력을 그대로 받으므로 문법 오류가 없는 SimpleQueryParser 사용 (모든 단어 일치)
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+
+        // 불용어만 입력된 경우 null 반환
+        return Optional.ofNullable(parser.parse(keyword.trim()));
+    }
+
+    // ========== 색인 ========== //
+
+    /**
+     * 게시글 변경 커밋 이후 색인 대기열에 등록 (비동기, 즉시 반환)
+     * - 첫 변경 이후 commit-window-ms가 지나면 색인 스레드가 모인 변경을 한 번에 반영
+     * - 색인 실패가 게시글 API 응답에 영향을 주지 않도록 예외는 로그만 남김 (재구축으로 보정)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (handle == null) {
+            return;
+        }
+
+        pendingPostIds.add(event.postId());
+        scheduleFlush();
+
+        log.debug("전문 검색 인덱스 갱신 요청: postId={}, type={}", event.postId(), event.changeType());
+    }
+
+    /**
+     * 스택 이름 변경/삭제 커밋 이후 그 스택을 쓰는 게시글 재색인 (스택 필터/검색 필드에 이름이 복사되어 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStackChanged(StackChangedEvent event) {
+        if (handle == null || event.postIds().isEmpty()) {
+            return;
+        }
+
+        pendingPostIds.addAll(event.postIds());
+        scheduleFlush();
+
+        log.debug("스택 변경으로 전문 검색 재색인 요청: stackId={}, posts={}", event.stackId(), event.postIds().size());
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            indexer.schedule(this::flushPending, commitWindowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중: close()가 남은 변경을 반영
+            flushScheduled.set(false);
+        }
+    }
+
+    /**
+     * 색인 스레드에서 대기 중인 변경 반영
+     * - 재구축 중이면 건너뜀 (재구축이 커밋 이후 대기열을 반영하고, 락을 놓은 뒤 남은 변경은 다시 예약)
+     */
+    private void flushPending() {
+        flushScheduled.set(false);
+
+        if (!indexLock.tryLock()) {
+            return;
+        }
+        try {
+            applyPending();
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    /**
+     * 예약된 색인 작업이 끝날 때까지 대기 (테스트용)
+     */
+    void awaitIndexer() throws Exception {
+        indexer.schedule(() -> { }, commitWindowMillis, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 대기 중인 변경 반영 후 한 번만 커밋 (indexLock 보유 상태에서 호출)
+     */
+    private void applyPending() {
+        IndexHandle current = handle;
+        if (current == null || pendingPostIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> postIds = new ArrayList<>(pendingPostIds);
+        pendingPostIds.removeAll(postIds);
+
+        try {
+            Map<Long, PostSearchDocument> documents = postSearchDocumentLoader.loadPublished(postIds);
+
+            for (Long postId : postIds) {
+                Term idTerm = new Term(FIELD_ID, String.valueOf(postId));
+                PostSearchDocument document = documents.get(postId);
+
+                if (document != null) {
+                    current.writer().updateDocument(idTerm, toLuceneDocument(document));
+                } else {
+                    current.writer().deleteDocuments(idTerm);
+                }
+            }
+
+            current.writer().commit();
+            current.searcherManager().maybeRefresh();
+            // 게시글 커밋 시점의 ETag 갱신 이후에 검색 결과가 바뀌므로 다시 갱신 (이전 결과가 새 ETag로 캐시되지 않도록)
+            contentVersionRegistry.bump(ContentScope.POSTS);
+
+            log.debug("전문 검색 인덱스 갱신: postIds={}", postIds);
+        } catch (Exception e) {
+            log.error("전문 검색 인덱스 갱신 실패: postIds={}, error={}", postIds, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전체 공개 게시글로 인덱스 재구축
+     * - deleteAll부터 커밋까지 indexLock을 보유하므로 중간 상태가 커밋/공개되지 않음
+     *
+     * @return 재구축 결과
+     */
+    public PostSearchRebuildResponse rebuild() {
+        indexLock.lock();
+        try {
+            IndexHandle current = handle;
+            if (current == null) {
+                throw CustomException.badRequest("전문 검색 인덱스를 사용할 수 없습니다");
+            }
+
+            long startedAt = System.currentTimeMillis();
+
+            try {
+                // 재구축이 읽을 DB 상태에 이미 반영된 변경은 대기열에서 제외하지 않음 (재구축 이후 한 번 더 반영해도 결과 동일)
+                current.writer().deleteAll();
+
+                int count = postSearchDocumentLoader.forEachPublished(document -> {
+                    try {
+                        current.writer().addDocument(toLuceneDocument(document));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                current.writer().setLiveCommitData(Map.of(SCHEMA_VERSION_KEY, SCHEMA_VERSION).entrySet());
+                current.writer().commit();
+                current.searcherManager().maybeRefresh();
+                schemaOutdated = false;
+                contentVersionRegistry.bump(ContentScope.POSTS);
+
+                long elapsedMillis = System.currentTimeMillis() - startedAt;
+                log.info("전문 검색 인덱스 재구축 완료: docCount={}, elapsed={}ms", count, elapsedMillis);
+
+                return PostSearchRebuildResponse.builder()
+                        .documentCount(count)
+                        .elapsedMillis(elapsedMillis)
+                        .build();
+            } catch (IOException | UncheckedIOException e) {
+                log.error("전문 검색 인덱스 재구축 실패: error={}", e.getMessage(), e);
+                rollbackQuietly(current);
+                throw new IllegalStateException("전문 검색 인덱스 재구축 실패", e);
+            } finally {
+                // 재구축 중 쌓인 변경 반영 (재구축 결과 위에 덮어씀)
+                applyPending();
+            }
+        } finally {
+            indexLock.unlock();
+            if (!pendingPostIds.isEmpty()) {
+                scheduleFlush();
+            }
+        }
+    }
+
+    private Document toLuceneDocument(PostSearchDocument source) {
+        Document document = new Document();
+
+        // 식별/필터 필드 (분석하지 않음)
+        document.add(new StringField(FIELD_ID, String.valueOf(source.postId()), Field.Store.YES));
+        document.add(new StringField(FIELD_USER_ID, String.valueOf(source.userId()), Field.Store.NO));
+        document.add(new StringField(FIELD_POST_TYPE, source.postType().name(), Field.Store.NO));
+        source.stacks().forEach(stack -> document.add(new StringField(FIELD_STACK, normalizeStack(stack), Field.Store.NO)));
+
+        // 정렬 필드
+        document.add(new NumericDocValuesField(FIELD_CREATED_AT, toEpochMilli(source.createdAt())));
+        document.add(new NumericDocValuesField(FIELD_POST_ID, source.postId()));
+
+        // 검색 필드 (형태소 분석)
+        document.add(new TextField(FIELD_TITLE, nullToEmpty(source.title()), Field.Store.NO));
+        document.add(new TextField(FIELD_EXCERPT, nullToEmpty(source.excerpt()), Field.Store.NO));
+        document.add(new TextField(FIELD_CONTENT, nullToEmpty(source.content()), Field.Store.NO));
+        source.tags().forEach(tag -> document.add(new TextField(FIELD_TAGS, tag, Field.Store.NO)));
+        source.stacks().forEach(stack -> document.add(new TextField(FIELD_STACKS, stack, Field.Store.NO)));
+
+        return document;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+
+    private static LocalDateTime fromEpochMilli(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+    }
+
+    /**
+     * 스택 필터 값 정규화 (DB 검색의 스택 이름 비교처럼 대소문자 구분 없이 일치)
+     */
+    private static String normalizeStack(String stackName) {
+        return stackName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    // ========== 자원 정리 ========== //
+
+    private void releaseQuietly(IndexHandle owner, IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            owner.searcherManager().release(searcher);
+        } catch (IOException e) {
+            log.warn("IndexSearcher 반환 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재구축 실패 시 마지막 커밋으로 되돌리고 다시 연다 (indexLock 보유 상태에서 호출)
+     * - 새 핸들로 교체한 뒤 이전 searcherManager를 닫으므로 검색은 null을 보지 않음
+     */
+    private void rollbackQuietly(IndexHandle failed) {
+        try {
+            // 롤백 시 IndexWriter가 닫히고 쓰기 락이 풀림
+            failed.writer().rollback();
+        } catch (IOException e) {
+            log.error("전문 검색 인덱스 롤백 실패: {}", e.getMessage(), e);
+        }
+
+        handle = openHandle();
+        failed.closeQuietly();
+    }
+
+    /**
+     * 열린 인덱스 자원 묶음 (교체는 필드 하나의 volatile 쓰기로 처리)
+     */
+    private record IndexHandle(Directory directory, IndexWriter writer, SearcherManager searcherManager) {
+
+        void closeQuietly() {
+            try {
+                if (searcherManager != null) {
+                    searcherManager.close();
+                }
+                if (writer != null && writer.isOpen()) {
+                    writer.close();
+                }
+                if (directory != null) {
+                    directory.close();
+                }
+            } catch (IOException e) {
+                log.warn("전문 검색 인덱스 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.blog.backend.feature.post.search;
+
+import java.util.List;
+
+/**
+ * 전문 검색 결과 (한 페이지)
+ *
+ * @param postIds 관련도순 게시글 ID 목록
+ * @param totalHits 전체 일치 게시글 수
+ */
+public record PostSearchHits(
+        List<Long> postIds,
+        long totalHits
+) {
+    public static PostSearchHits empty() {
+        return new PostSearchHits(List.of(), 0);
+    }
+}
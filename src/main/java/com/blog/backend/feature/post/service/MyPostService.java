@@ -3,10 +3,11 @@ package com.blog.backend.feature.post.service;
 import com.blog.backend.feature.post.dto.PostRequest;
 import com.blog.backend.feature.post.dto.PostResponse;
 import com.blog.backend.feature.post.dto.PostSearchCondition;
-import com.blog.backend.feature.user.entity.User;
 import com.blog.backend.global.core.exception.CustomException;
+import com.blog.backend.global.core.response.CursorPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * 내 게시글 서비스
@@ -23,12 +24,12 @@ public interface MyPostService {
      * - 본문에서 파일 ID를 파싱하여 자동 매핑
      * - Slug는 제목 기반 자동 생성 (중복 시 번호 추가)
      *
-     * @param user 게시글 작성자
+     * @param userId 게시글 작성자 ID
      * @param request 게시글 생성 요청 데이터
      * @return PostResponse.Detail 생성된 게시글 상세 정보
      * @throws CustomException 제목 중복, 사용자 없음, 파일 없음 등
      */
-    PostResponse.Detail createPost(User user, PostRequest.Create request);
+    PostResponse.Detail createPost(Long userId, PostRequest.Create request);
 
     /**
      * 게시글 수정용 데이터 조회
@@ -90,6 +91,31 @@ public interface MyPostService {
      */
     Page<PostResponse.PostItems> searchMyPosts(Long userId, PostSearchCondition condition, Pageable pageable);
 
+    /**
+     * 내 게시글 검색 (Slice)
+     * - searchMyPosts와 동일하지만 전체 개수를 계산하지 않음 (count 쿼리 없음)
+     *
+     * @param userId 조회 요청 사용자 ID
+     * @param condition 검색 조건 (postType, stackName, keyword)
+     * @param pageable 페이지네이션 정보
+     * @return 검색된 게시글 Slice
+     */
+    Slice<PostResponse.PostItems> searchMyPostsSlice(Long userId, PostSearchCondition condition, Pageable pageable);
+
+    /**
+     * 내 게시글 검색 (커서 기반)
+     * - 최신순(createdAt DESC, id DESC) 고정, 전체 개수 계산 없음
+     * - 검색 조건은 searchMyPosts와 동일
+     *
+     * @param userId 조회 요청 사용자 ID
+     * @param condition 검색 조건 (postType, stackName, keyword)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 PostCursor.MAX_SIZE)
+     * @return 커서 페이지
+     * @throws CustomException 커서 형식이 잘못된 경우
+     */
+    CursorPageResponse<PostResponse.PostItems> searchMyPostsByCursor(Long userId, PostSearchCondition condition, String cursor, int size);
+
     /**
      * 삭제된 게시글 조회
      * - DELETED 상태의 게시글만 조회
@@ -1,25 +1,42 @@
 package com.blog.backend.feature.post.service;
 
+import com.blog.backend.feature.post.cache.PostCountCache;
+import com.blog.backend.feature.post.dto.PostCursor;
 import com.blog.backend.feature.post.dto.PostRequest;
 import com.blog.backend.feature.post.dto.PostResponse;
 import com.blog.backend.feature.post.dto.PostSearchCondition;
 import com.blog.backend.feature.post.entity.Post;
+import com.blog.backend.feature.post.entity.PostContent;
 import com.blog.backend.feature.post.entity.PostStatus;
+import com.blog.backend.feature.post.entity.PostType;
+import com.blog.backend.feature.post.event.PostChangeType;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.post.mapper.PostItemsMapper;
+import com.blog.backend.feature.post.repository.PostContentRepository;
 import com.blog.backend.feature.post.repository.PostRepository;
 import com.blog.backend.feature.post.repository.PostSpecification;
 import com.blog.backend.feature.post.util.MarkdownFileParser;
 import com.blog.backend.feature.post.util.SlugGenerator;
 import com.blog.backend.feature.post.util.ValidateMarkdown;
+import com.blog.backend.feature.stack.catalog.StackCatalog;
+import com.blog.backend.feature.stack.dto.StackResponse;
 import com.blog.backend.feature.stack.entity.Stack;
 import com.blog.backend.feature.stack.repository.StackRepository;
-import com.blog.backend.feature.user.entity.User;
+import com.blog.backend.feature.stack.service.StackPostCountService;
+import com.blog.backend.feature.user.cache.AuthorCache;
 import com.blog.backend.feature.user.repository.UserRepository;
 import com.blog.backend.global.core.exception.CustomException;
+import com.blog.backend.global.core.response.CursorPageResponse;
 import com.blog.backend.global.file.service.FileMetadataService;
+import com.blog.backend.global.file.service.FileVariantService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,16 +53,24 @@ import java.util.stream.Collectors;
 public class MyPostServiceImpl implements MyPostService{
 
     private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
     private final UserRepository userRepository;
     private final StackRepository stackRepository;
     private final PostFileService postFileService;
     private final FileMetadataService fileMetadataService;
+    private final FileVariantService fileVariantService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostCountCache postCountCache;
+    private final PostItemsMapper postItemsMapper;
+    private final StackPostCountService stackPostCountService;
+    private final StackCatalog stackCatalog;
+    private final AuthorCache authorCache;
 
     // ========== CRUD ========== //
 
     @Override
     @Transactional
-    public PostResponse.Detail createPost(User user, PostRequest.Create request) {
+    public PostResponse.Detail createPost(Long userId, PostRequest.Create request) {
         validateTitleForCreate(request.getTitle());
 
         // 본문 마크다운 형식 검증
@@ -54,14 +79,13 @@ public class MyPostServiceImpl implements MyPostService{
         // Slug 생성 (중복 처리 포함)
         String slug = generateUniqueSlug(request.getTitle());
 
-        // 게시글 기본 정보 저장
+        // 게시글 기본 정보 저장 (작성자는 조회 없이 참조만 연결)
         Post post = Post.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .postType(request.getPostType())
                 .title(request.getTitle())
                 .slug(slug)
                 .excerpt(request.getExcerpt())
-                .content(request.getContent())
                 .status(PostStatus.PUBLISHED)
                 .build();
 
@@ -72,13 +96,21 @@ public class MyPostServiceImpl implements MyPostService{
 
         // 기술 스택 처리
         if (request.getStacks() != null && !request.getStacks().isEmpty()) {
-            List<Stack> stacks = stackRepository.findByNameIn(request.getStacks());
-            post.updateStacks(new HashSet<>(stacks));
+            post.updateStacks(resolveStacks(request.getStacks()));
         }
 
         Post savedPost = postRepository.save(post);
+
+        // 본문은 별도 테이블에 저장 (posts와 PK 공유)
+        postContentRepository.save(PostContent.builder()
+                .post(savedPost)
+                .content(request.getContent())
+                .build());
         log.info("게시글 생성 완료: postId={}, slug={}", savedPost.getId(), savedPost.getSlug());
 
+        // 스택별 게시글 수 집계 반영 (발행 상태로 생성)
+        stackPostCountService.increase(userId, getStackIds(savedPost));
+
         // 썸네일 처리 (사전 업로드된 파일)
         if (request.getThumbnailFileId() != null) {
             handleThumbnailFromPreUpload(savedPost, request.getThumbnailFileId(), request.getThumbnailPath());
@@ -87,7 +119,10 @@ public class MyPostServiceImpl implements MyPostService{
         // 본문 파일 매핑 생성 (본문에서 파싱)
         handleContentFilesFromMarkdown(savedPost.getId(), request.getContent());
 
-        return buildPostDetailResponse(savedPost);
+        eventPublisher.publishEvent(PostChangedEvent.of(
+                savedPost.getId(), userId, PostChangeType.CREATED, savedPost.getSlug()));
+
+        return buildPostDetailResponse(savedPost, request.getContent());
     }
 
     @Override
@@ -96,6 +131,9 @@ public class MyPostServiceImpl implements MyPostService{
         Post post = postRepository.findBySlugAndUserId(slug, userId)
                 .orElseThrow(() -> CustomException.notFound("게시글을 찾을 수 없습니다"));
 
+        String content = postContentRepository.findContentByPostId(post.getId())
+                .orElseThrow(() -> CustomException.notFound("게시글 본문을 찾을 수 없습니다"));
+
         List<String> stackNames = post.getStacks().stream()
                 .map(Stack::getName)
                 .collect(Collectors.toList());
@@ -110,7 +148,7 @@ public class MyPostServiceImpl implements MyPostService{
                 post.getTitle(),
                 post.getExcerpt(),
                 post.getPostType(),
-                post.getContent(),
+                content,
                 post.getStatus(),
                 post.getThumbnailPath(),
                 tags,
@@ -129,7 +167,12 @@ public class MyPostServiceImpl implements MyPostService{
         // 본문 마크다운 형식 검증
         ValidateMarkdown.validate(request.getContent());
 
+        // 관련 게시글 재계산 여부 판단용
+        PostType oldPostType = post.getPostType();
+        Set<Long> oldStackIds = getStackIds(post);
+
         // 제목이 변경될 경우에만 중복 체크 및 slug 재생성
+        String oldSlug = post.getSlug();
         String newSlug = post.getSlug();
         if (!post.getTitle().equals(request.getTitle())) {
             validateTitleForUpdate(post.getId(), request.getTitle());
@@ -142,10 +185,16 @@ public class MyPostServiceImpl implements MyPostService{
                 request.getPostType(),
                 request.getTitle(),
                 newSlug,
-                request.getExcerpt(),
-                request.getContent()
+                request.getExcerpt()
         );
 
+        // 본문은 변경된 경우에만 post_contents UPDATE, 게시글 수정 시각은 함께 갱신
+        PostContent postContent = postContentRepository.findById(post.getId())
+                .orElseThrow(() -> CustomException.notFound("게시글 본문을 찾을 수 없습니다"));
+        if (postContent.update(request.getContent())) {
+            post.markAsModified();
+        }
+
         // 자유 태그 처리
         if (request.getTags() != null && !request.getTags().isEmpty()) {
             post.updateTags(request.getTags());
@@ -153,8 +202,7 @@ public class MyPostServiceImpl implements MyPostService{
 
         // 기술 스택 처리
         if (request.getStacks() != null && !request.getStacks().isEmpty()) {
-            List<Stack> stacks = stackRepository.findByNameIn(request.getStacks());
-            post.updateStacks(new HashSet<>(stacks));
+            post.updateStacks(resolveStacks(request.getStacks()));
         }
 
         // 썸네일 처리
@@ -163,7 +211,20 @@ public class MyPostServiceImpl implements MyPostService{
         // 본문 파일 매핑 처리 (차집합 기반)
         handleContentFilesUpdate(post.getId(), request.getContent());
 
-        return buildPostDetailResponse(post);
+        Set<Long> newStackIds = getStackIds(post);
+        boolean relationChanged = oldPostType != post.getPostType()
+                || !oldStackIds.equals(newStackIds);
+
+        // 공개 게시글만 스택별 게시글 수 집계 대상
+        if (post.getStatus() == PostStatus.PUBLISHED) {
+            stackPostCountService.replace(userId, oldStackIds, newStackIds);
+        }
+
+        // 이전 slug와 새 slug 모두 무효화 대상
+        eventPublisher.publishEvent(PostChangedEvent.updated(
+                post.getId(), userId, relationChanged, oldSlug, newSlug));
+
+        return buildPostDetailResponse(post, postContent.getContent());
     }
 
     @Override
@@ -172,9 +233,17 @@ public class MyPostServiceImpl implements MyPostService{
         Post post = postRepository.findBySlugAndUserId(slug, userId)
                 .orElseThrow(() -> CustomException.notFound("게시글을 찾을 수 없습니다"));
 
+        // 공개 상태에서 삭제되는 경우에만 스택별 게시글 수 차감
+        if (post.getStatus() == PostStatus.PUBLISHED) {
+            stackPostCountService.decrease(userId, getStackIds(post));
+        }
+
         // 소프트 삭제 처리
         post.softDelete();
 
+        eventPublisher.publishEvent(PostChangedEvent.of(
+                post.getId(), userId, PostChangeType.DELETED, post.getSlug()));
+
         log.info("게시글 소프트 삭제 완료: postId={}, slug={}, deletedAt={}",
                 post.getId(), post.getSlug(), post.getDeletedAt());
     }
@@ -192,6 +261,10 @@ public class MyPostServiceImpl implements MyPostService{
 
         // 복구 처리
         post.restoreFromDelete();
+        stackPostCountService.increase(userId, getStackIds(post));
+
+        eventPublisher.publishEvent(PostChangedEvent.of(
+                post.getId(), userId, PostChangeType.RESTORED, post.getSlug()));
 
         log.info("게시글 복구 완료: postId={}, slug={}", post.getId(), post.getSlug());
     }
@@ -207,64 +280,59 @@ public class MyPostServiceImpl implements MyPostService{
                 .keyword(condition.getKeyword())
                 .build();
 
-        return postRepository.findAll(
-                PostSpecification.withUserAndCondition(userId, nonDeletedCondition),
-                pageable
-        ).map(this::buildPostItemsResponse);
+        // 본문은 count 없이 조회, 전체 개수는 필요할 때만 캐시에서 조회
+        Specification<Post> spec = PostSpecification.withUserAndCondition(userId, nonDeletedCondition);
+        List<PostResponse.PostItems> content = postItemsMapper.toPostItemsInOrder(
+                postRepository.findIdSlice(spec, pageable).getContent());
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> postCountCache.get(userId, nonDeletedCondition, () -> postRepository.count(spec)));
     }
 
     @Override
-    public Page<PostResponse.PostItems> getDeletedPosts(Long userId, Pageable pageable) {
-        return postRepository.findDeletedPostsByUserId(userId, pageable)
-                .map(this::buildPostItemsResponse);
+    public Slice<PostResponse.PostItems> searchMyPostsSlice(Long userId, PostSearchCondition condition, Pageable pageable) {
+        return postItemsMapper.toPostItemsInOrder(
+                postRepository.findIdSlice(PostSpecification.withUserAndCondition(userId, condition), pageable));
     }
 
-    // ========== DTO 빌더 메서드 ========== //
+    @Override
+    public CursorPageResponse<PostResponse.PostItems> searchMyPostsByCursor(
+            Long userId, PostSearchCondition condition, String cursor, int size) {
+        PostCursor after = PostCursor.decode(cursor);
+        int pageSize = PostCursor.normalizeSize(size);
 
-    private PostResponse.PostItems buildPostItemsResponse(Post post) {
-        List<String> stackNames = post.getStacks().stream()
-                .map(Stack::getName)
-                .collect(Collectors.toList());
+        Specification<Post> spec = PostSpecification.withUserAndCondition(userId, condition)
+                .and(PostSpecification.after(after));
 
-        List<String> tags = post.getTags() != null
-                ? new ArrayList<>(post.getTags())
-                : new ArrayList<>();
+        List<PostResponse.PostItems> fetched = postItemsMapper.toPostItemsInOrder(
+                postRepository.findIds(spec, PostCursor.SORT, pageSize + 1));
 
-        // 작성자 정보 생성
-        PostResponse.AuthorInfo author = PostResponse.AuthorInfo.of(
-                post.getUser().getNickname(),
-                post.getUser().getProfileImagePath()
-        );
+        return CursorPageResponse.of(fetched, pageSize, item -> PostCursor.from(item).encode());
+    }
 
-        return PostResponse.PostItems.of(
-                post.getId(),
-                post.getSlug(),
-                post.getTitle(),
-                post.getExcerpt(),
-                post.getPostType(),
-                post.getStatus(),
-                post.getThumbnailPath(),
-                tags,
-                stackNames,
-                author,
-                post.getCreatedAt()
-        );
+    @Override
+    public Page<PostResponse.PostItems> getDeletedPosts(Long userId, Pageable pageable) {
+        return postItemsMapper.toPostItemsInOrder(postRepository.findDeletedPostIdsByUserId(userId, pageable));
     }
 
-    private PostResponse.Detail buildPostDetailResponse(Post post) {
+    // ========== DTO 빌더 메서드 ========== //
+
+    private PostResponse.Detail buildPostDetailResponse(Post post, String content) {
+        // 방금 지정한 스택은 프록시이므로 카탈로그에서 이름 조회 (프록시 초기화 SELECT 방지)
         List<String> stackNames = post.getStacks().stream()
-                .map(Stack::getName)
+                .map(stack -> stackCatalog.findById(stack.getId())
+                        .map(StackResponse.StackItem::getName)
+                        .orElseGet(stack::getName))
                 .collect(Collectors.toList());
 
         List<String> tags = post.getTags() != null
                 ? new ArrayList<>(post.getTags())
                 : new ArrayList<>();
 
-        // 작성자 정보 생성
-        PostResponse.AuthorInfo author = PostResponse.AuthorInfo.of(
-                post.getUser().getNickname(),
-                post.getUser().getProfileImagePath()
-        );
+        // 작성자 정보 생성 (User 지연 로딩 없이 FK로 캐시 조회)
+        PostResponse.AuthorInfo author = authorCache.findById(post.getUser().getId())
+                .map(PostResponse.AuthorInfo::from)
+                .orElseThrow(() -> CustomException.notFound("사용자를 찾을 수 없습니다"));
 
         return PostResponse.Detail.of(
                 post.getId(),
@@ -272,9 +340,10 @@ public class MyPostServiceImpl implements MyPostService{
                 post.getTitle(),
                 post.getExcerpt(),
                 post.getPostType(),
-                post.getContent(),
+                content,
                 post.getStatus(),
                 post.getThumbnailPath(),
+                fileVariantService.getVariants(post.getThumbnailPath()),
                 tags,
                 stackNames,
                 author,
@@ -351,6 +420,24 @@ public class MyPostServiceImpl implements MyPostService{
         }
     }
 
+    // ========== 관련 게시글 ========== //
+
+    /**
+     * 스택명 목록 → 스택 참조 목록
+     * - 스택명 변환은 인메모리 카탈로그에서, 엔티티는 조회 없이 프록시 참조로 연결
+     */
+    private Set<Stack> resolveStacks(Set<String> names) {
+        return stackCatalog.resolveIds(names).stream()
+                .map(stackRepository::getReferenceById)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private Set<Long> getStackIds(Post post) {
+        return post.getStacks().stream()
+                .map(Stack::getId)
+                .collect(Collectors.toSet());
+    }
+
     // ========== Slug 생성 로직 ========== //
 
     private String generateUniqueSlug(String title) {
@@ -0,0 +1,89 @@
+package com.blog.backend.feature.post.service;
+
+import com.blog.backend.feature.post.dto.PostResponse;
+import com.blog.backend.feature.post.entity.Post;
+import com.blog.backend.feature.post.repository.PostContentRepository;
+import com.blog.backend.feature.post.repository.PostRepository;
+import com.blog.backend.feature.stack.entity.Stack;
+import com.blog.backend.feature.user.cache.AuthorCache;
+import com.blog.backend.global.core.exception.CustomException;
+import com.blog.backend.global.file.service.FileVariantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 게시글 상세 로더
+ *
+ * PostDetailCache 미스 시에만 호출되어 상세 DTO를 조립
+ * - 트랜잭션(DB 커넥션)은 이 클래스에서만 시작되므로 캐시 히트 경로는 DB를 전혀 사용하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostDetailLoader {
+
+    private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
+    private final RelatedPostService relatedPostService;
+    private final AuthorCache authorCache;
+    private final FileVariantService fileVariantService;
+
+    /**
+     * slug로 공개 게시글 상세 조립 (관련 게시글 포함)
+     */
+    public PostResponse.Detail load(String slug) {
+        Post post = postRepository.findBySlugWithStacks(slug)
+                .orElseThrow(() -> CustomException.notFound("게시글을 찾을 수 없습니다"));
+
+        // 본문은 상세 조회에서만 로딩
+        String content = postContentRepository.findContentByPostId(post.getId())
+                .orElseThrow(() -> CustomException.notFound("게시글을 찾을 수 없습니다"));
+
+        return buildPostDetailResponse(post, content);
+    }
+
+    // ========== DTO 빌더 메서드 ========== //
+
+    private PostResponse.Detail buildPostDetailResponse(Post post, String content) {
+        List<String> stackNames = post.getStacks().stream()
+                .map(Stack::getName)
+                .collect(Collectors.toList());
+
+        List<String> tags = post.getTags() != null
+                ? new ArrayList<>(post.getTags())
+                : new ArrayList<>();
+
+        // 작성자 정보 생성 (User 지연 로딩 없이 FK로 캐시 조회)
+        PostResponse.AuthorInfo author = authorCache.findById(post.getUser().getId())
+                .map(PostResponse.AuthorInfo::from)
+                .orElseThrow(() -> CustomException.notFound("사용자를 찾을 수 없습니다"));
+
+        // 관련 게시글 조회 (미리 계산된 related_posts, 카드 필드만)
+        List<PostResponse.PostItems> relatedPostItems = relatedPostService.getRelatedPosts(post.getId());
+
+        return PostResponse.Detail.of(
+                post.getId(),
+                post.getSlug(),
+                post.getTitle(),
+                post.getExcerpt(),
+                post.getPostType(),
+                content,
+                post.getStatus(),
+                post.getThumbnailPath(),
+                fileVariantService.getVariants(post.getThumbnailPath()),
+                tags,
+                stackNames,
+                author,
+                relatedPostItems,
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+}
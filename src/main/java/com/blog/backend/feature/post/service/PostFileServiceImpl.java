@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -119,10 +120,9 @@ public class PostFileServiceImpl implements PostFileService {
     }
 
     @Override
-    public Set<Long> collectUsedFileIds() {
-        List<Long> usedFileIds = postFileRepository.findAllUsedFileIds();
-        Set<Long> uniqueFileIds = Set.copyOf(usedFileIds);
-        log.info("PostFile에서 사용 중인 파일 ID 수집 완료: count={}", uniqueFileIds.size());
-        return uniqueFileIds;
+    public Set<Long> collectUsedFileIds(Collection<Long> candidateFileIds) {
+        Set<Long> usedFileIds = Set.copyOf(postFileRepository.findUsedFileIdsIn(candidateFileIds));
+        log.debug("PostFile에서 사용 중인 파일 ID 확인 완료: candidates={}, used={}", candidateFileIds.size(), usedFileIds.size());
+        return usedFileIds;
     }
 }
\ No newline at end of file
@@ -3,8 +3,10 @@ package com.blog.backend.feature.post.service;
 import com.blog.backend.feature.post.dto.PostResponse;
 import com.blog.backend.feature.post.dto.PostSearchCondition;
 import com.blog.backend.global.core.exception.CustomException;
+import com.blog.backend.global.core.response.CursorPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -40,6 +42,29 @@ public interface PublicPostService {
      */
     Page<PostResponse.PostItems> searchPosts(PostSearchCondition condition, Pageable pageable);
 
+    /**
+     * 공개 게시글 복합 검색 (Slice)
+     * - searchPosts와 동일하지만 전체 개수를 계산하지 않음 (count 쿼리 없음)
+     *
+     * @param condition 검색 조건 (nickname, postType, stackName, keyword)
+     * @param pageable 페이지네이션 정보
+     * @return 검색된 게시글 Slice
+     */
+    Slice<PostResponse.PostItems> searchPostsSlice(PostSearchCondition condition, Pageable pageable);
+
+    /**
+     * 공개 게시글 복합 검색 (커서 기반)
+     * - 최신순(createdAt DESC, id DESC) 고정, 전체 개수 계산 없음
+     * - 검색 조건은 searchPosts와 동일
+     *
+     * @param condition 검색 조건 (nickname, postType, stackName, keyword)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 PostCursor.MAX_SIZE)
+     * @return 커서 페이지
+     * @throws CustomException 커서 형식이 잘못된 경우
+     */
+    CursorPageResponse<PostResponse.PostItems> searchPostsByCursor(PostSearchCondition condition, String cursor, int size);
+
     /**
      * 자동완성 검색
      * - 제목 우선 매칭 후 부족하면 설명에서 추가
@@ -1,24 +1,36 @@
 package com.blog.backend.feature.post.service;
 
+import com.blog.backend.feature.post.cache.PostCountCache;
+import com.blog.backend.feature.post.cache.PostDetailCache;
+import com.blog.backend.feature.post.dto.PostCursor;
 import com.blog.backend.feature.post.dto.PostResponse;
 import com.blog.backend.feature.post.dto.PostSearchCondition;
 import com.blog.backend.feature.post.entity.Post;
+import com.blog.backend.feature.post.mapper.PostItemsMapper;
 import com.blog.backend.feature.post.repository.PostRepository;
 import com.blog.backend.feature.post.repository.PostSpecification;
+import com.blog.backend.feature.post.search.PostSearchEngine;
+import com.blog.backend.feature.post.search.PostSearchHits;
 import com.blog.backend.feature.post.strategy.PostSearchStrategy;
-import com.blog.backend.feature.stack.entity.Stack;
+import com.blog.backend.feature.user.cache.AuthorCache;
+import com.blog.backend.feature.user.dto.AuthorSummary;
 import com.blog.backend.global.core.exception.CustomException;
+import com.blog.backend.global.core.response.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * 공개 게시글 서비스
@@ -34,21 +46,29 @@ public class PublicPostServiceImpl implements PublicPostService {
 
     private final PostRepository postRepository;
     private final PostSearchStrategy postSearchStrategy;
+    private final PostDetailCache postDetailCache;
+    private final PostDetailLoader postDetailLoader;
+    private final PostCountCache postCountCache;
+    private final PostSearchEngine postSearchEngine;
+    private final AuthorCache authorCache;
+    private final PostItemsMapper postItemsMapper;
 
     /**
      * 게시글 상세 조회 (Nickname + Slug 기반)
+     * - 상세 DTO는 PostDetailCache에서 조회, 미스 시 PostDetailLoader로 조립
      */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PostResponse.Detail getPostByNicknameAndSlug(String nickname, String slug) {
-        Post post = postRepository.findBySlugWithStacks(slug)
-                .orElseThrow(() -> CustomException.notFound("게시글을 찾을 수 없습니다"));
+        // 캐시 히트 시 트랜잭션/DB 커넥션 없이 반환
+        PostResponse.Detail detail = postDetailCache.get(slug, postDetailLoader::load);
 
         // 작성자 검증
-        if (!post.getUser().getNickname().equals(nickname)) {
+        if (!detail.getAuthor().getNickname().equals(nickname)) {
             throw CustomException.notFound("해당 사용자의 게시글이 아닙니다");
         }
 
-        return buildPostDetailResponse(post);
+        return detail;
     }
 
     /**
@@ -56,155 +76,120 @@ public class PublicPostServiceImpl implements PublicPostService {
      */
     @Override
     public Page<PostResponse.PostItems> searchPosts(PostSearchCondition condition, Pageable pageable) {
-        return postRepository.findAll(PostSpecification.withCondition(condition), pageable)
-                .map(this::buildPostItemsResponse);
+        // 키워드 검색은 전문 검색 인덱스로 처리 (관련도순)
+        if (hasKeyword(condition) && postSearchEngine.isAvailable()) {
+            return searchByFullText(condition, pageable);
+        }
+
+        // 본문은 count 없이 조회, 전체 개수는 필요할 때만 캐시에서 조회
+        Specification<Post> spec = PostSpecification.withCondition(condition);
+        List<PostResponse.PostItems> content = postItemsMapper.toPostItemsInOrder(
+                postRepository.findIdSlice(spec, pageable).getContent());
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> postCountCache.get(null, condition, () -> postRepository.count(spec)));
     }
 
     /**
-     * 자동완성 검색
+     * 공개 게시글 복합 검색 (Slice, 전체 개수 없음)
      */
     @Override
-    public List<PostResponse.PostItems> autocomplete(String keyword) {
-        return postSearchStrategy.autocomplete(keyword, 5);
-    }
-
-    // ========== DTO 빌더 메서드 ========== //
-
-    private PostResponse.PostItems buildPostItemsResponse(Post post) {
-        List<String> stackNames = post.getStacks().stream()
-                .map(Stack::getName)
-                .collect(Collectors.toList());
-
-        List<String> tags = post.getTags() != null
-                ? new ArrayList<>(post.getTags())
-                : new ArrayList<>();
-
-        // 작성자 정보 생성
-        PostResponse.AuthorInfo author = PostResponse.AuthorInfo.of(
-                post.getUser().getNickname(),
-                post.getUser().getProfileImagePath()
-        );
-
-        return PostResponse.PostItems.of(
-                post.getId(),
-                post.getSlug(),
-                post.getTitle(),
-                post.getExcerpt(),
-                post.getPostType(),
-                post.getStatus(),
-                post.getThumbnailPath(),
-                tags,
-                stackNames,
-                author,
-                post.getCreatedAt()
-        );
-    }
+    public Slice<PostResponse.PostItems> searchPostsSlice(PostSearchCondition condition, Pageable pageable) {
+        // 전문 검색은 인덱스에서 개수를 바로 얻으므로 그대로 사용
+        if (hasKeyword(condition) && postSearchEngine.isAvailable()) {
+            return searchByFullText(condition, pageable);
+        }
 
-    private PostResponse.Detail buildPostDetailResponse(Post post) {
-        List<String> stackNames = post.getStacks().stream()
-                .map(Stack::getName)
-                .collect(Collectors.toList());
-
-        List<String> tags = post.getTags() != null
-                ? new ArrayList<>(post.getTags())
-                : new ArrayList<>();
-
-        // 작성자 정보 생성
-        PostResponse.AuthorInfo author = PostResponse.AuthorInfo.of(
-                post.getUser().getNickname(),
-                post.getUser().getProfileImagePath()
-        );
-
-        // 관련 게시글 조회 및 DTO 변환
-        List<Post> relatedPosts = getRelatedPosts(post);
-        List<PostResponse.PostItems> relatedPostItems = relatedPosts.stream()
-                .map(this::buildPostItemsResponse)
-                .collect(Collectors.toList());
-
-        return PostResponse.Detail.of(
-                post.getId(),
-                post.getSlug(),
-                post.getTitle(),
-                post.getExcerpt(),
-                post.getPostType(),
-                post.getContent(),
-                post.getStatus(),
-                post.getThumbnailPath(),
-                tags,
-                stackNames,
-                author,
-                relatedPostItems,
-                post.getCreatedAt(),
-                post.getUpdatedAt()
-        );
+        return postItemsMapper.toPostItemsInOrder(
+                postRepository.findIdSlice(PostSpecification.withCondition(condition), pageable));
     }
 
-    // ========== 관련 게시글 추천 로직 ========== //
-
-    private List<Post> getRelatedPosts(Post currentPost) {
-        List<Post> relatedPosts = new ArrayList<>();
-
-        List<String> stackNames = currentPost.getStacks().stream()
-                .map(Stack::getName)
-                .collect(Collectors.toList());
-
-        if (stackNames.isEmpty()) {
-            log.info("관련 게시글 조회 - Stack 없음, 최신 공개 게시글 조회: postId={}", currentPost.getId());
-            return postRepository.findLatestPublicPosts(
-                    currentPost.getId(),
-                    PageRequest.of(0, 3)
-            );
+    /**
+     * 공개 게시글 복합 검색 (커서 기반)
+     * - count 쿼리 없이 size + 1개만 조회
+     */
+    @Override
+    public CursorPageResponse<PostResponse.PostItems> searchPostsByCursor(PostSearchCondition condition, String cursor, int size) {
+        PostCursor after = PostCursor.decode(cursor);
+        int pageSize = PostCursor.normalizeSize(size);
+
+        List<PostResponse.PostItems> fetched;
+        if (hasKeyword(condition) && postSearchEngine.isAvailable()) {
+            fetched = searchByFullTextAfter(condition, after, pageSize + 1);
+        } else {
+            Specification<Post> spec = PostSpecification.withCondition(condition).and(PostSpecification.after(after));
+            fetched = postItemsMapper.toPostItemsInOrder(postRepository.findIds(spec, PostCursor.SORT, pageSize + 1));
         }
 
-        // 1순위: Stack 일치 + PostType 일치 (최대 2개)
-        List<Post> firstPriority = postRepository.findRelatedPostsByStackAndType(
-                currentPost.getId(),
-                stackNames,
-                currentPost.getPostType(),
-                PageRequest.of(0, 2)
-        );
+        return CursorPageResponse.of(fetched, pageSize, item -> PostCursor.from(item).encode());
+    }
 
-        relatedPosts.addAll(firstPriority);
-        log.info("관련 게시글 조회 - 1순위: postId={}, count={}", currentPost.getId(), firstPriority.size());
+    /**
+     * 자동완성 검색
+     */
+    @Override
+    public List<PostResponse.PostItems> autocomplete(String keyword) {
+        return postSearchStrategy.autocomplete(keyword, 5);
+    }
 
-        int remaining = 3 - relatedPosts.size();
+    // ========== 전문 검색 ========== //
 
-        // 2순위: Stack 일치 + PostType 다름
-        if (remaining > 0) {
-            List<Post> secondPriority = postRepository.findRelatedPostsByStackOnly(
-                    currentPost.getId(),
-                    stackNames,
-                    currentPost.getPostType(),
-                    PageRequest.of(0, remaining)
-            );
+    private boolean hasKeyword(PostSearchCondition condition) {
+        return condition.getKeyword() != null && !condition.getKeyword().isBlank();
+    }
 
-            relatedPosts.addAll(secondPriority);
-            log.info("관련 게시글 조회 - 2순위: postId={}, count={}", currentPost.getId(), secondPriority.size());
+    private boolean hasNickname(PostSearchCondition condition) {
+        return condition.getNickname() != null && !condition.getNickname().isBlank();
+    }
 
-            remaining = 3 - relatedPosts.size();
+    /**
+     * 전문 검색 인덱스로 게시글 ID를 찾은 뒤 PK로 카드 조회해 관련도순 그대로 반환
+     */
+    private Page<PostResponse.PostItems> searchByFullText(PostSearchCondition condition, Pageable pageable) {
+        Long userId = null;
+        if (hasNickname(condition)) {
+            Optional<AuthorSummary> author = authorCache.findByNickname(condition.getNickname());
+            if (author.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            userId = author.get().id();
         }
 
-        // 3순위: 최신 공개 게시글
-        if (remaining > 0) {
-            List<Post> latestPosts = postRepository.findLatestPublicPosts(
-                    currentPost.getId(),
-                    PageRequest.of(0, remaining)
-            );
-
-            List<Long> existingIds = relatedPosts.stream()
-                    .map(Post::getId)
-                    .toList();
+        PostSearchHits hits = postSearchEngine.search(condition, userId, pageable);
+        return new PageImpl<>(postItemsMapper.toPublishedPostItemsInOrder(hits.postIds()), pageable, hits.totalHits());
+    }
 
-            List<Post> filtered = latestPosts.stream()
-                    .filter(p -> !existingIds.contains(p.getId()))
-                    .limit(remaining)
-                    .toList();
+    /**
+     * 전문 검색 인덱스에서 커서 이후 게시글을 최신순으로 조회
+     * - 인덱스 반영이 늦어 비공개/삭제된 게시글이 섞여 있으면 DB 조회에서 걸러지므로,
+     *   마지막 색인 위치부터 이어서 조회해 limit개를 채우거나 인덱스가 끝날 때까지 반복
+     *   (걸러진 만큼 페이지가 짧아지거나 hasNext가 잘못 계산되지 않도록)
+     */
+    private List<PostResponse.PostItems> searchByFullTextAfter(PostSearchCondition condition, PostCursor after, int limit) {
+        Long userId = null;
+        if (hasNickname(condition)) {
+            Optional<AuthorSummary> author = authorCache.findByNickname(condition.getNickname());
+            if (author.isEmpty()) {
+                return List.of();
+            }
+            userId = author.get().id();
+        }
 
-            relatedPosts.addAll(filtered);
-            log.info("관련 게시글 조회 - 3순위: postId={}, count={}", currentPost.getId(), filtered.size());
+        List<PostResponse.PostItems> items = new ArrayList<>(limit);
+        PostCursor position = after;
+        while (items.size() < limit) {
+            List<PostCursor> hits = postSearchEngine.searchAfter(condition, userId, position, limit);
+            if (hits.isEmpty()) {
+                break;
+            }
+
+            items.addAll(postItemsMapper.toPublishedPostItemsInOrder(hits.stream().map(PostCursor::id).toList()));
+            if (hits.size() < limit) {
+                break;
+            }
+            position = hits.get(hits.size() - 1);
         }
 
-        log.info("관련 게시글 조회 완료: postId={}, totalCount={}", currentPost.getId(), relatedPosts.size());
-        return relatedPosts;
+        return items.size() > limit ? items.subList(0, limit) : items;
     }
-}
\ No newline at end of file
+}
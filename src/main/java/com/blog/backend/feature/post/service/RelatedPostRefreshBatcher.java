@@ -0,0 +1,141 @@
+package com.blog.backend.feature.post.service;
+
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.stack.event.StackChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관련 게시글 재계산 배처
+ *
+ * 게시글 쓰기 트랜잭션 안에서 재계산하면 스택을 공유하는 게시글 수만큼 쓰기 트랜잭션이 길어지고,
+ * 최신 게시글로 채운 목록까지 다시 계산하면 생성 요청마다 부담이 커짐.
+ * - 커밋된 변경만 대기열에 넣고 바로 반환 (롤백된 변경은 반영되지 않음)
+ * - 첫 변경이 들어온 뒤 window-ms가 지나거나 max-batch-size에 도달하면 전용 스레드에서 한 트랜잭션으로 재계산
+ * - 스택 삭제(StackChangedEvent)는 그 스택을 쓰던 게시글의 수정으로 보고 같은 대기열에 넣음
+ * - 같은 묶음 안의 여러 생성은 최신 게시글 목록 재계산 한 번으로 합쳐짐
+ * - 실패 시 로그만 남김 (어드민 전체 재계산 API로 보정)
+ */
+@Slf4j
+@Component
+public class RelatedPostRefreshBatcher {
+
+    private final RelatedPostService relatedPostService;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "related-post-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 재계산 대기 변경 (this로 동기화)
+     */
+    private final List<PostChangedEvent> pending = new ArrayList<>();
+    private boolean flushScheduled = false;
+
+    public RelatedPostRefreshBatcher(
+            RelatedPostService relatedPostService,
+            @Value("${app.related-posts.refresh.window-ms:1000}") long windowMillis,
+            @Value("${app.related-posts.refresh.max-batch-size:100}") int maxBatchSize
+    ) {
+        this.relatedPostService = relatedPostService;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 게시글 변경 커밋 이후 재계산 대기열에 등록 (비동기, 즉시 반환)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (!event.relationChanged()) {
+            return;
+        }
+
+        enqueue(List.of(event));
+    }
+
+    /**
+     * 스택 삭제 커밋 이후 그 스택을 쓰던 게시글을 재계산 대기열에 등록
+     * - 스택 연결이 사라져 공유 스택으로 묶였던 관련 게시글이 바뀜 (이름 변경은 계산 기준이 아니므로 제외)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStackChanged(StackChangedEvent event) {
+        if (event.name() != null || event.postIds().isEmpty()) {
+            return;
+        }
+
+        enqueue(event.postIds().stream()
+                .map(postId -> PostChangedEvent.updated(postId, null, true))
+                .toList());
+    }
+
+    private void enqueue(List<PostChangedEvent> events) {
+        boolean flushNow;
+        boolean scheduleWindow;
+
+        synchronized (this) {
+            pending.addAll(events);
+
+            flushNow = pending.size() >= maxBatchSize;
+            scheduleWindow = !flushNow && !flushScheduled;
+            if (flushNow || scheduleWindow) {
+                flushScheduled = true;
+            }
+        }
+
+        if (flushNow) {
+            scheduler.execute(this::flush);
+        } else if (scheduleWindow) {
+            scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // ========== 재계산 ========== //
+
+    /**
+     * 대기 변경을 한 번에 재계산
+     */
+    private void flush() {
+        List<PostChangedEvent> events;
+
+        synchronized (this) {
+            events = new ArrayList<>(pending);
+            pending.clear();
+            flushScheduled = false;
+        }
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            relatedPostService.refreshAffected(events);
+        } catch (Exception e) {
+            log.error("관련 게시글 재계산 실패 - 전체 재계산으로 보정 필요: events={}, error={}",
+                    events.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경 재계산
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        flush();
+    }
+}
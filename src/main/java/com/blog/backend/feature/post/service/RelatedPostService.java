@@ -0,0 +1,40 @@
+package com.blog.backend.feature.post.service;
+
+import com.blog.backend.feature.post.dto.PostResponse;
+import com.blog.backend.feature.post.dto.RelatedPostRebuildResponse;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+
+import java.util.List;
+
+/**
+ * 관련 게시글 읽기 모델(related_posts) 관리 서비스
+ *
+ * 역할:
+ * - 게시글 변경 시 영향받는 게시글의 관련 게시글 재계산 (PostChangedEvent, 커밋 이후 RelatedPostRefreshBatcher가 묶어서 호출)
+ * - 상세 조회 시 미리 계산된 관련 게시글 조회
+ * - 전체 재계산 (배포 직후 백필, 데이터 보정용)
+ */
+public interface RelatedPostService {
+
+    /**
+     * 미리 계산된 관련 게시글 조회 (공개 게시글만, 노출 순서대로)
+     *
+     * @param postId 기준 게시글 ID
+     * @return 관련 게시글 목록 (카드 정보)
+     */
+    List<PostResponse.PostItems> getRelatedPosts(Long postId);
+
+    /**
+     * 전체 공개 게시글의 관련 게시글 재계산
+     *
+     * @return 재계산 결과
+     */
+    RelatedPostRebuildResponse rebuildAll();
+
+    /**
+     * 게시글 변경 묶음에 영향받는 게시글의 관련 게시글 재계산
+     *
+     * @param events 커밋된 게시글 변경 이벤트 (발생 순서대로)
+     */
+    void refreshAffected(List<PostChangedEvent> events);
+}
@@ -0,0 +1,217 @@
+package com.blog.backend.feature.post.service;
+
+import com.blog.backend.feature.post.dto.PostResponse;
+import com.blog.backend.feature.post.dto.RelatedPostRebuildResponse;
+import com.blog.backend.feature.post.entity.PostType;
+import com.blog.backend.feature.post.entity.RelatedPost;
+import com.blog.backend.feature.post.event.PostChangeType;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.post.event.RelatedPostsChangedEvent;
+import com.blog.backend.feature.post.mapper.PostItemsMapper;
+import com.blog.backend.feature.post.repository.PostRepository;
+import com.blog.backend.feature.post.repository.RelatedPostRepository;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RelatedPostServiceImpl implements RelatedPostService {
+
+    private static final int RELATED_POST_LIMIT = 3;
+    private static final int SAME_TYPE_LIMIT = 2;
+
+    private final PostRepository postRepository;
+    private final RelatedPostRepository relatedPostRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostItemsMapper postItemsMapper;
+    private final ContentVersionRegistry contentVersionRegistry;
+
+    // ========== 조회 ========== //
+
+    @Override
+    public List<PostResponse.PostItems> getRelatedPosts(Long postId) {
+        return postItemsMapper.toPostItems(postRepository.findRelatedPublicPostCards(postId));
+    }
+
+    // ========== 재계산 ========== //
+
+    @Override
+    @Transactional
+    public RelatedPostRebuildResponse rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+
+        relatedPostRepository.deleteAllInBatch();
+
+        List<Long> postIds = postRepository.findAllPublicPostIds();
+        int relationCount = 0;
+
+        for (Long postId : postIds) {
+            relationCount += saveRelatedPosts(postId, computeRelatedPosts(postId));
+        }
+
+        eventPublisher.publishEvent(new RelatedPostsChangedEvent(Set.copyOf(postIds)));
+        contentVersionRegistry.bumpAfterCommit(ContentScope.POSTS);
+
+        long elapsedMillis = System.currentTimeMillis() - startedAt;
+        log.info("관련 게시글 전체 재계산 완료: postCount={}, relationCount={}, elapsed={}ms",
+                postIds.size(), relationCount, elapsedMillis);
+
+        return RelatedPostRebuildResponse.builder()
+                .postCount(postIds.size())
+                .relationCount(relationCount)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 게시글 변경 묶음 반영 (커밋 이후 RelatedPostRefreshBatcher의 작업 스레드에서 호출)
+     * - 재계산 대상: 변경된 게시글, 이 게시글을 관련 게시글로 가진 게시글, 스택을 공유하는 공개 게시글
+     * - 새 게시글이 공개되면(생성/복구) 최신 게시글로 채운 목록도 모두 재계산
+     */
+    @Override
+    @Transactional
+    public void refreshAffected(List<PostChangedEvent> events) {
+        Set<Long> affectedPostIds = new LinkedHashSet<>();
+        boolean latestChanged = false;
+
+        for (PostChangedEvent event : events) {
+            Long postId = event.postId();
+
+            if (event.changeType() == PostChangeType.PURGED) {
+                relatedPostRepository.deleteByPostId(postId);
+            } else {
+                affectedPostIds.add(postId);
+
+                Set<Long> stackIds = postRepository.findStackIdsByPostId(postId);
+                if (!stackIds.isEmpty()) {
+                    affectedPostIds.addAll(postRepository.findPublicPostIdsByStackIds(postId, stackIds));
+                }
+            }
+
+            affectedPostIds.addAll(relatedPostRepository.findPostIdsByRelatedPostId(postId));
+            latestChanged |= event.changeType() == PostChangeType.CREATED
+                    || event.changeType() == PostChangeType.RESTORED;
+        }
+
+        if (latestChanged) {
+            affectedPostIds.addAll(relatedPostRepository.findPostIdsWithFallback());
+        }
+
+        Set<Long> changedPostIds = new HashSet<>();
+        for (Long affectedPostId : affectedPostIds) {
+            if (refresh(affectedPostId)) {
+                changedPostIds.add(affectedPostId);
+            }
+        }
+
+        log.info("관련 게시글 재계산: events={}, latestChanged={}, affected={}, changed={}",
+                events.size(), latestChanged, affectedPostIds.size(), changedPostIds.size());
+
+        // 게시글 커밋 시점의 ETag 갱신 이후에 상세 응답이 바뀌므로 다시 갱신
+        // (상세 캐시 무효화 이벤트를 먼저 등록해 새 ETag로 이전 목록이 나가지 않도록)
+        if (!changedPostIds.isEmpty()) {
+            eventPublisher.publishEvent(new RelatedPostsChangedEvent(Set.copyOf(changedPostIds)));
+            contentVersionRegistry.bumpAfterCommit(ContentScope.POSTS);
+        }
+    }
+
+    /**
+     * 단일 게시글의 관련 게시글 재계산
+     *
+     * @return 목록이 바뀌었으면 true
+     */
+    private boolean refresh(Long postId) {
+        List<Candidate> current = relatedPostRepository.findByPostIdOrderByRankOrderAsc(postId).stream()
+                .map(relatedPost -> new Candidate(relatedPost.getRelatedPostId(), relatedPost.isFallback()))
+                .toList();
+        List<Candidate> computed = computeRelatedPosts(postId);
+
+        if (current.equals(computed)) {
+            return false;
+        }
+
+        relatedPostRepository.deleteByPostId(postId);
+        saveRelatedPosts(postId, computed);
+        return true;
+    }
+
+    private int saveRelatedPosts(Long postId, List<Candidate> candidates) {
+        List<RelatedPost> relatedPosts = IntStream.range(0, candidates.size())
+                .mapToObj(i -> RelatedPost.of(postId, candidates.get(i).relatedPostId(), i, candidates.get(i).fallback()))
+                .toList();
+
+        relatedPostRepository.saveAll(relatedPosts);
+        return relatedPosts.size();
+    }
+
+    // ========== 관련 게시글 추천 로직 ========== //
+
+    /**
+     * 관련 게시글 계산 (비공개/삭제된 게시글은 빈 목록)
+     *
+     * 1순위: Stack 일치 + PostType 일치 (최대 2개)
+     * 2순위: Stack 일치 + PostType 다름
+     * 3순위: 최신 공개 게시글 (fallback)
+     */
+    private List<Candidate> computeRelatedPosts(Long postId) {
+        PostType postType = postRepository.findPublicPostTypeById(postId).orElse(null);
+        if (postType == null) {
+            return List.of();
+        }
+
+        Set<Long> stackIds = postRepository.findStackIdsByPostId(postId);
+        List<Long> relatedPostIds = new ArrayList<>();
+
+        if (!stackIds.isEmpty()) {
+            relatedPostIds.addAll(postRepository.findRelatedPostIdsByStackAndType(
+                    postId, stackIds, postType, PageRequest.of(0, SAME_TYPE_LIMIT)));
+
+            int remaining = RELATED_POST_LIMIT - relatedPostIds.size();
+            if (remaining > 0) {
+                relatedPostIds.addAll(postRepository.findRelatedPostIdsByStackOnly(
+                        postId, stackIds, postType, PageRequest.of(0, remaining)));
+            }
+        }
+
+        List<Candidate> candidates = new ArrayList<>(RELATED_POST_LIMIT);
+        relatedPostIds.forEach(id -> candidates.add(new Candidate(id, false)));
+
+        int remaining = RELATED_POST_LIMIT - candidates.size();
+        if (remaining > 0) {
+            // 이미 포함된 게시글과 겹칠 수 있으므로 넉넉히 조회 후 필터링
+            List<Long> latestIds = postRepository.findLatestPublicPostIds(
+                    postId, PageRequest.of(0, RELATED_POST_LIMIT + relatedPostIds.size()));
+
+            latestIds.stream()
+                    .filter(id -> !relatedPostIds.contains(id))
+                    .limit(remaining)
+                    .forEach(id -> candidates.add(new Candidate(id, true)));
+        }
+
+        return candidates;
+    }
+
+    /**
+     * 계산된 관련 게시글 한 건
+     *
+     * @param relatedPostId 관련 게시글 ID
+     * @param fallback 최신 게시글로 채운 항목인지 여부
+     */
+    private record Candidate(Long relatedPostId, boolean fallback) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,531 @@
+package com.blog.backend.feature.post.strategy;
+
+import com.blog.backend.feature.post.dto.PostResponse;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.stack.event.StackChangedEvent;
+import com.blog.backend.feature.user.event.AuthorChangedEvent;
+import com.blog.backend.global.file.event.ImageVariantsCreatedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 인메모리 n-gram 인덱스 기반 게시글 검색 전략 구현체
+ *
+ * 설계 의도:
+ * - 공개 게시글의 제목/설명을 1~3글자 n-gram으로 색인해 키 입력마다 DB를 조회하지 않음
+ * - 결과 순서는 MariaDbPostSearchStrategy와 동일 (제목 매칭 최신순 → 설명 매칭 최신순, 중복 제외)
+ * - n-gram별 posting은 최신순 정렬 배열이며 갱신 시 새 배열로 교체되므로 조회 시 락이 없음
+ *
+ * 갱신:
+ * - 애플리케이션 시작 시 전체 공개 게시글 적재
+ * - 게시글 변경 트랜잭션 커밋 이후(PostChangedEvent) 게시글 ID만 대기열에 넣고 바로 반환
+ * - 전용 스레드 하나가 모인 변경을 한 트랜잭션으로 읽어 해당 게시글이 들어 있는 posting만 교체
+ *   (요청 스레드가 조회/락을 기다리지 않고, 바깥 트랜잭션의 커넥션을 쥔 채 두 번째 커넥션을 빌리지 않음)
+ * - 스택 이름 변경/삭제 커밋 이후(StackChangedEvent) 그 스택을 쓰는 게시글을 같은 대기열로 재색인
+ * - 썸네일 파생본 생성 이후(ImageVariantsCreatedEvent) 그 이미지를 썸네일로 쓰는 게시글을 같은 대기열로 재색인
+ * - 작성자 닉네임/프로필 이미지 변경 커밋 이후(AuthorChangedEvent) 해당 작성자 문서의 응답 DTO만 교체
+ * - 갱신 중인 게시글 하나는 잠시 제목/설명 posting 중 한쪽에서만 보일 수 있음 (다음 조회부터 일치)
+ * - app.search.autocomplete-strategy=memory 일 때만 활성화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.autocomplete-strategy", havingValue = "memory")
+public class InMemoryPostSearchStrategy implements PostSearchStrategy {
+
+    /**
+     * 색인할 n-gram 최대 길이 (이보다 긴 키워드는 가장 드문 n-gram 후보를 contains로 검증)
+     */
+    private static final int MAX_GRAM = 3;
+
+    private static final Document[] NO_POSTINGS = new Document[0];
+
+    /**
+     * posting 정렬 순서 (최신순, 같은 시각이면 ID 역순)
+     */
+    private static final Comparator<Document> NEWEST_FIRST =
+            Comparator.comparing(Document::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                    .thenComparing(Document::postId, Comparator.reverseOrder());
+
+    private final PostSearchIndexLoader postSearchIndexLoader;
+
+    /**
+     * 색인 갱신 락 (갱신 중 게시글 조회로 블로킹되므로 모니터 락 대신 사용)
+     */
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    /**
+     * 색인 대기 중인 변경 게시글 ID (색인 스레드가 반영)
+     */
+    private final Set<Long> pendingPostIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 변경 반영 전용 스레드 (게시글 쓰기 요청과 분리)
+     */
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-autocomplete-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    private volatile Index index = Index.empty();
+
+    @Override
+    public List<PostResponse.PostItems> autocomplete(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+
+        String searchKeyword = normalize(keyword.trim());
+        Index current = index;
+
+        List<PostResponse.PostItems> results = new ArrayList<>();
+        Set<Long> matchedIds = new HashSet<>();
+
+        // 1. 제목에서 검색
+        collect(current.titleGrams(), Document::title, searchKeyword, limit, results, matchedIds);
+
+        // 2. 부족하면 설명에서 추가 검색 (제목 매칭 결과 제외)
+        if (results.size() < limit) {
+            collect(current.excerptGrams(), Document::excerpt, searchKeyword, limit, results, matchedIds);
+        }
+
+        log.debug("자동완성 검색 완료 (인메모리): keyword={}, totalCount={}", searchKeyword, results.size());
+
+        return results;
+    }
+
+    // ========== 인덱스 갱신 ========== //
+
+    /**
+     * 애플리케이션 시작 시 전체 공개 게시글 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 전체 공개 게시글 재색인 (새 인덱스를 만든 뒤 교체)
+     */
+    public void rebuild() {
+        updateLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+
+            List<Document> documents = postSearchIndexLoader.loadAllPublished().stream()
+                    .map(Document::of)
+                    .sorted(NEWEST_FIRST)
+                    .toList();
+            index = Index.build(documents);
+
+            log.info("자동완성 인덱스 적재 완료: postCount={}, elapsed={}ms",
+                    documents.size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 게시글 변경 커밋 이후 색인 대기열에 등록 (비동기, 즉시 반환)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        pendingPostIds.add(event.postId());
+        scheduleFlush();
+
+        log.debug("자동완성 인덱스 갱신 요청: postId={}, type={}", event.postId(), event.changeType());
+    }
+
+    /**
+     * 스택 이름 변경/삭제 커밋 이후 그 스택을 쓰는 게시글 재색인 (응답 DTO에 스택 이름이 복사되어 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStackChanged(StackChangedEvent event) {
+        if (event.postIds().isEmpty()) {
+            return;
+        }
+
+        pendingPostIds.addAll(event.postIds());
+        scheduleFlush();
+
+        log.debug("스택 변경으로 자동완성 재색인 요청: stackId={}, posts={}", event.stackId(), event.postIds().size());
+    }
+
+    /**
+     * 썸네일 파생본 생성 이후 해당 이미지를 썸네일로 쓰는 게시글 재색인 (응답 DTO에 파생본 목록이 복사되어 있음)
+     * - 파생본 작업 스레드에서 행 저장(커밋)이 끝난 뒤 발행됨
+     */
+    @EventListener
+    public void onImageVariantsCreated(ImageVariantsCreatedEvent event) {
+        String sourcePath = event.sourcePath();
+        List<Long> postIds = index.documents().values().stream()
+                .filter(document -> sourcePath.equals(document.item().getThumbnailPath()))
+                .map(Document::postId)
+                .toList();
+
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        pendingPostIds.addAll(postIds);
+        scheduleFlush();
+
+        log.debug("썸네일 파생본 생성으로 자동완성 재색인 요청: fileId={}, posts={}", event.fileId(), postIds.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdownNow();
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            indexer.execute(this::flushPending);
+        } catch (RejectedExecutionException e) {
+            // 종료 중: 인메모리 인덱스이므로 남은 변경은 버림
+            flushScheduled.set(false);
+        }
+    }
+
+    /**
+     * 색인 스레드에서 대기 중인 변경 반영
+     * - 이전 문서를 해당 n-gram posting에서 빼고 새 문서를 정렬 위치에 삽입 (다른 posting은 그대로)
+     * - 색인 실패가 다음 변경 반영을 막지 않도록 예외는 로그만 남김 (재시작 시 전체 적재로 보정)
+     */
+    private void flushPending() {
+        flushScheduled.set(false);
+
+        if (pendingPostIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> postIds = new ArrayList<>(pendingPostIds);
+        pendingPostIds.removeAll(postIds);
+
+        updateLock.lock();
+        try {
+            Map<Long, PostResponse.PostItems> items = postSearchIndexLoader.loadPublished(postIds);
+            Index current = index;
+
+            for (Long postId : postIds) {
+                Document previous = current.documents().remove(postId);
+                if (previous != null) {
+                    current.remove(previous);
+                }
+
+                PostResponse.PostItems item = items.get(postId);
+                if (item != null) {
+                    Document document = Document.of(item);
+                    current.documents().put(postId, document);
+                    current.add(document);
+                }
+            }
+
+            log.debug("자동완성 인덱스 갱신: postIds={}", postIds);
+        } catch (Exception e) {
+            log.error("자동완성 인덱스 갱신 실패: postIds={}, error={}", postIds, e.getMessage(), e);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 예약된 색인 작업이 끝날 때까지 대기 (테스트용)
+     */
+    void awaitIndexer() throws Exception {
+        indexer.submit(() -> { }).get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 작성자 정보 변경 커밋 이후 해당 작성자 문서의 작성자 정보만 교체
+     * - 제목/설명은 그대로이므로 posting은 건드리지 않음
+     * - 닉네임은 사용자마다 고유하므로 변경 전 닉네임으로 문서를 찾음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        PostResponse.AuthorInfo author = PostResponse.AuthorInfo.of(event.nickname(), event.profileImagePath());
+        int updated = 0;
+
+        updateLock.lock();
+        try {
+            for (Document document : index.documents().values()) {
+                PostResponse.AuthorInfo current = document.item().getAuthor();
+                if (current != null && event.previousNickname().equals(current.getNickname())) {
+                    document.replaceItem(withAuthor(document.item(), author));
+                    updated++;
+                }
+            }
+        } finally {
+            updateLock.unlock();
+        }
+
+        log.debug("자동완성 인덱스 작성자 갱신: userId={}, postCount={}", event.userId(), updated);
+    }
+
+    private static PostResponse.PostItems withAuthor(PostResponse.PostItems item, PostResponse.AuthorInfo author) {
+        return PostResponse.PostItems.of(
+                item.getId(),
+                item.getSlug(),
+                item.getTitle(),
+                item.getExcerpt(),
+                item.getPostType(),
+                item.getStatus(),
+                item.getThumbnailPath(),
+                item.getThumbnailVariants(),
+                item.getTags(),
+                item.getStacks(),
+                author,
+                item.getCreatedAt()
+        );
+    }
+
+    // ========== 검색 ========== //
+
+    /**
+     * 키워드를 포함하는 문서를 최신순으로 수집
+     */
+    private void collect(
+            Map<String, Document[]> grams,
+            Function<Document, String> field,
+            String keyword,
+            int limit,
+            List<PostResponse.PostItems> results,
+            Set<Long> matchedIds
+    ) {
+        Document[] postings = findCandidates(grams, keyword);
+
+        for (Document document : postings) {
+            if (results.size() >= limit) {
+                return;
+            }
+
+            if (matchedIds.contains(document.postId())) {
+                continue;
+            }
+
+            // MAX_GRAM 이하 키워드는 n-gram 자체가 일치 여부이므로 검증 생략
+            if (keyword.length() > MAX_GRAM && !field.apply(document).contains(keyword)) {
+                continue;
+            }
+
+            results.add(document.item());
+            matchedIds.add(document.postId());
+        }
+    }
+
+    /**
+     * 후보 문서 목록 (최신순)
+     * - MAX_GRAM 이하: 키워드 자체의 posting
+     * - MAX_GRAM 초과: 키워드의 3-gram 중 가장 짧은 posting
+     */
+    private Document[] findCandidates(Map<String, Document[]> grams, String keyword) {
+        if (keyword.length() <= MAX_GRAM) {
+            return grams.getOrDefault(keyword, NO_POSTINGS);
+        }
+
+        Document[] rarest = null;
+        for (int i = 0; i + MAX_GRAM <= keyword.length(); i++) {
+            Document[] postings = grams.get(keyword.substring(i, i + MAX_GRAM));
+            if (postings == null) {
+                return NO_POSTINGS;
+            }
+            if (rarest == null || postings.length < rarest.length) {
+                rarest = postings;
+            }
+        }
+        return rarest;
+    }
+
+    /**
+     * 대소문자 구분 없이 비교 (MariaDB 기본 collation의 LIKE와 동일하게 동작하도록)
+     */
+    private static String normalize(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+
+        for (int start = 0; start < text.length(); start++) {
+            for (int length = 1; length <= MAX_GRAM && start + length <= text.length(); length++) {
+                grams.add(text.substring(start, start + length));
+            }
+        }
+
+        return grams;
+    }
+
+    // ========== 인덱스 구조 ========== //
+
+    /**
+     * 색인 문서 (정규화된 제목/설명 + 응답 DTO)
+     * - 제목/설명/정렬 키는 불변, 응답 DTO만 작성자 변경 시 교체
+     */
+    private static final class Document {
+
+        private final Long postId;
+        private final LocalDateTime createdAt;
+        private final String title;
+        private final String excerpt;
+        private volatile PostResponse.PostItems item;
+
+        private Document(PostResponse.PostItems item) {
+            this.postId = item.getId();
+            this.createdAt = item.getCreatedAt();
+            this.title = normalize(item.getTitle());
+            this.excerpt = normalize(item.getExcerpt());
+            this.item = item;
+        }
+
+        static Document of(PostResponse.PostItems item) {
+            return new Document(item);
+        }
+
+        Long postId() {
+            return postId;
+        }
+
+        LocalDateTime createdAt() {
+            return createdAt;
+        }
+
+        String title() {
+            return title;
+        }
+
+        String excerpt() {
+            return excerpt;
+        }
+
+        PostResponse.PostItems item() {
+            return item;
+        }
+
+        void replaceItem(PostResponse.PostItems item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * n-gram 인덱스
+     * - 조회는 posting 배열을 읽기만 하고, 갱신(updateLock 보유)은 바뀌는 posting만 새 배열로 교체
+     *
+     * @param documents 게시글 ID → 문서
+     * @param titleGrams 제목 n-gram → 문서 목록 (최신순)
+     * @param excerptGrams 설명 n-gram → 문서 목록 (최신순)
+     */
+    private record Index(
+            Map<Long, Document> documents,
+            Map<String, Document[]> titleGrams,
+            Map<String, Document[]> excerptGrams
+    ) {
+        static Index empty() {
+            return new Index(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        /**
+         * @param sorted 최신순으로 정렬된 문서 목록
+         */
+        static Index build(List<Document> sorted) {
+            Index built = empty();
+            sorted.forEach(document -> built.documents().put(document.postId(), document));
+            built.titleGrams().putAll(buildGrams(sorted, Document::title));
+            built.excerptGrams().putAll(buildGrams(sorted, Document::excerpt));
+            return built;
+        }
+
+        void add(Document document) {
+            grams(document.title()).forEach(gram -> titleGrams.compute(gram, (key, postings) -> insert(postings, document)));
+            grams(document.excerpt()).forEach(gram -> excerptGrams.compute(gram, (key, postings) -> insert(postings, document)));
+        }
+
+        void remove(Document document) {
+            grams(document.title()).forEach(gram -> titleGrams.computeIfPresent(gram, (key, postings) -> delete(postings, document)));
+            grams(document.excerpt()).forEach(gram -> excerptGrams.computeIfPresent(gram, (key, postings) -> delete(postings, document)));
+        }
+
+        private static Document[] insert(Document[] postings, Document document) {
+            if (postings == null) {
+                return new Document[]{document};
+            }
+
+            int position = Arrays.binarySearch(postings, document, NEWEST_FIRST);
+            if (position >= 0) {
+                postings = postings.clone();
+                postings[position] = document;
+                return postings;
+            }
+
+            int insertAt = -position - 1;
+            Document[] next = new Document[postings.length + 1];
+            System.arraycopy(postings, 0, next, 0, insertAt);
+            next[insertAt] = document;
+            System.arraycopy(postings, insertAt, next, insertAt + 1, postings.length - insertAt);
+            return next;
+        }
+
+        /**
+         * @return posting이 비면 null (맵에서 n-gram 제거)
+         */
+        private static Document[] delete(Document[] postings, Document document) {
+            int position = Arrays.binarySearch(postings, document, NEWEST_FIRST);
+            if (position < 0) {
+                return postings;
+            }
+            if (postings.length == 1) {
+                return null;
+            }
+
+            Document[] next = new Document[postings.length - 1];
+            System.arraycopy(postings, 0, next, 0, position);
+            System.arraycopy(postings, position + 1, next, position, postings.length - position - 1);
+            return next;
+        }
+
+        private static Map<String, Document[]> buildGrams(List<Document> sorted, Function<Document, String> field) {
+            Map<String, List<Document>> postings = new HashMap<>();
+
+            for (Document document : sorted) {
+                for (String gram : grams(field.apply(document))) {
+                    postings.computeIfAbsent(gram, key -> new ArrayList<>()).add(document);
+                }
+            }
+
+            Map<String, Document[]> result = new HashMap<>(postings.size());
+            postings.forEach((gram, documents) -> result.put(gram, documents.toArray(NO_POSTINGS)));
+            return result;
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package com.blog.backend.feature.post.strategy;
 
+import com.blog.backend.feature.post.dto.PostCardRow;
 import com.blog.backend.feature.post.dto.PostResponse;
-import com.blog.backend.feature.post.entity.Post;
+import com.blog.backend.feature.post.mapper.PostItemsMapper;
 import com.blog.backend.feature.post.repository.PostRepository;
-import com.blog.backend.feature.stack.entity.Stack;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
@@ -18,13 +19,16 @@ import java.util.stream.Collectors;
  * MariaDB 기반 게시글 검색 전략 구현체
  *
  * 제목 우선 매칭 → 부족하면 설명에서 추가 (중복 제외)
+ * - app.search.autocomplete-strategy=mariadb (기본값)
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "app.search.autocomplete-strategy", havingValue = "mariadb", matchIfMissing = true)
 @RequiredArgsConstructor
 public class MariaDbPostSearchStrategy implements PostSearchStrategy {
 
     private final PostRepository postRepository;
+    private final PostItemsMapper postItemsMapper;
 
     @Override
     public List<PostResponse.PostItems> autocomplete(String keyword, int limit) {
@@ -33,10 +37,10 @@ public class MariaDbPostSearchStrategy implements PostSearchStrategy {
         }
 
         String searchKeyword = keyword.trim();
-        List<Post> results = new ArrayList<>();
+        List<PostCardRow> results = new ArrayList<>();
 
         // 1. 제목에서 검색
-        List<Post> titleMatches = postRepository.findByTitleContainingAndPublished(
+        List<PostCardRow> titleMatches = postRepository.findCardsByTitleContainingAndPublished(
                 searchKeyword,
                 PageRequest.of(0, limit)
         );
@@ -48,17 +52,17 @@ public class MariaDbPostSearchStrategy implements PostSearchStrategy {
         int remaining = limit - results.size();
         if (remaining > 0) {
             Set<Long> excludeIds = results.stream()
-                    .map(Post::getId)
+                    .map(PostCardRow::id)
                     .collect(Collectors.toSet());
 
-            List<Post> excerptMatches;
+            List<PostCardRow> excerptMatches;
             if (excludeIds.isEmpty()) {
-                excerptMatches = postRepository.findByExcerptContainingAndPublished(
+                excerptMatches = postRepository.findCardsByExcerptContainingAndPublished(
                         searchKeyword,
                         PageRequest.of(0, remaining)
                 );
             } else {
-                excerptMatches = postRepository.findByExcerptContainingAndPublishedExcluding(
+                excerptMatches = postRepository.findCardsByExcerptContainingAndPublishedExcluding(
                         searchKeyword,
                         excludeIds,
                         PageRequest.of(0, remaining)
@@ -71,37 +75,6 @@ public class MariaDbPostSearchStrategy implements PostSearchStrategy {
 
         log.info("자동완성 검색 완료: keyword={}, totalCount={}", searchKeyword, results.size());
 
-        return results.stream()
-                .map(this::toPostItems)
-                .collect(Collectors.toList());
+        return postItemsMapper.toPostItems(results);
     }
-
-    private PostResponse.PostItems toPostItems(Post post) {
-        List<String> stackNames = post.getStacks().stream()
-                .map(Stack::getName)
-                .collect(Collectors.toList());
-
-        List<String> tags = post.getTags() != null
-                ? new ArrayList<>(post.getTags())
-                : new ArrayList<>();
-
-        PostResponse.AuthorInfo author = PostResponse.AuthorInfo.of(
-                post.getUser().getNickname(),
-                post.getUser().getProfileImagePath()
-        );
-
-        return PostResponse.PostItems.of(
-                post.getId(),
-                post.getSlug(),
-                post.getTitle(),
-                post.getExcerpt(),
-                post.getPostType(),
-                post.getStatus(),
-                post.getThumbnailPath(),
-                tags,
-                stackNames,
-                author,
-                post.getCreatedAt()
-        );
-    }
-}
\ No newline at end of file
+}
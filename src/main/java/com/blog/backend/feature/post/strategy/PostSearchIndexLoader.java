@@ -0,0 +1,71 @@
+package com.blog.backend.feature.post.strategy;
+
+import com.blog.backend.feature.post.dto.PostResponse;
+import com.blog.backend.feature.post.mapper.PostItemsMapper;
+import com.blog.backend.feature.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인메모리 자동완성 인덱스 적재용 로더
+ *
+ * 공개 게시글을 자동완성 응답 DTO로 변환해 InMemoryPostSearchStrategy에 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "app.search.autocomplete-strategy", havingValue = "memory")
+public class PostSearchIndexLoader {
+
+    /**
+     * 한 번에 조회할 게시글 수 (IN 절 크기 제한)
+     */
+    private static final int CHUNK_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final PostItemsMapper postItemsMapper;
+
+    /**
+     * 전체 공개 게시글 적재
+     * - ID만 먼저 조회한 뒤 CHUNK_SIZE 단위로 나눠 조회 (청크당 카드 1회 + 스택/태그 각 1회)
+     */
+    public List<PostResponse.PostItems> loadAllPublished() {
+        List<Long> postIds = postRepository.findAllPublicPostIds();
+        List<PostResponse.PostItems> items = new ArrayList<>(postIds.size());
+
+        for (int from = 0; from < postIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + CHUNK_SIZE, postIds.size()));
+            items.addAll(postItemsMapper.toPublishedPostItemsInOrder(chunk));
+        }
+
+        return items;
+    }
+
+    /**
+     * 변경된 공개 게시글 묶음 적재
+     * - 색인 스레드에서 호출되므로 게시글 쓰기 트랜잭션과 커넥션을 동시에 쥐지 않음
+     *
+     * @return 게시글 ID → 응답 DTO (공개 게시글이 아니거나 없으면 제외)
+     */
+    public Map<Long, PostResponse.PostItems> loadPublished(Collection<Long> postIds) {
+        Map<Long, PostResponse.PostItems> items = new HashMap<>();
+        List<Long> ids = List.copyOf(postIds);
+
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            postItemsMapper.toPublishedPostItemsInOrder(chunk).forEach(item -> items.put(item.getId(), item));
+        }
+
+        return items;
+    }
+}
@@ -0,0 +1,313 @@
+package com.blog.backend.feature.stack.catalog;
+
+import com.blog.backend.feature.stack.dto.StackResponse;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인메모리 스택 카탈로그 (불변 스냅샷)
+ *
+ * 설계 의도:
+ * - stacks 테이블은 작고 변경이 드물어 전체를 메모리에 두고 읽기마다 DB를 조회하지 않음
+ * - 자동완성(키 입력마다), 전체 스택 목록, 게시글 저장 시 스택명 → ID 변환이 모두 스냅샷을 읽음
+ * - 스냅샷은 불변 객체로 통째로 교체(copy-on-write)되므로 조회 시 락이 없음
+ *
+ * 색인:
+ * - 스택명은 대소문자 구분 없이 비교 (MariaDB 기본 collation과 동일하게 동작하도록)
+ * - 정렬된 접미사 배열에서 이진 탐색해 접두/중간 일치를 함께 찾음
+ *
+ * 갱신:
+ * - 애플리케이션 시작 시 전체 적재
+ * - 스택 생성/수정/삭제 트랜잭션 커밋 이후 전체 재적재 (refreshAfterCommit)
+ * - 다른 노드의 스택 변경은 STACKS 버전 변경 이벤트(ContentVersionChangedEvent)로 감지해 재적재
+ *   (스냅샷은 적재 직전의 영속 버전을 기록하고, 그보다 새 버전일 때만 재적재)
+ * - 재동기화 전에 게시글 저장이 새 스택명을 쓰면 카탈로그에 없는 이름만 DB에서 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StackCatalog {
+
+    private final StackCatalogLoader stackCatalogLoader;
+
+    /**
+     * 재적재 직렬화 (DB 조회를 감싸므로 synchronized 대신 사용: 가상 스레드가 캐리어 스레드를 고정하지 않음)
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    // ========== 조회 ========== //
+
+    /**
+     * 전체 스택 목록 (ID 오름차순)
+     */
+    public List<StackResponse.StackItem> getAll() {
+        return current().items();
+    }
+
+    /**
+     * 스택 ID로 조회
+     */
+    public Optional<StackResponse.StackItem> findById(Long stackId) {
+        return Optional.ofNullable(current().byId().get(stackId));
+    }
+
+    /**
+     * 스택명 목록 → 스택 ID 목록 (대소문자 무시, 없는 스택명은 제외)
+     * - 카탈로그에 없는 스택명은 DB에서 한 번 더 확인 (다른 노드에서 방금 만든 스택)
+     */
+    public Set<Long> resolveIds(Collection<String> names) {
+        Map<String, StackResponse.StackItem> byName = current().byName();
+        Set<Long> stackIds = new LinkedHashSet<>();
+        List<String> missing = new ArrayList<>();
+
+        for (String name : names) {
+            StackResponse.StackItem item = byName.get(fold(name));
+            if (item != null) {
+                stackIds.add(item.getId());
+            } else if (name != null && !name.isBlank()) {
+                missing.add(name.trim());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<Long> foundIds = stackCatalogLoader.findIdsByNames(missing);
+            stackIds.addAll(foundIds);
+            log.debug("카탈로그에 없는 스택명 DB 확인: names={}, found={}", missing, foundIds.size());
+        }
+
+        return stackIds;
+    }
+
+    /**
+     * 스택명 자동완성
+     * - 접두 일치 → 중간 일치 순, 각각 스택명 오름차순
+     *
+     * @param keyword 검색어
+     * @param limit 최대 결과 수
+     */
+    public List<StackResponse.StackItem> autocomplete(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+
+        Snapshot current = current();
+        String searchKeyword = fold(keyword.trim());
+
+        // 키워드로 시작하는 접미사 구간 = 키워드를 포함하는 스택
+        BitSet prefixMatches = new BitSet(current.sortedByName().size());
+        BitSet infixMatches = new BitSet(current.sortedByName().size());
+
+        for (int i = lowerBound(current.suffixes(), searchKeyword); i < current.suffixes().size(); i++) {
+            Suffix suffix = current.suffixes().get(i);
+            if (!suffix.text().startsWith(searchKeyword)) {
+                break;
+            }
+            (suffix.offset() == 0 ? prefixMatches : infixMatches).set(suffix.itemIndex());
+        }
+        infixMatches.andNot(prefixMatches);
+
+        List<StackResponse.StackItem> results = new ArrayList<>(limit);
+        collect(current, prefixMatches, limit, results);
+        collect(current, infixMatches, limit, results);
+        return results;
+    }
+
+    // ========== 스냅샷 갱신 ========== //
+
+    /**
+     * 애플리케이션 시작 시 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * 전체 재적재 후 스냅샷 교체
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+
+            long version = stackCatalogLoader.loadVersion();
+            snapshot = Snapshot.build(stackCatalogLoader.loadAll(), version);
+
+            log.info("스택 카탈로그 적재 완료: stackCount={}, elapsed={}ms",
+                    snapshot.items().size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 재적재 (트랜잭션이 없으면 즉시)
+     * - 기본 순서로 등록되므로 ContentVersionRegistry.bumpAfterCommit(가장 마지막)보다 먼저 교체됨
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    /**
+     * 스택 버전이 스냅샷보다 새로우면 재적재 (다른 노드의 스택 변경)
+     * - 이 노드의 변경은 refreshAfterCommit이 먼저 새 버전으로 적재하므로 건너뜀
+     */
+    @EventListener
+    public void onContentVersionChanged(ContentVersionChangedEvent event) {
+        if (event.scope() != ContentScope.STACKS) {
+            return;
+        }
+
+        Snapshot current = snapshot;
+        if (current != null && event.version() <= current.version()) {
+            return;
+        }
+
+        refresh();
+    }
+
+    // ========== Private Methods ========== //
+
+    /**
+     * 현재 스냅샷 (시작 이벤트 이전 요청이면 즉시 적재)
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        refreshLock.lock();
+        try {
+            if (snapshot == null) {
+                refresh();
+            }
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void collect(Snapshot current, BitSet matches, int limit, List<StackResponse.StackItem> results) {
+        for (int i = matches.nextSetBit(0); i >= 0 && results.size() < limit; i = matches.nextSetBit(i + 1)) {
+            results.add(current.sortedByName().get(i));
+        }
+    }
+
+    /**
+     * keyword 이상인 첫 접미사 위치
+     */
+    private static int lowerBound(List<Suffix> suffixes, String keyword) {
+        int low = 0;
+        int high = suffixes.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (suffixes.get(mid).text().compareTo(keyword) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String fold(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    // ========== 스냅샷 구조 ========== //
+
+    /**
+     * 스택명 접미사 (색인 단위)
+     *
+     * @param text 대소문자 정규화된 스택명의 offset 이후 부분
+     * @param offset 스택명 내 시작 위치 (0이면 접두 일치)
+     * @param itemIndex sortedByName 내 위치
+     */
+    private record Suffix(String text, int offset, int itemIndex) {
+    }
+
+    /**
+     * 불변 카탈로그 스냅샷
+     *
+     * @param items ID 오름차순 전체 스택
+     * @param sortedByName 스택명(대소문자 무시) 오름차순 전체 스택
+     * @param byId 스택 ID → 스택
+     * @param byName 대소문자 정규화된 스택명 → 스택
+     * @param suffixes 모든 스택명 접미사 (사전순)
+     * @param version 적재 직전의 영속 STACKS 버전
+     */
+    private record Snapshot(
+            List<StackResponse.StackItem> items,
+            List<StackResponse.StackItem> sortedByName,
+            Map<Long, StackResponse.StackItem> byId,
+            Map<String, StackResponse.StackItem> byName,
+            List<Suffix> suffixes,
+            long version
+    ) {
+        static Snapshot build(List<StackResponse.StackItem> items, long version) {
+            List<StackResponse.StackItem> sortedByName = items.stream()
+                    .sorted(Comparator.comparing((StackResponse.StackItem item) -> fold(item.getName()))
+                            .thenComparing(StackResponse.StackItem::getId))
+                    .toList();
+
+            Map<Long, StackResponse.StackItem> byId = new HashMap<>(items.size() * 2);
+            Map<String, StackResponse.StackItem> byName = new HashMap<>(items.size() * 2);
+            List<Suffix> suffixes = new ArrayList<>();
+
+            for (int itemIndex = 0; itemIndex < sortedByName.size(); itemIndex++) {
+                StackResponse.StackItem item = sortedByName.get(itemIndex);
+                String name = fold(item.getName());
+
+                byId.put(item.getId(), item);
+                byName.putIfAbsent(name, item);
+                for (int offset = 0; offset < name.length(); offset++) {
+                    suffixes.add(new Suffix(name.substring(offset), offset, itemIndex));
+                }
+            }
+            suffixes.sort(Comparator.comparing(Suffix::text));
+
+            return new Snapshot(
+                    List.copyOf(items),
+                    sortedByName,
+                    Map.copyOf(byId),
+                    Map.copyOf(byName),
+                    List.copyOf(suffixes),
+                    version
+            );
+        }
+    }
+}
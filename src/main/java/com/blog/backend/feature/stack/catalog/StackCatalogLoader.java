@@ -0,0 +1,56 @@
+package com.blog.backend.feature.stack.catalog;
+
+import com.blog.backend.feature.stack.dto.StackResponse;
+import com.blog.backend.feature.stack.repository.StackRepository;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 스택 카탈로그 적재용 로더
+ *
+ * 전체 적재는 스택 변경 커밋 이후(afterCommit)에도 호출되므로 항상 새 트랜잭션에서 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class StackCatalogLoader {
+
+    private final StackRepository stackRepository;
+    private final ContentVersionRepository contentVersionRepository;
+
+    /**
+     * 전체 스택 적재 (ID 오름차순)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public List<StackResponse.StackItem> loadAll() {
+        return stackRepository.findAll(Sort.by(Sort.Direction.ASC, "id")).stream()
+                .map(StackResponse.StackItem::from)
+                .toList();
+    }
+
+    /**
+     * 영속된 스택 버전 스탬프 (행이 없으면 0)
+     * - 전체 적재 전에 읽어 스냅샷이 실제보다 새 버전으로 기록되지 않도록 함
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public long loadVersion() {
+        Long version = contentVersionRepository.findVersion(ContentScope.STACKS);
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * 스택명 목록으로 스택 ID 조회
+     * - 게시글 저장 트랜잭션 안에서 호출되므로 그 트랜잭션에 참여 (두 번째 커넥션을 빌리지 않음)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findIdsByNames(Collection<String> names) {
+        return stackRepository.findIdsByNameIn(names);
+    }
+}
@@ -0,0 +1,35 @@
+package com.blog.backend.feature.stack.controller;
+
+import com.blog.backend.feature.stack.dto.StackPostCountRebuildResponse;
+import com.blog.backend.feature.stack.service.StackPostCountService;
+import com.blog.backend.global.core.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 어드민 스택 게시글 수 컨트롤러
+ *
+ * 스택별 게시글 수 집계(stack_post_count) 관리 (어드민 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/stack-post-counts")
+@RequiredArgsConstructor
+public class AdminStackPostCountController {
+
+    private final StackPostCountService stackPostCountService;
+
+    /**
+     * 스택별 게시글 수 전체 재계산
+     * POST /api/admin/stack-post-counts/rebuild
+     *
+     * - 배포 직후 백필, 어긋난 데이터 보정용
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<StackPostCountRebuildResponse>> rebuild() {
+        StackPostCountRebuildResponse response = stackPostCountService.rebuildAll();
+        return ResponseEntity.ok(ApiResponse.success(response, "스택별 게시글 수가 재계산되었습니다"));
+    }
+}
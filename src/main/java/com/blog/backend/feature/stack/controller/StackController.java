@@ -2,8 +2,13 @@ package com.blog.backend.feature.stack.controller;
 
 import com.blog.backend.feature.stack.dto.StackResponse;
 import com.blog.backend.feature.stack.service.StackService;
+import com.blog.backend.global.cache.response.CachedResponse;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRegistry;
 import com.blog.backend.global.core.response.ApiResponse;
+import com.blog.backend.global.core.response.ConditionalResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,6 +18,8 @@ import java.util.List;
  * 공개 스택 컨트롤러
  *
  * 스택 조회 API (인증 불필요)
+ * - 모든 조회는 ETag(If-None-Match) 조건부 GET 지원
+ * - 페이지 로드마다 호출되는 목록은 직렬화된 응답 바이트 캐시 사용 (@CachedResponse)
  */
 @RestController
 @RequestMapping("/api/stacks")
@@ -20,6 +27,7 @@ import java.util.List;
 public class StackController {
 
     private final StackService stackService;
+    private final ContentVersionRegistry contentVersionRegistry;
 
     /**
      * 전체 스택 목록 조회 (게시글 작성용)
@@ -29,10 +37,15 @@ public class StackController {
      * - 그룹 정보 포함
      * - 게시글 수와 무관
      */
+    @CachedResponse(scopes = ContentScope.STACKS)
     @GetMapping
-    public ResponseEntity<ApiResponse<List<StackResponse.StackItem>>> getAllStacks() {
-        List<StackResponse.StackItem> stacks = stackService.getAllStacks();
-        return ResponseEntity.ok(ApiResponse.success(stacks));
+    public ResponseEntity<ApiResponse<List<StackResponse.StackItem>>> getAllStacks(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return ConditionalResponse.ok(ifNoneMatch, catalogETag(), () -> {
+            List<StackResponse.StackItem> stacks = stackService.getAllStacks();
+            return ApiResponse.success(stacks);
+        });
     }
 
     /**
@@ -42,10 +55,15 @@ public class StackController {
      * - 실제 사용 중인 스택만 반환
      * - 게시글 수 포함
      */
+    @CachedResponse(scopes = {ContentScope.STACKS, ContentScope.POSTS})
     @GetMapping("/grouped")
-    public ResponseEntity<ApiResponse<StackResponse.GroupedStacks>> getGroupedStacks() {
-        StackResponse.GroupedStacks groupedStacks = stackService.getGroupedStacksWithPostCount();
-        return ResponseEntity.ok(ApiResponse.success(groupedStacks));
+    public ResponseEntity<ApiResponse<StackResponse.GroupedStacks>> getGroupedStacks(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return ConditionalResponse.ok(ifNoneMatch, stacksETag(), () -> {
+            StackResponse.GroupedStacks groupedStacks = stackService.getGroupedStacksWithPostCount();
+            return ApiResponse.success(groupedStacks);
+        });
     }
 
     /**
@@ -57,22 +75,29 @@ public class StackController {
      */
     @GetMapping("/grouped/user/{nickname}")
     public ResponseEntity<ApiResponse<StackResponse.GroupedStacks>> getGroupedStacksByUser(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @PathVariable String nickname
     ) {
-        StackResponse.GroupedStacks groupedStacks = stackService.getGroupedStacksWithPostCountByUser(nickname);
-        return ResponseEntity.ok(ApiResponse.success(groupedStacks));
+        return ConditionalResponse.ok(ifNoneMatch, stacksETag(), () -> {
+            StackResponse.GroupedStacks groupedStacks = stackService.getGroupedStacksWithPostCountByUser(nickname);
+            return ApiResponse.success(groupedStacks);
+        });
     }
 
     /**
      * 인기 스택 조회 (사이드바용)
      * GET /api/stacks/popular?limit=5
      */
+    @CachedResponse(scopes = {ContentScope.STACKS, ContentScope.POSTS}, params = "limit")
     @GetMapping("/popular")
     public ResponseEntity<ApiResponse<List<StackResponse.PopularStack>>> getPopularStacks(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @RequestParam(defaultValue = "5") int limit
     ) {
-        List<StackResponse.PopularStack> popularStacks = stackService.getPopularStacks(limit);
-        return ResponseEntity.ok(ApiResponse.success(popularStacks));
+        return ConditionalResponse.ok(ifNoneMatch, stacksETag(), () -> {
+            List<StackResponse.PopularStack> popularStacks = stackService.getPopularStacks(limit);
+            return ApiResponse.success(popularStacks);
+        });
     }
 
     /**
@@ -84,9 +109,28 @@ public class StackController {
      */
     @GetMapping("/autocomplete")
     public ResponseEntity<ApiResponse<List<StackResponse.StackItem>>> autocomplete(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @RequestParam(required = false, defaultValue = "") String keyword
     ) {
-        List<StackResponse.StackItem> results = stackService.autocomplete(keyword);
-        return ResponseEntity.ok(ApiResponse.success(results));
+        return ConditionalResponse.ok(ifNoneMatch, catalogETag(), () -> {
+            List<StackResponse.StackItem> results = stackService.autocomplete(keyword);
+            return ApiResponse.success(results);
+        });
+    }
+
+    /**
+     * 스택 목록 ETag (스택 변경 버전 스탬프만)
+     * - 게시글 수가 없는 응답은 게시글 변경과 무관 (응답 캐시 범위와 같아야 캐시 히트가 오래된 ETag를 재생하지 않음)
+     */
+    private String catalogETag() {
+        return contentVersionRegistry.etag(ContentScope.STACKS);
+    }
+
+    /**
+     * 스택 ETag (스택 변경 + 게시글 변경 버전 스탬프)
+     * - 스택별 게시글 수는 게시글 변경으로 바뀌므로 게시글 버전도 포함
+     */
+    private String stacksETag() {
+        return contentVersionRegistry.etag(ContentScope.STACKS, ContentScope.POSTS);
     }
-}
\ No newline at end of file
+}
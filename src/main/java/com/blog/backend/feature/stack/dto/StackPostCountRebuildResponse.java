@@ -0,0 +1,18 @@
+package com.blog.backend.feature.stack.dto;
+
+import lombok.Builder;
+
+/**
+ * 스택별 게시글 수 전체 재계산 결과
+ *
+ * @param globalRowCount 저장된 전체 집계 행 수 (스택 수)
+ * @param userRowCount 저장된 사용자별 집계 행 수
+ * @param elapsedMillis 소요 시간 (ms)
+ */
+@Builder
+public record StackPostCountRebuildResponse(
+        int globalRowCount,
+        int userRowCount,
+        long elapsedMillis
+) {
+}
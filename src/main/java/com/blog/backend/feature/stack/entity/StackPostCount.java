@@ -0,0 +1,56 @@
+package com.blog.backend.feature.stack.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스택별 공개 게시글 수 (집계 테이블)
+ *
+ * 설계 의도:
+ * - 사이드바/필터 렌더링마다 post_stack × posts GROUP BY 집계를 하지 않도록 미리 계산해 저장
+ * - 스택마다 전체 행(user_id = 0) 1개 + 해당 스택을 사용한 사용자별 행
+ * - 게시글 발행 상태/스택 변경 트랜잭션 안에서 증감(delta)으로 갱신
+ * - 어긋난 경우 전체 재계산으로 보정 (StackPostCountService.rebuildAll)
+ *
+ * 조회:
+ * - (user_id, post_count) 인덱스 한 번으로 전체/사용자별 목록을 게시글 수 순으로 읽음
+ */
+@Entity
+@Table(name = "stack_post_count",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_stack_post_count_user_stack", columnNames = {"user_id", "stack_id"})
+        },
+        indexes = {
+                @Index(name = "idx_stack_post_count_user_count", columnList = "user_id, post_count"),
+                @Index(name = "idx_stack_post_count_stack_id", columnList = "stack_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StackPostCount {
+
+    /**
+     * 전체 집계 행의 user_id
+     */
+    public static final long GLOBAL_USER_ID = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stack_id", nullable = false)
+    private Long stackId;
+
+    /**
+     * 사용자 ID (0: 전체)
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 공개(PUBLISHED) 게시글 수
+     */
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+}
@@ -0,0 +1,29 @@
+package com.blog.backend.feature.stack.event;
+
+import java.util.List;
+
+/**
+ * 스택 이름 변경/삭제 이벤트
+ *
+ * 게시글 상세 캐시/검색 인덱스에 복사해 둔 스택 이름을 갱신하기 위해 발행합니다.
+ * 스택 수정/삭제 트랜잭션 안에서 발행되므로 리스너는 AFTER_COMMIT으로 처리합니다.
+ *
+ * @param stackId 스택 ID
+ * @param previousName 변경 전 스택 이름
+ * @param name 변경 후 스택 이름 (삭제 시 null)
+ * @param postIds 이 스택을 쓰는 공개 게시글 ID (삭제 시 연결이 사라지기 전에 조회)
+ */
+public record StackChangedEvent(
+        Long stackId,
+        String previousName,
+        String name,
+        List<Long> postIds
+) {
+    public static StackChangedEvent renamed(Long stackId, String previousName, String name, List<Long> postIds) {
+        return new StackChangedEvent(stackId, previousName, name, postIds);
+    }
+
+    public static StackChangedEvent deleted(Long stackId, String name, List<Long> postIds) {
+        return new StackChangedEvent(stackId, name, null, postIds);
+    }
+}
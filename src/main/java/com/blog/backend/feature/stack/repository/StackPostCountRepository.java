@@ -0,0 +1,101 @@
+package com.blog.backend.feature.stack.repository;
+
+import com.blog.backend.feature.stack.entity.StackPostCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 스택별 공개 게시글 수 집계 Repository
+ */
+public interface StackPostCountRepository extends JpaRepository<StackPostCount, Long> {
+
+    // ========== 조회 ========== //
+
+    /**
+     * 공개 게시글이 있는 스택 목록 조회 (게시글 수 내림차순)
+     * - (user_id, post_count) 인덱스 범위 스캔 + 스택 PK 조회
+     *
+     * @param userId 사용자 ID (전체: StackPostCount.GLOBAL_USER_ID)
+     * @return 스택별 공개 게시글 수 (Object[]: Stack, count)
+     */
+    @Query("SELECT s, c.postCount FROM StackPostCount c " +
+            "JOIN Stack s ON s.id = c.stackId " +
+            "WHERE c.userId = :userId " +
+            "AND c.postCount > 0 " +
+            "ORDER BY c.postCount DESC")
+    List<Object[]> findStacksWithPostCount(@Param("userId") Long userId);
+
+    /**
+     * 게시글 수 상위 N개 스택 조회
+     *
+     * @param userId 사용자 ID (전체: StackPostCount.GLOBAL_USER_ID)
+     * @param limit 조회할 스택 수
+     * @return 스택별 공개 게시글 수 (Object[]: Stack, count)
+     */
+    @Query("SELECT s, c.postCount FROM StackPostCount c " +
+            "JOIN Stack s ON s.id = c.stackId " +
+            "WHERE c.userId = :userId " +
+            "AND c.postCount > 0 " +
+            "ORDER BY c.postCount DESC " +
+            "LIMIT :limit")
+    List<Object[]> findTopStacksWithPostCount(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // ========== 증감 ========== //
+
+    /**
+     * 게시글 수 증감 (행이 없으면 생성, 0 미만으로 내려가지 않음)
+     *
+     * @param stackId 스택 ID
+     * @param userId 사용자 ID (전체: StackPostCount.GLOBAL_USER_ID)
+     * @param delta 증감량
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stack_post_count (stack_id, user_id, post_count) " +
+            "VALUES (:stackId, :userId, GREATEST(:delta, 0)) " +
+            "ON DUPLICATE KEY UPDATE post_count = GREATEST(post_count + :delta, 0)",
+            nativeQuery = true)
+    int upsertDelta(@Param("stackId") Long stackId, @Param("userId") Long userId, @Param("delta") long delta);
+
+    /**
+     * 스택의 집계 행 전체 삭제 (스택 삭제 시)
+     */
+    @Modifying
+    @Query("DELETE FROM StackPostCount c WHERE c.stackId = :stackId")
+    int deleteByStackId(@Param("stackId") Long stackId);
+
+    // ========== 전체 재계산 ========== //
+
+    @Modifying
+    @Query(value = "DELETE FROM stack_post_count", nativeQuery = true)
+    int deleteAllRows();
+
+    /**
+     * 전체 행 재계산 (post_stack × posts 집계)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stack_post_count (stack_id, user_id, post_count) " +
+            "SELECT ps.stack_id, 0, COUNT(*) " +
+            "FROM post_stack ps " +
+            "JOIN posts p ON p.id = ps.post_id " +
+            "WHERE p.status = 'PUBLISHED' " +
+            "GROUP BY ps.stack_id",
+            nativeQuery = true)
+    int insertGlobalCounts();
+
+    /**
+     * 사용자별 행 재계산 (post_stack × posts 집계)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stack_post_count (stack_id, user_id, post_count) " +
+            "SELECT ps.stack_id, p.user_id, COUNT(*) " +
+            "FROM post_stack ps " +
+            "JOIN posts p ON p.id = ps.post_id " +
+            "WHERE p.status = 'PUBLISHED' " +
+            "GROUP BY ps.stack_id, p.user_id",
+            nativeQuery = true)
+    int insertUserCounts();
+}
@@ -2,14 +2,13 @@ package com.blog.backend.feature.stack.repository;
 
 import com.blog.backend.feature.stack.entity.Stack;
 import com.blog.backend.feature.stack.entity.StackGroup;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 public interface StackRepository extends JpaRepository<Stack, Long> {
 
@@ -22,13 +21,14 @@ public interface StackRepository extends JpaRepository<Stack, Long> {
     Optional<Stack> findByName(String name);
 
     /**
-     * 스택명 목록으로 스택 일괄 조회
-     * - 게시글 저장 시 기존 스택 조회용
+     * 스택명 목록으로 스택 ID 조회 (대소문자는 DB collation 기준으로 무시)
+     * - 카탈로그에 아직 반영되지 않은 스택명 확인용
      *
      * @param names 스택명 목록
-     * @return 스택 목록
+     * @return 존재하는 스택 ID 목록
      */
-    List<Stack> findByNameIn(Set<String> names);
+    @Query("SELECT s.id FROM Stack s WHERE s.name IN :names")
+    List<Long> findIdsByNameIn(@Param("names") Collection<String> names);
 
     /**
      * 그룹별 스택 목록 조회
@@ -38,53 +38,6 @@ public interface StackRepository extends JpaRepository<Stack, Long> {
      */
     List<Stack> findByStackGroup(StackGroup stackGroup);
 
-    /**
-     * 공개 게시글에 사용된 스택 목록 조회 (게시글 수 포함)
-     * - 사이드바 스택 클라우드용
-     * - 게시글 수 기준 내림차순 정렬
-     *
-     * @return 스택별 공개 게시글 수 (Object[]: Stack, count)
-     */
-    @Query("SELECT s, COUNT(p) as postCount " +
-            "FROM Stack s " +
-            "JOIN s.posts p " +
-            "WHERE p.status = 'PUBLISHED' " +
-            "GROUP BY s " +
-            "ORDER BY postCount DESC")
-    List<Object[]> findStacksWithPublicPostCount();
-
-    /**
-     * 특정 사용자의 공개 게시글에 사용된 스택 목록 조회 (게시글 수 포함)
-     * - 사용자별 필터링용
-     *
-     * @param nickname 사용자 닉네임
-     * @return 스택별 해당 사용자의 공개 게시글 수 (Object[]: Stack, count)
-     */
-    @Query("SELECT s, COUNT(p) as postCount " +
-            "FROM Stack s " +
-            "JOIN s.posts p " +
-            "WHERE p.status = 'PUBLISHED' " +
-            "AND p.user.nickname = :nickname " +
-            "GROUP BY s " +
-            "ORDER BY postCount DESC")
-    List<Object[]> findStacksWithPublicPostCountByUser(@Param("nickname") String nickname);
-
-    /**
-     * 인기 스택 조회 (상위 N개)
-     * - 공개 게시글 기준
-     *
-     * @param limit 조회할 스택 수
-     * @return 인기 스택 목록 (Object[]: Stack, count)
-     */
-    @Query("SELECT s, COUNT(p) as postCount " +
-            "FROM Stack s " +
-            "JOIN s.posts p " +
-            "WHERE p.status = 'PUBLISHED' " +
-            "GROUP BY s " +
-            "ORDER BY postCount DESC " +
-            "LIMIT :limit")
-    List<Object[]> findPopularStacks(@Param("limit") int limit);
-
     /**
      * 스택명 존재 여부 확인
      *
@@ -94,7 +47,15 @@ public interface StackRepository extends JpaRepository<Stack, Long> {
     boolean existsByName(String name);
 
     /**
-     * 스택명 부분 일치 검색
+     * 스택을 쓰는 공개 게시글 ID 조회
+     * - 스택 이름 변경/삭제 시 검색 인덱스 재색인 대상
+     *
+     * @param stackId 스택 ID
+     * @return 공개 게시글 ID 목록
      */
-    List<Stack> findByNameContainingIgnoreCaseOrderByNameAsc(String keyword, Pageable pageable);
-}
\ No newline at end of file
+    @Query("SELECT DISTINCT p.id FROM Stack s " +
+            "JOIN s.posts p " +
+            "WHERE s.id = :stackId " +
+            "AND p.status = 'PUBLISHED'")
+    List<Long> findPublicPostIdsByStackId(@Param("stackId") Long stackId);
+}
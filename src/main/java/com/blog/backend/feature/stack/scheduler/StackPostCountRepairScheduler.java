@@ -0,0 +1,37 @@
+package com.blog.backend.feature.stack.scheduler;
+
+import com.blog.backend.feature.stack.service.StackPostCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스택별 게시글 수 보정 스케줄러
+ *
+ * 매일 새벽 증감(delta)으로 유지되는 stack_post_count를 원본(post_stack × posts)에서 다시 계산합니다.
+ * 게시글 정리 스케줄러(00:00) 이후에 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.stack-post-count-repair.enabled", havingValue = "true")
+public class StackPostCountRepairScheduler {
+
+    private final StackPostCountService stackPostCountService;
+
+    /**
+     * 스택별 게시글 수 전체 재계산
+     *
+     * 실행 주기: 매일 새벽 4시 (04:00:00)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void repairStackPostCounts() {
+        try {
+            stackPostCountService.rebuildAll();
+        } catch (Exception e) {
+            log.error("스택 게시글 수 보정 실패: error={}", e.getMessage(), e);
+        }
+    }
+}
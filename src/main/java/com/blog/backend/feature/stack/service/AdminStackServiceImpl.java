@@ -1,13 +1,19 @@
 package com.blog.backend.feature.stack.service;
 
+import com.blog.backend.feature.stack.catalog.StackCatalog;
 import com.blog.backend.feature.stack.dto.StackResponse;
 import com.blog.backend.feature.stack.dto.StackRequest;
 import com.blog.backend.feature.stack.entity.Stack;
 import com.blog.backend.feature.stack.entity.StackGroup;
+import com.blog.backend.feature.stack.event.StackChangedEvent;
+import com.blog.backend.feature.stack.repository.StackPostCountRepository;
 import com.blog.backend.feature.stack.repository.StackRepository;
 import com.blog.backend.feature.user.repository.UserRepository;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRegistry;
 import com.blog.backend.global.core.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +26,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminStackServiceImpl implements AdminStackService {
 
     private final StackRepository stackRepository;
+    private final StackPostCountRepository stackPostCountRepository;
     private final UserRepository userRepository;
+    private final ContentVersionRegistry contentVersionRegistry;
+    private final StackCatalog stackCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 스택 생성 (어드민 전용)
@@ -37,6 +47,8 @@ public class AdminStackServiceImpl implements AdminStackService {
                 .build();
 
         Stack savedStack = stackRepository.save(stack);
+        stackCatalog.refreshAfterCommit();
+        contentVersionRegistry.bumpAfterCommit(ContentScope.STACKS);
         return StackResponse.StackItem.from(savedStack);
     }
 
@@ -49,7 +61,9 @@ public class AdminStackServiceImpl implements AdminStackService {
         Stack stack = findStackById(stackId);
         StackGroup stackGroup = StackGroup.fromKey(request.getStackGroup());
 
-        if (!stack.getName().equals(request.getName())) {
+        String previousName = stack.getName();
+        boolean renamed = !previousName.equals(request.getName());
+        if (renamed) {
             validateDuplicateName(request.getName());
         }
 
@@ -58,6 +72,16 @@ public class AdminStackServiceImpl implements AdminStackService {
             stack.updateStackGroup(stackGroup);
         }
 
+        // 게시글 상세 캐시/검색 인덱스에 복사된 스택 이름 갱신 (커밋 이후 ETag 갱신보다 먼저 처리되도록 먼저 등록)
+        if (renamed) {
+            eventPublisher.publishEvent(StackChangedEvent.renamed(
+                    stackId, previousName, stack.getName(), stackRepository.findPublicPostIdsByStackId(stackId)));
+        }
+
+        // 스택 이름은 게시글 응답에도 포함되므로 게시글 ETag도 갱신
+        stackCatalog.refreshAfterCommit();
+        contentVersionRegistry.bumpAfterCommit(ContentScope.STACKS, ContentScope.POSTS);
+
         return StackResponse.StackItem.from(stack);
     }
 
@@ -68,7 +92,15 @@ public class AdminStackServiceImpl implements AdminStackService {
     @Transactional
     public void deleteStack(Long stackId, Long userId) {
         Stack stack = findStackById(stackId);
+
+        // 게시글 연결이 사라지기 전에 대상 게시글 조회 (상세 캐시 무효화, 검색 인덱스에서 스택 이름 제거, 관련 게시글 재계산)
+        eventPublisher.publishEvent(StackChangedEvent.deleted(
+                stackId, stack.getName(), stackRepository.findPublicPostIdsByStackId(stackId)));
+
+        stackPostCountRepository.deleteByStackId(stackId);
         stackRepository.delete(stack);
+        stackCatalog.refreshAfterCommit();
+        contentVersionRegistry.bumpAfterCommit(ContentScope.STACKS, ContentScope.POSTS);
     }
 
     // ========== Private Methods ========== //
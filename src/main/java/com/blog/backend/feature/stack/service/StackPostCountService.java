@@ -0,0 +1,47 @@
+package com.blog.backend.feature.stack.service;
+
+import com.blog.backend.feature.stack.dto.StackPostCountRebuildResponse;
+
+import java.util.Set;
+
+/**
+ * 스택별 공개 게시글 수 집계(stack_post_count) 관리 서비스
+ *
+ * 역할:
+ * - 게시글 쓰기 트랜잭션 안에서 발행 상태/스택 변경분만큼 증감
+ * - 전체 재계산 (배포 직후 백필, 어긋난 데이터 보정용)
+ */
+public interface StackPostCountService {
+
+    /**
+     * 공개 게시글이 스택을 사용하게 됨 (발행, 복구, 스택 추가)
+     *
+     * @param userId 작성자 ID
+     * @param stackIds 스택 ID 목록
+     */
+    void increase(Long userId, Set<Long> stackIds);
+
+    /**
+     * 공개 게시글이 스택을 더 이상 사용하지 않음 (삭제, 스택 제거)
+     *
+     * @param userId 작성자 ID
+     * @param stackIds 스택 ID 목록
+     */
+    void decrease(Long userId, Set<Long> stackIds);
+
+    /**
+     * 공개 게시글의 스택 변경 (차집합만 증감)
+     *
+     * @param userId 작성자 ID
+     * @param oldStackIds 변경 전 스택 ID 목록
+     * @param newStackIds 변경 후 스택 ID 목록
+     */
+    void replace(Long userId, Set<Long> oldStackIds, Set<Long> newStackIds);
+
+    /**
+     * 전체 재계산
+     *
+     * @return 재계산 결과
+     */
+    StackPostCountRebuildResponse rebuildAll();
+}
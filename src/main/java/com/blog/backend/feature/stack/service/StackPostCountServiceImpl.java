@@ -0,0 +1,87 @@
+package com.blog.backend.feature.stack.service;
+
+import com.blog.backend.feature.stack.dto.StackPostCountRebuildResponse;
+import com.blog.backend.feature.stack.entity.StackPostCount;
+import com.blog.backend.feature.stack.repository.StackPostCountRepository;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StackPostCountServiceImpl implements StackPostCountService {
+
+    private final StackPostCountRepository stackPostCountRepository;
+    private final ContentVersionRegistry contentVersionRegistry;
+
+    // ========== 증감 ========== //
+
+    @Override
+    public void increase(Long userId, Set<Long> stackIds) {
+        applyDelta(userId, stackIds, 1);
+    }
+
+    @Override
+    public void decrease(Long userId, Set<Long> stackIds) {
+        applyDelta(userId, stackIds, -1);
+    }
+
+    @Override
+    public void replace(Long userId, Set<Long> oldStackIds, Set<Long> newStackIds) {
+        Set<Long> removed = new HashSet<>(oldStackIds);
+        removed.removeAll(newStackIds);
+
+        Set<Long> added = new HashSet<>(newStackIds);
+        added.removeAll(oldStackIds);
+
+        applyDelta(userId, removed, -1);
+        applyDelta(userId, added, 1);
+    }
+
+    /**
+     * 스택마다 전체 행 + 사용자 행 증감
+     */
+    private void applyDelta(Long userId, Set<Long> stackIds, long delta) {
+        for (Long stackId : stackIds) {
+            stackPostCountRepository.upsertDelta(stackId, StackPostCount.GLOBAL_USER_ID, delta);
+            stackPostCountRepository.upsertDelta(stackId, userId, delta);
+        }
+
+        if (!stackIds.isEmpty()) {
+            log.debug("스택 게시글 수 갱신: userId={}, stackIds={}, delta={}", userId, stackIds, delta);
+        }
+    }
+
+    // ========== 재계산 ========== //
+
+    @Override
+    public StackPostCountRebuildResponse rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+
+        // 한 트랜잭션에서 교체하므로 조회 쪽은 커밋 전까지 기존 값을 읽음
+        stackPostCountRepository.deleteAllRows();
+        int globalRowCount = stackPostCountRepository.insertGlobalCounts();
+        int userRowCount = stackPostCountRepository.insertUserCounts();
+
+        // 보정으로 값이 바뀌었을 수 있으므로 스택 목록 캐시/ETag 무효화
+        contentVersionRegistry.bumpAfterCommit(ContentScope.STACKS);
+
+        long elapsedMillis = System.currentTimeMillis() - startedAt;
+        log.info("스택 게시글 수 전체 재계산 완료: globalRows={}, userRows={}, elapsed={}ms",
+                globalRowCount, userRowCount, elapsedMillis);
+
+        return StackPostCountRebuildResponse.builder()
+                .globalRowCount(globalRowCount)
+                .userRowCount(userRowCount)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+}
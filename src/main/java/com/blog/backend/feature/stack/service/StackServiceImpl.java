@@ -1,13 +1,15 @@
 package com.blog.backend.feature.stack.service;
 
+import com.blog.backend.feature.stack.catalog.StackCatalog;
 import com.blog.backend.feature.stack.dto.StackResponse;
 import com.blog.backend.feature.stack.entity.Stack;
 import com.blog.backend.feature.stack.entity.StackGroup;
-import com.blog.backend.feature.stack.repository.StackRepository;
-import com.blog.backend.feature.user.repository.UserRepository;
+import com.blog.backend.feature.stack.entity.StackPostCount;
+import com.blog.backend.feature.stack.repository.StackPostCountRepository;
+import com.blog.backend.feature.user.cache.AuthorCache;
+import com.blog.backend.feature.user.dto.AuthorSummary;
 import com.blog.backend.global.core.exception.CustomException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,25 +24,31 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class StackServiceImpl implements StackService {
 
-    private final StackRepository stackRepository;
-    private final UserRepository userRepository;
+    /**
+     * 자동완성 최대 결과 수
+     */
+    private static final int AUTOCOMPLETE_LIMIT = 5;
+
+    private final StackCatalog stackCatalog;
+    private final StackPostCountRepository stackPostCountRepository;
+    private final AuthorCache authorCache;
 
     /**
      * 전체 스택 목록 조회 (게시글 작성용)
+     * - 인메모리 카탈로그 스냅샷 조회
      */
     @Override
     public List<StackResponse.StackItem> getAllStacks() {
-        return stackRepository.findAll().stream()
-                .map(StackResponse.StackItem::from)
-                .collect(Collectors.toList());
+        return stackCatalog.getAll();
     }
 
     /**
      * 그룹별 스택 + 게시글 수 목록 조회 (전체)
+     * - 집계 테이블(stack_post_count)의 전체 행 조회
      */
     @Override
     public StackResponse.GroupedStacks getGroupedStacksWithPostCount() {
-        List<Object[]> results = stackRepository.findStacksWithPublicPostCount();
+        List<Object[]> results = stackPostCountRepository.findStacksWithPostCount(StackPostCount.GLOBAL_USER_ID);
         List<StackResponse.StackWithCount> stacksWithCount = convertToStackWithCountResponse(results);
 
         Map<StackGroup, List<StackResponse.StackWithCount>> groupedStacks = stacksWithCount.stream()
@@ -51,14 +59,14 @@ public class StackServiceImpl implements StackService {
 
     /**
      * 그룹별 스택 + 게시글 수 목록 조회 (사용자별)
+     * - 집계 테이블(stack_post_count)의 사용자 행 조회
      */
     @Override
     public StackResponse.GroupedStacks getGroupedStacksWithPostCountByUser(String nickname) {
-        // 사용자 존재 확인
-        userRepository.findByNickname(nickname)
+        AuthorSummary author = authorCache.findByNickname(nickname)
                 .orElseThrow(() -> CustomException.notFound("사용자를 찾을 수 없습니다"));
 
-        List<Object[]> results = stackRepository.findStacksWithPublicPostCountByUser(nickname);
+        List<Object[]> results = stackPostCountRepository.findStacksWithPostCount(author.id());
         List<StackResponse.StackWithCount> stacksWithCount = convertToStackWithCountResponse(results);
 
         Map<StackGroup, List<StackResponse.StackWithCount>> groupedStacks = stacksWithCount.stream()
@@ -69,10 +77,11 @@ public class StackServiceImpl implements StackService {
 
     /**
      * 인기 스택 조회
+     * - 집계 테이블(stack_post_count)의 전체 행 상위 N개
      */
     @Override
     public List<StackResponse.PopularStack> getPopularStacks(int limit) {
-        List<Object[]> results = stackRepository.findPopularStacks(limit);
+        List<Object[]> results = stackPostCountRepository.findTopStacksWithPostCount(StackPostCount.GLOBAL_USER_ID, limit);
 
         List<StackResponse.PopularStack> popularStacks = new ArrayList<>();
         int rank = 1;
@@ -88,19 +97,11 @@ public class StackServiceImpl implements StackService {
 
     /**
      * 스택 자동완성 검색
+     * - 인메모리 카탈로그의 접두/중간 일치 색인 조회 (접두 일치 우선)
      */
     @Override
     public List<StackResponse.StackItem> autocomplete(String keyword) {
-        if (keyword == null || keyword.isBlank()) {
-            return List.of();
-        }
-
-        return stackRepository.findByNameContainingIgnoreCaseOrderByNameAsc(
-                        keyword.trim(),
-                        PageRequest.of(0, 5)
-                ).stream()
-                .map(StackResponse.StackItem::from)
-                .collect(Collectors.toList());
+        return stackCatalog.autocomplete(keyword, AUTOCOMPLETE_LIMIT);
     }
 
     // ========== Private Methods ========== //
@@ -0,0 +1,178 @@
+package com.blog.backend.feature.user.cache;
+
+import com.blog.backend.feature.user.dto.AuthorSummary;
+import com.blog.backend.feature.user.repository.UserRepository;
+import com.blog.backend.global.cache.registry.CacheStatsRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 작성자 요약 캐시 (사용자 ID → AuthorSummary, 닉네임 → 사용자 ID)
+ *
+ * 설계 의도:
+ * - 공개 URL은 닉네임 기준이라 요청마다 findByNickname을 실행하던 것을 메모리에서 처리
+ * - 게시글 카드/상세의 작성자 정보를 User 지연 로딩이나 조인 없이 ID로 채움
+ * - 닉네임 색인은 ID만 가리키고, 조회 시 요약의 닉네임과 다시 비교하므로 닉네임 변경 후 옛 색인이 남아도 잘못된 사용자를 반환하지 않음
+ * - 닉네임 비교는 대소문자 무시 (MariaDB 기본 collation과 동일하게 동작하도록)
+ *
+ * 갱신:
+ * - 프로필 수정 커밋 이후 해당 사용자 무효화 (invalidateAfterCommit)
+ * - 그 외 오차는 TTL로 상한을 둠
+ */
+@Slf4j
+@Component
+public class AuthorCache {
+
+    public static final String CACHE_NAME = "author";
+    public static final String NICKNAME_CACHE_NAME = "authorNickname";
+
+    private final UserRepository userRepository;
+    private final Cache<Long, AuthorSummary> byId;
+    private final Cache<String, Long> idByNickname;
+
+    public AuthorCache(
+            UserRepository userRepository,
+            CacheStatsRegistry cacheStatsRegistry,
+            @Value("${app.cache.author.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.author.expire-after-write-minutes:30}") long expireAfterWriteMinutes
+    ) {
+        this.userRepository = userRepository;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+        this.idByNickname = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+
+        cacheStatsRegistry.register(CACHE_NAME, byId);
+        cacheStatsRegistry.register(NICKNAME_CACHE_NAME, idByNickname);
+    }
+
+    // ========== 조회 ========== //
+
+    /**
+     * 사용자 ID로 작성자 조회 (미스 시 PK 조회)
+     */
+    public Optional<AuthorSummary> findById(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+
+        AuthorSummary author = byId.get(userId, id -> userRepository.findById(id)
+                .map(AuthorSummary::from)
+                .orElse(null));
+
+        if (author != null) {
+            idByNickname.put(normalize(author.nickname()), author.id());
+        }
+        return Optional.ofNullable(author);
+    }
+
+    /**
+     * 사용자 ID 목록으로 작성자 일괄 조회 (미스난 ID만 한 번에 조회)
+     *
+     * @return 사용자 ID → 작성자 (없는 사용자는 제외)
+     */
+    public Map<Long, AuthorSummary> findAllByIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return byId.getAll(userIds, this::loadAll);
+    }
+
+    /**
+     * 닉네임으로 작성자 조회 (미스 시 닉네임 조회)
+     */
+    public Optional<AuthorSummary> findByNickname(String nickname) {
+        if (nickname == null || nickname.isBlank()) {
+            return Optional.empty();
+        }
+
+        String key = normalize(nickname);
+        Long userId = idByNickname.getIfPresent(key);
+        if (userId != null) {
+            AuthorSummary author = byId.getIfPresent(userId);
+            if (author != null && author.nickname().equalsIgnoreCase(nickname)) {
+                return Optional.of(author);
+            }
+            idByNickname.invalidate(key);
+        }
+
+        Optional<AuthorSummary> loaded = userRepository.findByNickname(nickname)
+                .map(AuthorSummary::from);
+
+        loaded.ifPresent(author -> {
+            byId.put(author.id(), author);
+            idByNickname.put(normalize(author.nickname()), author.id());
+        });
+        return loaded;
+    }
+
+    // ========== 무효화 ========== //
+
+    /**
+     * 사용자 무효화 (닉네임 색인 포함)
+     */
+    public void invalidate(Long userId) {
+        AuthorSummary author = byId.getIfPresent(userId);
+        byId.invalidate(userId);
+
+        if (author != null) {
+            idByNickname.invalidate(normalize(author.nickname()));
+        }
+        log.debug("작성자 캐시 무효화: userId={}", userId);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 무효화 (트랜잭션이 없으면 즉시)
+     */
+    public void invalidateAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(userId);
+            }
+        });
+    }
+
+    // ========== Private Methods ========== //
+
+    private Map<Long, AuthorSummary> loadAll(Set<? extends Long> userIds) {
+        Map<Long, AuthorSummary> loaded = new HashMap<>(userIds.size() * 2);
+
+        userRepository.findAllById(List.<Long>copyOf(userIds)).forEach(user -> {
+            AuthorSummary author = AuthorSummary.from(user);
+            loaded.put(author.id(), author);
+            idByNickname.put(normalize(author.nickname()), author.id());
+        });
+        return loaded;
+    }
+
+    private static String normalize(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,87 @@
+package com.blog.backend.feature.user.cache;
+
+import com.blog.backend.feature.user.dto.UserSnapshot;
+import com.blog.backend.feature.user.repository.UserRepository;
+import com.blog.backend.global.cache.registry.CacheStatsRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 스냅샷 캐시 (사용자 ID → UserSnapshot)
+ *
+ * 설계 의도:
+ * - 인증 필터는 토큰 클레임만으로 인증 주체를 만들므로 요청마다 사용자를 조회하지 않음
+ * - 내 정보 조회, 토큰 재발급 시 토큰 버전 확인처럼 전체 사용자 정보가 필요한 경우에만 사용
+ * - 권한/토큰 버전 판단에 쓰이므로 TTL을 짧게 두고, 프로필/비밀번호 변경 커밋 이후 즉시 무효화
+ */
+@Slf4j
+@Component
+public class UserSnapshotCache {
+
+    public static final String CACHE_NAME = "userSnapshot";
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserSnapshot> cache;
+
+    public UserSnapshotCache(
+            UserRepository userRepository,
+            CacheStatsRegistry cacheStatsRegistry,
+            @Value("${app.cache.user-snapshot.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.user-snapshot.expire-after-write-seconds:60}") long expireAfterWriteSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+
+        cacheStatsRegistry.register(CACHE_NAME, cache);
+    }
+
+    /**
+     * 사용자 ID로 스냅샷 조회 (미스 시 PK 조회)
+     */
+    public Optional<UserSnapshot> findById(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findById(id)
+                .map(UserSnapshot::from)
+                .orElse(null)));
+    }
+
+    /**
+     * 사용자 무효화
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+        log.debug("사용자 스냅샷 캐시 무효화: userId={}", userId);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 무효화 (트랜잭션이 없으면 즉시)
+     */
+    public void invalidateAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(userId);
+            }
+        });
+    }
+}
@@ -5,9 +5,13 @@ import com.blog.backend.feature.user.service.AuthService;
 import com.blog.backend.feature.user.entity.User;
 import com.blog.backend.global.core.response.ApiResponse;
 import com.blog.backend.global.core.exception.CustomException;
+import com.blog.backend.global.security.auth.CustomUserDetails;
 import com.blog.backend.global.security.util.CookieUtil;
 import com.blog.backend.global.security.jwt.JwtTokenProvider;
+import com.blog.backend.global.security.jwt.VerifiedToken;
+import com.blog.backend.global.security.revocation.TokenRevocationStore;
 import com.blog.backend.feature.user.dto.UserResponse;
+import com.blog.backend.feature.user.dto.UserSnapshot;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -15,6 +19,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 /**
  * 인증 관련 API
  * - 토큰은 HttpOnly 쿠키로 전달
@@ -26,6 +32,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationStore tokenRevocationStore;
     private final CookieUtil cookieUtil;
 
     /**
@@ -39,7 +46,7 @@ public class AuthController {
     ) {
         User user = authService.login(request);
 
-        setTokenCookies(response, user);
+        setTokenCookies(response, CustomUserDetails.from(user));
 
         return ResponseEntity.ok(ApiResponse.success(UserResponse.UserInfo.from(user), "로그인 성공"));
     }
@@ -58,18 +65,19 @@ public class AuthController {
         String refreshToken = cookieUtil.getRefreshToken(request)
                 .orElseThrow(() -> CustomException.unauthorized("Refresh Token이 없습니다"));
 
-        // 토큰 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // 토큰 검증 (한 번만 파싱) + 폐기 여부 확인
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(refreshToken)
+                .filter(token -> !tokenRevocationStore.isRevoked(token));
+        if (verified.isEmpty()) {
             cookieUtil.deleteTokenCookies(response);
             throw CustomException.unauthorized("유효하지 않은 Refresh Token입니다");
         }
 
-        // 사용자 조회
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
-        User user = authService.getUserForRefresh(userId);
+        // 사용자 조회 (UserSnapshotCache)
+        UserSnapshot user = authService.getUserForRefresh(verified.get().userId(), verified.get().tokenVersionOrDefault());
 
         // 새 토큰 생성 및 쿠키 설정
-        setTokenCookies(response, user);
+        setTokenCookies(response, CustomUserDetails.from(user));
 
         return ResponseEntity.ok(ApiResponse.success(UserResponse.UserInfo.from(user), "토큰이 재발급되었습니다"));
     }
@@ -77,9 +85,20 @@ public class AuthController {
     /**
      * 로그아웃
      * POST /api/auth/logout
+     * - 쿠키의 Access/Refresh Token을 폐기 목록에 올려 만료 전이라도 재사용 불가
      */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(HttpServletResponse response) {
+    public ResponseEntity<ApiResponse<Void>> logout(
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        cookieUtil.getAccessToken(request)
+                .flatMap(jwtTokenProvider::verify)
+                .ifPresent(tokenRevocationStore::revoke);
+        cookieUtil.getRefreshToken(request)
+                .flatMap(jwtTokenProvider::verify)
+                .ifPresent(tokenRevocationStore::revoke);
+
         cookieUtil.deleteTokenCookies(response);
         return ResponseEntity.ok(ApiResponse.success(null, "로그아웃 되었습니다"));
     }
@@ -87,9 +106,9 @@ public class AuthController {
     /**
      * 토큰 생성 및 쿠키 설정
      */
-    private void setTokenCookies(HttpServletResponse response, User user) {
-        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getEmail());
+    private void setTokenCookies(HttpServletResponse response, CustomUserDetails principal) {
+        String accessToken = jwtTokenProvider.createAccessToken(principal);
+        String refreshToken = jwtTokenProvider.createRefreshToken(principal);
 
         cookieUtil.addAccessTokenCookie(response, accessToken);
         cookieUtil.addRefreshTokenCookie(response, refreshToken);
@@ -3,7 +3,9 @@ package com.blog.backend.feature.user.controller;
 import com.blog.backend.feature.user.dto.UserResponse;
 import com.blog.backend.feature.user.service.UserService;
 import com.blog.backend.global.core.response.ApiResponse;
+import com.blog.backend.global.core.response.ConditionalResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,9 +22,14 @@ public class BlogInfoController {
      */
     @GetMapping("/{nickname}")
     public ResponseEntity<ApiResponse<UserResponse.BlogUserInfo>> signUp(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @PathVariable String nickname
     ) {
-        UserResponse.BlogUserInfo blogUser = userService.getBlogUser(nickname);
-        return ResponseEntity.ok(ApiResponse.success(blogUser, "회원가입이 성공적으로 완료되었습니다."));
+        // 수정 시각만 조회해 ETag가 같으면 DTO 생성 없이 304
+        String etag = userService.getBlogUserETag(nickname);
+        return ConditionalResponse.ok(ifNoneMatch, etag, () -> {
+            UserResponse.BlogUserInfo blogUser = userService.getBlogUser(nickname);
+            return ApiResponse.success(blogUser, "회원가입이 성공적으로 완료되었습니다.");
+        });
     }
 }
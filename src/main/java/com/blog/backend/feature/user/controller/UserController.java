@@ -1,11 +1,15 @@
 package com.blog.backend.feature.user.controller;
 
+import com.blog.backend.feature.user.cache.UserSnapshotCache;
 import com.blog.backend.feature.user.dto.UserRequest;
 import com.blog.backend.feature.user.service.UserService;
 import com.blog.backend.global.core.response.ApiResponse;
 import com.blog.backend.global.core.exception.CustomException;
 import com.blog.backend.global.security.auth.CustomUserDetails;
+import com.blog.backend.global.security.jwt.JwtTokenProvider;
+import com.blog.backend.global.security.util.CookieUtil;
 import com.blog.backend.feature.user.dto.UserResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +23,9 @@ import org.springframework.web.multipart.MultipartFile;
 public class UserController {
 
     private final UserService userService;
+    private final UserSnapshotCache userSnapshotCache;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final CookieUtil cookieUtil;
 
     /**
      * 내 정보 조회
@@ -59,13 +66,23 @@ public class UserController {
      * 비밀번호 변경
      * PATCH /api/me/password
      * - 현재 비밀번호 확인 후 새 비밀번호로 변경
+     * - 토큰 버전이 올라가므로 현재 세션의 토큰만 새 버전으로 재발급 (다른 기기는 재로그인 필요)
      */
     @PatchMapping("/password")
     public ResponseEntity<ApiResponse<Void>> changePassword(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @Valid @RequestBody UserRequest.ChangePasswordRequest request
+            @Valid @RequestBody UserRequest.ChangePasswordRequest request,
+            HttpServletResponse response
     ) {
         userService.changePassword(userDetails.getUserId(), request);
+
+        userSnapshotCache.findById(userDetails.getUserId())
+                .map(CustomUserDetails::from)
+                .ifPresent(principal -> {
+                    cookieUtil.addAccessTokenCookie(response, jwtTokenProvider.createAccessToken(principal));
+                    cookieUtil.addRefreshTokenCookie(response, jwtTokenProvider.createRefreshToken(principal));
+                });
+
         return ResponseEntity.ok(ApiResponse.success(null, "비밀번호가 변경되었습니다"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.blog.backend.feature.user.dto;
+
+import com.blog.backend.feature.user.entity.User;
+
+/**
+ * 공개 화면용 작성자 요약 (AuthorCache 저장 단위)
+ *
+ * - 공개 URL의 닉네임 → 사용자 변환, 게시글 카드/상세의 작성자 정보에 사용
+ * - 이메일, 비밀번호 등 공개되지 않는 필드는 포함하지 않음
+ */
+public record AuthorSummary(
+        Long id,
+        String nickname,
+        String profileImagePath,
+        String position,
+        String about
+) {
+    public static AuthorSummary from(User user) {
+        return new AuthorSummary(
+                user.getId(),
+                user.getNickname(),
+                user.getProfileImagePath(),
+                user.getPosition(),
+                user.getAbout()
+        );
+    }
+}
@@ -36,6 +36,19 @@ public class UserResponse {
                     .profileImagePath(user.getProfileImagePath())
                     .build();
         }
+
+        public static UserInfo from(UserSnapshot user) {
+            return UserInfo.builder()
+                    .id(user.id())
+                    .email(user.email())
+                    .name(user.name())
+                    .nickname(user.nickname())
+                    .role(user.role())
+                    .position(user.position())
+                    .about(user.about())
+                    .profileImagePath(user.profileImagePath())
+                    .build();
+        }
     }
 
     /**
@@ -58,5 +71,14 @@ public class UserResponse {
                     .about(user.getAbout())
                     .build();
         }
+
+        public static BlogUserInfo from(AuthorSummary author) {
+            return BlogUserInfo.builder()
+                    .nickname(author.nickname())
+                    .profileImagePath(author.profileImagePath())
+                    .position(author.position())
+                    .about(author.about())
+                    .build();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.blog.backend.feature.user.dto;
+
+import com.blog.backend.feature.user.entity.User;
+import com.blog.backend.feature.user.entity.UserRole;
+
+/**
+ * 사용자 스냅샷 (UserSnapshotCache 저장 단위)
+ *
+ * - 인증 주체는 토큰 클레임만으로 만들고, 전체 사용자 정보가 필요한 경우에만 이 스냅샷을 조회
+ * - 비밀번호 해시는 포함하지 않음
+ */
+public record UserSnapshot(
+        Long id,
+        String email,
+        String name,
+        String nickname,
+        UserRole role,
+        String position,
+        String about,
+        String profileImagePath,
+        int tokenVersion
+) {
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getNickname(),
+                user.getRole(),
+                user.getPosition(),
+                user.getAbout(),
+                user.getProfileImagePath(),
+                user.getTokenVersion()
+        );
+    }
+}
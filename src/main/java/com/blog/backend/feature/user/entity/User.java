@@ -44,6 +44,12 @@ public class User extends BaseTimeEntity {
     @Column(length = 1000)
     private String profileImagePath;
 
+    /**
+     * 토큰 버전 (JWT 클레임에 포함, 비밀번호 변경 시 증가해 이전에 발급된 토큰의 재발급을 막음)
+     */
+    @Column(nullable = false)
+    private int tokenVersion;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private List<Post> posts = new ArrayList<>();
 
@@ -79,4 +85,8 @@ public class User extends BaseTimeEntity {
     public void removeProfileImage() {
         this.profileImagePath = null;
     }
+
+    public void increaseTokenVersion() {
+        this.tokenVersion++;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.blog.backend.feature.user.event;
+
+/**
+ * 작성자 공개 정보(닉네임, 프로필 이미지) 변경 이벤트
+ *
+ * 게시글 응답/검색 스냅샷에 복사해 둔 작성자 정보를 갱신하기 위해 발행합니다.
+ * 프로필 수정 트랜잭션 안에서 발행되므로 리스너는 AFTER_COMMIT으로 처리합니다.
+ *
+ * @param userId 사용자 ID
+ * @param previousNickname 변경 전 닉네임 (닉네임은 사용자마다 고유)
+ * @param nickname 변경 후 닉네임
+ * @param profileImagePath 변경 후 프로필 이미지 경로 (없으면 null)
+ */
+public record AuthorChangedEvent(
+        Long userId,
+        String previousNickname,
+        String nickname,
+        String profileImagePath
+) {
+}
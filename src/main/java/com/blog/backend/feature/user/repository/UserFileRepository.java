@@ -4,7 +4,9 @@ import com.blog.backend.feature.user.entity.UserFile;
 import com.blog.backend.feature.user.entity.UserFileType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,10 +42,11 @@ public interface UserFileRepository extends JpaRepository<UserFile, Long> {
     void deleteByUserIdAndFileType(Long userId, UserFileType fileType);
 
     /**
-     * 사용 중인 모든 파일 ID 조회 (스케줄러용)
+     * 후보 파일 ID 중 사용 중인 것 조회 (스케줄러용)
      *
-     * @return 파일 ID 목록
+     * @param fileIds 후보 파일 ID 목록
+     * @return 사용 중인 파일 ID 목록
      */
-    @Query("SELECT uf.fileId FROM UserFile uf")
-    List<Long> findAllUsedFileIds();
+    @Query("SELECT DISTINCT uf.fileId FROM UserFile uf WHERE uf.fileId IN :fileIds")
+    List<Long> findUsedFileIdsIn(@Param("fileIds") Collection<Long> fileIds);
 }
\ No newline at end of file
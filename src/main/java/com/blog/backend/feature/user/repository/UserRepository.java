@@ -2,7 +2,12 @@ package com.blog.backend.feature.user.repository;
 
 import com.blog.backend.feature.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -24,6 +29,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByNickname(String nickname);
 
+    /**
+     * 닉네임으로 사용자 수정 시각만 조회
+     * - 블로그 사용자 정보 ETag 생성용 (조건부 GET)
+     *
+     * @param nickname 닉네임
+     * @return 수정 시각 (Optional)
+     */
+    @Query("SELECT u.updatedAt FROM User u WHERE u.nickname = :nickname")
+    Optional<LocalDateTime> findUpdatedAtByNickname(@Param("nickname") String nickname);
+
     /**
      * 이메일 존재 여부 확인
      * - 회원가입 시 중복 검사
@@ -41,4 +56,38 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 존재 여부
      */
     boolean existsByNickname(String nickname);
+
+    /**
+     * 비밀번호 해시 교체 (재해시)
+     * - 조회 이후 비밀번호가 바뀌지 않았을 때만 교체 (동시 변경 덮어쓰기 방지)
+     * - 토큰 버전은 그대로 (같은 비밀번호의 해시 형식만 바뀜)
+     *
+     * @param userId 사용자 ID
+     * @param currentHash 조회 시점의 해시
+     * @param newHash 새 해시
+     * @return 수정된 행 수 (0이면 그 사이 비밀번호가 바뀜)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :userId AND u.password = :currentHash")
+    int updatePasswordHash(@Param("userId") Long userId,
+                           @Param("currentHash") String currentHash,
+                           @Param("newHash") String newHash);
+
+    /**
+     * 비밀번호 변경 + 토큰 버전 증가
+     * - 조회 이후 비밀번호가 바뀌지 않았을 때만 변경 (동시 변경 덮어쓰기 방지)
+     *
+     * @param userId 사용자 ID
+     * @param currentHash 조회 시점의 해시
+     * @param newHash 새 비밀번호 해시
+     * @return 수정된 행 수 (0이면 그 사이 비밀번호가 바뀜)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash, u.tokenVersion = u.tokenVersion + 1 " +
+            "WHERE u.id = :userId AND u.password = :currentHash")
+    int changePassword(@Param("userId") Long userId,
+                       @Param("currentHash") String currentHash,
+                       @Param("newHash") String newHash);
 }
\ No newline at end of file
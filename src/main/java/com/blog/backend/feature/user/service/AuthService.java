@@ -1,6 +1,7 @@
 package com.blog.backend.feature.user.service;
 
 import com.blog.backend.feature.user.dto.AuthRequest;
+import com.blog.backend.feature.user.dto.UserSnapshot;
 import com.blog.backend.feature.user.entity.User;
 import com.blog.backend.global.core.exception.CustomException;
 
@@ -25,11 +26,12 @@ public interface AuthService {
     User login(AuthRequest.LoginRequest request);
 
     /**
-     * 토큰 재발급을 위한 사용자 조회
+     * 토큰 재발급을 위한 사용자 조회 (UserSnapshotCache)
      * @param userId Refresh Token에서 추출한 사용자 ID
-     * @return 사용자 엔티티
-     * @throws CustomException 사용자를 찾을 수 없는 경우 (UNAUTHORIZED)
+     * @param tokenVersion Refresh Token에서 추출한 토큰 버전
+     * @return 사용자 스냅샷
+     * @throws CustomException 사용자를 찾을 수 없거나 토큰 버전이 다른 경우 (UNAUTHORIZED)
      */
-    User getUserForRefresh(Long userId);
+    UserSnapshot getUserForRefresh(Long userId, int tokenVersion);
 
 }
\ No newline at end of file
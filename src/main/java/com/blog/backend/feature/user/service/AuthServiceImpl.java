@@ -1,17 +1,20 @@
 package com.blog.backend.feature.user.service;
 
+import com.blog.backend.feature.user.cache.UserSnapshotCache;
 import com.blog.backend.feature.user.dto.AuthRequest;
+import com.blog.backend.feature.user.dto.UserSnapshot;
 import com.blog.backend.feature.user.entity.User;
 import com.blog.backend.feature.user.entity.UserRole;
 import com.blog.backend.feature.user.repository.UserFileRepository;
 import com.blog.backend.feature.user.repository.UserRepository;
 import com.blog.backend.global.file.repository.FileMetadataRepository;
 import com.blog.backend.global.core.exception.CustomException;
+import com.blog.backend.global.security.password.PasswordHasher;
 import com.blog.backend.infra.s3.service.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -23,12 +26,18 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final UserFileRepository userFileRepository;
     private final FileMetadataRepository fileMetadataRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final S3Service s3Service;
     private final UserValidatorService userValidatorService;
+    private final UserSnapshotCache userSnapshotCache;
 
+    /**
+     * 회원가입
+     * - 해시 계산을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (조회/저장은 각각 짧은 트랜잭션)
+     * - 이메일 중복은 users.email 유니크 제약이 최종적으로 보장
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User signUp(AuthRequest.SignUpRequest request) {
         // 이메일 중복 검사
         userValidatorService.validateDuplicateEmail(request.getEmail());
@@ -36,10 +45,10 @@ public class AuthServiceImpl implements AuthService {
         // 닉네임 중복 검사
         userValidatorService.validateDuplicateNickname(request.getNickname());
 
-        // 비밀번호 암호화 및 User 생성
+        // 비밀번호 암호화 (전용 스레드 풀) 및 User 생성
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .name(request.getName())
                 .nickname(request.getNickname())
                 .role(UserRole.USER)
@@ -48,24 +57,68 @@ public class AuthServiceImpl implements AuthService {
         return userRepository.save(user);
     }
 
+    /**
+     * 로그인
+     * - 해시 검증을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+     * - 저장된 해시의 cost가 현재 설정보다 낮으면 검증에 성공한 평문으로 재해시
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User login(AuthRequest.LoginRequest request) {
         // 이메일로 사용자 조회
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> CustomException.unauthorized("이메일 또는 비밀번호가 일치하지 않습니다"));
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 비밀번호 검증 (전용 스레드 풀)
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw CustomException.unauthorized("이메일 또는 비밀번호가 일치하지 않습니다");
         }
 
+        rehashIfNeeded(user, request.getPassword());
+
         return user;
     }
 
+    /**
+     * 토큰 재발급을 위한 사용자 조회
+     * - 캐시 히트 시 트랜잭션/DB 커넥션 없이 반환
+     * - 비밀번호 변경 등으로 토큰 버전이 올라가면 커밋 이후 스냅샷이 무효화되므로 이전 버전 토큰은 바로 거절됨
+     */
     @Override
-    public User getUserForRefresh(Long userId) {
-        return userRepository.findById(userId)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserSnapshot getUserForRefresh(Long userId, int tokenVersion) {
+        UserSnapshot user = userSnapshotCache.findById(userId)
                 .orElseThrow(() -> CustomException.unauthorized("사용자를 찾을 수 없습니다"));
+
+        // 비밀번호 변경 등으로 토큰 버전이 올라갔으면 이전에 발급된 Refresh Token은 사용 불가
+        if (user.tokenVersion() != tokenVersion) {
+            throw CustomException.unauthorized("만료된 Refresh Token입니다");
+        }
+
+        return user;
     }
 
+    /**
+     * cost가 바뀐 해시를 새 cost로 재해시
+     * - 실행기가 포화 상태면 로그인은 그대로 성공시키고 다음 로그인 때 다시 시도
+     *
+     * @param user 로그인한 사용자
+     * @param rawPassword 검증에 성공한 평문 비밀번호
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        String currentHash = user.getPassword();
+        if (!passwordHasher.needsRehash(currentHash)) {
+            return;
+        }
+
+        try {
+            String newHash = passwordHasher.encode(rawPassword);
+            if (userRepository.updatePasswordHash(user.getId(), currentHash, newHash) > 0) {
+                user.updatePassword(newHash);
+                log.info("비밀번호 재해시 완료: userId={}", user.getId());
+            }
+        } catch (CustomException e) {
+            log.info("비밀번호 재해시 보류 (실행기 포화): userId={}", user.getId());
+        }
+    }
 }
\ No newline at end of file
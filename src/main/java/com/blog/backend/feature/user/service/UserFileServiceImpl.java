@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -67,10 +68,9 @@ public class UserFileServiceImpl implements UserFileService {
     }
 
     @Override
-    public Set<Long> collectUsedFileIds() {
-        List<Long> usedFileIds = userFileRepository.findAllUsedFileIds();
-        Set<Long> uniqueFileIds = Set.copyOf(usedFileIds);
-        log.info("UserFile에서 사용 중인 파일 ID 수집 완료: count={}", uniqueFileIds.size());
-        return uniqueFileIds;
+    public Set<Long> collectUsedFileIds(Collection<Long> candidateFileIds) {
+        Set<Long> usedFileIds = Set.copyOf(userFileRepository.findUsedFileIdsIn(candidateFileIds));
+        log.debug("UserFile에서 사용 중인 파일 ID 확인 완료: candidates={}, used={}", candidateFileIds.size(), usedFileIds.size());
+        return usedFileIds;
     }
 }
\ No newline at end of file
@@ -45,4 +45,12 @@ public interface UserService {
      * @throws CustomException 사용자를 찾을 수 없는 경우 (NOT_FOUND)
      */
     UserResponse.BlogUserInfo getBlogUser(String nickname);
+
+    /**
+     * 블로그 사용자 정보 ETag 조회 (수정 시각 기반)
+     * @param nickname 사용자 닉네임
+     * @return 강한 ETag (따옴표 포함)
+     * @throws CustomException 사용자를 찾을 수 없는 경우 (NOT_FOUND)
+     */
+    String getBlogUserETag(String nickname);
 }
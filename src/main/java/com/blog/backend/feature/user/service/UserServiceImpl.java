@@ -1,16 +1,27 @@
 package com.blog.backend.feature.user.service;
 
+import com.blog.backend.feature.user.cache.AuthorCache;
+import com.blog.backend.feature.user.cache.UserSnapshotCache;
 import com.blog.backend.feature.user.dto.UserRequest;
 import com.blog.backend.feature.user.dto.UserResponse;
 import com.blog.backend.feature.user.entity.User;
+import com.blog.backend.feature.user.event.AuthorChangedEvent;
 import com.blog.backend.feature.user.repository.UserRepository;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRegistry;
 import com.blog.backend.global.core.exception.CustomException;
+import com.blog.backend.global.security.password.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -20,14 +31,17 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserValidatorService userValidatorService;
     private final UserFileService userFileService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final ContentVersionRegistry contentVersionRegistry;
+    private final AuthorCache authorCache;
+    private final UserSnapshotCache userSnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserResponse.UserInfo getMe(Long userId) {
-        User user = userRepository.findById(userId)
+        return userSnapshotCache.findById(userId)
+                .map(UserResponse.UserInfo::from)
                 .orElseThrow(() -> CustomException.notFound("사용자를 찾을 수 없습니다"));
-
-        return UserResponse.UserInfo.from(user);
     }
 
     @Override
@@ -41,6 +55,8 @@ public class UserServiceImpl implements UserService {
         // 1. 사용자 조회
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> CustomException.notFound("사용자를 찾을 수 없습니다"));
+        String previousNickname = user.getNickname();
+        String previousProfileImagePath = user.getProfileImagePath();
 
         // 2. 닉네임 수정
         if (request.getNickname() != null && !request.getNickname().isBlank()) {
@@ -68,13 +84,30 @@ public class UserServiceImpl implements UserService {
 
         // 6. 변경사항 저장 및 응답 반환
         User savedUser = userRepository.save(user);
+
+        // 닉네임/프로필 이미지는 공개 게시글 응답에도 포함되므로 작성자 캐시 무효화 + 게시글 ETag도 갱신
+        authorCache.invalidateAfterCommit(userId);
+        userSnapshotCache.invalidateAfterCommit(userId);
+        contentVersionRegistry.bumpAfterCommit(ContentScope.POSTS);
+
+        // 게시글 상세 캐시/검색 스냅샷에 복사된 작성자 정보 갱신 (닉네임이 바뀌면 공개 URL도 바뀜)
+        if (!previousNickname.equals(savedUser.getNickname())
+                || !Objects.equals(previousProfileImagePath, savedUser.getProfileImagePath())) {
+            eventPublisher.publishEvent(new AuthorChangedEvent(
+                    userId, previousNickname, savedUser.getNickname(), savedUser.getProfileImagePath()));
+        }
         log.info("프로필 수정 완료: userId={}", userId);
 
         return UserResponse.UserInfo.from(savedUser);
     }
 
+    /**
+     * 비밀번호 변경
+     * - 해시 계산(검증 2회 + 생성 1회)을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+     * - 변경은 조회 시점의 해시가 그대로일 때만 적용하는 조건부 UPDATE 한 번으로 처리
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(Long userId, UserRequest.ChangePasswordRequest request) {
         log.info("비밀번호 변경 시작: userId={}", userId);
 
@@ -83,7 +116,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> CustomException.notFound("사용자를 찾을 수 없습니다"));
 
         // 2. 현재 비밀번호 확인
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getCurrentPassword(), user.getPassword())) {
             log.warn("현재 비밀번호 불일치: userId={}", userId);
             throw CustomException.badRequest("현재 비밀번호가 일치하지 않습니다");
         }
@@ -95,24 +128,37 @@ public class UserServiceImpl implements UserService {
         }
 
         // 4. 현재 비밀번호와 새 비밀번호가 같은지 확인
-        if (passwordEncoder.matches(request.getNewPassword(), user.getPassword())) {
+        if (passwordHasher.matches(request.getNewPassword(), user.getPassword())) {
             log.warn("새 비밀번호가 현재 비밀번호와 동일: userId={}", userId);
             throw CustomException.badRequest("새 비밀번호는 현재 비밀번호와 달라야 합니다");
         }
 
-        // 5. 비밀번호 변경
-        user.updatePassword(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+        // 5. 비밀번호 변경 + 토큰 버전 증가 (이전에 발급된 Refresh Token으로는 재발급 불가)
+        String newHash = passwordHasher.encode(request.getNewPassword());
+        if (userRepository.changePassword(userId, user.getPassword(), newHash) == 0) {
+            log.warn("비밀번호 동시 변경 감지: userId={}", userId);
+            throw CustomException.conflict("비밀번호가 이미 변경되었습니다. 다시 시도해주세요");
+        }
+        userSnapshotCache.invalidateAfterCommit(userId);
 
         log.info("비밀번호 변경 완료: userId={}", userId);
     }
 
     @Override
     public UserResponse.BlogUserInfo getBlogUser(String nickname) {
-        User user = userRepository.findByNickname(nickname)
+        return authorCache.findByNickname(nickname)
+                .map(UserResponse.BlogUserInfo::from)
+                .orElseThrow(() -> CustomException.notFound("사용자를 찾을 수 없습니다"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getBlogUserETag(String nickname) {
+        LocalDateTime updatedAt = userRepository.findUpdatedAtByNickname(nickname)
                 .orElseThrow(() -> CustomException.notFound("사용자를 찾을 수 없습니다"));
 
-        return UserResponse.BlogUserInfo.from(user);
+        long version = updatedAt.atZone(ZoneOffset.UTC).toInstant().toEpochMilli();
+        return "\"user." + Long.toHexString(version) + "\"";
     }
 
     // ========== Private Methods ========== //
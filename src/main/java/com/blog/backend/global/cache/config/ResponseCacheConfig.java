@@ -0,0 +1,23 @@
+package com.blog.backend.global.cache.config;
+
+import com.blog.backend.global.cache.response.ResponseCacheInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 응답 바이트 캐시 인터셉터 등록
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ResponseCacheConfig implements WebMvcConfigurer {
+
+    private final ResponseCacheInterceptor responseCacheInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(responseCacheInterceptor)
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,36 @@
+package com.blog.backend.global.cache.controller;
+
+import com.blog.backend.global.cache.dto.CacheStatsResponse;
+import com.blog.backend.global.cache.registry.CacheStatsRegistry;
+import com.blog.backend.global.core.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 어드민 캐시 컨트롤러
+ *
+ * 인메모리 캐시 상태 조회 (어드민 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private final CacheStatsRegistry cacheStatsRegistry;
+
+    /**
+     * 캐시 통계 조회
+     * GET /api/admin/caches
+     *
+     * - 캐시별 엔트리 수, 가중치 크기, 히트/미스/축출 횟수
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(cacheStatsRegistry.snapshot()));
+    }
+}
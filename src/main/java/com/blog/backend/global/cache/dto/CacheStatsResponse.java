@@ -0,0 +1,41 @@
+package com.blog.backend.global.cache.dto;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Builder;
+
+import java.util.OptionalLong;
+
+@Builder
+public record CacheStatsResponse(
+        String name,
+        long estimatedSize,
+        Long weightedSize,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long evictionWeight
+) {
+    public static CacheStatsResponse of(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+
+        // maximumWeight로 생성된 캐시만 가중치 크기를 가짐
+        Long weightedSize = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize())
+                .filter(OptionalLong::isPresent)
+                .map(OptionalLong::getAsLong)
+                .orElse(null);
+
+        return CacheStatsResponse.builder()
+                .name(name)
+                .estimatedSize(cache.estimatedSize())
+                .weightedSize(weightedSize)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.blog.backend.global.cache.registry;
+
+import com.blog.backend.global.cache.dto.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 인메모리 캐시 통계 레지스트리
+ *
+ * 각 도메인 캐시가 생성 시점에 자신을 등록하면
+ * 어드민 API에서 히트/미스/축출 통계를 한 번에 조회할 수 있습니다.
+ * (캐시 크기 산정 및 튜닝용)
+ */
+@Slf4j
+@Component
+public class CacheStatsRegistry {
+
+    private final Map<String, Cache<?, ?>> caches = new ConcurrentSkipListMap<>();
+
+    /**
+     * 캐시 등록
+     *
+     * @param name 캐시 이름 (통계 응답에 그대로 노출)
+     * @param cache recordStats()가 활성화된 Caffeine 캐시
+     */
+    public void register(String name, Cache<?, ?> cache) {
+        caches.put(name, cache);
+        log.info("캐시 통계 등록: name={}", name);
+    }
+
+    /**
+     * 등록된 모든 캐시의 현재 통계 스냅샷
+     */
+    public List<CacheStatsResponse> snapshot() {
+        return caches.entrySet().stream()
+                .map(entry -> CacheStatsResponse.of(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
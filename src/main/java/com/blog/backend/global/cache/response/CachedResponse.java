@@ -0,0 +1,40 @@
+package com.blog.backend.global.cache.response;
+
+import com.blog.backend.global.cache.version.ContentScope;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 직렬화된 응답(JSON 바이트) 캐시 대상 GET 핸들러 표시
+ *
+ * - 키: 요청 URI + 허용된 쿼리 파라미터 (정렬)
+ * - 값: JSON 바이트 + 미리 압축한 gzip 바이트 + ETag/Cache-Control
+ * - 히트 시 컨트롤러/서비스/Jackson을 거치지 않고 바이트를 그대로 응답
+ * - scopes의 버전이 바뀌면(커밋 이후) 무효화
+ *
+ * 사용 예:
+ * <pre>
+ * &#64;CachedResponse(scopes = ContentScope.STACKS, params = "limit")
+ * &#64;GetMapping("/popular")
+ * </pre>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedResponse {
+
+    /**
+     * 응답이 의존하는 데이터 범위 (무효화 태그)
+     */
+    ContentScope[] scopes();
+
+    /**
+     * 캐시 키에 포함할 쿼리 파라미터
+     * - 그 외 파라미터가 있는 요청은 캐시하지 않음 (예: keyword, page)
+     */
+    String[] params() default {};
+}
@@ -0,0 +1,58 @@
+package com.blog.backend.global.cache.response;
+
+import com.blog.backend.global.cache.version.ContentScope;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 캐시된 응답 본문
+ *
+ * @param scopes 의존하는 데이터 범위 (무효화 태그)
+ * @param versions 저장 시점의 범위별 버전 (scopes 순서, 조회 시 현재 버전과 비교)
+ * @param etag ETag 헤더 (없으면 null)
+ * @param cacheControl Cache-Control 헤더 (없으면 null)
+ * @param contentType Content-Type 헤더
+ * @param identity JSON 바이트
+ * @param gzip gzip 압축된 JSON 바이트
+ */
+public record CachedResponseBody(
+        Set<ContentScope> scopes,
+        long[] versions,
+        String etag,
+        String cacheControl,
+        String contentType,
+        byte[] identity,
+        byte[] gzip
+) {
+    public static CachedResponseBody of(
+            Set<ContentScope> scopes,
+            long[] versions,
+            String etag,
+            String cacheControl,
+            String contentType,
+            byte[] json
+    ) {
+        return new CachedResponseBody(scopes, versions, etag, cacheControl, contentType, json, compress(json));
+    }
+
+    /**
+     * 캐시 가중치 (바이트)
+     */
+    public int weight() {
+        return identity.length + gzip.length;
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,74 @@
+package com.blog.backend.global.cache.response;
+
+import com.blog.backend.global.cache.registry.CacheStatsRegistry;
+import com.blog.backend.global.cache.version.ContentVersionChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 직렬화된 응답 바이트 캐시 (요청 키 → CachedResponseBody)
+ *
+ * 설계 의도:
+ * - 페이지 로드마다 호출되는 조회 API의 최종 JSON 바이트를 보관해 엔티티 조회/DTO 조립/직렬화를 생략
+ * - gzip 변형을 저장 시점에 한 번만 만들어 두고 Accept-Encoding에 따라 선택
+ * - 응답 크기 편차가 크므로 바이트(가중치) 기준으로 용량 제한
+ *
+ * 무효화:
+ * - 저장 시점의 범위별 버전과 현재 버전이 다르면 미스 처리 (생성 중 변경된 응답은 사용되지 않음)
+ * - 버전 변경 이벤트(ContentVersionChangedEvent) 수신 시 해당 범위 엔트리를 즉시 제거
+ */
+@Slf4j
+@Component
+public class ResponseBodyCache {
+
+    public static final String CACHE_NAME = "responseBody";
+
+    private final Cache<String, CachedResponseBody> cache;
+
+    public ResponseBodyCache(
+            CacheStatsRegistry cacheStatsRegistry,
+            @Value("${app.cache.response-body.max-weight-mb:16}") long maxWeightMb
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightMb * 1024 * 1024)
+                .<String, CachedResponseBody>weigher((key, body) -> key.length() + body.weight())
+                .recordStats()
+                .build();
+
+        cacheStatsRegistry.register(CACHE_NAME, cache);
+    }
+
+    /**
+     * 현재 버전과 일치하는 캐시 응답 조회
+     *
+     * @param key 요청 키
+     * @param versions 범위별 현재 버전 (CachedResponse.scopes 순서)
+     */
+    public Optional<CachedResponseBody> get(String key, long[] versions) {
+        CachedResponseBody body = cache.getIfPresent(key);
+        if (body == null || !Arrays.equals(body.versions(), versions)) {
+            return Optional.empty();
+        }
+        return Optional.of(body);
+    }
+
+    public void put(String key, CachedResponseBody body) {
+        cache.put(key, body);
+    }
+
+    /**
+     * 데이터 범위 버전 변경 시 해당 범위에 의존하는 응답 제거
+     */
+    @EventListener
+    public void onContentVersionChanged(ContentVersionChangedEvent event) {
+        cache.asMap().values().removeIf(body -> body.scopes().contains(event.scope()));
+        log.debug("응답 캐시 무효화: scope={}", event.scope());
+    }
+}
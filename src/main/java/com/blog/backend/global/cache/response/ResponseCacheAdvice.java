@@ -0,0 +1,81 @@
+package com.blog.backend.global.cache.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 바이트 캐시 저장 (@CachedResponse 핸들러의 캐시 미스 응답)
+ *
+ * - 200 응답 본문을 메시지 컨버터와 같은 ObjectMapper로 직렬화해 JSON/gzip 바이트로 저장
+ * - 본문은 그대로 반환하므로 미스 응답은 기존과 동일하게 직렬화됨
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ResponseBodyCache responseBodyCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CachedResponse.class)
+                && AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        // 히트 응답(gzip)과 같은 URL이므로 공유 캐시가 인코딩별로 구분하도록 표시
+        response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (body == null
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+
+        Object attribute = servletRequest.getServletRequest().getAttribute(ResponseCacheInterceptor.PENDING_ATTRIBUTE);
+        if (!(attribute instanceof ResponseCacheInterceptor.Pending pending)
+                || servletResponse.getServletResponse().getStatus() != HttpStatus.OK.value()) {
+            return body;
+        }
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            HttpHeaders headers = response.getHeaders();
+            responseBodyCache.put(pending.key(), CachedResponseBody.of(
+                    pending.scopes(),
+                    pending.versions(),
+                    headers.getETag(),
+                    headers.getCacheControl(),
+                    selectedContentType.toString(),
+                    json
+            ));
+        } catch (JsonProcessingException e) {
+            log.warn("응답 캐시 직렬화 실패: key={}, error={}", pending.key(), e.getMessage());
+        }
+
+        return body;
+    }
+}
@@ -0,0 +1,151 @@
+package com.blog.backend.global.cache.response;
+
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRegistry;
+import com.blog.backend.global.core.response.ConditionalResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 응답 바이트 캐시 인터셉터 (@CachedResponse 핸들러 대상)
+ *
+ * - 히트: 캐시된 바이트를 바로 쓰고 핸들러 실행 생략 (DB, Jackson 미사용)
+ * - 미스: 요청 속성에 키/버전을 남겨두고 ResponseCacheAdvice가 직렬화 결과를 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheInterceptor implements HandlerInterceptor {
+
+    static final String PENDING_ATTRIBUTE = ResponseCacheInterceptor.class.getName() + ".PENDING";
+
+    private static final String GZIP = "gzip";
+
+    private final ResponseBodyCache responseBodyCache;
+    private final ContentVersionRegistry contentVersionRegistry;
+
+    /**
+     * 캐시 미스 요청 정보 (ResponseCacheAdvice에서 저장 시 사용)
+     */
+    record Pending(String key, Set<ContentScope> scopes, long[] versions) {
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        CachedResponse cachedResponse = handlerMethod.getMethodAnnotation(CachedResponse.class);
+        if (cachedResponse == null) {
+            return true;
+        }
+
+        String key = cacheKey(request, cachedResponse.params());
+        if (key == null) {
+            return true;
+        }
+
+        // 버전은 핸들러 실행 전에 읽어야 생성 도중 변경된 응답이 새 버전으로 저장되지 않음
+        ContentScope[] scopes = cachedResponse.scopes();
+        long[] versions = Arrays.stream(scopes)
+                .mapToLong(contentVersionRegistry::current)
+                .toArray();
+
+        Optional<CachedResponseBody> hit = responseBodyCache.get(key, versions);
+        if (hit.isEmpty()) {
+            request.setAttribute(PENDING_ATTRIBUTE, new Pending(key, new LinkedHashSet<>(Arrays.asList(scopes)), versions));
+            return true;
+        }
+
+        writeCachedBody(request, response, hit.get());
+        return false;
+    }
+
+    private void writeCachedBody(HttpServletRequest request, HttpServletResponse response, CachedResponseBody body)
+            throws IOException {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (body.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, body.cacheControl());
+        }
+
+        if (body.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, body.etag());
+            if (ConditionalResponse.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), body.etag())) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] bytes = gzip ? body.gzip() : body.identity();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(body.contentType());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    /**
+     * 요청 URI + 허용된 쿼리 파라미터(이름순)로 캐시 키 생성
+     *
+     * @return 허용되지 않은 파라미터가 있으면 null (캐시하지 않음)
+     */
+    private String cacheKey(HttpServletRequest request, String[] allowedParams) {
+        Set<String> allowed = Set.of(allowedParams);
+        Map<String, String[]> params = new TreeMap<>(request.getParameterMap());
+
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        for (Map.Entry<String, String[]> param : params.entrySet()) {
+            if (!allowed.contains(param.getKey())) {
+                return null;
+            }
+            key.append(key.indexOf("?") < 0 ? '?' : '&')
+                    .append(param.getKey())
+                    .append('=')
+                    .append(String.join(",", param.getValue()));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Accept-Encoding에 gzip(또는 *)이 q=0이 아닌 값으로 포함되어 있는지 확인
+     */
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase(GZIP) && !coding.equals("*")) {
+                continue;
+            }
+
+            boolean disabled = Arrays.stream(parts).skip(1)
+                    .map(String::trim)
+                    .anyMatch(parameter -> parameter.matches("q=0(\\.0*)?"));
+            if (!disabled) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
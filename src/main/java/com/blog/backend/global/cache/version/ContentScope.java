@@ -0,0 +1,18 @@
+package com.blog.backend.global.cache.version;
+
+/**
+ * 버전 스탬프로 변경 여부를 추적하는 공개 데이터 범위
+ */
+public enum ContentScope {
+
+    /**
+     * 공개 게시글 (상세, 목록, 검색, 자동완성)
+     * - 게시글 카드에 포함되는 작성자/스택 정보 변경 포함
+     */
+    POSTS,
+
+    /**
+     * 스택 목록 (스택 자체 변경 - 게시글 수는 POSTS로 추적)
+     */
+    STACKS
+}
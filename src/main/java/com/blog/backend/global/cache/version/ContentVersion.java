@@ -0,0 +1,35 @@
+package com.blog.backend.global.cache.version;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공개 데이터 범위별 버전 스탬프
+ *
+ * - 범위마다 행 1개, 변경 트랜잭션 안에서 올려 데이터와 함께 커밋 (노드 간 공유, 재시작 후 유지)
+ * - 요청마다 조회하지 않고 ContentVersionRegistry가 메모리에 적재해 ETag를 만듦
+ */
+@Entity
+@Table(name = "content_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ContentVersion {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ContentScope scope;
+
+    /**
+     * 마지막 변경 시각 기반의 단조 증가 값 (epoch millis, 같은 밀리초 변경은 +1)
+     */
+    @Column(nullable = false)
+    private long version;
+
+    public ContentVersion(ContentScope scope, long version) {
+        this.scope = scope;
+        this.version = version;
+    }
+}
@@ -0,0 +1,17 @@
+package com.blog.backend.global.cache.version;
+
+/**
+ * 공개 데이터 버전 스탬프 변경 이벤트 (커밋 이후, 메모리 버전 교체 직전에 발행)
+ *
+ * 다른 노드에서 올린 버전을 재동기화로 발견했을 때도 발행됩니다.
+ *
+ * 해당 범위의 데이터로 만든 캐시(응답 바이트 캐시 등)를 무효화하는 데 사용
+ *
+ * @param scope 변경된 범위
+ * @param version 새 버전
+ */
+public record ContentVersionChangedEvent(
+        ContentScope scope,
+        long version
+) {
+}
@@ -0,0 +1,208 @@
+package com.blog.backend.global.cache.version;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 데이터 버전 스탬프 레지스트리 (ETag 생성용, DB 영속 + 메모리 미러)
+ *
+ * 범위(ContentScope)마다 마지막 변경 시각 기반의 단조 증가 값을 유지
+ * - content_version 테이블이 원본 (노드 간 공유, 재시작 후에도 같은 ETag 유지)
+ * - 조건부 GET(If-None-Match) 판단 시 DB 조회 없이 메모리 값과 비교
+ * - 변경 트랜잭션 안에서 DB 값을 올리고, 메모리 반영은 커밋 이후 (커밋 전 데이터로 새 ETag가 발급되지 않도록)
+ *
+ * 동기화:
+ * - 이 노드의 변경은 커밋 직후 메모리에 반영
+ * - 다른 노드의 변경은 주기적 재동기화로 반영 (app.cache.content-version.sync-interval-ms)
+ * - 값이 바뀐 범위는 ContentVersionChangedEvent 발행 (이 노드의 응답 캐시 무효화)
+ * - 재동기화는 전용 스레드에서 실행 (@EnableScheduling에 의존하지 않음)
+ * - 트랜잭션 밖 증가가 DB 장애로 실패하면 메모리 값만 올려 이 노드의 ETag는 계속 바뀌도록 함
+ * - 게시글 상세 등 도메인 캐시는 여전히 노드별로 무효화됨 (ETag와 응답 캐시만 노드 간 일치)
+ */
+@Slf4j
+@Component
+public class ContentVersionRegistry {
+
+    private final Map<ContentScope, AtomicLong> versions = new EnumMap<>(ContentScope.class);
+    private final ContentVersionRepository contentVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long syncIntervalMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "content-version-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ContentVersionRegistry(
+            ContentVersionRepository contentVersionRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.cache.content-version.sync-interval-ms:1000}") long syncIntervalMillis
+    ) {
+        this.contentVersionRepository = contentVersionRepository;
+        this.eventPublisher = eventPublisher;
+        this.syncIntervalMillis = syncIntervalMillis;
+
+        // 첫 동기화 전까지는 시작 시각 (재시작 이전에 발급된 ETag와 겹치지 않음)
+        long now = System.currentTimeMillis();
+        for (ContentScope scope : ContentScope.values()) {
+            versions.put(scope, new AtomicLong(now));
+        }
+    }
+
+    /**
+     * 현재 버전 조회 (DB 조회 없음)
+     */
+    public long current(ContentScope scope) {
+        return versions.get(scope).get();
+    }
+
+    /**
+     * 버전 증가 (트랜잭션 밖 - 색인 스레드, 파생본 작업 스레드 등)
+     * - 범위별 ContentVersionChangedEvent 발행 (해당 범위 캐시 무효화)
+     */
+    public void bump(ContentScope... scopes) {
+        for (ContentScope scope : scopes) {
+            long version;
+            try {
+                version = increment(scope);
+            } catch (RuntimeException e) {
+                log.warn("콘텐츠 버전 증가 실패 - 메모리 값만 증가: scope={}, error={}", scope, e.getMessage());
+                version = Math.max(current(scope) + 1, System.currentTimeMillis());
+            }
+            apply(scope, version);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 DB 버전을 올리고, 커밋 이후 메모리에 반영 (트랜잭션이 없으면 즉시)
+     * - DB 값은 변경과 함께 커밋되므로 다른 노드가 변경 전 데이터에 새 버전을 붙이지 않음
+     * - 버전 행 잠금은 커밋까지 유지되므로 쓰기 메서드의 마지막에 호출
+     * - 메모리 반영은 다른 커밋 후처리(캐시 무효화 등)보다 마지막에 실행
+     */
+    public void bumpAfterCommit(ContentScope... scopes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(scopes);
+            return;
+        }
+
+        Map<ContentScope, Long> incremented = new EnumMap<>(ContentScope.class);
+        for (ContentScope scope : scopes) {
+            incremented.put(scope, increment(scope));
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                incremented.forEach(ContentVersionRegistry.this::apply);
+            }
+
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+        });
+    }
+
+    /**
+     * 주어진 범위들의 현재 버전으로 강한 ETag 생성
+     *
+     * @return 예: "posts.18f3a2b4c10-stacks.18f3a2b4c10"
+     */
+    public String etag(ContentScope... scopes) {
+        return Arrays.stream(scopes)
+                .map(scope -> scope.name().toLowerCase() + "." + Long.toHexString(current(scope)))
+                .collect(Collectors.joining("-", "\"", "\""));
+    }
+
+    // ========== 동기화 ========== //
+
+    /**
+     * 애플리케이션 시작 시 DB 버전 적재 후 주기 작업 등록
+     * - 행이 없는 범위는 현재 메모리 값으로 생성 (다른 노드가 먼저 만들었으면 그 값을 사용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (ContentScope scope : ContentScope.values()) {
+            if (contentVersionRepository.existsById(scope)) {
+                continue;
+            }
+            try {
+                contentVersionRepository.save(new ContentVersion(scope, current(scope)));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("다른 노드가 먼저 생성한 버전 행: scope={}", scope);
+            }
+        }
+
+        // 시작 시각 대신 DB 값을 그대로 사용 (모든 노드가 같은 ETag를 발급하도록)
+        contentVersionRepository.findAll().forEach(row -> versions.get(row.getScope()).set(row.getVersion()));
+
+        scheduler.scheduleWithFixedDelay(this::resync, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * DB와 재동기화 (다른 노드에서 올린 버전 반영)
+     */
+    public void resync() {
+        try {
+            contentVersionRepository.findAll().forEach(row -> apply(row.getScope(), row.getVersion()));
+        } catch (Exception e) {
+            // 예외가 전파되면 이후 주기 실행이 취소되므로 기록만 남김
+            log.warn("콘텐츠 버전 동기화 실패 - 기존 버전 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 버전 증가 후 증가된 값 반환
+     * - 행이 없으면(시작 적재 전) 메모리 값 기준으로 계산 (이 노드의 ETag라도 바뀌도록)
+     */
+    private long increment(ContentScope scope) {
+        long now = System.currentTimeMillis();
+
+        if (contentVersionRepository.increment(scope, now) > 0) {
+            return contentVersionRepository.findVersion(scope);
+        }
+
+        log.warn("콘텐츠 버전 행 없음 - 메모리 값만 증가: scope={}", scope);
+        return Math.max(current(scope) + 1, now);
+    }
+
+    /**
+     * 더 큰 버전이면 ContentVersionChangedEvent 발행 후 메모리 버전 교체
+     * - 캐시 무효화/카탈로그 재적재가 끝난 뒤에 새 ETag가 나가도록 이벤트를 먼저 발행
+     *   (그 사이 요청은 이전 ETag로 응답하므로 이후 버전 비교에서 다시 받음)
+     */
+    private void apply(ContentScope scope, long version) {
+        AtomicLong current = versions.get(scope);
+        if (version <= current.get()) {
+            return;
+        }
+
+        log.debug("콘텐츠 버전 갱신: scope={}, version={}", scope, version);
+        eventPublisher.publishEvent(new ContentVersionChangedEvent(scope, version));
+        current.accumulateAndGet(version, Math::max);
+    }
+}
@@ -0,0 +1,32 @@
+package com.blog.backend.global.cache.version;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 버전 스탬프 Repository
+ */
+public interface ContentVersionRepository extends JpaRepository<ContentVersion, ContentScope> {
+
+    /**
+     * 버전 증가 (현재 시각과 이전 값 + 1 중 큰 값)
+     * - 바깥 트랜잭션이 있으면 참여해 변경과 함께 커밋 (행 잠금은 커밋까지 유지)
+     *
+     * @return 갱신된 행 수 (행이 없으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContentVersion v " +
+            "SET v.version = CASE WHEN v.version + 1 > :now THEN v.version + 1 ELSE :now END " +
+            "WHERE v.scope = :scope")
+    int increment(@Param("scope") ContentScope scope, @Param("now") long now);
+
+    /**
+     * 현재 버전 조회 (영속성 컨텍스트를 거치지 않는 스칼라 조회 - 같은 트랜잭션의 증가 직후에도 최신 값)
+     */
+    @Query("SELECT v.version FROM ContentVersion v WHERE v.scope = :scope")
+    Long findVersion(@Param("scope") ContentScope scope);
+}
@@ -0,0 +1,44 @@
+package com.blog.backend.global.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 모드에서 JDBC 동시성 제한
+ *
+ * 플랫폼 스레드 모드에서는 Tomcat 스레드 수(기본 200)가 동시 DB 접근의 상한 역할을 했지만,
+ * 가상 스레드 모드에서는 요청마다 스레드가 생기므로 그 상한이 사라짐.
+ * - DataSource를 BoundedDataSource로 감싸 동시 커넥션 수를 Hikari 풀 크기로 제한
+ * - 대기 시간 상한은 Hikari connection-timeout과 같게 둠
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class JdbcConcurrencyLimiter implements BeanPostProcessor {
+
+    private final int maxConcurrency;
+    private final long acquireTimeoutMillis;
+
+    public JdbcConcurrencyLimiter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConcurrency,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long acquireTimeoutMillis
+    ) {
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof BoundedDataSource)) {
+            log.info("JDBC 동시성 제한 적용: bean={}, maxConcurrency={}, acquireTimeout={}ms",
+                    beanName, maxConcurrency, acquireTimeoutMillis);
+            return new BoundedDataSource(dataSource, maxConcurrency, acquireTimeoutMillis);
+        }
+        return bean;
+    }
+}
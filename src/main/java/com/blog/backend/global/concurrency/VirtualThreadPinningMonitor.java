@@ -0,0 +1,87 @@
+package com.blog.backend.global.concurrency;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 진단
+ *
+ * 가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 블로킹되면 캐리어 스레드를 놓지 못해
+ * 처리량이 캐리어 수(CPU 코어 수)로 떨어짐. JFR의 jdk.VirtualThreadPinned 이벤트를 구독해
+ * 임계값 이상 고정된 경우 스택 상단을 로그로 남김.
+ *
+ * 진단 방법:
+ * - 운영: app.virtual-threads.pinning-monitor.enabled=true (이 컴포넌트, JFR 스트리밍)
+ * - 로컬: ./gradlew bootRun -PtracePinned (-Djdk.tracePinnedThreads=short, 고정될 때마다 스택 출력)
+ * - 사후 분석: -XX:StartFlightRecording 후 jfr print --events jdk.VirtualThreadPinned
+ *
+ * DB 조회를 감싸는 락은 synchronized 대신 ReentrantLock을 사용 (StackCatalog, 검색 인덱스 갱신)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.virtual-threads.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 8;
+
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${app.virtual-threads.pinning-monitor.threshold-ms:20}") long thresholdMillis
+    ) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+
+        log.info("가상 스레드 고정 진단 시작 - 임계값: {}ms", threshold.toMillis());
+    }
+
+    private void report(RecordedEvent event) {
+        log.warn("가상 스레드 고정 감지 - {}ms, thread={}\n{}",
+                event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                topFrames(event.getStackTrace()));
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(스택 없음)";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(MAX_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName()
+                        + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
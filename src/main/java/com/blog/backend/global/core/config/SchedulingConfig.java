@@ -0,0 +1,22 @@
+package com.blog.backend.global.core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 활성화
+ *
+ * - 스케줄 작업은 각자 app.{작업}.enabled 속성(기본 false)으로 빈 등록 여부를 결정
+ * - 켜진 작업이 하나도 없으면 @EnableScheduling 자체를 등록하지 않음
+ * - 새 @Scheduled 작업을 추가하면 해당 작업의 enabled 속성을 아래 조건에도 추가
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnExpression(
+        "${app.post-cleanup.enabled:false} " +
+                "or ${app.file-cleanup.enabled:false} " +
+                "or ${app.stack-post-count-repair.enabled:false}"
+)
+public class SchedulingConfig {
+}
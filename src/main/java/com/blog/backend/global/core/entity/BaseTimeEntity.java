@@ -32,6 +32,14 @@ public abstract class BaseTimeEntity {
         this.deletedAt = LocalDateTime.now();
     }
 
+    /**
+     * 수정 시각 갱신
+     * - 엔티티 컬럼 변경 없이 연관 데이터(예: 게시글 본문)만 수정된 경우 사용
+     */
+    public void markAsModified() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     /**
      * 삭제 복구 처리
      */
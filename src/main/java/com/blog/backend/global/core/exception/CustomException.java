@@ -45,6 +45,10 @@ public class CustomException extends RuntimeException {
         return new CustomException(message, HttpStatus.CONFLICT);
     }
 
+    public static CustomException tooManyRequests(String message) {
+        return new CustomException(message, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     // ========== 필드 에러 (UI 필드 표시용) ========== //
 
     /**
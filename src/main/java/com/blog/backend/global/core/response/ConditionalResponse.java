@@ -0,0 +1,65 @@
+package com.blog.backend.global.core.response;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET(ETag / If-None-Match) 응답 생성 유틸
+ *
+ * ETag가 일치하면 응답 본문(DTO)을 만들지 않고 바로 304를 반환
+ * - Cache-Control: no-cache → 브라우저/CDN이 저장하되 매번 ETag로 재검증
+ */
+public final class ConditionalResponse {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    private ConditionalResponse() {
+    }
+
+    /**
+     * If-None-Match가 ETag와 일치하면 304, 아니면 body를 만들어 200 반환
+     *
+     * @param ifNoneMatch If-None-Match 요청 헤더 (없으면 null)
+     * @param etag 현재 리소스의 강한 ETag (따옴표 포함)
+     * @param body 응답 본문 생성 함수 (304일 때는 호출되지 않음)
+     */
+    public static <T> ResponseEntity<T> ok(String ifNoneMatch, String etag, Supplier<T> body) {
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(body.get());
+    }
+
+    /**
+     * If-None-Match 비교 (약한 비교: W/ 접두사 무시, 여러 값과 * 지원)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
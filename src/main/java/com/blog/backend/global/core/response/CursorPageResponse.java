@@ -0,0 +1,42 @@
+package com.blog.backend.global.core.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ *
+ * - 전체 개수/페이지 수를 계산하지 않으므로 count 쿼리가 없음
+ * - 다음 페이지 요청 시 nextCursor를 그대로 전달
+ */
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * size + 1개까지 조회한 결과로 생성 (초과분이 있으면 다음 페이지 존재)
+     *
+     * @param fetched 최대 size + 1개의 조회 결과
+     * @param size 요청 페이지 크기
+     * @param cursorEncoder 마지막 항목으로 다음 커서를 만드는 함수
+     */
+    public static <T> CursorPageResponse<T> of(List<T> fetched, int size, Function<T, String> cursorEncoder) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorEncoder.apply(content.get(content.size() - 1)) : null)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.blog.backend.global.core.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 전체 개수 없는 페이지 응답 (Slice)
+ *
+ * - count 쿼리 없이 다음 페이지 존재 여부만 제공
+ * - 전체 개수가 필요 없는 무한 스크롤 등에서 사용
+ */
+@Getter
+@Builder
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private int currentPage;
+    private int size;
+    private boolean hasNext;
+    private boolean hasPrevious;
+
+    public static <T> SliceResponse<T> from(Slice<T> slice) {
+        return SliceResponse.<T>builder()
+                .content(slice.getContent())
+                .currentPage(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .hasPrevious(slice.hasPrevious())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.blog.backend.global.file.cleanup;
+
+import com.blog.backend.global.file.entity.FileCleanupCheckpoint;
+import com.blog.backend.global.file.repository.FileCleanupCheckpointRepository;
+import com.blog.backend.global.file.service.FileMetadataService;
+import com.blog.backend.global.file.service.FileVariantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고아 파일 정리의 DB 쪽 단계 (청크마다 짧은 트랜잭션)
+ *
+ * 역할:
+ * - 체크포인트 조회/바퀴 시작/종료
+ * - 청크 하나의 메타데이터 삭제 + 남은 참조 수 확인 + 파생본 행 삭제 + 체크포인트 이동을 한 트랜잭션으로 커밋
+ *
+ * OrphanFileSweeper는 트랜잭션 없이 동작하므로(S3 호출이 트랜잭션을 붙잡지 않도록)
+ * 프록시를 거쳐 트랜잭션이 적용되도록 별도 빈으로 분리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileCleanupCheckpointStore {
+
+    static final String CHECKPOINT_NAME = "storage_file";
+
+    private final FileCleanupCheckpointRepository checkpointRepository;
+    private final FileMetadataService fileMetadataService;
+    private final FileVariantService fileVariantService;
+
+    @Transactional
+    public FileCleanupCheckpoint load() {
+        return checkpointRepository.findById(CHECKPOINT_NAME)
+                .orElseGet(() -> checkpointRepository.save(new FileCleanupCheckpoint(CHECKPOINT_NAME)));
+    }
+
+    @Transactional
+    public void startPass(long boundaryFileId) {
+        load().startPass(boundaryFileId);
+        log.info("파일 정리 바퀴 시작: boundaryFileId={}", boundaryFileId);
+    }
+
+    /**
+     * 청크 하나의 DB 정리와 체크포인트 이동을 함께 커밋 (S3 삭제보다 먼저 실행)
+     * - 미사용 메타데이터를 먼저 지우고, 같은 트랜잭션에서 경로별 남은 참조 수를 다시 셈
+     * - 남은 참조가 없는 경로만 S3 삭제 대상으로 반환 (중복 업로드가 재사용 중인 객체는 남김)
+     * - 업로드는 재사용할 행을 쓰기 잠금으로 읽으므로 행 삭제와 직렬화됨
+     *   - 업로드가 먼저 잠갔으면 삭제가 업로드 커밋까지 기다리고, 이어지는 참조 수 조회가 업로드의 새 행을 셈 (객체 유지)
+     *   - 삭제가 먼저면 업로드는 이 커밋 이후 행을 찾지 못하고 새로 업로드
+     * - 참조 수 조회는 삭제 이후 이 트랜잭션의 첫 일반 조회여야 함 (REPEATABLE READ 스냅샷이 삭제 대기 이후에 잡히도록)
+     *
+     * @param fileIds 삭제할 메타데이터 ID
+     * @param paths 삭제할 메타데이터의 S3 경로
+     * @param lastFileId 청크의 마지막 파일 ID
+     * @return S3에서 삭제할 원본 경로와 파생본 경로
+     */
+    @Transactional
+    public ReleasedObjects commitChunk(List<Long> fileIds, List<String> paths, long lastFileId) {
+        fileMetadataService.deleteFileMetadataByIds(fileIds);
+
+        Map<String, Long> referenceCountByPath = fileMetadataService.countReferencesByPath(paths);
+        List<String> releasedPaths = paths.stream()
+                .distinct()
+                .filter(path -> referenceCountByPath.getOrDefault(path, 0L) == 0L)
+                .toList();
+
+        List<String> variantKeys = fileVariantService.getVariantPaths(releasedPaths);
+        fileVariantService.deleteBySourcePaths(releasedPaths);
+
+        load().advance(lastFileId);
+        return new ReleasedObjects(releasedPaths, variantKeys);
+    }
+
+    @Transactional
+    public void completePass() {
+        load().completePass();
+    }
+
+    /**
+     * 참조가 모두 사라져 S3에서 삭제할 객체
+     *
+     * @param sourcePaths 원본 S3 경로
+     * @param variantKeys 파생본 S3 경로
+     */
+    public record ReleasedObjects(List<String> sourcePaths, List<String> variantKeys) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.blog.backend.global.file.cleanup;
+
+import com.blog.backend.global.file.collector.FileUsageCollector;
+import com.blog.backend.global.file.entity.FileCleanupCheckpoint;
+import com.blog.backend.global.file.entity.FileMetadata;
+import com.blog.backend.global.file.service.FileMetadataService;
+import com.blog.backend.infra.s3.service.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 고아 파일 정리 엔진 (키셋 청크 + 후보 한정 조회)
+ *
+ * 동작 방식 (청크마다 반복):
+ * 1. storage_file을 ID 오름차순으로 chunkSize개 조회 (id > 체크포인트, id <= 바퀴 끝 ID)
+ * 2. 각 FileUsageCollector에 청크의 ID만 넘겨 사용 중인 ID 조회 (매핑 테이블 IN 조회 = 세미 조인)
+ * 3. 청크 − 사용 중 = 미사용 파일
+ * 4. 메타데이터 삭제 → 경로별 남은 참조 수 재확인 → 파생본 행 삭제 → 체크포인트 이동을 짧은 트랜잭션 하나로 커밋
+ * 5. 커밋 이후 남은 참조가 없는 원본과 이미지 파생본을 S3에서 멀티 삭제 (트랜잭션 밖)
+ *
+ * 행을 먼저, S3를 나중에 지움:
+ * - 중복 업로드는 메타데이터 행을 보고 기존 객체를 재사용하므로, 객체를 먼저 지우면 그 사이 재사용한 행이 깨진 객체를 가리킴
+ * - 업로드는 재사용할 행을 쓰기 잠금으로 읽으므로, 진행 중인 재사용은 행 삭제를 커밋까지 기다리게 하고 참조 수에 포함됨
+ * - 대신 S3 삭제에 실패한 객체는 행 없이 남음 (경고 로그로 남기고 다시 시도하지 않음)
+ *
+ * 메모리/쿼리 비용:
+ * - 전체 사용 ID를 적재하지 않으므로 메모리는 청크 크기로 고정
+ * - 청크 조회는 PK 범위 스캔, 사용 여부는 매핑 테이블 file_id 인덱스 조회
+ *
+ * 안전 장치:
+ * - 컬렉터 하나라도 실패하면 이번 실행을 중단 (해당 도메인의 사용 파일을 미사용으로 오판하지 않도록)
+ * - 다른 행이 아직 참조하는 S3 객체는 남김 (중복 업로드 재사용)
+ * - 실행 시간 상한을 넘으면 멈추고 다음 실행이 체크포인트부터 이어감
+ * - 동시에 두 번 실행되지 않음
+ *
+ * 확장성:
+ * - 새로운 중간 테이블 추가 시 해당 서비스가 FileUsageCollector만 구현하면 자동 반영
+ */
+@Slf4j
+@Component
+public class OrphanFileSweeper {
+
+    private final S3Service s3Service;
+    private final FileMetadataService fileMetadataService;
+    private final FileCleanupCheckpointStore checkpointStore;
+    private final List<FileUsageCollector> fileUsageCollectors;
+
+    private final int thresholdHours;
+    private final int chunkSize;
+    private final Duration maxDuration;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public OrphanFileSweeper(
+            S3Service s3Service,
+            FileMetadataService fileMetadataService,
+            FileCleanupCheckpointStore checkpointStore,
+            List<FileUsageCollector> fileUsageCollectors,
+            @Value("${app.file-cleanup.threshold-hours:24}") int thresholdHours,
+            @Value("${app.file-cleanup.chunk-size:500}") int chunkSize,
+            @Value("${app.file-cleanup.max-duration-minutes:30}") long maxDurationMinutes
+    ) {
+        this.s3Service = s3Service;
+        this.fileMetadataService = fileMetadataService;
+        this.checkpointStore = checkpointStore;
+        this.fileUsageCollectors = fileUsageCollectors;
+        this.thresholdHours = thresholdHours;
+        // S3 멀티 삭제 한도(1000)와 IN 절 크기를 넘지 않도록 제한
+        this.chunkSize = Math.clamp(chunkSize, 1, 1000);
+        this.maxDuration = Duration.ofMinutes(maxDurationMinutes);
+    }
+
+    /**
+     * 체크포인트부터 정리를 이어서 실행
+     *
+     * @return 이번 실행 결과 (이미 실행 중이면 empty)
+     */
+    public Optional<SweepResult> sweep() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("파일 정리가 이미 실행 중이라 건너뜀");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(runPass());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private SweepResult runPass() {
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        SweepResult result = new SweepResult();
+
+        FileCleanupCheckpoint checkpoint = checkpointStore.load();
+        long boundaryId;
+        long afterId;
+
+        if (checkpoint.isPassInProgress()) {
+            boundaryId = checkpoint.getBoundaryFileId();
+            afterId = checkpoint.getLastFileId();
+            log.info("파일 정리 이어서 실행: afterId={}, boundaryFileId={}", afterId, boundaryId);
+        } else {
+            Optional<Long> boundary = fileMetadataService.findCleanupBoundaryId(thresholdHours);
+            if (boundary.isEmpty()) {
+                log.info("파일 정리 대상 없음: 기준={}시간 전", thresholdHours);
+                result.completed = true;
+                return result;
+            }
+            boundaryId = boundary.get();
+            afterId = 0L;
+            checkpointStore.startPass(boundaryId);
+        }
+
+        while (System.nanoTime() < deadline) {
+            List<FileMetadata> chunk = fileMetadataService.findCleanupChunk(afterId, boundaryId, chunkSize);
+
+            if (chunk.isEmpty()) {
+                checkpointStore.completePass();
+                result.completed = true;
+                return result;
+            }
+
+            afterId = chunk.get(chunk.size() - 1).getId();
+            sweepChunk(chunk, afterId, result);
+        }
+
+        log.info("파일 정리 실행 시간 상한 도달: afterId={}, boundaryFileId={} (다음 실행에서 이어감)", afterId, boundaryId);
+        return result;
+    }
+
+    // ========== 청크 처리 ========== //
+
+    private void sweepChunk(List<FileMetadata> chunk, long lastFileId, SweepResult result) {
+        result.scannedFiles += chunk.size();
+
+        List<Long> candidateIds = chunk.stream().map(FileMetadata::getId).toList();
+        Set<Long> usedFileIds = collectUsedFileIds(candidateIds);
+
+        List<FileMetadata> unusedFiles = chunk.stream()
+                .filter(file -> !usedFileIds.contains(file.getId()))
+                .toList();
+
+        if (unusedFiles.isEmpty()) {
+            checkpointStore.commitChunk(List.of(), List.of(), lastFileId);
+            return;
+        }
+
+        // 행 삭제와 참조 수 재확인을 먼저 커밋 (다른 행이 아직 참조하는 객체는 반환되지 않음)
+        List<Long> fileIds = unusedFiles.stream().map(FileMetadata::getId).toList();
+        List<String> paths = unusedFiles.stream().map(FileMetadata::getPath).distinct().toList();
+        FileCleanupCheckpointStore.ReleasedObjects released = checkpointStore.commitChunk(fileIds, paths, lastFileId);
+
+        // 커밋 이후 S3에서 원본과 이미지 파생본 멀티 삭제 (성공한 것만 반환)
+        List<String> allKeys = new ArrayList<>(released.sourcePaths());
+        allKeys.addAll(released.variantKeys());
+
+        Set<String> deletedS3Keys = allKeys.isEmpty() ? Set.of() : new HashSet<>(s3Service.deleteFiles(allKeys));
+        List<String> failedKeys = allKeys.stream()
+                .filter(key -> !deletedS3Keys.contains(key))
+                .toList();
+
+        if (!failedKeys.isEmpty()) {
+            log.warn("S3 객체 삭제 실패 (메타데이터는 이미 삭제됨): count={}, keys={}", failedKeys.size(), failedKeys);
+        }
+
+        result.deletedFiles += fileIds.size();
+        result.deletedObjects += deletedS3Keys.size();
+        result.keptSharedObjects += paths.size() - released.sourcePaths().size();
+        result.failedObjects += failedKeys.size();
+    }
+
+    /**
+     * 모든 FileUsageCollector에서 후보 중 사용 중인 ID를 모아 합집합 생성
+     * - 실패는 그대로 전파 (건너뛰면 해당 도메인의 파일이 미사용으로 판정됨)
+     */
+    private Set<Long> collectUsedFileIds(List<Long> candidateIds) {
+        Set<Long> usedFileIds = new HashSet<>();
+
+        for (FileUsageCollector collector : fileUsageCollectors) {
+            usedFileIds.addAll(collector.collectUsedFileIds(candidateIds));
+        }
+
+        return usedFileIds;
+    }
+
+    /**
+     * 정리 실행 결과
+     */
+    public static final class SweepResult {
+
+        private long scannedFiles;
+        private long deletedFiles;
+        private long deletedObjects;
+        private long keptSharedObjects;
+        private long failedObjects;
+        private boolean completed;
+
+        @Override
+        public String toString() {
+            return "조회=" + scannedFiles + ", DB 삭제=" + deletedFiles + ", S3 삭제=" + deletedObjects
+                    + ", 공유 객체 유지=" + keptSharedObjects + ", S3 삭제 실패=" + failedObjects
+                    + ", 바퀴 완료=" + completed;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.blog.backend.global.file.collector;
 
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -9,28 +10,30 @@ import java.util.Set;
  * 현재 사용 중인 파일 ID 목록을 제공합니다.
  *
  * 사용 목적:
- * - 고아 파일 정리 스케줄러에서 "사용 중인 파일" 합집합 생성
+ * - 고아 파일 정리(OrphanFileSweeper)가 청크 단위로 넘긴 후보 중 "사용 중인 파일"을 판별
  * - 각 도메인이 자신의 파일 사용 현황을 독립적으로 관리
+ * - 전체 사용 ID를 한 번에 적재하지 않으므로 파일 수와 무관하게 메모리 사용량이 청크 크기로 고정됨
  *
  * 구현 예시:
- * - PostFileService: PostFile 테이블에서 모든 fileId 조회
- * - UserFileService: UserFile 테이블에서 모든 fileId 조회 (향후)
- * - CommentFileService: CommentFile 테이블에서 모든 fileId 조회 (향후)
+ * - PostFileService: PostFile 테이블에서 후보 fileId 조회
+ * - UserFileService: UserFile 테이블에서 후보 fileId 조회
+ * - CommentFileService: CommentFile 테이블에서 후보 fileId 조회 (향후)
  */
 public interface FileUsageCollector {
 
     /**
-     * 현재 도메인에서 사용 중인 모든 파일 ID를 조회합니다.
+     * 후보 파일 ID 중 현재 도메인에서 사용 중인 것을 조회합니다.
      *
      * 반환 규칙:
-     * - 중복 제거된 파일 ID Set 반환
+     * - 후보에 포함된 ID만 반환 (중복 없음)
      * - 사용 중인 파일이 없으면 빈 Set 반환 (null 아님)
+     * - 조회 실패 시 예외를 던져야 함 (빈 Set을 반환하면 사용 중인 파일이 삭제됨)
      *
      * 성능 고려:
-     * - DISTINCT 쿼리로 중복 제거
-     * - 인덱스를 활용한 빠른 조회
+     * - 매핑 테이블의 file_id 인덱스로 후보만 조회 (IN 절 크기 = 청크 크기)
      *
-     * @return 사용 중인 파일 ID 집합 (중복 없음)
+     * @param candidateFileIds 정리 후보 파일 ID (청크 단위, 비어 있지 않음)
+     * @return 사용 중인 파일 ID 집합
      */
-    Set<Long> collectUsedFileIds();
+    Set<Long> collectUsedFileIds(Collection<Long> candidateFileIds);
 }
\ No newline at end of file
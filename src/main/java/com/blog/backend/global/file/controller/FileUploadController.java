@@ -1,12 +1,20 @@
 package com.blog.backend.global.file.controller;
 
+import com.blog.backend.global.core.exception.CustomException;
 import com.blog.backend.global.core.response.ApiResponse;
+import com.blog.backend.global.file.dto.FileUploadRequest;
 import com.blog.backend.global.file.dto.FileUploadResponse;
+import com.blog.backend.global.file.dto.FileUploadUrlResponse;
 import com.blog.backend.global.file.entity.FileMetadata;
 import com.blog.backend.global.file.service.FileMetadataService;
+import com.blog.backend.global.file.util.FileContentHasher;
 import com.blog.backend.global.file.util.FileValidator;
 import com.blog.backend.infra.s3.dto.S3UploadResult;
+import com.blog.backend.infra.s3.exception.S3CustomException;
 import com.blog.backend.infra.s3.service.S3Service;
+import com.blog.backend.infra.s3.util.S3FileTypeResolver;
+import com.blog.backend.infra.s3.util.S3KeyGenerator;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -15,11 +23,13 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * 파일 업로드 컨트롤러
  * - 파일 검증 (크기, 확장자, MIME 타입)
- * - S3 업로드 및 메타데이터 저장
+ * - S3 업로드 및 메타데이터 저장 (내용이 같은 파일은 기존 S3 객체 재사용)
+ * - Presigned URL 직접 업로드 (파일 본문이 서버를 거치지 않음)
  */
 @Slf4j
 @RestController
@@ -27,17 +37,26 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class FileUploadController {
 
+    /**
+     * Presigned 업로드 URL 유효 시간 (분)
+     */
+    private static final int UPLOAD_URL_MINUTES = 10;
+
     private final S3Service s3Service;
     private final FileMetadataService fileMetadataService;
+    private final S3KeyGenerator s3KeyGenerator;
 
     /**
      * 파일 업로드
      *
      * 처리 흐름:
      * 1. 파일 검증 (크기, 확장자, MIME 타입)
-     * 2. S3에 파일 업로드 (타입별 경로 자동 분류)
-     * 3. FileMetadata 생성 및 저장
-     * 4. 업로드 결과 반환
+     * 2. 내용 해시(SHA-256) 계산
+     * 3. 같은 내용의 파일이 있고 S3 객체가 아직 남아 있으면 재사용, 아니면 S3에 업로드 (타입별 경로 자동 분류)
+     *    - 기존 행은 쓰기 잠금으로 읽어 커밋까지 고아 정리의 삭제를 막음 (정리가 새 행까지 세고 객체를 남김)
+     *    - 정리가 먼저 커밋했으면 행을 찾지 못해 새로 업로드
+     * 4. FileMetadata 생성 및 저장 (재사용 시에도 새 파일 ID 발급)
+     * 5. 업로드 결과 반환
      *
      * @param file 업로드할 파일
      * @return FileUploadResponse 업로드된 파일 정보 (ID, URL 등)
@@ -55,19 +74,136 @@ public class FileUploadController {
         FileValidator.validateFile(file);
         log.info("파일 검증 완료: filename={}", file.getOriginalFilename());
 
-        // 2. 업로드 (타입별 경로 자동 분류)
-        S3UploadResult uploadResult = s3Service.uploadFile(file);
-        log.info("업로드 완료: originalName={} path={} contentType={}",
-                uploadResult.originalName(), uploadResult.path(), uploadResult.contentType());
+        // 2. 내용 해시 (멀티파트 임시 파일을 한 번 읽음)
+        String contentHash = FileContentHasher.sha256Hex(file);
+
+        // 3. 중복 내용이면 기존 객체 재사용, 아니면 업로드 (타입별 경로 자동 분류)
+        //    기존 행 잠금은 이 트랜잭션이 새 행을 커밋할 때까지 유지됨
+        Optional<FileMetadata> existing = fileMetadataService.findByContent(contentHash, file.getSize())
+                .filter(this::isObjectPresent);
+        S3UploadResult uploadResult;
+
+        if (existing.isPresent()) {
+            uploadResult = S3UploadResult.builder()
+                    .originalName(file.getOriginalFilename())
+                    .path(existing.get().getPath())
+                    .contentType(file.getContentType())
+                    .fileSize(file.getSize())
+                    .contentHash(contentHash)
+                    .build();
+            log.info("중복 업로드 - 기존 객체 재사용: existingFileId={}, path={}", existing.get().getId(), uploadResult.path());
+        } else {
+            uploadResult = s3Service.uploadFile(file).toBuilder()
+                    .contentHash(contentHash)
+                    .build();
+            log.info("업로드 완료: originalName={} path={} contentType={}",
+                    uploadResult.originalName(), uploadResult.path(), uploadResult.contentType());
+        }
 
-        // 3. FileMetadata 저장
+        // 4. FileMetadata 저장
         FileMetadata fileMetadata = fileMetadataService.saveFileMetadata(uploadResult);
         log.info("파일 메타데이터 저장 완료: fileId={}", fileMetadata.getId());
 
-        // 4. 응답 반환
+        // 5. 응답 반환
         FileUploadResponse response = FileUploadResponse.from(fileMetadata);
         log.info("파일 업로드 성공: fileId={}, path={}", response.id(), response.path());
 
         return ResponseEntity.ok(ApiResponse.success(response, "파일이 업로드되었습니다"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Presigned 업로드 URL 발급
+     *
+     * 처리 흐름:
+     * 1. 파일명, 확장자, 크기 검증 (업로드와 같은 규칙)
+     * 2. S3 Key 예약 후 Presigned PUT URL 생성 (Content-Type, Content-Length 서명 포함)
+     * 3. 클라이언트가 S3에 직접 PUT 후 완료 API 호출
+     *
+     * @param request 파일명, MIME 타입, 크기
+     * @return FileUploadUrlResponse 예약된 경로와 업로드 URL
+     */
+    @PostMapping("/upload-url")
+    public ResponseEntity<ApiResponse<FileUploadUrlResponse>> createUploadUrl(
+            @Valid @RequestBody FileUploadRequest.UploadUrlRequest request
+    ) {
+        log.info("업로드 URL 요청: filename={}, contentType={}, size={}bytes",
+                request.getFileName(), request.getContentType(), request.getSize());
+
+        // 1. 파일 검증
+        FileValidator.validateUpload(request.getFileName(), request.getSize());
+
+        // 2. Key 예약 + Presigned URL 생성
+        FileUploadUrlResponse response = FileUploadUrlResponse.from(s3Service.createPresignedUpload(
+                request.getFileName(),
+                request.getContentType(),
+                request.getSize(),
+                UPLOAD_URL_MINUTES
+        ));
+
+        return ResponseEntity.ok(ApiResponse.success(response, "업로드 URL이 발급되었습니다"));
+    }
+
+    /**
+     * Presigned 업로드 완료
+     *
+     * 처리 흐름:
+     * 1. 경로가 이 파일명으로 발급된 형식인지, 이미 등록되지 않았는지 확인
+     * 2. HEAD 요청으로 S3 객체 존재와 실제 크기 확인
+     * 3. 실제 크기로 재검증 (실패 시 객체 삭제)
+     * 4. FileMetadata 저장
+     *
+     * @param request 예약된 경로, 원본 파일명
+     * @return FileUploadResponse 등록된 파일 정보 (ID, 경로 등)
+     */
+    @PostMapping("/upload-complete")
+    @Transactional
+    public ResponseEntity<ApiResponse<FileUploadResponse>> completeUpload(
+            @Valid @RequestBody FileUploadRequest.CompleteRequest request
+    ) {
+        String path = request.getPath();
+        String fileName = request.getFileName();
+        log.info("업로드 완료 요청: path={}, filename={}", path, fileName);
+
+        // 1. 경로 검증
+        if (!s3KeyGenerator.isGeneratedKey(S3FileTypeResolver.resolveStoragePath(fileName), fileName, path)) {
+            throw CustomException.badRequest("유효하지 않은 업로드 경로입니다.");
+        }
+        if (fileMetadataService.existsByPath(path)) {
+            throw CustomException.conflict("이미 등록된 파일입니다.");
+        }
+
+        // 2. S3 객체 확인
+        S3UploadResult uploadResult = s3Service.getUploadedObject(path, fileName);
+
+        // 3. 실제 크기로 재검증
+        try {
+            FileValidator.validateUpload(fileName, uploadResult.fileSize());
+        } catch (CustomException e) {
+            s3Service.deleteFile(path);
+            throw e;
+        }
+
+        // 4. FileMetadata 저장
+        FileMetadata fileMetadata = fileMetadataService.saveFileMetadata(uploadResult);
+        log.info("Presigned 업로드 등록 완료: fileId={}, path={}, size={}bytes",
+                fileMetadata.getId(), fileMetadata.getPath(), fileMetadata.getSize());
+
+        return ResponseEntity.ok(ApiResponse.success(FileUploadResponse.from(fileMetadata), "파일이 업로드되었습니다"));
+    }
+
+    /**
+     * 재사용하려는 S3 객체가 아직 있는지 확인 (HEAD 요청)
+     * - 고아 파일 정리가 같은 객체를 막 지우는 중일 수 있으므로 PUT을 생략하기 전에 확인
+     * - 확인에 실패하면 재사용하지 않고 새로 업로드
+     */
+    private boolean isObjectPresent(FileMetadata existing) {
+        try {
+            s3Service.getUploadedObject(existing.getPath(), existing.getOriginalName());
+            return true;
+        } catch (S3CustomException e) {
+            log.warn("재사용할 객체 확인 실패, 새로 업로드: existingFileId={}, path={}, error={}",
+                    existing.getId(), existing.getPath(), e.getMessage());
+            return false;
+        }
+    }
+}
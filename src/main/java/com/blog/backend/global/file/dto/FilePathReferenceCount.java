@@ -0,0 +1,13 @@
+package com.blog.backend.global.file.dto;
+
+/**
+ * S3 경로별 메타데이터 참조 수 프로젝션 (중복 제거로 공유된 객체 삭제 판단용)
+ *
+ * @param path S3 경로
+ * @param referenceCount 이 경로를 가진 FileMetadata 행 수
+ */
+public record FilePathReferenceCount(
+        String path,
+        Long referenceCount
+) {
+}
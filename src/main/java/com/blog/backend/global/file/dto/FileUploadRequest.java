@@ -0,0 +1,45 @@
+package com.blog.backend.global.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public class FileUploadRequest {
+
+    /**
+     * Presigned 업로드 URL 발급 요청
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UploadUrlRequest {
+
+        @NotBlank(message = "파일명을 입력해주세요")
+        private String fileName;
+        @NotBlank(message = "파일 형식을 입력해주세요")
+        private String contentType;
+        @NotNull(message = "파일 크기를 입력해주세요")
+        @Positive(message = "파일 크기를 확인할 수 없습니다")
+        private Long size;
+    }
+
+    /**
+     * Presigned 업로드 완료 요청
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CompleteRequest {
+
+        @NotBlank(message = "업로드 경로를 입력해주세요")
+        private String path;
+        @NotBlank(message = "파일명을 입력해주세요")
+        private String fileName;
+    }
+}
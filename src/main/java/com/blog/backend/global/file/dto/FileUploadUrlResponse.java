@@ -0,0 +1,30 @@
+package com.blog.backend.global.file.dto;
+
+import com.blog.backend.infra.s3.dto.S3PresignedUpload;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Presigned 업로드 URL 응답
+ * - 클라이언트는 uploadUrl로 headers를 포함해 PUT 요청 후 path로 완료 API 호출
+ */
+@Builder
+public record FileUploadUrlResponse(
+        String path,
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+    public static FileUploadUrlResponse from(S3PresignedUpload upload) {
+        return FileUploadUrlResponse.builder()
+                .path(upload.path())
+                .uploadUrl(upload.uploadUrl())
+                .method("PUT")
+                .headers(upload.headers())
+                .expiresAt(upload.expiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.blog.backend.global.file.dto;
+
+import com.blog.backend.global.file.entity.FileVariant;
+import lombok.Builder;
+
+/**
+ * 이미지 파생본 응답 (srcset 구성용)
+ *
+ * @param width 너비 (px)
+ * @param height 높이 (px)
+ * @param format 이미지 포맷 (jpeg, png, webp)
+ * @param path S3 경로 (원본 경로와 같은 방식으로 CDN 도메인을 붙여 사용)
+ */
+@Builder
+public record ImageVariantResponse(
+        int width,
+        int height,
+        String format,
+        String path
+) {
+    public static ImageVariantResponse from(FileVariant variant) {
+        return ImageVariantResponse.builder()
+                .width(variant.getWidth())
+                .height(variant.getHeight())
+                .format(variant.getFormat())
+                .path(variant.getPath())
+                .build();
+    }
+}
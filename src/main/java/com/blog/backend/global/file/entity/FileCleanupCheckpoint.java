@@ -0,0 +1,90 @@
+package com.blog.backend.global.file.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고아 파일 정리 진행 위치 (체크포인트)
+ *
+ * 설계 의도:
+ * - storage_file을 ID 순서로 한 바퀴(pass) 도는 동안 마지막으로 커밋한 청크의 끝 ID를 기록
+ * - 실행 시간 상한에 걸리거나 중간에 실패해도 다음 실행이 이 위치부터 이어감
+ * - 한 바퀴의 끝 ID(boundaryFileId)를 시작 시점에 고정해 진행 중 업로드된 파일은 다음 바퀴로 미룸
+ * - 청크 삭제와 같은 트랜잭션에서 갱신되므로 "삭제됨 ↔ 체크포인트 이동"이 항상 함께 커밋됨
+ */
+@Entity
+@Table(name = "file_cleanup_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileCleanupCheckpoint {
+
+    /**
+     * 정리 작업 이름 (작업마다 행 1개)
+     */
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    /**
+     * 마지막으로 처리한 파일 ID (이 ID 초과부터 이어서 처리)
+     */
+    @Column(name = "last_file_id", nullable = false)
+    private long lastFileId;
+
+    /**
+     * 진행 중인 바퀴의 끝 파일 ID (null: 진행 중인 바퀴 없음)
+     */
+    @Column(name = "boundary_file_id")
+    private Long boundaryFileId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public FileCleanupCheckpoint(String name) {
+        this.name = name;
+        this.lastFileId = 0L;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // ========== 상태 확인 ========== //
+
+    public boolean isPassInProgress() {
+        return boundaryFileId != null;
+    }
+
+    // ========== 상태 변경 ========== //
+
+    /**
+     * 새 바퀴 시작
+     *
+     * @param boundaryFileId 이번 바퀴의 끝 파일 ID
+     */
+    public void startPass(long boundaryFileId) {
+        this.boundaryFileId = boundaryFileId;
+        this.lastFileId = 0L;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 청크 처리 완료 위치 기록
+     *
+     * @param lastFileId 처리한 청크의 마지막 파일 ID
+     */
+    public void advance(long lastFileId) {
+        this.lastFileId = lastFileId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 바퀴 종료 (다음 실행은 새 끝 ID로 처음부터 시작)
+     */
+    public void completePass() {
+        this.boundaryFileId = null;
+        this.lastFileId = 0L;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -15,10 +15,13 @@ import lombok.NoArgsConstructor;
  * 2. PostFile 중간 테이블을 통해 Post와 연결
  * 3. 고아 파일 판별: PostFile 테이블에 존재하지 않고 생성 후 24시간 경과한 파일
  * 4. 조회 최적화: Post.content에 URL 직접 포함 (JOIN 불필요)
+ * 5. 중복 제거: 내용(SHA-256)이 같은 업로드는 기존 S3 객체(path)를 공유하는 새 행으로 등록
+ *    → 행은 논리 파일, path는 물리 객체 (여러 행이 같은 path를 가질 수 있음)
  */
 @Entity
 @Table(name = "storage_file", indexes = {
-        @Index(name = "idx_created_at", columnList = "created_at") // 고아 파일 정리용
+        @Index(name = "idx_created_at", columnList = "created_at"), // 고아 파일 정리용
+        @Index(name = "idx_content_hash", columnList = "content_hash") // 중복 업로드 조회용
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -52,17 +55,25 @@ public class FileMetadata extends BaseTimeEntity {
     @Column(nullable = false)
     private Long size;
 
+    /**
+     * 내용 SHA-256 (16진수 소문자)
+     * - 서버를 거친 업로드만 계산 (Presigned 직접 업로드와 기존 행은 null → 중복 제거 대상 아님)
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 
     @Builder
     public FileMetadata(
             String originalName,
             String path,
             String contentType,
-            Long size
+            Long size,
+            String contentHash
     ) {
         this.originalName = originalName;
         this.path = path;
         this.contentType = contentType;
         this.size = size;
+        this.contentHash = contentHash;
     }
 }
\ No newline at end of file
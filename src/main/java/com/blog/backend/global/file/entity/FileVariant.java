@@ -0,0 +1,100 @@
+package com.blog.backend.global.file.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이미지 파생본 (리사이즈/포맷 변환본)
+ *
+ * 설계 의도:
+ * - 원본 S3 객체(sourcePath) 하나에 너비 × 포맷 조합별로 여러 행
+ * - 게시글 응답 조립 시 썸네일 경로로 바로 조회 (FileMetadata JOIN 불필요)
+ * - 중복 제거로 여러 FileMetadata가 같은 객체를 공유하므로 파생본도 경로 단위로 공유
+ * - 원본 객체가 실제로 삭제될 때 OrphanFileSweeper가 행과 S3 객체를 함께 정리
+ */
+@Entity
+@Table(name = "storage_file_variant",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_file_variant_path", columnNames = "path")
+        },
+        indexes = {
+                @Index(name = "idx_file_variant_source_path", columnList = "source_path")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileVariant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 파생본을 생성한 업로드의 파일 ID (참고용, 같은 객체를 공유하는 다른 행보다 먼저 삭제될 수 있음)
+     */
+    @Column(name = "file_id", nullable = false)
+    private Long fileId;
+
+    /**
+     * 원본 S3 경로
+     */
+    @Column(name = "source_path", nullable = false, length = 500)
+    private String sourcePath;
+
+    /**
+     * 파생본 너비 (px)
+     */
+    @Column(nullable = false)
+    private Integer width;
+
+    /**
+     * 파생본 높이 (px)
+     */
+    @Column(nullable = false)
+    private Integer height;
+
+    /**
+     * 이미지 포맷 (jpeg, png, webp)
+     */
+    @Column(nullable = false, length = 10)
+    private String format;
+
+    /**
+     * 파생본 S3 경로 (버킷 제외)
+     */
+    @Column(nullable = false, length = 500)
+    private String path;
+
+    /**
+     * 파일 크기 (bytes)
+     */
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public FileVariant(
+            Long fileId,
+            String sourcePath,
+            Integer width,
+            Integer height,
+            String format,
+            String path,
+            Long size
+    ) {
+        this.fileId = fileId;
+        this.sourcePath = sourcePath;
+        this.width = width;
+        this.height = height;
+        this.format = format;
+        this.path = path;
+        this.size = size;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,18 @@
+package com.blog.backend.global.file.event;
+
+/**
+ * 파일 업로드 등록 이벤트
+ *
+ * FileMetadata 저장 트랜잭션에서 발행되며, 리스너는 커밋 이후(AFTER_COMMIT)에 처리합니다.
+ * 이미지 파생본 생성처럼 업로드 응답과 무관한 후처리의 시작점입니다.
+ *
+ * @param fileId 저장된 파일 ID
+ * @param path S3 경로
+ * @param contentType MIME 타입
+ */
+public record FileUploadedEvent(
+        Long fileId,
+        String path,
+        String contentType
+) {
+}
@@ -0,0 +1,16 @@
+package com.blog.backend.global.file.event;
+
+/**
+ * 이미지 파생본 생성 완료 이벤트
+ *
+ * 파생본 행이 커밋된 뒤 작업 스레드에서 발행됩니다.
+ * 이 이미지를 썸네일로 쓰는 게시글 응답 캐시가 파생본 목록을 다시 읽도록 무효화하는 데 사용합니다.
+ *
+ * @param fileId 원본 파일 ID
+ * @param sourcePath 원본 S3 경로
+ */
+public record ImageVariantsCreatedEvent(
+        Long fileId,
+        String sourcePath
+) {
+}
@@ -0,0 +1,440 @@
+package com.blog.backend.global.file.image;
+
+import com.blog.backend.global.file.entity.FileVariant;
+import com.blog.backend.global.file.event.FileUploadedEvent;
+import com.blog.backend.global.file.event.ImageVariantsCreatedEvent;
+import com.blog.backend.global.file.service.FileVariantService;
+import com.blog.backend.infra.s3.service.S3Service;
+import com.blog.backend.infra.s3.util.S3KeyGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 파생본 생성 파이프라인
+ *
+ * 업로드된 이미지를 한 번만 디코딩해 고정된 너비 목록의 축소본(과 WebP 변환본)을 만들어 S3에 저장.
+ * - 업로드 등록 트랜잭션 커밋 이후(FileUploadedEvent) 전용 스레드 풀에 넘기고 바로 반환 (업로드 응답을 붙잡지 않음)
+ * - 원본은 S3에서 다시 읽음: 멀티파트 임시 파일은 요청이 끝나면 사라지고, Presigned 업로드는 서버를 거치지 않기 때문
+ * - 스레드 수와 대기열 길이가 고정: 가득 차면 해당 업로드는 파생본 없이 원본만 사용 (업로드 자체는 실패하지 않음)
+ * - 큰 이미지는 가장 큰 대상 너비의 2배 이상을 유지하는 선에서 디코딩 단계에서 서브샘플링해 힙 사용량을 줄임
+ * - 큰 너비부터 순서대로 직전 결과를 다시 줄여 만들고, 한 단계에 절반 이하로는 줄이지 않음 (품질 유지)
+ * - 원본보다 작은 너비만 생성 (확대하지 않음), GIF(애니메이션)/SVG(벡터)는 대상이 아님
+ *
+ * 포맷:
+ * - 투명도가 없으면 JPEG, 있으면 PNG
+ * - 실행 환경에 WebP ImageIO 인코더가 등록되어 있으면 같은 너비의 WebP도 생성
+ *
+ * 완료 후:
+ * - 파생본 행 저장 → ImageVariantsCreatedEvent 발행
+ *   (이 이미지를 쓰는 게시글이 있을 때만 구독자가 상세 캐시/ETag를 무효화, 업로드 직후 미연결 이미지는 영향 없음)
+ * - 중간에 실패하면 이미 올린 파생본 객체를 삭제하고 행은 저장하지 않음
+ *
+ * 동시성:
+ * - 파생본 키는 원본 경로로 정해지므로 같은 원본 경로에는 한 번에 하나의 작업만 등록
+ *   (중복 제거로 같은 객체를 재사용한 업로드가 연달아 들어와도 같은 키를 두 작업이 쓰지 않음)
+ * - 실패 시 같은 원본의 파생본 행이 이미 커밋되어 있으면(유니크 제약 위반 포함) 객체를 지우지 않음
+ */
+@Slf4j
+@Component
+public class ImageDerivativePipeline {
+
+    /**
+     * 파생본 대상이 아닌 이미지 타입
+     */
+    private static final Set<String> SKIPPED_CONTENT_TYPES = Set.of("image/gif", "image/svg+xml");
+
+    private final S3Service s3Service;
+    private final S3KeyGenerator s3KeyGenerator;
+    private final FileVariantService fileVariantService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean enabled;
+    private final int[] widths;
+    private final long maxDecodedPixels;
+    private final List<ImageFormat> extraFormats;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 대기 중이거나 처리 중인 원본 경로
+     */
+    private final Set<String> inFlightPaths = ConcurrentHashMap.newKeySet();
+
+    public ImageDerivativePipeline(
+            S3Service s3Service,
+            S3KeyGenerator s3KeyGenerator,
+            FileVariantService fileVariantService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.image-variants.enabled:true}") boolean enabled,
+            @Value("${app.image-variants.widths:320,640,1280}") int[] widths,
+            @Value("${app.image-variants.threads:2}") int threads,
+            @Value("${app.image-variants.queue-capacity:100}") int queueCapacity,
+            @Value("${app.image-variants.max-decoded-megapixels:40}") long maxDecodedMegapixels
+    ) {
+        this.s3Service = s3Service;
+        this.s3KeyGenerator = s3KeyGenerator;
+        this.fileVariantService = fileVariantService;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        // 큰 너비부터 처리 (직전 결과를 다시 줄여 사용)
+        this.widths = Arrays.stream(widths).filter(width -> width > 0).distinct()
+                .boxed().sorted((a, b) -> b - a).mapToInt(Integer::intValue).toArray();
+        this.maxDecodedPixels = maxDecodedMegapixels * 1_000_000;
+        this.extraFormats = ImageFormat.WEBP.isWritable() ? List.of(ImageFormat.WEBP) : List.of();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new VariantThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        log.info("이미지 파생본 파이프라인 초기화 - 활성화: {}, 너비: {}, 스레드: {}, 대기열: {}, WebP: {}",
+                enabled, Arrays.toString(this.widths), threads, queueCapacity, !extraFormats.isEmpty());
+    }
+
+    // ========== 작업 등록 ========== //
+
+    /**
+     * 업로드 등록 커밋 이후 파생본 생성 작업 등록
+     * - 같은 원본 경로의 작업이 이미 대기/처리 중이면 등록하지 않음
+     * - 대기열이 가득 차면 버리고 경고만 남김 (게시글 응답은 원본 경로로 동작)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFileUploaded(FileUploadedEvent event) {
+        if (!enabled || widths.length == 0 || !isSupported(event.contentType())) {
+            return;
+        }
+
+        if (!inFlightPaths.add(event.path())) {
+            log.debug("같은 원본의 파생본 작업이 진행 중이라 생략: fileId={}, path={}", event.fileId(), event.path());
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    process(event);
+                } finally {
+                    inFlightPaths.remove(event.path());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightPaths.remove(event.path());
+            log.warn("이미지 파생본 대기열 포화로 생성 생략: fileId={}, path={}, queued={}",
+                    event.fileId(), event.path(), executor.getQueue().size());
+        }
+    }
+
+    // ========== 파생본 생성 ========== //
+
+    private void process(FileUploadedEvent event) {
+        long startedAt = System.currentTimeMillis();
+        List<String> uploadedKeys = new ArrayList<>();
+
+        try {
+            // 중복 제거로 기존 객체를 재사용한 업로드는 이미 파생본이 있음
+            if (fileVariantService.hasVariants(event.path())) {
+                return;
+            }
+
+            DecodedImage source = decode(event.path());
+            if (source == null) {
+                return;
+            }
+
+            ImageFormat baseFormat = source.image().getColorModel().hasAlpha() ? ImageFormat.PNG : ImageFormat.JPEG;
+            List<FileVariant> variants = new ArrayList<>();
+            BufferedImage current = source.image();
+
+            for (int width : widths) {
+                if (width >= source.originalWidth()) {
+                    continue;
+                }
+
+                current = scaleDown(current, width, source.scaledHeight(width), baseFormat.supportsAlpha());
+
+                variants.add(store(event, current, baseFormat, uploadedKeys));
+                for (ImageFormat format : extraFormats) {
+                    variants.add(store(event, current, format, uploadedKeys));
+                }
+            }
+
+            fileVariantService.saveVariants(variants);
+            eventPublisher.publishEvent(new ImageVariantsCreatedEvent(event.fileId(), event.path()));
+
+            log.info("이미지 파생본 생성 완료: fileId={}, original={}x{}, variants={}, elapsed={}ms",
+                    event.fileId(), source.originalWidth(), source.originalHeight(), variants.size(),
+                    System.currentTimeMillis() - startedAt);
+
+        } catch (Exception e) {
+            log.error("이미지 파생본 생성 실패: fileId={}, path={}, error={}", event.fileId(), event.path(), e.getMessage(), e);
+            if (!uploadedKeys.isEmpty() && !isVariantsCommitted(event.path(), e)) {
+                s3Service.deleteFiles(uploadedKeys);
+            }
+        }
+    }
+
+    /**
+     * 실패한 작업의 키를 이미 커밋된 파생본 행이 가리키는지 확인
+     * - 유니크 제약 위반이면 다른 작업이 같은 키로 먼저 저장한 것
+     * - 확인 자체가 실패하면 지우지 않음 (고아 객체가 남는 편이 깨진 URL보다 나음)
+     */
+    private boolean isVariantsCommitted(String sourcePath, Exception cause) {
+        if (cause instanceof DataIntegrityViolationException) {
+            return true;
+        }
+
+        try {
+            return fileVariantService.hasVariants(sourcePath);
+        } catch (Exception e) {
+            log.warn("파생본 존재 확인 실패, 업로드한 객체 유지: path={}, error={}", sourcePath, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 원본 디코딩 (헤더로 크기를 먼저 읽고 필요한 만큼만 서브샘플링)
+     *
+     * @return 대상 너비보다 작거나 읽을 수 없는 이미지면 null
+     */
+    private DecodedImage decode(String path) throws IOException {
+        try (InputStream input = s3Service.getFileStream(path);
+             ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+
+            Iterator<ImageReader> readers = imageInput != null ? ImageIO.getImageReaders(imageInput) : null;
+            if (readers == null || !readers.hasNext()) {
+                log.debug("이미지 디코더 없음, 파생본 생략: path={}", path);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                int largestTarget = Arrays.stream(widths).filter(target -> target < width).max().orElse(0);
+                if (largestTarget == 0) {
+                    log.debug("원본이 대상 너비보다 작아 파생본 생략: path={}, width={}", path, width);
+                    return null;
+                }
+
+                int subsampling = Math.max(1, width / (largestTarget * 2));
+                long decodedPixels = (long) (width / subsampling) * (height / subsampling);
+                if (decodedPixels > maxDecodedPixels) {
+                    log.warn("디코딩 픽셀 수 상한 초과로 파생본 생략: path={}, size={}x{}, subsampling={}",
+                            path, width, height, subsampling);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return new DecodedImage(reader.read(0, param), width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 인코딩 후 S3 업로드, 저장할 파생본 행 반환
+     */
+    private FileVariant store(
+            FileUploadedEvent event,
+            BufferedImage image,
+            ImageFormat format,
+            List<String> uploadedKeys
+    ) throws IOException {
+        byte[] content = format.encode(image);
+        String key = s3KeyGenerator.generateVariantKey(event.path(), image.getWidth(), format.extension());
+
+        s3Service.uploadDerivedFile(key, content, format.contentType());
+        uploadedKeys.add(key);
+
+        return FileVariant.builder()
+                .fileId(event.fileId())
+                .sourcePath(event.path())
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .format(format.formatName())
+                .path(key)
+                .size((long) content.length)
+                .build();
+    }
+
+    /**
+     * 목표 크기까지 단계적으로 축소 (한 단계에 최대 절반, 쌍선형 보간)
+     */
+    private static BufferedImage scaleDown(BufferedImage source, int targetWidth, int targetHeight, boolean alpha) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+
+            BufferedImage scaled = new BufferedImage(width, height,
+                    alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        } while (width != targetWidth);
+
+        return current;
+    }
+
+    private static boolean isSupported(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+
+        String normalized = contentType.toLowerCase(Locale.ROOT);
+        return normalized.startsWith("image/") && !SKIPPED_CONTENT_TYPES.contains(normalized);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // ========== 내부 타입 ========== //
+
+    /**
+     * 디코딩된 원본 (서브샘플링된 이미지 + 원래 크기)
+     */
+    private record DecodedImage(BufferedImage image, int originalWidth, int originalHeight) {
+
+        /**
+         * 원본 비율을 유지한 높이
+         */
+        int scaledHeight(int width) {
+            return Math.max(1, (int) Math.round((double) originalHeight * width / originalWidth));
+        }
+    }
+
+    /**
+     * 파생본 출력 포맷 (quality: 손실 압축 품질, 무손실 포맷은 null)
+     */
+    private enum ImageFormat {
+        JPEG("jpeg", "jpg", "image/jpeg", 0.82f, false),
+        PNG("png", "png", "image/png", null, true),
+        WEBP("webp", "webp", "image/webp", 0.8f, true);
+
+        private final String formatName;
+        private final String extension;
+        private final String contentType;
+        private final Float quality;
+        private final boolean supportsAlpha;
+
+        ImageFormat(String formatName, String extension, String contentType, Float quality, boolean supportsAlpha) {
+            this.formatName = formatName;
+            this.extension = extension;
+            this.contentType = contentType;
+            this.quality = quality;
+            this.supportsAlpha = supportsAlpha;
+        }
+
+        String formatName() {
+            return formatName;
+        }
+
+        String extension() {
+            return extension;
+        }
+
+        String contentType() {
+            return contentType;
+        }
+
+        boolean supportsAlpha() {
+            return supportsAlpha;
+        }
+
+        boolean isWritable() {
+            return ImageIO.getImageWritersByFormatName(formatName).hasNext();
+        }
+
+        byte[] encode(BufferedImage image) throws IOException {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName(formatName).next();
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+                writer.setOutput(imageOutput);
+
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if (quality != null && param.canWriteCompressed()) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+                        param.setCompressionType(param.getCompressionTypes()[0]);
+                    }
+                    param.setCompressionQuality(quality);
+                }
+
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+
+            return output.toByteArray();
+        }
+    }
+
+    /**
+     * 스레드 이름: image-variant-N
+     */
+    private static class VariantThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.blog.backend.global.file.repository;
+
+import com.blog.backend.global.file.entity.FileCleanupCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 고아 파일 정리 체크포인트 Repository
+ */
+public interface FileCleanupCheckpointRepository extends JpaRepository<FileCleanupCheckpoint, String> {
+}
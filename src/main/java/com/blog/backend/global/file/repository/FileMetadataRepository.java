@@ -1,13 +1,18 @@
 package com.blog.backend.global.file.repository;
 
+import com.blog.backend.global.file.dto.FilePathReferenceCount;
 import com.blog.backend.global.file.entity.FileMetadata;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
 /**
  * 파일 메타데이터 Repository
@@ -15,55 +20,32 @@ import java.util.Set;
 public interface FileMetadataRepository extends JpaRepository<FileMetadata, Long> {
 
     /**
-     * 고아 파일 조회 (최적화된 쿼리)
+     * 정리 대상 구간의 끝 ID (기준 시간 이전에 생성된 파일 중 최대 ID)
+     * - ID는 생성 순서대로 증가하므로 이 ID 이하만 순회하면 기준 시간 이후 파일을 건너뜀
+     * - idx_created_at 인덱스 사용
      *
-     * 고아 파일 판별 기준:
-     * 1. PostFile 테이블에 존재하지 않음 (어떤 게시글에도 연결되지 않음)
-     * 2. 생성 시간이 기준 시간(예: 현재 - 24시간) 이전
-     *
-     * 성능 최적화:
-     * - NOT EXISTS 사용으로 인덱스 활용
-     * - 서브쿼리는 매칭되는 행만 확인 (전체 스캔 방지)
-     *
-     * @param thresholdTime 기준 시간 (이 시간 이전에 생성된 파일)
-     * @return 삭제 대상 고아 파일 목록
-     * @deprecated 합집합-차집합 전략으로 대체됨. findUnusedFiles() 사용 권장
+     * @param thresholdTime 기준 시간
+     * @return 최대 ID (대상 파일이 없으면 null)
      */
-    @Deprecated
-    @Query("SELECT f FROM FileMetadata f " +
-            "WHERE f.createdAt < :thresholdTime " +
-            "AND NOT EXISTS (" +
-            "   SELECT 1 FROM PostFile pf WHERE pf.fileId = f.id" +
-            ")")
-    List<FileMetadata> findOrphanFiles(@Param("thresholdTime") LocalDateTime thresholdTime);
+    @Query("SELECT MAX(f.id) FROM FileMetadata f WHERE f.createdAt < :thresholdTime")
+    Long findMaxIdCreatedBefore(@Param("thresholdTime") LocalDateTime thresholdTime);
 
     /**
-     * 사용되지 않는 파일 조회 (합집합-차집합 전략)
-     *
-     * 동작 방식:
-     * 1. 모든 도메인에서 "사용 중인 파일 ID" 수집 (PostFile, UserFile 등)
-     * 2. 수집된 ID들을 합집합으로 생성
-     * 3. 전체 파일 중 합집합에 포함되지 않은 파일 조회
-     *
-     * 장점:
-     * - 확장성: 새로운 중간 테이블 추가 시 쿼리 수정 불필요
-     * - 명확성: "사용 중"의 정의가 명확함
-     * - 안전성: 빈 Set 체크로 실수 방지
+     * 키셋 청크 조회 (고아 파일 정리용)
+     * - PK 범위 스캔이므로 진행 위치와 무관하게 청크당 비용이 일정 (OFFSET 미사용)
      *
-     * 주의사항:
-     * - usedFileIds가 빈 Set이면 모든 파일이 반환되므로 호출 전 체크 필수
-     * - usedFileIds가 1000개 이상이면 분할 처리 권장 (IN 절 제한)
-     *
-     * @param usedFileIds 사용 중인 파일 ID 집합 (빈 Set이면 안 됨)
-     * @param thresholdTime 기준 시간 (이 시간 이전에 생성된 파일만 대상)
-     * @return 사용되지 않는 파일 목록
+     * @param afterId 직전 청크의 마지막 ID (이 ID 초과부터)
+     * @param maxId 정리 대상 구간의 끝 ID (포함)
+     * @param pageable 청크 크기 (첫 페이지만 사용)
+     * @return ID 오름차순 파일 목록
      */
     @Query("SELECT f FROM FileMetadata f " +
-            "WHERE f.createdAt < :thresholdTime " +
-            "AND f.id NOT IN :usedFileIds")
-    List<FileMetadata> findUnusedFiles(
-            @Param("usedFileIds") Set<Long> usedFileIds,
-            @Param("thresholdTime") LocalDateTime thresholdTime
+            "WHERE f.id > :afterId AND f.id <= :maxId " +
+            "ORDER BY f.id ASC")
+    List<FileMetadata> findChunkAfter(
+            @Param("afterId") long afterId,
+            @Param("maxId") long maxId,
+            Pageable pageable
     );
 
     /**
@@ -82,4 +64,40 @@ public interface FileMetadataRepository extends JpaRepository<FileMetadata, Long
      */
     @Query("SELECT COUNT(f) FROM FileMetadata f WHERE f.id IN :fileIds")
     long countByIdIn(@Param("fileIds") List<Long> fileIds);
+
+    /**
+     * S3 경로로 등록된 파일 존재 여부 확인
+     * - Presigned 업로드 완료 처리 중복 방지
+     *
+     * @param path S3 경로
+     * @return 존재 여부
+     */
+    boolean existsByPath(String path);
+
+    /**
+     * 같은 내용의 기존 파일 조회 (중복 업로드 재사용)
+     * - 가장 최근 행의 객체를 재사용 (고아 정리 대상일 가능성이 가장 낮음)
+     * - 쓰기 잠금(SELECT ... FOR UPDATE): 고아 정리의 행 삭제와 직렬화되어,
+     *   정리가 먼저면 삭제 커밋 이후 행을 찾지 못하고, 업로드가 먼저면 정리의 삭제가 업로드 커밋까지 기다림
+     * - idx_content_hash 인덱스 사용 (잠금 범위가 같은 해시 행으로 한정)
+     *
+     * @param contentHash 내용 SHA-256
+     * @param size 파일 크기 (해시와 함께 비교)
+     * @return 같은 내용의 파일
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<FileMetadata> findFirstByContentHashAndSizeOrderByIdDesc(String contentHash, Long size);
+
+    /**
+     * S3 경로별 참조 행 수 조회
+     * - 정리 대상 행 수와 비교해 다른 행이 아직 참조하는 객체를 판별
+     *
+     * @param paths S3 경로 목록
+     * @return 경로별 행 수
+     */
+    @Query("SELECT new com.blog.backend.global.file.dto.FilePathReferenceCount(f.path, COUNT(f)) " +
+            "FROM FileMetadata f " +
+            "WHERE f.path IN :paths " +
+            "GROUP BY f.path")
+    List<FilePathReferenceCount> countReferencesByPathIn(@Param("paths") Collection<String> paths);
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.blog.backend.global.file.repository;
+
+import com.blog.backend.global.file.entity.FileVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이미지 파생본 Repository
+ */
+public interface FileVariantRepository extends JpaRepository<FileVariant, Long> {
+
+    /**
+     * 원본 S3 경로 목록으로 파생본 조회 (게시글 썸네일 파생본 일괄 조회)
+     *
+     * @param sourcePaths 원본 S3 경로 목록
+     * @return 파생본 목록 (너비 오름차순)
+     */
+    @Query("SELECT v FROM FileVariant v WHERE v.sourcePath IN :sourcePaths ORDER BY v.width ASC, v.format ASC")
+    List<FileVariant> findBySourcePathIn(@Param("sourcePaths") Collection<String> sourcePaths);
+
+    /**
+     * 원본 S3 경로 목록으로 파생본 S3 경로 조회 (파일 정리용)
+     *
+     * @param sourcePaths 원본 S3 경로 목록
+     * @return 파생본 S3 경로 목록
+     */
+    @Query("SELECT v.path FROM FileVariant v WHERE v.sourcePath IN :sourcePaths")
+    List<String> findPathsBySourcePathIn(@Param("sourcePaths") Collection<String> sourcePaths);
+
+    /**
+     * 원본 객체의 파생본 존재 여부 (중복 생성 방지)
+     *
+     * @param sourcePath 원본 S3 경로
+     * @return 존재 여부
+     */
+    boolean existsBySourcePath(String sourcePath);
+
+    /**
+     * 원본 S3 경로 목록으로 파생본 벌크 삭제
+     *
+     * @param sourcePaths 원본 S3 경로 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM FileVariant v WHERE v.sourcePath IN :sourcePaths")
+    int deleteBySourcePathIn(@Param("sourcePaths") Collection<String> sourcePaths);
+}
@@ -3,8 +3,10 @@ package com.blog.backend.global.file.service;
 import com.blog.backend.global.file.entity.FileMetadata;
 import com.blog.backend.infra.s3.dto.S3UploadResult;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * 파일 메타데이터 관리 서비스
@@ -56,25 +58,50 @@ public interface FileMetadataService {
     void validateFilesExist(List<Long> fileIds);
 
     /**
-     * 고아 파일(매핑 테이블에 존재하지 않고 생성 후 일정 시간 경과)을 조회합니다.
+     * S3 경로로 이미 등록된 파일이 있는지 확인합니다.
      *
-     * @param hoursThreshold 기준 시간 (예: 24시간)
-     * @return 고아 파일 목록
+     * @param path S3 경로
+     * @return 존재 여부
+     */
+    boolean existsByPath(String path);
+
+    /**
+     * 같은 내용(SHA-256, 크기)으로 이미 저장된 파일을 조회합니다.
+     * 조회한 행을 쓰기 잠금하므로, 업로드 트랜잭션 안에서 호출해야 새 행 저장(커밋)까지 고아 정리의 삭제를 막습니다.
+     *
+     * @param contentHash 내용 SHA-256
+     * @param size 파일 크기 (bytes)
+     * @return 재사용할 기존 파일 (없으면 empty)
      */
-    List<FileMetadata> findOrphanFiles(int hoursThreshold);
+    Optional<FileMetadata> findByContent(String contentHash, long size);
 
     /**
-     * 사용되지 않는 파일을 조회합니다 (합집합-차집합 전략)
+     * S3 경로별로 이를 참조하는 메타데이터 행 수를 조회합니다.
+     * 중복 제거로 여러 행이 같은 객체를 공유하므로, 객체 삭제 전 남은 참조를 확인하는 데 사용합니다.
      *
-     * 동작 방식:
-     * 1. 모든 도메인에서 수집한 "사용 중인 파일 ID" 합집합을 받음
-     * 2. 전체 파일 중 합집합에 포함되지 않은 파일 조회
+     * @param paths S3 경로 목록
+     * @return 경로 → 참조 행 수 (행이 없는 경로는 제외)
+     */
+    Map<String, Long> countReferencesByPath(Collection<String> paths);
+
+    /**
+     * 고아 파일 정리 대상 구간의 끝 ID를 조회합니다.
+     * 정리 한 바퀴(pass)는 이 ID까지만 순회하므로, 진행 중에 새로 업로드된 파일은 대상에서 빠집니다.
      *
-     * @param usedFileIds 사용 중인 파일 ID 집합 (빈 Set이면 안 됨)
      * @param hoursThreshold 기준 시간 (예: 24시간)
-     * @return 사용되지 않는 파일 목록
+     * @return 기준 시간 이전에 생성된 파일 중 최대 ID (없으면 empty)
+     */
+    Optional<Long> findCleanupBoundaryId(int hoursThreshold);
+
+    /**
+     * 키셋 방식으로 정리 대상 파일 청크를 조회합니다.
+     *
+     * @param afterId 직전 청크의 마지막 ID (처음이면 0)
+     * @param boundaryId 정리 대상 구간의 끝 ID (포함)
+     * @param chunkSize 청크 크기
+     * @return ID 오름차순 파일 목록 (비어 있으면 구간 끝)
      */
-    List<FileMetadata> findUnusedFiles(Set<Long> usedFileIds, int hoursThreshold);
+    List<FileMetadata> findCleanupChunk(long afterId, long boundaryId, int chunkSize);
 
     /**
      * 여러 파일 메타데이터를 벌크로 삭제합니다.
@@ -1,17 +1,24 @@
 package com.blog.backend.global.file.service;
 
+import com.blog.backend.global.file.dto.FilePathReferenceCount;
 import com.blog.backend.global.file.entity.FileMetadata;
+import com.blog.backend.global.file.event.FileUploadedEvent;
 import com.blog.backend.global.file.repository.FileMetadataRepository;
 import com.blog.backend.global.core.exception.CustomException;
 import com.blog.backend.infra.s3.dto.S3UploadResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
@@ -22,6 +29,7 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
  * - 순수 메타데이터 CRUD만 담당
  * - S3 업로드/삭제는 호출하지 않음 (비즈니스 로직에서 처리)
  * - 트랜잭션은 상위 레이어에서 관리
+ * - 저장 시 FileUploadedEvent 발행 (파생본 생성 등 후처리는 커밋 이후 리스너가 담당)
  */
 @Slf4j
 @Service
@@ -30,6 +38,7 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 public class FileMetadataServiceImpl implements FileMetadataService {
 
     private final FileMetadataRepository fileMetadataRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -39,11 +48,14 @@ public class FileMetadataServiceImpl implements FileMetadataService {
                 .path(uploadResult.path())
                 .contentType(uploadResult.contentType())
                 .size(uploadResult.fileSize())
+                .contentHash(uploadResult.contentHash())
                 .build();
 
         FileMetadata saved = fileMetadataRepository.save(fileMetadata);
         log.info("파일 메타데이터 저장 완료: fileId={}, path={}", saved.getId(), saved.getPath());
 
+        eventPublisher.publishEvent(new FileUploadedEvent(saved.getId(), saved.getPath(), saved.getContentType()));
+
         return saved;
     }
 
@@ -92,33 +104,49 @@ public class FileMetadataServiceImpl implements FileMetadataService {
     }
 
     @Override
-    public List<FileMetadata> findOrphanFiles(int hoursThreshold) {
-        LocalDateTime thresholdTime = LocalDateTime.now().minusHours(hoursThreshold);
-        List<FileMetadata> orphanFiles = fileMetadataRepository.findOrphanFiles(thresholdTime);
-
-        log.info("고아 파일 조회 완료: 기준={}시간 전, 개수={}", hoursThreshold, orphanFiles.size());
-        return orphanFiles;
+    public boolean existsByPath(String path) {
+        return fileMetadataRepository.existsByPath(path);
     }
 
+    @Override
+    @Transactional
+    public Optional<FileMetadata> findByContent(String contentHash, long size) {
+        if (contentHash == null) {
+            return Optional.empty();
+        }
+
+        return fileMetadataRepository.findFirstByContentHashAndSizeOrderByIdDesc(contentHash, size);
+    }
 
     @Override
-    public List<FileMetadata> findUnusedFiles(Set<Long> usedFileIds, int hoursThreshold) {
-        if (usedFileIds == null || usedFileIds.isEmpty()) {
-            log.warn("사용 중인 파일 ID 집합이 비어있음 - 모든 파일이 반환될 수 있어 안전을 위해 빈 목록 반환");
-            return List.of();
+    public Map<String, Long> countReferencesByPath(Collection<String> paths) {
+        if (paths == null || paths.isEmpty()) {
+            return Map.of();
         }
 
-        LocalDateTime thresholdTime = LocalDateTime.now().minusHours(hoursThreshold);
+        // IN 절 제한 고려: 1000개씩 분할 조회
+        List<String> pathList = List.copyOf(paths);
+        Map<String, Long> counts = new HashMap<>();
 
-        // IN 절 제한 고려: 1000개씩 분할 처리
-        if (usedFileIds.size() > 1000) {
-            log.info("사용 중인 파일 ID가 1000개 초과: size={}, 분할 처리 시작", usedFileIds.size());
-            return findUnusedFilesInBatches(usedFileIds, thresholdTime, hoursThreshold);
+        for (int i = 0; i < pathList.size(); i += 1000) {
+            List<String> batch = pathList.subList(i, Math.min(i + 1000, pathList.size()));
+            for (FilePathReferenceCount row : fileMetadataRepository.countReferencesByPathIn(batch)) {
+                counts.put(row.path(), row.referenceCount());
+            }
         }
 
-        List<FileMetadata> unusedFiles = fileMetadataRepository.findUnusedFiles(usedFileIds, thresholdTime);
-        log.info("사용되지 않는 파일 조회 완료: 기준={}시간 전, 개수={}", hoursThreshold, unusedFiles.size());
-        return unusedFiles;
+        return counts;
+    }
+
+    @Override
+    public Optional<Long> findCleanupBoundaryId(int hoursThreshold) {
+        LocalDateTime thresholdTime = LocalDateTime.now().minusHours(hoursThreshold);
+        return Optional.ofNullable(fileMetadataRepository.findMaxIdCreatedBefore(thresholdTime));
+    }
+
+    @Override
+    public List<FileMetadata> findCleanupChunk(long afterId, long boundaryId, int chunkSize) {
+        return fileMetadataRepository.findChunkAfter(afterId, boundaryId, PageRequest.of(0, chunkSize));
     }
 
     @Override
@@ -129,36 +157,8 @@ public class FileMetadataServiceImpl implements FileMetadataService {
             return;
         }
 
-        fileMetadataRepository.deleteAllById(fileIds);
+        // 단일 DELETE ... WHERE id IN (...) (deleteAllById는 행마다 SELECT + DELETE)
+        fileMetadataRepository.deleteAllByIdInBatch(fileIds);
         log.info("파일 메타데이터 벌크 삭제 완료: count={}", fileIds.size());
     }
-
-    /**
-     * 사용 중인 파일 ID가 1000개 초과 시 분할 처리
-     */
-    private List<FileMetadata> findUnusedFilesInBatches(
-            Set<Long> usedFileIds,
-            LocalDateTime thresholdTime,
-            int hoursThreshold
-    ) {
-        List<Long> usedFileIdList = List.copyOf(usedFileIds);
-        List<FileMetadata> allUnusedFiles = new java.util.ArrayList<>();
-
-        int batchSize = 1000;
-        for (int i = 0; i < usedFileIdList.size(); i += batchSize) {
-            int endIndex = Math.min(i + batchSize, usedFileIdList.size());
-            Set<Long> batch = Set.copyOf(usedFileIdList.subList(i, endIndex));
-
-            List<FileMetadata> batchUnusedFiles = fileMetadataRepository.findUnusedFiles(batch, thresholdTime);
-            allUnusedFiles.addAll(batchUnusedFiles);
-
-            log.info("분할 조회 진행 중: batch={}/{}, 현재까지 누적={}",
-                    (i / batchSize) + 1,
-                    (usedFileIdList.size() + batchSize - 1) / batchSize,
-                    allUnusedFiles.size());
-        }
-
-        log.info("분할 조회 완료: 기준={}시간 전, 전체 개수={}", hoursThreshold, allUnusedFiles.size());
-        return allUnusedFiles;
-    }
 }
\ No newline at end of file
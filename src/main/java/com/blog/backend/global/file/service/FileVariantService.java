@@ -0,0 +1,63 @@
+package com.blog.backend.global.file.service;
+
+import com.blog.backend.global.file.dto.ImageVariantResponse;
+import com.blog.backend.global.file.entity.FileVariant;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지 파생본 메타데이터 관리 서비스
+ *
+ * 역할:
+ * - 파생본 행 저장/조회/삭제만 수행 (이미지 처리와 S3 전송은 ImageDerivativePipeline)
+ */
+public interface FileVariantService {
+
+    /**
+     * 파생본 목록을 저장합니다.
+     *
+     * @param variants 저장할 파생본 목록
+     */
+    void saveVariants(List<FileVariant> variants);
+
+    /**
+     * 원본 객체에 이미 파생본이 있는지 확인합니다.
+     *
+     * @param sourcePath 원본 S3 경로
+     * @return 존재 여부
+     */
+    boolean hasVariants(String sourcePath);
+
+    /**
+     * 원본 S3 경로별 파생본 목록을 일괄 조회합니다.
+     *
+     * @param sourcePaths 원본 S3 경로 목록 (null 포함 가능)
+     * @return 원본 경로 → 파생본 목록 (너비 오름차순, 파생본이 없는 경로는 제외)
+     */
+    Map<String, List<ImageVariantResponse>> getVariantsBySourcePaths(Collection<String> sourcePaths);
+
+    /**
+     * 원본 S3 경로 하나의 파생본 목록을 조회합니다.
+     *
+     * @param sourcePath 원본 S3 경로 (null 가능)
+     * @return 파생본 목록 (없으면 빈 목록)
+     */
+    List<ImageVariantResponse> getVariants(String sourcePath);
+
+    /**
+     * 원본 S3 경로 목록의 파생본 S3 경로를 조회합니다.
+     *
+     * @param sourcePaths 원본 S3 경로 목록
+     * @return 파생본 S3 경로 목록
+     */
+    List<String> getVariantPaths(Collection<String> sourcePaths);
+
+    /**
+     * 원본 S3 경로 목록의 파생본 행을 벌크로 삭제합니다.
+     *
+     * @param sourcePaths 원본 S3 경로 목록
+     */
+    void deleteBySourcePaths(Collection<String> sourcePaths);
+}
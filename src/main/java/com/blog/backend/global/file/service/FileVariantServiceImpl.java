@@ -0,0 +1,92 @@
+package com.blog.backend.global.file.service;
+
+import com.blog.backend.global.file.dto.ImageVariantResponse;
+import com.blog.backend.global.file.entity.FileVariant;
+import com.blog.backend.global.file.repository.FileVariantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 파생본 메타데이터 관리 서비스 구현체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FileVariantServiceImpl implements FileVariantService {
+
+    private final FileVariantRepository fileVariantRepository;
+
+    @Override
+    @Transactional
+    public void saveVariants(List<FileVariant> variants) {
+        if (variants.isEmpty()) {
+            return;
+        }
+
+        fileVariantRepository.saveAll(variants);
+        log.info("이미지 파생본 저장 완료: fileId={}, count={}", variants.get(0).getFileId(), variants.size());
+    }
+
+    @Override
+    public boolean hasVariants(String sourcePath) {
+        return fileVariantRepository.existsBySourcePath(sourcePath);
+    }
+
+    @Override
+    public Map<String, List<ImageVariantResponse>> getVariantsBySourcePaths(Collection<String> sourcePaths) {
+        Set<String> paths = sourcePaths.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (paths.isEmpty()) {
+            return Map.of();
+        }
+
+        return fileVariantRepository.findBySourcePathIn(paths).stream()
+                .collect(Collectors.groupingBy(
+                        FileVariant::getSourcePath,
+                        LinkedHashMap::new,
+                        Collectors.mapping(ImageVariantResponse::from, Collectors.toList())
+                ));
+    }
+
+    @Override
+    public List<ImageVariantResponse> getVariants(String sourcePath) {
+        if (sourcePath == null) {
+            return List.of();
+        }
+
+        return getVariantsBySourcePaths(List.of(sourcePath)).getOrDefault(sourcePath, List.of());
+    }
+
+    @Override
+    public List<String> getVariantPaths(Collection<String> sourcePaths) {
+        if (sourcePaths == null || sourcePaths.isEmpty()) {
+            return List.of();
+        }
+
+        return fileVariantRepository.findPathsBySourcePathIn(sourcePaths);
+    }
+
+    @Override
+    @Transactional
+    public void deleteBySourcePaths(Collection<String> sourcePaths) {
+        if (sourcePaths == null || sourcePaths.isEmpty()) {
+            return;
+        }
+
+        int deletedCount = fileVariantRepository.deleteBySourcePathIn(sourcePaths);
+        log.info("이미지 파생본 벌크 삭제 완료: sourceCount={}, variantCount={}", sourcePaths.size(), deletedCount);
+    }
+}
@@ -0,0 +1,49 @@
+package com.blog.backend.global.file.util;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 업로드 파일 내용 해시 계산 (중복 업로드 판별용)
+ * - 멀티파트 임시 파일을 고정 크기 버퍼로 읽으며 계산 (파일 전체를 힙에 올리지 않음)
+ * - 컨트롤러 레이어에서 S3 업로드 전에 사용
+ */
+public class FileContentHasher {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * SHA-256 (16진수 소문자 64자)
+     *
+     * @param file 업로드 파일
+     * @return 내용 해시
+     * @throws IOException 파일 읽기 실패
+     */
+    public static String sha256Hex(MultipartFile file) throws IOException {
+        MessageDigest digest = newSha256();
+
+        try (InputStream inputStream = file.getInputStream()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 Java 플랫폼이 지원해야 하는 알고리즘
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
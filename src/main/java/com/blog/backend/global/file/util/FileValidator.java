@@ -29,19 +29,33 @@ public class FileValidator {
         // 1. 파일 존재 여부
         validateFileNotEmpty(file);
 
-        // 2. 파일명 유효성
-        validateFileName(file.getOriginalFilename());
+        // 2~4. 파일명, 확장자, 크기
+        validateUpload(file.getOriginalFilename(), file.getSize());
+    }
+
+    /**
+     * 파일명/크기만으로 업로드 검증 (파일 본문 없이)
+     * - Presigned URL 발급 전 클라이언트가 보낸 값 검증
+     * - 업로드 완료 시 S3에 실제 올라간 크기 재검증
+     *
+     * @param filename 원본 파일명
+     * @param fileSize 파일 크기 (bytes)
+     * @throws CustomException 검증 실패 시
+     */
+    public static void validateUpload(String filename, long fileSize) {
+        // 1. 파일명 유효성
+        validateFileName(filename);
 
-        String extension = extractExtension(file.getOriginalFilename());
+        String extension = extractExtension(filename);
 
-        // 3. 확장자 허용 여부
+        // 2. 확장자 허용 여부
         validateExtension(extension);
 
-        // 4. 확장자 기반으로 카테고리를 추론하고 파일 크기 검증
-        validateFileSize(file.getSize(), extension);
+        // 3. 확장자 기반으로 카테고리를 추론하고 파일 크기 검증
+        validateFileSize(fileSize, extension);
 
         log.info("파일 검증 완료: filename={}, size={}bytes, extension={}",
-                file.getOriginalFilename(), file.getSize(), extension);
+                filename, fileSize, extension);
     }
 
     /**
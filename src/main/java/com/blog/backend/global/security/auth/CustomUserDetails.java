@@ -1,8 +1,10 @@
 package com.blog.backend.global.security.auth;
 
+import com.blog.backend.feature.user.dto.UserSnapshot;
 import com.blog.backend.feature.user.entity.User;
+import com.blog.backend.feature.user.entity.UserRole;
+import lombok.Builder;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,19 +14,45 @@ import java.util.List;
 
 /**
  * Spring Security UserDetails 구현체
+ *
+ * User 엔티티를 들고 있지 않는 경량 인증 주체
+ * - 기본적으로 JWT 클레임(userId, email, role, nickname, tokenVersion)만으로 생성 (요청마다 DB 조회 없음)
+ * - 전체 사용자 정보가 필요하면 userId로 UserSnapshotCache 또는 Repository를 조회
  */
 @Getter
-@RequiredArgsConstructor
+@Builder
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long userId;
+    private final String email;
+    private final String nickname;
+    private final UserRole role;
+    private final int tokenVersion;
 
     /**
-     * 사용자 ID 반환
-     * - Controller에서 인증된 사용자 ID 조회 시 사용
+     * 비밀번호 해시 (DB 조회로 생성한 경우에만, 토큰 클레임으로 생성한 경우 null)
      */
-    public Long getUserId() {
-        return user.getId();
+    private final String password;
+
+    public static CustomUserDetails from(User user) {
+        return CustomUserDetails.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .nickname(user.getNickname())
+                .role(user.getRole())
+                .tokenVersion(user.getTokenVersion())
+                .password(user.getPassword())
+                .build();
+    }
+
+    public static CustomUserDetails from(UserSnapshot user) {
+        return CustomUserDetails.builder()
+                .userId(user.id())
+                .email(user.email())
+                .nickname(user.nickname())
+                .role(user.role())
+                .tokenVersion(user.tokenVersion())
+                .build();
     }
 
     /**
@@ -33,12 +61,7 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(user.getRole().getKey()));
-    }
-
-    @Override
-    public String getPassword() {
-        return user.getPassword();
+        return List.of(new SimpleGrantedAuthority(role.getKey()));
     }
 
     /**
@@ -48,7 +71,7 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     /**
@@ -86,4 +109,4 @@ public class CustomUserDetails implements UserDetails {
     public boolean isEnabled() {
         return true;
     }
-}
\ No newline at end of file
+}
@@ -31,6 +31,6 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
-        return new CustomUserDetails(user);
+        return CustomUserDetails.from(user);
     }
 }
\ No newline at end of file
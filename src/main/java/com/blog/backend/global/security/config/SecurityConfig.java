@@ -33,6 +33,9 @@ public class SecurityConfig {
     @Value("${app.origin.frontend}")
     private String frontOrigin;
 
+    @Value("${app.password-hashing.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     /**
      * Security Filter Chain 설정
      * - 모든 HTTP 요청에 대한 보안 규칙 정의
@@ -126,9 +129,11 @@ public class SecurityConfig {
 
     /**
      * 비밀번호 암호화 인코더
+     * - cost(strength)를 올리면 기존 해시는 다음 로그인 때 새 cost로 재해시됨
+     * - 해시 계산은 PasswordHasher의 전용 스레드 풀에서만 실행
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.blog.backend.global.security.fliter;
 
+import com.blog.backend.feature.user.cache.UserSnapshotCache;
+import com.blog.backend.global.security.auth.CustomUserDetails;
 import com.blog.backend.global.security.jwt.JwtTokenProvider;
+import com.blog.backend.global.security.jwt.VerifiedToken;
+import com.blog.backend.global.security.revocation.TokenRevocationStore;
 import com.blog.backend.global.security.util.CookieUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,6 +12,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,6 +22,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -25,8 +31,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserSnapshotCache userSnapshotCache;
+    private final TokenRevocationStore tokenRevocationStore;
     private final CookieUtil cookieUtil;
 
+    /**
+     * true: 토큰 claim만으로 인증 주체 생성 (요청마다 DB 조회 없음)
+     * false: 요청마다 이메일로 사용자 조회 (이전 방식)
+     */
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -38,26 +53,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String accessToken = cookieUtil.getAccessToken(request).orElse(null);
             String refreshToken = cookieUtil.getRefreshToken(request).orElse(null);
 
+            // 토큰당 한 번만 검증/파싱 (최근 검증한 토큰은 캐시에서), 폐기된 토큰은 무효 처리 (메모리 조회)
+            Optional<VerifiedToken> verifiedAccessToken = verifyNotRevoked(accessToken);
+            Optional<VerifiedToken> verifiedRefreshToken = verifiedAccessToken.isPresent()
+                    ? Optional.empty()
+                    : verifyNotRevoked(refreshToken);
+
             // Case 1: Access Token이 유효한 경우 → 정상 인증
-            if (accessToken != null && jwtTokenProvider.validateToken(accessToken)) {
-                setAuthentication(accessToken, request);
+            if (verifiedAccessToken.isPresent()) {
+                setAuthentication(resolvePrincipal(verifiedAccessToken.get()), request);
                 log.debug("Access Token 인증 성공");
             }
             // Case 2: Access Token 없거나 만료, Refresh Token 유효 → 자동 재발급
-            else if (refreshToken != null && jwtTokenProvider.validateToken(refreshToken)) {
-                String email = jwtTokenProvider.getEmail(refreshToken);
-                Long userId = jwtTokenProvider.getUserId(refreshToken);
+            else if (verifiedRefreshToken.isPresent()) {
+                Long userId = verifiedRefreshToken.get().userId();
+                int tokenVersion = verifiedRefreshToken.get().tokenVersionOrDefault();
+
+                // 재발급 시에만 사용자 스냅샷 조회 (토큰 버전이 다르면 비밀번호 변경 등으로 무효화된 토큰)
+                Optional<CustomUserDetails> principal = userSnapshotCache.findById(userId)
+                        .filter(user -> user.tokenVersion() == tokenVersion)
+                        .map(CustomUserDetails::from);
 
-                // 새 Access Token 발급
-                String newAccessToken = jwtTokenProvider.createAccessToken(userId, email);
+                if (principal.isPresent()) {
+                    // 새 Access Token 발급 (역할/닉네임은 현재 값으로)
+                    String newAccessToken = jwtTokenProvider.createAccessToken(principal.get());
 
-                // 쿠키에 새 Access Token 설정
-                cookieUtil.addAccessTokenCookie(response, newAccessToken);
+                    // 쿠키에 새 Access Token 설정
+                    cookieUtil.addAccessTokenCookie(response, newAccessToken);
 
-                // 인증 처리
-                setAuthentication(newAccessToken, request);
+                    // 인증 처리
+                    setAuthentication(principal.get(), request);
 
-                log.info("Access Token 자동 갱신 완료 - userId: {}, email: {}", userId, email);
+                    log.info("Access Token 자동 갱신 완료 - userId: {}", userId);
+                } else {
+                    log.info("Refresh Token 버전 불일치 또는 사용자 없음 - 인증 없이 진행: userId={}", userId);
+                }
             }
             // Case 3: 둘 다 없거나 만료 → 인증 없이 통과 (이후 401 처리됨)
             else {
@@ -72,16 +102,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰 검증 + 폐기 여부 확인
+     *
+     * @param token 토큰 원문 (null 가능)
+     * @return 유효하고 폐기되지 않은 토큰
+     */
+    private Optional<VerifiedToken> verifyNotRevoked(String token) {
+        return jwtTokenProvider.verify(token)
+                .filter(verified -> !tokenRevocationStore.isRevoked(verified));
+    }
+
+    /**
+     * Access Token으로 인증 주체 생성
+     * - stateless 모드: 토큰 claim만 사용 (DB 조회 없음)
+     * - 이전 방식 또는 claim이 부족한 이전 형식 토큰: 이메일로 사용자 조회
+     *
+     * @param token 검증된 Access Token
+     */
+    private UserDetails resolvePrincipal(VerifiedToken token) {
+        if (statelessPrincipal) {
+            Optional<CustomUserDetails> principal = token.toPrincipal();
+            if (principal.isPresent()) {
+                return principal.get();
+            }
+        }
+
+        return userDetailsService.loadUserByUsername(token.email());
+    }
+
     /**
      * SecurityContext에 인증 정보 설정
      *
-     * @param token JWT 토큰
+     * @param userDetails 인증 주체
      * @param request HTTP 요청
      */
-    private void setAuthentication(String token, HttpServletRequest request) {
-        String email = jwtTokenProvider.getEmail(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
+    private void setAuthentication(UserDetails userDetails, HttpServletRequest request) {
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
                         userDetails,
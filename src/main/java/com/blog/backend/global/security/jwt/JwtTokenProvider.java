@@ -1,52 +1,94 @@
 package com.blog.backend.global.security.jwt;
 
+import com.blog.backend.global.cache.registry.CacheStatsRegistry;
+import com.blog.backend.global.security.auth.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
-
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JWT 발급/검증
+ *
+ * 검증 비용:
+ * - 파서는 시작 시 한 번만 만들어 재사용 (불변 객체라 스레드 안전)
+ * - verify()가 토큰당 한 번만 서명 검증/파싱하고, 필요한 claim은 VerifiedToken에서 꺼내 씀
+ * - 최근 검증한 토큰은 토큰 해시(SHA-256) → VerifiedToken으로 토큰 만료 시각까지만 보관
+ *   (같은 Access Token으로 들어오는 연속 요청은 HMAC 검증/JSON 파싱 없이 통과)
+ */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    public static final String VERIFIED_TOKEN_CACHE_NAME = "verifiedToken";
 
-    @Value("${jwt.access-token-validity}")
-    private long accessTokenValidity;  // Access Token 유효시간 (ms)
+    static final String CLAIM_EMAIL = "email";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_NICKNAME = "nickname";
+    static final String CLAIM_TOKEN_VERSION = "ver";
 
-    @Value("${jwt.refresh-token-validity}")
-    private long refreshTokenValidity;  // Refresh Token 유효시간 (ms)
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final long accessTokenValidity;  // Access Token 유효시간 (ms)
+    private final long refreshTokenValidity;  // Refresh Token 유효시간 (ms)
 
-    private SecretKey key;
+    /**
+     * 토큰 해시 → 검증된 claim (토큰 만료 시각에 만료)
+     */
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     /**
-     * 초기화: Secret Key 생성
+     * 초기화: Secret Key, 파서, 검증 캐시 생성
      * - Base64로 인코딩된 secret을 디코딩하여 Key 객체 생성
      * - HMAC-SHA256 알고리즘 사용
      */
-    @PostConstruct
-    protected void init() {
-        byte[] keyBytes = Base64.getDecoder().decode(secretKey);
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+    public JwtTokenProvider(
+            CacheStatsRegistry cacheStatsRegistry,
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.access-token-validity}") long accessTokenValidity,
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            @Value("${jwt.verified-token-cache.maximum-size:10000}") long verifiedTokenCacheSize
+    ) {
+        this.key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.accessTokenValidity = accessTokenValidity;
+        this.refreshTokenValidity = refreshTokenValidity;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+
+        cacheStatsRegistry.register(VERIFIED_TOKEN_CACHE_NAME, verifiedTokens);
     }
 
+    // ========== 발급 ========== //
+
     /**
      * Access Token 생성
      *
-     * @param userId 사용자 ID (subject로 저장)
-     * @param email 사용자 이메일 (claim으로 저장)
+     * @param principal 인증 주체 (userId는 subject, 나머지는 claim으로 저장)
      * @return 생성된 Access Token
      */
-    public String createAccessToken(Long userId, String email) {
-        return createToken(userId, email, accessTokenValidity);
+    public String createAccessToken(CustomUserDetails principal) {
+        return createToken(principal, accessTokenValidity);
     }
 
     /**
@@ -54,48 +96,85 @@ public class JwtTokenProvider {
      * - Access Token보다 유효기간이 김
      * - Access Token 재발급에 사용
      *
-     * @param userId 사용자 ID
-     * @param email 사용자 이메일
+     * @param principal 인증 주체
      * @return 생성된 Refresh Token
      */
-    public String createRefreshToken(Long userId, String email) {
-        return createToken(userId, email, refreshTokenValidity);
+    public String createRefreshToken(CustomUserDetails principal) {
+        return createToken(principal, refreshTokenValidity);
     }
 
     /**
      * 토큰 생성 (공통 로직)
+     * - 인증 필터가 DB 조회 없이 인증 주체를 만들 수 있도록 역할/닉네임/토큰 버전을 claim으로 저장
+     * - 토큰마다 고유 ID(jti)를 부여해 만료 전 개별 폐기가 가능하도록 함
+     * - 직접 발급한 토큰은 검증 캐시에 미리 넣어 첫 요청에서도 다시 검증하지 않음
      *
-     * @param userId 사용자 ID
-     * @param email 사용자 이메일
+     * @param principal 인증 주체
      * @param validity 유효시간 (ms)
      * @return 생성된 JWT 토큰
      */
-    private String createToken(Long userId, String email, long validity) {
+    private String createToken(CustomUserDetails principal, long validity) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + validity);
-
-        return Jwts.builder()
-                .setSubject(String.valueOf(userId))  // 토큰 주체 (사용자 ID)
-                .claim("email", email)            // 추가 정보
+        String tokenId = UUID.randomUUID().toString();
+
+        String token = Jwts.builder()
+                .setId(tokenId)                      // 토큰 ID (폐기 시 사용)
+                .setSubject(String.valueOf(principal.getUserId()))  // 토큰 주체 (사용자 ID)
+                .claim(CLAIM_EMAIL, principal.getEmail())            // 추가 정보
+                .claim(CLAIM_ROLE, principal.getRole().name())
+                .claim(CLAIM_NICKNAME, principal.getNickname())
+                .claim(CLAIM_TOKEN_VERSION, principal.getTokenVersion())
                 .setIssuedAt(now)                    // 발급 시간
                 .setExpiration(expiration)           // 만료 시간
                 .signWith(key)                    // 서명
                 .compact();
+
+        verifiedTokens.put(hash(token), new VerifiedToken(
+                tokenId,
+                principal.getUserId(),
+                principal.getEmail(),
+                principal.getRole(),
+                principal.getNickname(),
+                principal.getTokenVersion(),
+                expiration.toInstant()
+        ));
+
+        return token;
     }
 
+    // ========== 검증 ========== //
+
     /**
-     * 토큰 유효성 검증
+     * 토큰 검증 + claim 추출 (토큰당 한 번만 파싱)
+     * - 최근 검증한 토큰이면 캐시에서 반환 (만료 시각이 지나면 캐시에서도 사라짐)
      *
      * @param token 검증할 토큰
-     * @return 유효하면 true, 아니면 false
+     * @return 검증된 claim (서명 불일치, 만료, 형식 오류면 empty)
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = parse(token);
+        verified.ifPresent(claims -> verifiedTokens.put(tokenHash, claims));
+        return verified;
+    }
+
+    /**
+     * 서명 검증 + 파싱
      */
-    public boolean validateToken(String token) {
+    private Optional<VerifiedToken> parse(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return Optional.of(VerifiedToken.from(claims));
         } catch (ExpiredJwtException e) {
             log.warn("만료된 토큰입니다: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
@@ -107,42 +186,39 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.warn("토큰이 비어있습니다: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
     /**
-     * 토큰에서 사용자 ID 추출
-     *
-     * @param token JWT 토큰
-     * @return 사용자 ID
+     * 캐시 키 (토큰 원문 대신 SHA-256 해시 보관)
      */
-    public Long getUserId(String token) {
-        Claims claims = parseClaims(token);
-        return Long.parseLong(claims.getSubject());
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
     }
 
     /**
-     * 토큰에서 이메일 추출
-     *
-     * @param token JWT 토큰
-     * @return 사용자 이메일
+     * 토큰 만료 시각까지만 보관
      */
-    public String getEmail(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("email", String.class);
-    }
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
 
-    /**
-     * 토큰에서 Claims(페이로드) 파싱
-     *
-     * @param token JWT 토큰
-     * @return Claims 객체
-     */
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
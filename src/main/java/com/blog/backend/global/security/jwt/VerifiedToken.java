@@ -0,0 +1,72 @@
+package com.blog.backend.global.security.jwt;
+
+import com.blog.backend.feature.user.entity.UserRole;
+import com.blog.backend.global.security.auth.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 서명/만료 검증이 끝난 토큰의 claim
+ *
+ * - JwtTokenProvider.verify가 토큰당 한 번만 파싱해 생성
+ * - 이후 필요한 값은 이 객체에서 꺼내 쓰므로 같은 토큰을 다시 파싱하지 않음
+ *
+ * @param tokenId 토큰 ID (jti, 이전 형식 토큰이면 null)
+ * @param userId 사용자 ID (subject)
+ * @param email 사용자 이메일
+ * @param role 사용자 역할 (이전 형식 토큰이면 null)
+ * @param nickname 사용자 닉네임 (이전 형식 토큰이면 null)
+ * @param tokenVersion 토큰 버전 (이전 형식 토큰이면 null)
+ * @param expiresAt 만료 시각
+ */
+public record VerifiedToken(
+        String tokenId,
+        Long userId,
+        String email,
+        UserRole role,
+        String nickname,
+        Integer tokenVersion,
+        Instant expiresAt
+) {
+    static VerifiedToken from(Claims claims) {
+        String role = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
+
+        return new VerifiedToken(
+                claims.getId(),
+                Long.parseLong(claims.getSubject()),
+                claims.get(JwtTokenProvider.CLAIM_EMAIL, String.class),
+                role != null ? UserRole.valueOf(role) : null,
+                claims.get(JwtTokenProvider.CLAIM_NICKNAME, String.class),
+                claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Integer.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    /**
+     * 토큰 버전 (버전 claim이 없는 이전 형식 토큰은 0)
+     */
+    public int tokenVersionOrDefault() {
+        return tokenVersion != null ? tokenVersion : 0;
+    }
+
+    /**
+     * claim만으로 인증 주체 생성 (DB 조회 없음)
+     *
+     * @return 인증 주체 (역할/버전 claim이 없는 이전 형식 토큰이면 empty)
+     */
+    public Optional<CustomUserDetails> toPrincipal() {
+        if (role == null || tokenVersion == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(CustomUserDetails.builder()
+                .userId(userId)
+                .email(email)
+                .nickname(nickname)
+                .role(role)
+                .tokenVersion(tokenVersion)
+                .build());
+    }
+}
@@ -0,0 +1,215 @@
+package com.blog.backend.global.security.password;
+
+import com.blog.backend.global.core.exception.CustomException;
+import com.blog.backend.global.security.password.dto.PasswordHashingStatsResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ *
+ * BCrypt는 호출당 수십 ms의 CPU를 쓰므로 요청 스레드에서 직접 돌리면 로그인 폭주 시
+ * Tomcat 스레드가 모두 해시 계산에 묶여 다른 API까지 응답하지 못함.
+ * - CPU 코어 수 크기의 전용 스레드 풀에서만 해시 계산 (동시 해시 수 상한)
+ * - 대기열도 고정 크기: 가득 차면 바로 429로 거절 (대기열이 무한히 쌓이지 않음)
+ * - 대기 시간 상한은 대기열에서 기다린 시간에만 적용: 상한 안에 해시가 시작되지 않으면 작업을 버리고 429로 응답
+ * - 이미 해시가 시작된 작업은 끝까지 기다려 응답 (중단할 수 없으므로 429로 버리면 CPU만 낭비)
+ * - 대기열 길이, 거절/초과 수, 대기/해시 시간은 어드민 API로 조회
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final String TOO_MANY_REQUESTS_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long waitTimeoutMillis;
+
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder overrunCount = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final LongAdder totalHashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Value("${app.password-hashing.threads:0}") int threads,
+            @Value("${app.password-hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${app.password-hashing.wait-timeout-ms:5000}") long waitTimeoutMillis
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.queueCapacity = queueCapacity;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        log.info("비밀번호 해시 실행기 초기화 - 스레드: {}, 대기열: {}", poolSize, queueCapacity);
+    }
+
+    // ========== 해시 ========== //
+
+    /**
+     * 비밀번호 해시 생성
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 해시
+     * @throws CustomException 실행기가 포화 상태면 429
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치하면 true
+     * @throws CustomException 실행기가 포화 상태면 429
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 재해시 필요 여부 (저장된 해시의 cost가 현재 설정보다 낮음)
+     * - 해시 문자열만 확인하므로 실행기를 거치지 않음
+     *
+     * @param encodedPassword 저장된 해시
+     * @return 재해시가 필요하면 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 전용 스레드 풀에서 실행 후 결과 대기
+     * - 요청 스레드는 대기만 하고 CPU는 전용 스레드 풀에서만 사용
+     * - claimed: 작업 스레드(해시 시작)와 요청 스레드(대기 포기) 중 먼저 선점한 쪽만 진행
+     */
+    private <T> T execute(Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        AtomicBoolean claimed = new AtomicBoolean();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    // 대기 시간 초과로 이미 429 응답한 요청
+                    return null;
+                }
+
+                long startedAt = System.nanoTime();
+                totalQueueNanos.add(startedAt - enqueuedAt);
+                try {
+                    return task.call();
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    totalHashNanos.add(elapsed);
+                    maxHashNanos.accumulate(elapsed);
+                    completedCount.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("비밀번호 해시 대기열 포화 - 요청 거절 (대기: {})", executor.getQueue().size());
+            throw CustomException.tooManyRequests(TOO_MANY_REQUESTS_MESSAGE);
+        }
+
+        try {
+            try {
+                return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    // 아직 대기열에 있음: 실행되지 않고 버려짐
+                    future.cancel(false);
+                    timeoutCount.increment();
+                    log.warn("비밀번호 해시 대기열 대기 시간 초과 - {}ms", waitTimeoutMillis);
+                    throw CustomException.tooManyRequests(TOO_MANY_REQUESTS_MESSAGE);
+                }
+
+                // 이미 해시 중: 끝까지 기다려 결과로 응답
+                overrunCount.increment();
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 중 오류가 발생했습니다", e.getCause());
+        }
+    }
+
+    // ========== 통계 ========== //
+
+    /**
+     * 실행기 상태 및 해시 지연 통계
+     */
+    public PasswordHashingStatsResponse stats() {
+        long completed = completedCount.sum();
+
+        return PasswordHashingStatsResponse.builder()
+                .poolSize(executor.getMaximumPoolSize())
+                .activeCount(executor.getActiveCount())
+                .queueDepth(executor.getQueue().size())
+                .queueCapacity(queueCapacity)
+                .completedCount(completed)
+                .rejectedCount(rejectedCount.sum())
+                .timeoutCount(timeoutCount.sum())
+                .overrunCount(overrunCount.sum())
+                .averageQueueMillis(completed > 0 ? nanosToMillis(totalQueueNanos.sum()) / completed : 0)
+                .averageHashMillis(completed > 0 ? nanosToMillis(totalHashNanos.sum()) / completed : 0)
+                .maxHashMillis(nanosToMillis(maxHashNanos.get()))
+                .build();
+    }
+
+    private static double nanosToMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 스레드 이름: password-hasher-N (스레드 덤프에서 구분용)
+     */
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
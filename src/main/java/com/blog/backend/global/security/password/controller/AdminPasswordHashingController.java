@@ -0,0 +1,34 @@
+package com.blog.backend.global.security.password.controller;
+
+import com.blog.backend.global.core.response.ApiResponse;
+import com.blog.backend.global.security.password.PasswordHasher;
+import com.blog.backend.global.security.password.dto.PasswordHashingStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 어드민 비밀번호 해시 실행기 컨트롤러
+ *
+ * 해시 전용 스레드 풀 상태 조회 (어드민 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/password-hashing")
+@RequiredArgsConstructor
+public class AdminPasswordHashingController {
+
+    private final PasswordHasher passwordHasher;
+
+    /**
+     * 실행기 통계 조회
+     * GET /api/admin/password-hashing
+     *
+     * - 대기열 길이, 거절/시간 초과 수, 평균 대기/해시 시간
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<PasswordHashingStatsResponse>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success(passwordHasher.stats()));
+    }
+}
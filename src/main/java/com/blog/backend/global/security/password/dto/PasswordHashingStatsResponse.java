@@ -0,0 +1,34 @@
+package com.blog.backend.global.security.password.dto;
+
+import lombok.Builder;
+
+/**
+ * 비밀번호 해시 실행기 통계
+ *
+ * @param poolSize 해시 전용 스레드 수
+ * @param activeCount 현재 해시 중인 스레드 수
+ * @param queueDepth 대기열 길이
+ * @param queueCapacity 대기열 최대 길이
+ * @param completedCount 완료된 해시 수
+ * @param rejectedCount 대기열 포화로 거절(429)된 수
+ * @param timeoutCount 해시 시작 전 대기 시간 초과로 거절(429)된 수
+ * @param overrunCount 대기 시간 상한을 넘겼지만 이미 해시 중이라 끝까지 기다린 수
+ * @param averageQueueMillis 평균 대기 시간 (ms)
+ * @param averageHashMillis 평균 해시 시간 (ms)
+ * @param maxHashMillis 최대 해시 시간 (ms)
+ */
+@Builder
+public record PasswordHashingStatsResponse(
+        int poolSize,
+        int activeCount,
+        int queueDepth,
+        int queueCapacity,
+        long completedCount,
+        long rejectedCount,
+        long timeoutCount,
+        long overrunCount,
+        double averageQueueMillis,
+        double averageHashMillis,
+        double maxHashMillis
+) {
+}
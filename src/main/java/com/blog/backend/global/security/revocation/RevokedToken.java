@@ -0,0 +1,55 @@
+package com.blog.backend.global.security.revocation;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 토큰 (jti)
+ *
+ * - 로그아웃 등으로 만료 전에 무효화한 토큰 ID를 보관 (노드 간 공유, 재시작 후 복원용)
+ * - 요청마다 조회하지 않고 TokenRevocationStore가 메모리에 적재해 확인
+ * - 토큰 만료 시각이 지나면 더 이상 의미가 없으므로 주기적으로 삭제
+ */
+@Entity
+@Table(name = "revoked_tokens",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_revoked_tokens_token_id", columnNames = "token_id")
+        },
+        indexes = {
+                @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 토큰 ID (jti)
+     */
+    @Column(name = "token_id", nullable = false, length = 36)
+    private String tokenId;
+
+    /**
+     * 토큰 만료 시각 (이후에는 폐기 목록에서 제거)
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Builder
+    public RevokedToken(String tokenId, LocalDateTime expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = LocalDateTime.now();
+    }
+}
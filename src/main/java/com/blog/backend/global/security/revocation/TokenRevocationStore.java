@@ -0,0 +1,212 @@
+package com.blog.backend.global.security.revocation;
+
+import com.blog.backend.global.security.jwt.VerifiedToken;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 폐기 목록 (DB 영속 + 메모리 미러)
+ *
+ * 구조:
+ * - revoked_tokens 테이블이 원본 (노드 간 공유, 재시작 후 복원)
+ * - 메모리에는 블룸 필터 + 정확 집합(jti → 만료 시각)을 스냅샷으로 보관
+ * - isRevoked()는 DB를 조회하지 않음: 블룸 필터가 아니라고 하면 즉시 통과, 맞다고 하면 정확 집합으로 확인
+ *
+ * 동기화:
+ * - 이 노드에서 폐기한 토큰은 즉시 메모리에 반영
+ * - 다른 노드에서 폐기한 토큰은 주기적 재동기화로 반영 (jwt.revocation.sync-interval-ms)
+ * - 재동기화 시 만료된 항목을 빼고 새 스냅샷을 만들어 교체 (블룸 필터는 삭제가 안 되므로 재생성)
+ * - 재동기화/만료 행 삭제는 전용 스레드에서 실행 (@EnableScheduling에 의존하지 않음)
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final int MIN_EXPECTED_INSERTIONS = 1024;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final double falsePositiveRate;
+    private final long syncIntervalMillis;
+    private final long purgeIntervalMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "token-revocation-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot snapshot;
+
+    public TokenRevocationStore(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${jwt.revocation.sync-interval-ms:30000}") long syncIntervalMillis,
+            @Value("${jwt.revocation.purge-interval-ms:3600000}") long purgeIntervalMillis
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.purgeIntervalMillis = purgeIntervalMillis;
+        this.snapshot = Snapshot.empty(MIN_EXPECTED_INSERTIONS, falsePositiveRate);
+    }
+
+    // ========== 조회 ========== //
+
+    /**
+     * 폐기된 토큰인지 확인 (DB 조회 없음)
+     * - jti가 없는 이전 형식 토큰은 폐기 대상이 아님
+     *
+     * @param token 검증된 토큰
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            return false;
+        }
+
+        Snapshot current = snapshot;
+        if (!current.bloom().mightContain(token.tokenId())) {
+            return false;
+        }
+
+        Instant expiresAt = current.entries().get(token.tokenId());
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    // ========== 폐기 ========== //
+
+    /**
+     * 토큰 폐기
+     * - DB에 저장 후 이 노드의 메모리에 즉시 반영
+     * - 이미 만료된 토큰이나 jti가 없는 토큰은 무시
+     *
+     * @param token 폐기할 토큰
+     */
+    public void revoke(VerifiedToken token) {
+        if (token.tokenId() == null || !token.expiresAt().isAfter(Instant.now())) {
+            return;
+        }
+
+        if (!revokedTokenRepository.existsByTokenId(token.tokenId())) {
+            try {
+                revokedTokenRepository.save(RevokedToken.builder()
+                        .tokenId(token.tokenId())
+                        .expiresAt(LocalDateTime.ofInstant(token.expiresAt(), ZONE))
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 동시에 같은 토큰을 폐기한 경우 (이미 저장됨)
+                log.debug("이미 폐기된 토큰입니다: {}", token.tokenId());
+            }
+        }
+
+        Snapshot current = snapshot;
+        current.entries().put(token.tokenId(), token.expiresAt());
+        current.bloom().put(token.tokenId());
+    }
+
+    // ========== 동기화 ========== //
+
+    /**
+     * 애플리케이션 시작 시 폐기 목록 적재 후 주기 작업 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        resync();
+
+        scheduler.scheduleWithFixedDelay(this::resync, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeExpired, purgeIntervalMillis, purgeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * DB와 재동기화
+     * - 만료되지 않은 DB 행 + 이 노드에서 아직 DB 조회에 잡히지 않았을 수 있는 항목으로 새 스냅샷 생성
+     * - 만료된 항목은 새 스냅샷에서 빠짐
+     */
+    public void resync() {
+        Instant now = Instant.now();
+        Snapshot previous = snapshot;
+
+        try {
+            List<RevokedToken> rows = revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.ofInstant(now, ZONE));
+
+            Map<String, Instant> entries = new ConcurrentHashMap<>(Math.max(16, rows.size() * 2));
+            for (RevokedToken row : rows) {
+                entries.put(row.getTokenId(), row.getExpiresAt().atZone(ZONE).toInstant());
+            }
+            previous.entries().forEach((tokenId, expiresAt) -> {
+                if (expiresAt.isAfter(now)) {
+                    entries.putIfAbsent(tokenId, expiresAt);
+                }
+            });
+
+            Snapshot next = Snapshot.of(entries, falsePositiveRate);
+            snapshot = next;
+
+            // 교체 중에 이전 스냅샷에 추가된 항목 반영
+            previous.entries().forEach((tokenId, expiresAt) -> {
+                if (expiresAt.isAfter(now) && next.entries().putIfAbsent(tokenId, expiresAt) == null) {
+                    next.bloom().put(tokenId);
+                }
+            });
+
+            log.debug("토큰 폐기 목록 동기화 완료 - {}건", next.entries().size());
+        } catch (Exception e) {
+            // DB 장애 시 기존 스냅샷 유지
+            log.warn("토큰 폐기 목록 동기화 실패 - 기존 목록 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 폐기 행 삭제 (토큰이 만료되면 폐기 기록도 필요 없음)
+     */
+    public void purgeExpired() {
+        try {
+            int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.info("만료된 폐기 토큰 {}건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            // 예외가 전파되면 이후 주기 실행이 취소되므로 기록만 남김
+            log.warn("만료된 폐기 토큰 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 메모리 스냅샷
+     * - 블룸 필터는 항목 수의 2배로 잡아 다음 동기화 전까지 추가되는 폐기분을 수용
+     */
+    private record Snapshot(TokenBloomFilter bloom, Map<String, Instant> entries) {
+
+        static Snapshot empty(int expectedInsertions, double falsePositiveRate) {
+            return new Snapshot(new TokenBloomFilter(expectedInsertions, falsePositiveRate), new ConcurrentHashMap<>());
+        }
+
+        static Snapshot of(Map<String, Instant> entries, double falsePositiveRate) {
+            int expected = Math.max(MIN_EXPECTED_INSERTIONS, entries.size() * 2);
+            TokenBloomFilter bloom = new TokenBloomFilter(expected, falsePositiveRate);
+            entries.keySet().forEach(bloom::put);
+            return new Snapshot(bloom, entries);
+        }
+    }
+}
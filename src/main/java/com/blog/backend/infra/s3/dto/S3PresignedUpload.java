@@ -0,0 +1,23 @@
+package com.blog.backend.infra.s3.dto;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Presigned PUT 업로드 정보
+ *
+ * @param path 예약된 S3 Key (업로드 완료 시 다시 전달)
+ * @param uploadUrl PUT 요청 URL
+ * @param headers PUT 요청에 그대로 포함해야 하는 서명된 헤더 (Content-Type, Content-Length 등)
+ * @param expiresAt URL 만료 시각
+ */
+@Builder
+public record S3PresignedUpload(
+        String path,
+        String uploadUrl,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+}
@@ -2,11 +2,17 @@ package com.blog.backend.infra.s3.dto;
 
 import lombok.Builder;
 
-@Builder
+/**
+ * S3 업로드 결과 (FileMetadata 저장용)
+ *
+ * @param contentHash 내용 SHA-256 (계산하지 않은 업로드는 null)
+ */
+@Builder(toBuilder = true)
 public record S3UploadResult(
         String originalName,
         String path,
         String contentType,
-        long fileSize
+        long fileSize,
+        String contentHash
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+package com.blog.backend.infra.s3.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.cloudfront.CloudFrontClient;
+import software.amazon.awssdk.services.cloudfront.model.CreateInvalidationRequest;
+import software.amazon.awssdk.services.cloudfront.model.CreateInvalidationResponse;
+import software.amazon.awssdk.services.cloudfront.model.InvalidationBatch;
+import software.amazon.awssdk.services.cloudfront.model.Paths;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CloudFront 캐시 무효화 배처
+ *
+ * 파일 삭제마다 CreateInvalidation을 동기로 호출하면 요청마다 수백 ms가 더해지고,
+ * CloudFront의 동시 무효화 제한에도 쉽게 걸림.
+ * - 삭제 요청은 경로를 대기열에 넣고 바로 반환 (CloudFront 응답을 기다리지 않음)
+ * - 첫 경로가 들어온 뒤 window-ms가 지나거나 max-batch-size에 도달하면 한 번에 전송
+ * - 중복 경로 제거, 같은 디렉토리 경로가 wildcard-threshold개 이상이면 "/디렉토리/*" 하나로 합침
+ * - 실패 시 지수 백오프로 재시도 (max-attempts 초과 시 로그만 남기고 포기: 캐시는 TTL로 만료)
+ */
+@Slf4j
+@Component
+public class CloudFrontInvalidationBatcher {
+
+    private final CloudFrontClient cloudFrontClient;
+    private final String distributionId;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final int wildcardThreshold;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cloudfront-invalidation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 전송 대기 경로 (this로 동기화)
+     */
+    private final Set<String> pending = new LinkedHashSet<>();
+    private boolean flushScheduled = false;
+
+    public CloudFrontInvalidationBatcher(
+            CloudFrontClient cloudFrontClient,
+            @Value("${spring.cloud.aws.cloudfront.distribution-id:}") String distributionId,
+            @Value("${app.cloudfront.invalidation.window-ms:5000}") long windowMillis,
+            @Value("${app.cloudfront.invalidation.max-batch-size:1000}") int maxBatchSize,
+            @Value("${app.cloudfront.invalidation.wildcard-threshold:20}") int wildcardThreshold,
+            @Value("${app.cloudfront.invalidation.max-attempts:5}") int maxAttempts,
+            @Value("${app.cloudfront.invalidation.initial-backoff-ms:2000}") long initialBackoffMillis,
+            @Value("${app.cloudfront.invalidation.max-backoff-ms:60000}") long maxBackoffMillis
+    ) {
+        this.cloudFrontClient = cloudFrontClient;
+        this.distributionId = distributionId;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.wildcardThreshold = wildcardThreshold;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * 무효화할 S3 Key 등록 (비동기, 즉시 반환)
+     *
+     * @param s3Keys 캐시 무효화할 S3 Key 목록
+     */
+    public void enqueue(Collection<String> s3Keys) {
+        if (distributionId == null || distributionId.isBlank()) {
+            log.warn("CloudFront Distribution ID가 설정되지 않아 캐시 무효화를 건너뜁니다.");
+            return;
+        }
+        if (s3Keys == null || s3Keys.isEmpty()) {
+            return;
+        }
+
+        boolean flushNow;
+        boolean scheduleWindow;
+
+        synchronized (this) {
+            s3Keys.forEach(key -> pending.add("/" + key));
+
+            flushNow = pending.size() >= maxBatchSize;
+            scheduleWindow = !flushNow && !flushScheduled;
+            if (flushNow || scheduleWindow) {
+                flushScheduled = true;
+            }
+        }
+
+        if (flushNow) {
+            scheduler.execute(this::flush);
+        } else if (scheduleWindow) {
+            scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // ========== 전송 ========== //
+
+    /**
+     * 대기 경로를 배치 단위로 전송
+     */
+    private void flush() {
+        List<String> paths;
+
+        synchronized (this) {
+            paths = new ArrayList<>(pending);
+            pending.clear();
+            flushScheduled = false;
+        }
+
+        if (paths.isEmpty()) {
+            return;
+        }
+
+        List<String> collapsed = collapse(paths);
+        for (int i = 0; i < collapsed.size(); i += maxBatchSize) {
+            send(collapsed.subList(i, Math.min(i + maxBatchSize, collapsed.size())), UUID.randomUUID().toString(), 1);
+        }
+
+        log.debug("CloudFront 무효화 배치: 요청 경로={}, 전송 경로={}", paths.size(), collapsed.size());
+    }
+
+    /**
+     * 무효화 요청 전송 (실패 시 백오프 후 재시도 예약)
+     * - callerReference는 배치마다 한 번 만들어 재시도에도 그대로 사용
+     *   (시간 초과로 실패처럼 보였지만 실제로는 생성된 요청을 재시도해도 같은 무효화로 처리되어 동시 무효화 한도를 더 쓰지 않음)
+     */
+    private void send(List<String> paths, String callerReference, int attempt) {
+        List<String> batchPaths = List.copyOf(paths);
+
+        try {
+            CreateInvalidationResponse response = cloudFrontClient.createInvalidation(CreateInvalidationRequest.builder()
+                    .distributionId(distributionId)
+                    .invalidationBatch(InvalidationBatch.builder()
+                            .paths(Paths.builder()
+                                    .items(batchPaths)
+                                    .quantity(batchPaths.size())
+                                    .build())
+                            .callerReference(callerReference)
+                            .build())
+                    .build());
+
+            log.info("CloudFront 캐시 무효화 완료: invalidationId={}, paths={}",
+                    response.invalidation().id(), batchPaths.size());
+
+        } catch (Exception e) {
+            if (attempt >= maxAttempts) {
+                log.error("CloudFront 캐시 무효화 포기: attempts={}, paths={}, error={}",
+                        attempt, batchPaths.size(), e.getMessage(), e);
+                return;
+            }
+
+            long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << (attempt - 1));
+            log.warn("CloudFront 캐시 무효화 실패 - {}ms 후 재시도: attempt={}, paths={}, error={}",
+                    backoff, attempt, batchPaths.size(), e.getMessage());
+
+            scheduler.schedule(() -> send(batchPaths, callerReference, attempt + 1), backoff, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 같은 디렉토리의 경로가 임계값 이상이면 와일드카드 하나로 합침
+     * - 예: /public/images/2026/01/21/a.jpg ... (20개 이상) → /public/images/2026/01/21/*
+     * - 와일드카드 경로도 CloudFront 요금/제한상 경로 1개로 계산됨
+     */
+    private List<String> collapse(List<String> paths) {
+        Map<String, List<String>> byDirectory = new LinkedHashMap<>();
+        for (String path : paths) {
+            int lastSlash = path.lastIndexOf('/');
+            byDirectory.computeIfAbsent(path.substring(0, lastSlash + 1), dir -> new ArrayList<>()).add(path);
+        }
+
+        List<String> collapsed = new ArrayList<>();
+        byDirectory.forEach((directory, directoryPaths) -> {
+            if (directoryPaths.size() >= wildcardThreshold) {
+                collapsed.add(directory + "*");
+            } else {
+                collapsed.addAll(directoryPaths);
+            }
+        });
+        return collapsed;
+    }
+
+    /**
+     * 종료 시 남은 경로 전송 (재시도 없이 1회)
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+
+        List<String> remaining;
+        synchronized (this) {
+            remaining = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        if (!remaining.isEmpty()) {
+            List<String> collapsed = collapse(remaining);
+            for (int i = 0; i < collapsed.size(); i += maxBatchSize) {
+                send(collapsed.subList(i, Math.min(i + maxBatchSize, collapsed.size())), UUID.randomUUID().toString(), maxAttempts);
+            }
+        }
+    }
+}
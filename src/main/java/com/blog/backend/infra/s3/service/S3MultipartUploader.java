@@ -0,0 +1,217 @@
+package com.blog.backend.infra.s3.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * S3 멀티파트 업로드
+ *
+ * 큰 파일(동영상 등)을 파트 단위로 나눠 병렬 전송.
+ * - 입력 스트림(멀티파트 임시 파일)에서 파트 크기만큼씩 읽어 전송하므로 파일 전체를 힙에 올리지 않음
+ * - 업로드 하나당 동시에 전송 중인 파트 수를 parallelism으로 제한
+ *   → 업로드당 최대 힙 사용량 = part-size × parallelism
+ * - 파트 전송은 모든 업로드가 공유하는 고정 크기 스레드 풀에서 실행
+ * - 실패 시 AbortMultipartUpload로 이미 올라간 파트를 정리
+ *   (프로세스가 죽어 abort하지 못한 업로드는 버킷 수명 주기 규칙 AbortIncompleteMultipartUpload로 정리)
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    /**
+     * S3 최소 파트 크기 (마지막 파트 제외)
+     */
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final int parallelism;
+    private final ExecutorService partExecutor;
+
+    public S3MultipartUploader(
+            S3Client s3Client,
+            @Value("${app.s3.upload.multipart-threshold-mb:16}") long multipartThresholdMb,
+            @Value("${app.s3.upload.part-size-mb:8}") long partSizeMb,
+            @Value("${app.s3.upload.parallelism:4}") int parallelism,
+            @Value("${app.s3.upload.threads:8}") int threads
+    ) {
+        this.s3Client = s3Client;
+        this.multipartThreshold = multipartThresholdMb * 1024 * 1024;
+        this.partSize = (int) Math.max(MIN_PART_SIZE, partSizeMb * 1024 * 1024);
+        this.parallelism = Math.max(1, parallelism);
+        this.partExecutor = Executors.newFixedThreadPool(threads, new PartThreadFactory());
+    }
+
+    /**
+     * 멀티파트 업로드 대상 여부
+     *
+     * @param size 파일 크기 (bytes)
+     */
+    public boolean shouldUseMultipart(long size) {
+        return size >= multipartThreshold;
+    }
+
+    /**
+     * 멀티파트 업로드
+     *
+     * @param putRequest 객체 속성 (버킷, 키, Content-Type, Cache-Control)
+     * @param inputStream 파일 입력 스트림 (호출자가 닫음)
+     * @param size 파일 크기 (bytes)
+     * @throws IOException 파일 읽기 실패
+     */
+    public void upload(PutObjectRequest putRequest, InputStream inputStream, long size) throws IOException {
+        String bucket = putRequest.bucket();
+        String key = putRequest.key();
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(putRequest.contentType())
+                .cacheControl(putRequest.cacheControl())
+                .build()).uploadId();
+
+        Semaphore inFlight = new Semaphore(parallelism);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Future<CompletedPart>> parts = new ArrayList<>();
+        long startedAt = System.currentTimeMillis();
+
+        try {
+            long remaining = size;
+            int partNumber = 1;
+
+            while (remaining > 0) {
+                int length = (int) Math.min(partSize, remaining);
+
+                // 파트 버퍼를 만들기 전에 허가를 받아 동시에 존재하는 버퍼 수를 제한
+                inFlight.acquire();
+                if (failure.get() != null) {
+                    inFlight.release();
+                    break;
+                }
+
+                byte[] buffer;
+                try {
+                    buffer = inputStream.readNBytes(length);
+                } catch (IOException e) {
+                    inFlight.release();
+                    throw e;
+                }
+                if (buffer.length != length) {
+                    inFlight.release();
+                    throw new IOException("파일 크기가 예상과 다릅니다: expected=" + size);
+                }
+
+                int number = partNumber++;
+                parts.add(partExecutor.submit(() -> {
+                    try {
+                        return uploadPart(bucket, key, uploadId, number, buffer);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        throw e;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+                remaining -= length;
+            }
+
+            List<CompletedPart> completedParts = new ArrayList<>(parts.size());
+            for (Future<CompletedPart> part : parts) {
+                completedParts.add(part.get());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+
+            log.info("S3 멀티파트 업로드 완료: key={}, size={}, parts={}, elapsed={}ms",
+                    key, size, completedParts.size(), System.currentTimeMillis() - startedAt);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(bucket, key, uploadId, parts);
+            throw new IOException("멀티파트 업로드가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            abort(bucket, key, uploadId, parts);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("파트 업로드 실패", e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abort(bucket, key, uploadId, parts);
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(String bucket, String key, String uploadId, int partNumber, byte[] buffer) {
+        UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) buffer.length)
+                        .build(),
+                RequestBody.fromBytes(buffer));
+
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .build();
+    }
+
+    /**
+     * 실패한 업로드 정리 (남은 파트 전송 취소 후 abort)
+     */
+    private void abort(String bucket, String key, String uploadId, List<Future<CompletedPart>> parts) {
+        parts.forEach(part -> part.cancel(true));
+
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.warn("S3 멀티파트 업로드 중단 및 정리: key={}, uploadId={}", key, uploadId);
+        } catch (Exception e) {
+            // 버킷 수명 주기 규칙이 최종적으로 정리
+            log.error("S3 멀티파트 업로드 정리 실패: key={}, uploadId={}, error={}", key, uploadId, e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partExecutor.shutdown();
+    }
+
+    /**
+     * 스레드 이름: s3-part-upload-N
+     */
+    private static class PartThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "s3-part-upload-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
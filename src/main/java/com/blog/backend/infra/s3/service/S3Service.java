@@ -1,9 +1,11 @@
 package com.blog.backend.infra.s3.service;
 
+import com.blog.backend.infra.s3.dto.S3PresignedUpload;
 import com.blog.backend.infra.s3.dto.S3UploadResult;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -75,6 +77,50 @@ public interface S3Service {
      */
     S3UploadResult uploadFile(MultipartFile file) throws IOException;
 
+    /**
+     * 클라이언트가 S3에 직접 업로드할 Presigned PUT URL 생성 (자동 타입 분류)
+     * - S3 Key를 미리 생성해 예약하고, Content-Type/Content-Length를 서명에 포함
+     * - 파일 본문은 애플리케이션 서버를 거치지 않음
+     *
+     * @param originalFilename 원본 파일명
+     * @param contentType MIME 타입
+     * @param fileSize 파일 크기 (bytes)
+     * @param minutes URL 유효 시간(분)
+     * @return 예약된 S3 Key와 Presigned URL
+     */
+    S3PresignedUpload createPresignedUpload(String originalFilename, String contentType, long fileSize, int minutes);
+
+    /**
+     * 업로드된 객체 확인 (HEAD 요청)
+     * - Presigned URL로 업로드한 객체의 실제 크기/타입 조회
+     *
+     * @param s3Key 확인할 S3 Key
+     * @param originalFilename 원본 파일명
+     * @return S3UploadResult 업로드된 파일 메타데이터
+     * @throws com.blog.backend.infra.s3.exception.S3CustomException 객체가 없을 경우
+     */
+    S3UploadResult getUploadedObject(String s3Key, String originalFilename);
+
+    /**
+     * S3 객체 본문을 스트림으로 조회
+     * - 이미지 파생본 생성처럼 서버에서 원본을 다시 읽어야 할 때 사용 (호출자가 스트림을 닫아야 함)
+     *
+     * @param s3Key 조회할 S3 Key
+     * @return 객체 본문 스트림
+     * @throws com.blog.backend.infra.s3.exception.S3CustomException 객체가 없을 경우
+     */
+    InputStream getFileStream(String s3Key);
+
+    /**
+     * 서버에서 생성한 파생 파일을 지정한 Key로 업로드
+     * - Key는 호출자가 원본 Key에서 파생 (S3KeyGenerator.generateVariantKey)
+     *
+     * @param s3Key 업로드할 S3 Key
+     * @param content 파일 본문
+     * @param contentType MIME 타입
+     */
+    void uploadDerivedFile(String s3Key, byte[] content, String contentType);
+
     /**
      * S3에 업로드된 파일을 삭제하고 CloudFront 캐시도 무효화
      *
@@ -1,6 +1,7 @@
 package com.blog.backend.infra.s3.service;
 
 import com.blog.backend.infra.s3.constant.S3StoragePath;
+import com.blog.backend.infra.s3.dto.S3PresignedUpload;
 import com.blog.backend.infra.s3.dto.S3UploadResult;
 import com.blog.backend.infra.s3.exception.S3CustomException;
 import com.blog.backend.infra.s3.util.S3KeyGenerator;
@@ -10,21 +11,21 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.cloudfront.CloudFrontClient;
-import software.amazon.awssdk.services.cloudfront.model.CreateInvalidationRequest;
-import software.amazon.awssdk.services.cloudfront.model.CreateInvalidationResponse;
-import software.amazon.awssdk.services.cloudfront.model.InvalidationBatch;
-import software.amazon.awssdk.services.cloudfront.model.Paths;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.blog.backend.infra.s3.util.S3FileTypeResolver.*;
@@ -34,18 +35,22 @@ import static com.blog.backend.infra.s3.util.S3FileTypeResolver.*;
  *
  * 핵심 특징:
  * - FileMetadata 의존성 완전 제거 (독립적인 S3 비즈니스 로직)
- * - CloudFront 캐시 무효화 처리
+ * - CloudFront 캐시 무효화 처리 (배처에 넘기고 응답을 기다리지 않음)
  * - S3UploadResult DTO를 통한 데이터 반환
+ * - 업로드는 멀티파트 임시 파일에서 스트리밍 (큰 파일은 S3 멀티파트 업로드)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3ServiceImpl implements S3Service {
 
+    private static final String CACHE_CONTROL = "public, max-age=604800";
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
-    private final CloudFrontClient cloudFrontClient;
     private final S3KeyGenerator s3KeyGenerator;
+    private final S3MultipartUploader s3MultipartUploader;
+    private final CloudFrontInvalidationBatcher cloudFrontInvalidationBatcher;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
@@ -56,9 +61,6 @@ public class S3ServiceImpl implements S3Service {
     @Value("${spring.cloud.aws.cloudfront.domain:}")
     private String cloudFrontDomain;
 
-    @Value("${spring.cloud.aws.cloudfront.distribution-id:}")
-    private String distributionId;
-
     @Override
     public S3UploadResult uploadPublicImage(MultipartFile file) throws IOException {
         return uploadFileInternal(file, S3StoragePath.PUBLIC_IMAGE);
@@ -95,6 +97,117 @@ public class S3ServiceImpl implements S3Service {
         return uploadFileInternal(file, storagePath);
     }
 
+    @Override
+    public S3PresignedUpload createPresignedUpload(
+            String originalFilename,
+            String contentType,
+            long fileSize,
+            int minutes
+    ) {
+        try {
+            // S3 Key 예약 (경로 + UUID 파일명)
+            String s3Key = s3KeyGenerator.generateS3Key(resolveStoragePath(originalFilename), originalFilename);
+
+            PutObjectRequest putRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .contentType(contentType)
+                    .contentLength(fileSize)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+
+            PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                    .signatureDuration(Duration.ofMinutes(minutes))
+                    .putObjectRequest(putRequest)
+                    .build();
+
+            PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignRequest);
+
+            // 클라이언트가 보내야 하는 서명된 헤더 (host는 브라우저가 자동으로 설정)
+            Map<String, String> headers = new LinkedHashMap<>();
+            presigned.signedHeaders().forEach((name, values) -> {
+                if (!"host".equalsIgnoreCase(name)) {
+                    headers.put(name, String.join(",", values));
+                }
+            });
+
+            log.info("Presigned PUT URL 생성 완료: path={}, size={}, 유효시간={}분", s3Key, fileSize, minutes);
+
+            return S3PresignedUpload.builder()
+                    .path(s3Key)
+                    .uploadUrl(presigned.url().toString())
+                    .headers(headers)
+                    .expiresAt(presigned.expiration())
+                    .build();
+
+        } catch (S3Exception e) {
+            log.error("Presigned PUT URL 생성 실패: {}", e.awsErrorDetails().errorMessage(), e);
+            throw S3CustomException.badRequest("Presigned URL 생성 실패: " + e.awsErrorDetails().errorMessage());
+        }
+    }
+
+    @Override
+    public S3UploadResult getUploadedObject(String s3Key, String originalFilename) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .build());
+
+            return S3UploadResult.builder()
+                    .originalName(originalFilename)
+                    .path(s3Key)
+                    .contentType(head.contentType())
+                    .fileSize(head.contentLength())
+                    .build();
+
+        } catch (S3Exception e) {
+            // HEAD 응답은 본문이 없어 NoSuchKeyException 대신 상태 코드로 구분
+            if (e.statusCode() == 404) {
+                log.warn("업로드된 객체 없음: key={}", s3Key);
+                throw S3CustomException.notFound("업로드된 파일을 찾을 수 없습니다.");
+            }
+            log.error("S3 객체 조회 실패: key={}, status={}", s3Key, e.statusCode(), e);
+            throw S3CustomException.badRequest("업로드된 파일 확인 실패: " + s3Key);
+        }
+    }
+
+    @Override
+    public InputStream getFileStream(String s3Key) {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .build());
+
+        } catch (NoSuchKeyException e) {
+            log.warn("S3 객체 없음: key={}", s3Key);
+            throw S3CustomException.notFound("파일을 찾을 수 없습니다.");
+        } catch (S3Exception e) {
+            log.error("S3 객체 다운로드 실패: key={}, error={}", s3Key, e.awsErrorDetails().errorMessage(), e);
+            throw S3CustomException.badRequest("파일 조회 실패: " + s3Key);
+        }
+    }
+
+    @Override
+    public void uploadDerivedFile(String s3Key, byte[] content, String contentType) {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(s3Key)
+                            .contentType(contentType)
+                            .cacheControl(CACHE_CONTROL)
+                            .build(),
+                    RequestBody.fromBytes(content));
+
+            log.debug("S3 파생 파일 업로드 성공: key={}, size={}", s3Key, content.length);
+
+        } catch (S3Exception e) {
+            log.error("S3 파생 파일 업로드 실패: key={}, error={}", s3Key, e.awsErrorDetails().errorMessage(), e);
+            throw S3CustomException.badRequest("S3 업로드 중 오류 발생: " + e.awsErrorDetails().errorMessage());
+        }
+    }
+
     @Override
     public String getPresignedUrl(String s3Key, int minutes) {
         if (s3Key == null || s3Key.isBlank()) {
@@ -139,10 +252,10 @@ public class S3ServiceImpl implements S3Service {
             // 1. S3에서 파일 삭제
             deleteFromS3(s3Key);
 
-            // 2. CloudFront 캐시 무효화
-            invalidateCloudFrontCache(s3Key);
+            // 2. CloudFront 캐시 무효화 (비동기 배치)
+            cloudFrontInvalidationBatcher.enqueue(List.of(s3Key));
 
-            log.info("파일 삭제 및 캐시 무효화 완료: path={}", s3Key);
+            log.info("파일 삭제 완료 및 캐시 무효화 등록: path={}", s3Key);
 
         } catch (S3Exception e) {
             log.error("S3 파일 삭제 실패: key={}, error={}", s3Key, e.awsErrorDetails().errorMessage(), e);
@@ -178,10 +291,8 @@ public class S3ServiceImpl implements S3Service {
             // 1. S3 멀티 삭제 (1000개씩 분할)
             allDeletedKeys = deleteMultipleFromS3(validKeys);
 
-            // 2. CloudFront 멀티 캐시 무효화
-            if (!allDeletedKeys.isEmpty()) {
-                invalidateMultipleCloudFrontCache(allDeletedKeys);
-            }
+            // 2. CloudFront 캐시 무효화 (비동기 배치)
+            cloudFrontInvalidationBatcher.enqueue(allDeletedKeys);
 
             log.info("멀티 파일 삭제 완료: 요청={}, 성공={}", validKeys.size(), allDeletedKeys.size());
             return allDeletedKeys;
@@ -197,6 +308,8 @@ public class S3ServiceImpl implements S3Service {
 
     /**
      * 파일을 S3에 업로드하고 메타데이터 반환
+     * - 파일 전체를 byte[]로 읽지 않고 입력 스트림에서 바로 전송
+     * - 임계값 이상이면 멀티파트 업로드 (파트 병렬 전송, 힙 사용량 = 파트 크기 × 병렬 수)
      */
     private S3UploadResult uploadFileInternal(
             MultipartFile file,
@@ -212,11 +325,17 @@ public class S3ServiceImpl implements S3Service {
                     .bucket(bucketName)
                     .key(s3Key)
                     .contentType(file.getContentType())
-                    .cacheControl("public, max-age=604800")
+                    .cacheControl(CACHE_CONTROL)
                     .build();
 
-            // S3에 파일 업로드
-            s3Client.putObject(putRequest, RequestBody.fromBytes(file.getBytes()));
+            // S3에 파일 업로드 (스트리밍)
+            try (InputStream inputStream = file.getInputStream()) {
+                if (s3MultipartUploader.shouldUseMultipart(file.getSize())) {
+                    s3MultipartUploader.upload(putRequest, inputStream, file.getSize());
+                } else {
+                    s3Client.putObject(putRequest, RequestBody.fromInputStream(inputStream, file.getSize()));
+                }
+            }
             log.info("S3 파일 업로드 성공: bucket={}, key={}", bucketName, s3Key);
 
             // S3UploadResult 반환 (비즈니스 로직에서 DB 저장 처리)
@@ -314,105 +433,6 @@ public class S3ServiceImpl implements S3Service {
         return allDeletedKeys;
     }
 
-    /**
-     * CloudFront 캐시 무효화
-     */
-    private void invalidateCloudFrontCache(String s3Key) {
-        if (distributionId == null || distributionId.isBlank()) {
-            log.warn("CloudFront Distribution ID가 설정되지 않아 캐시 무효화를 건너뜁니다.");
-            return;
-        }
-
-        try {
-            String path = "/" + s3Key;
-
-            Paths invalidationPaths = Paths.builder()
-                    .items(path)
-                    .quantity(1)
-                    .build();
-
-            InvalidationBatch batch = InvalidationBatch.builder()
-                    .paths(invalidationPaths)
-                    .callerReference(String.valueOf(System.currentTimeMillis()))
-                    .build();
-
-            CreateInvalidationRequest request = CreateInvalidationRequest.builder()
-                    .distributionId(distributionId)
-                    .invalidationBatch(batch)
-                    .build();
-
-            CreateInvalidationResponse response = cloudFrontClient.createInvalidation(request);
-            log.info("CloudFront 캐시 무효화 성공: distributionId={}, invalidationId={}, path={}",
-                    distributionId, response.invalidation().id(), path);
-
-        } catch (Exception e) {
-            log.error("CloudFront 캐시 무효화 실패: {}", e.getMessage(), e);
-            // 캐시 무효화 실패는 치명적이지 않으므로 예외를 던지지 않음
-        }
-    }
-
-
-    /**
-     * CloudFront 멀티 캐시 무효화
-     *
-     * CloudFront는 한 번의 요청으로 최대 3,000개의 경로를 무효화할 수 있습니다.
-     * 와일드카드(*)를 사용하면 전체 무효화도 가능하지만, 명시적 경로 무효화가 더 안전합니다.
-     *
-     * @param s3Keys 캐시 무효화할 S3 Key 목록
-     */
-    private void invalidateMultipleCloudFrontCache(List<String> s3Keys) {
-        if (distributionId == null || distributionId.isBlank()) {
-            log.warn("CloudFront Distribution ID가 설정되지 않아 캐시 무효화를 건너뜁니다.");
-            return;
-        }
-
-        if (s3Keys == null || s3Keys.isEmpty()) {
-            log.info("캐시 무효화할 경로가 없음");
-            return;
-        }
-
-        try {
-            // S3 Key를 CloudFront 경로로 변환 (/로 시작)
-            List<String> paths = s3Keys.stream()
-                    .map(key -> "/" + key)
-                    .collect(Collectors.toList());
-
-            // CloudFront는 한 번에 최대 3,000개까지 지원하지만, 안전하게 1,000개씩 분할
-            int batchSize = 1000;
-            int totalBatches = (paths.size() + batchSize - 1) / batchSize;
-
-            for (int i = 0; i < paths.size(); i += batchSize) {
-                int endIndex = Math.min(i + batchSize, paths.size());
-                List<String> batchPaths = paths.subList(i, endIndex);
-
-                Paths invalidationPaths = Paths.builder()
-                        .items(batchPaths)
-                        .quantity(batchPaths.size())
-                        .build();
-
-                InvalidationBatch batch = InvalidationBatch.builder()
-                        .paths(invalidationPaths)
-                        .callerReference(String.valueOf(System.currentTimeMillis()) + "-" + i)
-                        .build();
-
-                CreateInvalidationRequest request = CreateInvalidationRequest.builder()
-                        .distributionId(distributionId)
-                        .invalidationBatch(batch)
-                        .build();
-
-                CreateInvalidationResponse response = cloudFrontClient.createInvalidation(request);
-
-                log.info("CloudFront 멀티 캐시 무효화 완료: batch={}/{}, invalidationId={}, paths={}",
-                        (i / batchSize) + 1, totalBatches,
-                        response.invalidation().id(), batchPaths.size());
-            }
-
-        } catch (Exception e) {
-            log.error("CloudFront 멀티 캐시 무효화 실패: {}", e.getMessage(), e);
-            // 캐시 무효화 실패는 치명적이지 않으므로 예외를 던지지 않음
-        }
-    }
-
     /**
      * 공개 URL 생성 (CloudFront 우선)
      */
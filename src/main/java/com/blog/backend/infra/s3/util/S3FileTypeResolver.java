@@ -15,9 +15,19 @@ public class S3FileTypeResolver {
      * @return S3 저장 경로
      */
     public static S3StoragePath resolveStoragePath(MultipartFile file) {
-        String extension = extractExtension(file.getOriginalFilename());
+        return resolveStoragePath(file.getOriginalFilename());
+    }
+
+    /**
+     * 파일명의 확장자 기반으로 S3 저장 경로 결정
+     *
+     * @param filename 원본 파일명
+     * @return S3 저장 경로
+     */
+    public static S3StoragePath resolveStoragePath(String filename) {
+        String extension = extractExtension(filename);
 
-        log.debug("파일 저장 경로 결정: {} (확장자: .{})", file.getOriginalFilename(), extension);
+        log.debug("파일 저장 경로 결정: {} (확장자: .{})", filename, extension);
 
         // 확장자 기반 경로 분류
         if (FileTypeConstants.Image.ALLOWED_EXTENSIONS.contains(extension)) {
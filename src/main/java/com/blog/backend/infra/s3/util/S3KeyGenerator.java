@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Component
 public class S3KeyGenerator {
@@ -22,6 +23,46 @@ public class S3KeyGenerator {
         return resolveDirectoryPath(pathType) + "/" + toUUIDName(originalFilename);
     }
 
+    /**
+     * generateS3Key가 만든 형식의 Key인지 확인
+     * - 클라이언트가 돌려준 Key가 같은 경로 타입/확장자로 발급된 형식인지 검증 (임의 경로 등록 방지)
+     *
+     * @param pathType S3 저장 경로 타입
+     * @param originalFilename 원본 파일명
+     * @param s3Key 확인할 S3 Key
+     * @return 형식이 맞으면 true
+     */
+    public boolean isGeneratedKey(S3StoragePath pathType, String originalFilename, String s3Key) {
+        if (s3Key == null || originalFilename == null) {
+            return false;
+        }
+
+        String pattern = Pattern.quote(pathType.getBasePath())
+                + "/\\d{4}/\\d{2}/\\d{2}/[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}"
+                + Pattern.quote(extractExtension(originalFilename));
+
+        return s3Key.matches(pattern);
+    }
+
+    /**
+     * 파생 파일 Key 생성 (원본과 같은 디렉토리)
+     * 형식: {원본 Key에서 확장자 제외}_w{width}.{extension}
+     * 예: public/images/2026/01/21/550e8400-e29b-41d4-a716-446655440000_w640.webp
+     * - isGeneratedKey 형식과 겹치지 않으므로 업로드 완료 API로 등록할 수 없음
+     *
+     * @param sourceKey 원본 S3 Key
+     * @param width 파생본 너비 (px)
+     * @param extension 파생본 확장자 ('.' 제외)
+     * @return 파생 파일 S3 Key
+     */
+    public String generateVariantKey(String sourceKey, int width, String extension) {
+        int lastSlashIndex = sourceKey.lastIndexOf('/');
+        int lastDotIndex = sourceKey.lastIndexOf('.');
+        String baseKey = lastDotIndex > lastSlashIndex ? sourceKey.substring(0, lastDotIndex) : sourceKey;
+
+        return baseKey + "_w" + width + "." + extension;
+    }
+
     /**
      * 날짜 기반 디렉토리 경로 생성
      * 형식: {basePath}/{yyyy/MM/dd}
@@ -37,15 +78,19 @@ public class S3KeyGenerator {
      * 형식: {UUID}.{extension}
      */
     private String toUUIDName(String originalFilename) {
-        // 확장자 추출 (마지막 '.' 부터 끝까지)
-        String extension = "";
+        // UUID와 확장자 결합하여 반환
+        return UUID.randomUUID().toString() + extractExtension(originalFilename);
+    }
+
+    /**
+     * 확장자 추출 (마지막 '.' 부터 끝까지, 없으면 빈 문자열)
+     */
+    private String extractExtension(String originalFilename) {
         int lastDotIndex = originalFilename.lastIndexOf(".");
 
         if (lastDotIndex != -1 && lastDotIndex < originalFilename.length() - 1) {
-            extension = originalFilename.substring(lastDotIndex);
+            return originalFilename.substring(lastDotIndex);
         }
-
-        // UUID와 확장자 결합하여 반환
-        return UUID.randomUUID().toString() + extension;
+        return "";
     }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.blog.backend.feature.post.cache;
+
+import com.blog.backend.feature.post.dto.PostResponse;
+import com.blog.backend.feature.post.event.PostChangeType;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.stack.event.StackChangedEvent;
+import com.blog.backend.feature.user.event.AuthorChangedEvent;
+import com.blog.backend.global.cache.registry.CacheStatsRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostDetailCacheTest {
+
+    private PostDetailCache cache;
+    private Map<String, AtomicInteger> loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PostDetailCache(new CacheStatsRegistry(), 16, 60);
+        loads = new HashMap<>();
+    }
+
+    @Test
+    void hitDoesNotReload() {
+        load("a", 1L, List.of());
+        load("a", 1L, List.of());
+
+        assertThat(loadCount("a")).isEqualTo(1);
+    }
+
+    @Test
+    void updateEvictsOwnSlugAndDetailsShowingItAsRelated() {
+        load("a", 1L, List.of());
+        load("b", 2L, List.of(item(1L, "a")));
+        load("c", 3L, List.of());
+
+        cache.onPostChanged(PostChangedEvent.updated(1L, 10L, false, "a"));
+
+        load("a", 1L, List.of());
+        load("b", 2L, List.of(item(1L, "a")));
+        load("c", 3L, List.of());
+
+        assertThat(loadCount("a")).isEqualTo(2);
+        assertThat(loadCount("b")).isEqualTo(2);
+        assertThat(loadCount("c")).isEqualTo(1);
+    }
+
+    @Test
+    void renameEvictsPreviousAndNewSlug() {
+        load("old-slug", 1L, List.of());
+
+        cache.onPostChanged(PostChangedEvent.updated(1L, 10L, false, "old-slug", "new-slug"));
+
+        load("old-slug", 1L, List.of());
+        assertThat(loadCount("old-slug")).isEqualTo(2);
+    }
+
+    @Test
+    void createEvictsOnlyItsOwnSlug() {
+        load("a", 1L, List.of());
+        load("b", 2L, List.of(item(1L, "a")));
+
+        cache.onPostChanged(PostChangedEvent.of(1L, 10L, PostChangeType.CREATED, "a"));
+
+        load("b", 2L, List.of(item(1L, "a")));
+        assertThat(loadCount("b")).isEqualTo(1);
+    }
+
+    @Test
+    void authorChangeEvictsEveryDetail() {
+        load("a", 1L, List.of());
+        load("b", 2L, List.of(item(1L, "a")));
+
+        cache.onAuthorChanged(new AuthorChangedEvent(10L, "writer", "renamed", null));
+
+        PostResponse.Detail reloaded = cache.get("a", slug -> detail(slug, 1L, "renamed", List.of()));
+        load("b", 2L, List.of(item(1L, "a")));
+
+        assertThat(reloaded.getAuthor().getNickname()).isEqualTo("renamed");
+        assertThat(loadCount("b")).isEqualTo(2);
+    }
+
+    @Test
+    void stackChangeEvictsEveryDetail() {
+        load("a", 1L, List.of());
+        load("b", 2L, List.of(item(1L, "a")));
+
+        cache.onStackChanged(StackChangedEvent.renamed(7L, "Java", "Jakarta", List.of(1L)));
+
+        load("a", 1L, List.of());
+        load("b", 2L, List.of(item(1L, "a")));
+
+        assertThat(loadCount("a")).isEqualTo(2);
+        assertThat(loadCount("b")).isEqualTo(2);
+    }
+
+    private void load(String slug, Long id, List<PostResponse.PostItems> related) {
+        cache.get(slug, key -> {
+            loads.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            return detail(key, id, "writer", related);
+        });
+    }
+
+    private int loadCount(String slug) {
+        return loads.getOrDefault(slug, new AtomicInteger()).get();
+    }
+
+    private static PostResponse.Detail detail(String slug, Long id, String nickname, List<PostResponse.PostItems> related) {
+        return PostResponse.Detail.of(id, slug, "title", "excerpt", null, "content", null, null, null,
+                List.of(), List.of(), PostResponse.AuthorInfo.of(nickname, null), related, null, null);
+    }
+
+    private static PostResponse.PostItems item(Long id, String slug) {
+        return PostResponse.PostItems.of(id, slug, "title", "excerpt", null, null, null, null,
+                List.of(), List.of(), PostResponse.AuthorInfo.of("writer", null), null);
+    }
+}
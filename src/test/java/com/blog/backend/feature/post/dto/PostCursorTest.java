@@ -0,0 +1,59 @@
+package com.blog.backend.feature.post.dto;
+
+import com.blog.backend.global.core.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    void encodeThenDecodeRestoresPosition() {
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        assertThat(PostCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafeWithoutPadding() {
+        String encoded = new PostCursor(LocalDateTime.of(2025, 3, 1, 0, 0), 1L).encode();
+
+        assertThat(encoded).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(PostCursor.decode(null)).isNull();
+        assertThat(PostCursor.decode("")).isNull();
+        assertThat(PostCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> PostCursor.decode("not base64!"))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> PostCursor.decode(encodeRaw("2025-03-01T00:00")))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> PostCursor.decode(encodeRaw("yesterday_1")))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> PostCursor.decode(encodeRaw("2025-03-01T00:00_abc")))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void sizeIsClampedToAllowedRange() {
+        assertThat(PostCursor.normalizeSize(0)).isEqualTo(1);
+        assertThat(PostCursor.normalizeSize(-5)).isEqualTo(1);
+        assertThat(PostCursor.normalizeSize(20)).isEqualTo(20);
+        assertThat(PostCursor.normalizeSize(PostCursor.MAX_SIZE + 1)).isEqualTo(PostCursor.MAX_SIZE);
+    }
+
+    private String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
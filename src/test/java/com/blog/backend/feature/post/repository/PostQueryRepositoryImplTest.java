@@ -0,0 +1,124 @@
+package com.blog.backend.feature.post.repository;
+
+import com.blog.backend.feature.post.dto.PostCursor;
+import com.blog.backend.feature.post.entity.Post;
+import com.blog.backend.feature.post.entity.PostStatus;
+import com.blog.backend.feature.post.entity.PostType;
+import com.blog.backend.feature.user.entity.User;
+import com.blog.backend.feature.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class PostQueryRepositoryImplTest {
+
+    private static final int TOTAL = 5;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Specification<Post> published = PostSpecification.publishedOnly();
+
+    private List<Long> newestFirst;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("writer@example.com")
+                .password("password")
+                .name("writer")
+                .nickname("writer")
+                .build());
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < TOTAL; i++) {
+            ids.add(postRepository.save(Post.builder()
+                    .user(user)
+                    .postType(PostType.values()[0])
+                    .title("title-" + i)
+                    .slug("slug-" + i)
+                    .excerpt("excerpt")
+                    .status(PostStatus.PUBLISHED)
+                    .build()).getId());
+        }
+        postRepository.save(Post.builder()
+                .user(user)
+                .postType(PostType.values()[0])
+                .title("deleted")
+                .slug("deleted")
+                .excerpt("excerpt")
+                .status(PostStatus.DELETED)
+                .build());
+        postRepository.flush();
+        // 커서는 DB에 저장된 작성일(정밀도 절삭)로 만들어지므로 영속성 컨텍스트를 비워 다시 조회
+        entityManager.clear();
+
+        newestFirst = ids.reversed();
+    }
+
+    @Test
+    void sliceHasNextWhenMoreRowsRemain() {
+        Slice<Long> slice = postRepository.findIdSlice(published, PageRequest.of(0, 2, PostCursor.SORT));
+
+        assertThat(slice.getContent()).containsExactlyElementsOf(newestFirst.subList(0, 2));
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    void lastPartialSliceHasNoNext() {
+        Slice<Long> slice = postRepository.findIdSlice(published, PageRequest.of(2, 2, PostCursor.SORT));
+
+        assertThat(slice.getContent()).containsExactlyElementsOf(newestFirst.subList(4, 5));
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    void sliceEndingExactlyAtLastRowHasNoNext() {
+        Slice<Long> slice = postRepository.findIdSlice(published, PageRequest.of(0, TOTAL, PostCursor.SORT));
+
+        assertThat(slice.getContent()).containsExactlyElementsOf(newestFirst);
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    void sliceBeyondLastRowIsEmpty() {
+        Slice<Long> slice = postRepository.findIdSlice(published, PageRequest.of(3, 2, PostCursor.SORT));
+
+        assertThat(slice.getContent()).isEmpty();
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    void keysetPagesWalkAllRowsWithoutGapsOrDuplicates() {
+        List<Long> seen = new ArrayList<>();
+        PostCursor cursor = null;
+        List<Long> ids;
+        do {
+            ids = postRepository.findIds(published.and(PostSpecification.after(cursor)), PostCursor.SORT, 2);
+            seen.addAll(ids);
+            if (!ids.isEmpty()) {
+                Post last = postRepository.findById(ids.get(ids.size() - 1)).orElseThrow();
+                cursor = new PostCursor(last.getCreatedAt(), last.getId());
+            }
+        } while (ids.size() == 2);
+
+        assertThat(seen).containsExactlyElementsOf(newestFirst);
+    }
+}
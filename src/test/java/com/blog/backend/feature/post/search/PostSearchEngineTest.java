@@ -0,0 +1,179 @@
+package com.blog.backend.feature.post.search;
+
+import com.blog.backend.feature.post.dto.PostCursor;
+import com.blog.backend.feature.post.dto.PostSearchCondition;
+import com.blog.backend.feature.post.entity.PostType;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.stack.event.StackChangedEvent;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostSearchEngineTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @TempDir
+    Path indexDir;
+
+    private PostSearchDocumentLoader loader;
+    private ContentVersionRegistry contentVersionRegistry;
+    private PostSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        loader = mock(PostSearchDocumentLoader.class);
+        contentVersionRegistry = mock(ContentVersionRegistry.class);
+        engine = new PostSearchEngine(loader, contentVersionRegistry, true, indexDir.toString(), 0);
+        engine.open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.close();
+    }
+
+    @Test
+    void postChangeDuringRebuildIsNotCommittedUntilRebuildFinishesAndIsThenApplied() {
+        givenPublished(List.of(document(1L, "spring cache"), document(2L, "spring search")));
+        engine.rebuild();
+
+        AtomicReference<List<Long>> seenDuringRebuild = new AtomicReference<>();
+        givenLoaded(document(3L, "spring batch"));
+        doAnswer(invocation -> {
+            Consumer<PostSearchDocument> consumer = invocation.getArgument(0);
+            consumer.accept(document(1L, "spring cache"));
+
+            // 재구축 도중 다른 스레드에서 게시글 변경 + 검색
+            CompletableFuture.runAsync(() -> {
+                engine.onPostChanged(PostChangedEvent.updated(3L, 10L, false, "post-3"));
+                seenDuringRebuild.set(search("spring"));
+            }).get(5, TimeUnit.SECONDS);
+
+            consumer.accept(document(2L, "spring search"));
+            return 2;
+        }).when(loader).forEachPublished(any());
+
+        engine.rebuild();
+
+        // 재구축 중에는 마지막 커밋(문서 1, 2)이 그대로 보임
+        assertThat(seenDuringRebuild.get()).containsExactlyInAnyOrder(1L, 2L);
+        // 재구축 이후 대기 중이던 변경이 반영됨
+        assertThat(search("spring")).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void postChangeOutsideRebuildIsAppliedByIndexerThread() throws Exception {
+        givenPublished(List.of(document(1L, "spring cache")));
+        engine.rebuild();
+
+        givenLoaded();
+        engine.onPostChanged(PostChangedEvent.updated(1L, 10L, false, "post-1"));
+        engine.awaitIndexer();
+
+        assertThat(search("spring")).isEmpty();
+        // 재구축 1회 + 변경 반영 1회
+        verify(contentVersionRegistry, times(2)).bump(ContentScope.POSTS);
+    }
+
+    @Test
+    void changesWithinWindowAreLoadedTogether() throws Exception {
+        givenPublished(List.of());
+        engine.rebuild();
+        engine.close();
+
+        engine = new PostSearchEngine(loader, contentVersionRegistry, true, indexDir.toString(), 200);
+        engine.open();
+        givenLoaded(document(1L, "spring cache"), document(2L, "spring search"));
+
+        engine.onPostChanged(PostChangedEvent.updated(1L, 10L, false, "post-1"));
+        engine.onPostChanged(PostChangedEvent.updated(2L, 10L, false, "post-2"));
+        engine.awaitIndexer();
+
+        verify(loader, times(1)).loadPublished(anyCollection());
+        assertThat(search("spring")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void stackFilterIgnoresCase() {
+        givenPublished(List.of(
+                document(1L, "spring cache", List.of("Java")),
+                document(2L, "spring search", List.of("Kotlin"))
+        ));
+        engine.rebuild();
+
+        assertThat(searchWithStack("spring", "java")).containsExactly(1L);
+    }
+
+    @Test
+    void stackRenameReindexesPostsUsingTheStack() throws Exception {
+        givenPublished(List.of(document(1L, "spring cache", List.of("Java"))));
+        engine.rebuild();
+
+        givenLoaded(document(1L, "spring cache", List.of("Jakarta")));
+        engine.onStackChanged(StackChangedEvent.renamed(7L, "Java", "Jakarta", List.of(1L)));
+        engine.awaitIndexer();
+
+        assertThat(searchWithStack("spring", "jakarta")).containsExactly(1L);
+        assertThat(searchWithStack("spring", "java")).isEmpty();
+    }
+
+    private void givenPublished(List<PostSearchDocument> documents) {
+        doAnswer(invocation -> {
+            Consumer<PostSearchDocument> consumer = invocation.getArgument(0);
+            documents.forEach(consumer);
+            return documents.size();
+        }).when(loader).forEachPublished(any());
+    }
+
+    private void givenLoaded(PostSearchDocument... documents) {
+        when(loader.loadPublished(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> postIds = invocation.getArgument(0);
+            return Arrays.stream(documents)
+                    .filter(document -> postIds.contains(document.postId()))
+                    .collect(Collectors.toMap(PostSearchDocument::postId, document -> document));
+        });
+    }
+
+    private List<Long> search(String keyword) {
+        PostSearchCondition condition = PostSearchCondition.builder().keyword(keyword).build();
+        return engine.searchAfter(condition, null, null, 10).stream().map(PostCursor::id).toList();
+    }
+
+    private List<Long> searchWithStack(String keyword, String stackName) {
+        PostSearchCondition condition = PostSearchCondition.builder().keyword(keyword).stackName(stackName).build();
+        return engine.searchAfter(condition, null, null, 10).stream().map(PostCursor::id).toList();
+    }
+
+    private static PostSearchDocument document(Long id, String title) {
+        return document(id, title, List.of());
+    }
+
+    private static PostSearchDocument document(Long id, String title, List<String> stacks) {
+        return new PostSearchDocument(id, 10L, PostType.values()[0], title, "", "", List.of(), stacks,
+                BASE.plusDays(id));
+    }
+}
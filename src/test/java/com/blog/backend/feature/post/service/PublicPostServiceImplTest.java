@@ -0,0 +1,103 @@
+package com.blog.backend.feature.post.service;
+
+import com.blog.backend.feature.post.cache.PostCountCache;
+import com.blog.backend.feature.post.cache.PostDetailCache;
+import com.blog.backend.feature.post.dto.PostCursor;
+import com.blog.backend.feature.post.dto.PostResponse;
+import com.blog.backend.feature.post.dto.PostSearchCondition;
+import com.blog.backend.feature.post.mapper.PostItemsMapper;
+import com.blog.backend.feature.post.repository.PostRepository;
+import com.blog.backend.feature.post.search.PostSearchEngine;
+import com.blog.backend.feature.post.strategy.PostSearchStrategy;
+import com.blog.backend.feature.user.cache.AuthorCache;
+import com.blog.backend.global.core.response.CursorPageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PublicPostServiceImplTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private PostSearchEngine postSearchEngine;
+    private PostItemsMapper postItemsMapper;
+    private PublicPostServiceImpl service;
+
+    private final PostSearchCondition condition = PostSearchCondition.ofPublic(null, null, "spring");
+
+    @BeforeEach
+    void setUp() {
+        postSearchEngine = mock(PostSearchEngine.class);
+        postItemsMapper = mock(PostItemsMapper.class);
+        service = new PublicPostServiceImpl(
+                mock(PostRepository.class),
+                mock(PostSearchStrategy.class),
+                mock(PostDetailCache.class),
+                mock(PostDetailLoader.class),
+                mock(PostCountCache.class),
+                postSearchEngine,
+                mock(AuthorCache.class),
+                postItemsMapper
+        );
+        when(postSearchEngine.isAvailable()).thenReturn(true);
+    }
+
+    @Test
+    void fullTextCursorPageSkipsStaleHitsAndKeepsFetchingUntilFull() {
+        // 4번은 인덱스에는 남아 있지만 이미 비공개로 바뀐 게시글
+        when(postSearchEngine.searchAfter(any(), isNull(), isNull(), eq(3)))
+                .thenReturn(positions(5, 4, 3));
+        when(postSearchEngine.searchAfter(any(), isNull(), eq(position(3)), eq(3)))
+                .thenReturn(positions(2, 1));
+        when(postItemsMapper.toPublishedPostItemsInOrder(List.of(5L, 4L, 3L))).thenReturn(items(5, 3));
+        when(postItemsMapper.toPublishedPostItemsInOrder(List.of(2L, 1L))).thenReturn(items(2, 1));
+
+        CursorPageResponse<PostResponse.PostItems> page = service.searchPostsByCursor(condition, null, 2);
+
+        assertThat(page.getContent()).extracting(PostResponse.PostItems::getId).containsExactly(5L, 3L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(PostCursor.decode(page.getNextCursor())).isEqualTo(position(3));
+    }
+
+    @Test
+    void fullTextCursorPageEndsWhenIndexIsExhausted() {
+        when(postSearchEngine.searchAfter(any(), isNull(), isNull(), eq(3)))
+                .thenReturn(positions(5, 4));
+        when(postItemsMapper.toPublishedPostItemsInOrder(List.of(5L, 4L))).thenReturn(items(5));
+
+        CursorPageResponse<PostResponse.PostItems> page = service.searchPostsByCursor(condition, null, 2);
+
+        assertThat(page.getContent()).extracting(PostResponse.PostItems::getId).containsExactly(5L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        verify(postSearchEngine, times(1)).searchAfter(any(), any(), any(), anyInt());
+    }
+
+    private PostCursor position(long id) {
+        return new PostCursor(BASE.plusDays(id), id);
+    }
+
+    private List<PostCursor> positions(long... ids) {
+        return Arrays.stream(ids).mapToObj(this::position).toList();
+    }
+
+    private List<PostResponse.PostItems> items(long... ids) {
+        return Arrays.stream(ids)
+                .mapToObj(id -> PostResponse.PostItems.of(id, "post-" + id, "title", "excerpt", null, null, null,
+                        null, List.of(), List.of(), null, BASE.plusDays(id)))
+                .toList();
+    }
+}
@@ -0,0 +1,98 @@
+package com.blog.backend.feature.post.service;
+
+import com.blog.backend.feature.post.event.PostChangeType;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.stack.event.StackChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class RelatedPostRefreshBatcherTest {
+
+    private final RelatedPostService relatedPostService = mock(RelatedPostService.class);
+    private RelatedPostRefreshBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+    }
+
+    @Test
+    void changesWithinWindowAreRefreshedTogether() {
+        batcher = new RelatedPostRefreshBatcher(relatedPostService, 50, 100);
+        PostChangedEvent first = created(1L);
+        PostChangedEvent second = created(2L);
+
+        batcher.onPostChanged(first);
+        batcher.onPostChanged(second);
+
+        verify(relatedPostService, timeout(2000)).refreshAffected(List.of(first, second));
+    }
+
+    @Test
+    void fullBatchIsRefreshedWithoutWaitingForWindow() {
+        batcher = new RelatedPostRefreshBatcher(relatedPostService, 60_000, 2);
+        PostChangedEvent first = created(1L);
+        PostChangedEvent second = created(2L);
+
+        batcher.onPostChanged(first);
+        batcher.onPostChanged(second);
+
+        verify(relatedPostService, timeout(2000)).refreshAffected(List.of(first, second));
+    }
+
+    @Test
+    void changesNotAffectingRelationsAreIgnored() {
+        batcher = new RelatedPostRefreshBatcher(relatedPostService, 60_000, 100);
+
+        batcher.onPostChanged(PostChangedEvent.updated(1L, 100L, false, "post"));
+        batcher.shutdown();
+
+        verify(relatedPostService, never()).refreshAffected(anyList());
+    }
+
+    @Test
+    void stackDeletionRefreshesPostsThatUsedTheStack() {
+        batcher = new RelatedPostRefreshBatcher(relatedPostService, 60_000, 100);
+
+        batcher.onStackChanged(StackChangedEvent.deleted(7L, "Spring", List.of(1L, 2L)));
+        batcher.shutdown();
+
+        verify(relatedPostService).refreshAffected(List.of(
+                PostChangedEvent.updated(1L, null, true),
+                PostChangedEvent.updated(2L, null, true)
+        ));
+    }
+
+    @Test
+    void stackRenameIsIgnored() {
+        batcher = new RelatedPostRefreshBatcher(relatedPostService, 60_000, 100);
+
+        batcher.onStackChanged(StackChangedEvent.renamed(7L, "Spring", "Spring Boot", List.of(1L)));
+        batcher.shutdown();
+
+        verify(relatedPostService, never()).refreshAffected(anyList());
+    }
+
+    @Test
+    void pendingChangesAreRefreshedOnShutdown() {
+        batcher = new RelatedPostRefreshBatcher(relatedPostService, 60_000, 100);
+        PostChangedEvent event = created(1L);
+
+        batcher.onPostChanged(event);
+        batcher.shutdown();
+
+        verify(relatedPostService).refreshAffected(List.of(event));
+    }
+
+    private PostChangedEvent created(Long postId) {
+        return PostChangedEvent.of(postId, 100L, PostChangeType.CREATED, "post-" + postId);
+    }
+}
@@ -0,0 +1,113 @@
+package com.blog.backend.feature.post.service;
+
+import com.blog.backend.feature.post.entity.PostType;
+import com.blog.backend.feature.post.entity.RelatedPost;
+import com.blog.backend.feature.post.event.PostChangeType;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.post.event.RelatedPostsChangedEvent;
+import com.blog.backend.feature.post.mapper.PostItemsMapper;
+import com.blog.backend.feature.post.repository.PostRepository;
+import com.blog.backend.feature.post.repository.RelatedPostRepository;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RelatedPostServiceImplTest {
+
+    private static final PostType TYPE = PostType.values()[0];
+
+    private PostRepository postRepository;
+    private RelatedPostRepository relatedPostRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private ContentVersionRegistry contentVersionRegistry;
+    private RelatedPostServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        relatedPostRepository = mock(RelatedPostRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        contentVersionRegistry = mock(ContentVersionRegistry.class);
+        service = new RelatedPostServiceImpl(postRepository, relatedPostRepository, eventPublisher,
+                mock(PostItemsMapper.class), contentVersionRegistry);
+    }
+
+    @Test
+    void createdPostMakesListsFilledWithLatestPostsDirty() {
+        // 1번 게시글은 스택 일치 게시글이 없어 최신 게시글(7번)로 채워져 있음
+        when(relatedPostRepository.findPostIdsWithFallback()).thenReturn(List.of(1L));
+        when(relatedPostRepository.findByPostIdOrderByRankOrderAsc(1L)).thenReturn(List.of(RelatedPost.of(1L, 7L, 0, true)));
+        givenPublic(1L, List.of(10L, 7L));
+        givenPublic(10L, List.of(7L, 1L));
+
+        service.refreshAffected(List.of(PostChangedEvent.of(10L, 100L, PostChangeType.CREATED, "new-post")));
+
+        verify(relatedPostRepository).deleteByPostId(1L);
+        verify(relatedPostRepository).deleteByPostId(10L);
+        assertThat(publishedPostIds()).containsExactlyInAnyOrder(1L, 10L);
+        verify(contentVersionRegistry).bumpAfterCommit(ContentScope.POSTS);
+    }
+
+    @Test
+    void updateWithoutNewPublicPostLeavesLatestFallbackListsAlone() {
+        givenPublic(10L, List.of(7L));
+
+        service.refreshAffected(List.of(PostChangedEvent.updated(10L, 100L, true, "post")));
+
+        verify(relatedPostRepository, never()).findPostIdsWithFallback();
+        verify(relatedPostRepository, never()).deleteByPostId(1L);
+    }
+
+    @Test
+    void unchangedListIsNotRewritten() {
+        when(relatedPostRepository.findByPostIdOrderByRankOrderAsc(10L)).thenReturn(List.of(RelatedPost.of(10L, 7L, 0, true)));
+        givenPublic(10L, List.of(7L));
+
+        service.refreshAffected(List.of(PostChangedEvent.updated(10L, 100L, true, "post")));
+
+        verify(relatedPostRepository, never()).deleteByPostId(any());
+        verify(relatedPostRepository, never()).saveAll(anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(contentVersionRegistry, never()).bumpAfterCommit(ContentScope.POSTS);
+    }
+
+    @Test
+    void purgedPostDropsItsRowsAndRefreshesListsReferencingIt() {
+        when(relatedPostRepository.findPostIdsByRelatedPostId(10L)).thenReturn(List.of(1L));
+        when(relatedPostRepository.findByPostIdOrderByRankOrderAsc(1L)).thenReturn(List.of(RelatedPost.of(1L, 10L, 0, true)));
+        givenPublic(1L, List.of(7L));
+
+        service.refreshAffected(List.of(PostChangedEvent.of(10L, 100L, PostChangeType.PURGED, "post")));
+
+        verify(relatedPostRepository).deleteByPostId(10L);
+        verify(relatedPostRepository).deleteByPostId(1L);
+        assertThat(publishedPostIds()).containsExactly(1L);
+    }
+
+    private void givenPublic(Long postId, List<Long> latestIds) {
+        when(postRepository.findPublicPostTypeById(postId)).thenReturn(Optional.of(TYPE));
+        when(postRepository.findLatestPublicPostIds(eq(postId), any())).thenReturn(latestIds);
+    }
+
+    private Set<Long> publishedPostIds() {
+        ArgumentCaptor<RelatedPostsChangedEvent> captor = ArgumentCaptor.forClass(RelatedPostsChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue().postIds();
+    }
+}
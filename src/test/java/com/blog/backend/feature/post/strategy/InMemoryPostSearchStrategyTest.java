@@ -0,0 +1,150 @@
+package com.blog.backend.feature.post.strategy;
+
+import com.blog.backend.feature.post.dto.PostResponse;
+import com.blog.backend.feature.post.event.PostChangeType;
+import com.blog.backend.feature.post.event.PostChangedEvent;
+import com.blog.backend.feature.stack.event.StackChangedEvent;
+import com.blog.backend.feature.user.event.AuthorChangedEvent;
+import com.blog.backend.global.file.dto.ImageVariantResponse;
+import com.blog.backend.global.file.event.ImageVariantsCreatedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InMemoryPostSearchStrategyTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private PostSearchIndexLoader loader;
+    private InMemoryPostSearchStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        loader = mock(PostSearchIndexLoader.class);
+        when(loader.loadAllPublished()).thenReturn(List.of(
+                item(1L, "Spring cache", "intro", "writer", 1),
+                item(2L, "Spring search", "lucene", "writer", 2),
+                item(3L, "Java records", "spring data", "other", 3)
+        ));
+
+        strategy = new InMemoryPostSearchStrategy(loader);
+        strategy.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        strategy.shutdown();
+    }
+
+    @Test
+    void titleMatchesComeFirstNewestFirstThenExcerptMatches() {
+        assertThat(ids(strategy.autocomplete("spring", 10))).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void postChangeReplacesOnlyThatPost() throws Exception {
+        givenLoaded(item(1L, "Kotlin cache", "intro", "writer", 1));
+
+        strategy.onPostChanged(PostChangedEvent.updated(1L, 10L, false, "post-1"));
+        strategy.awaitIndexer();
+
+        assertThat(ids(strategy.autocomplete("spring", 10))).containsExactly(2L, 3L);
+        assertThat(ids(strategy.autocomplete("kotlin", 10))).containsExactly(1L);
+        assertThat(ids(strategy.autocomplete("cache", 10))).containsExactly(1L);
+        verify(loader, times(1)).loadAllPublished();
+    }
+
+    @Test
+    void createdPostIsInsertedInRecencyOrderAndDeletedPostIsRemoved() throws Exception {
+        // 게시글 2는 삭제되어 적재 결과에 없음
+        givenLoaded(item(4L, "Spring newest", "", "writer", 4));
+
+        strategy.onPostChanged(PostChangedEvent.of(4L, 10L, PostChangeType.CREATED, "post-4"));
+        strategy.onPostChanged(PostChangedEvent.of(2L, 10L, PostChangeType.DELETED, "post-2"));
+        strategy.awaitIndexer();
+
+        assertThat(ids(strategy.autocomplete("spring", 10))).containsExactly(4L, 1L, 3L);
+        assertThat(strategy.autocomplete("lucene", 10)).isEmpty();
+    }
+
+    @Test
+    void stackRenameReloadsPostsUsingThatStack() throws Exception {
+        PostResponse.PostItems renamed = PostResponse.PostItems.of(1L, "post-1", "Spring cache", "intro", null, null,
+                null, null, List.of(), List.of("Spring Boot"), PostResponse.AuthorInfo.of("writer", null), BASE.plusDays(1));
+        givenLoaded(renamed);
+
+        strategy.onStackChanged(StackChangedEvent.renamed(7L, "Spring", "Spring Boot", List.of(1L)));
+        strategy.awaitIndexer();
+
+        assertThat(strategy.autocomplete("cache", 10)).extracting(PostResponse.PostItems::getStacks)
+                .containsExactly(List.of("Spring Boot"));
+        verify(loader).loadPublished(List.of(1L));
+    }
+
+    @Test
+    void imageVariantsCreatedReloadsOnlyPostsUsingThatThumbnail() throws Exception {
+        when(loader.loadAllPublished()).thenReturn(List.of(
+                thumbnailItem(1L, "Spring cache", "images/a.png", List.of()),
+                thumbnailItem(2L, "Spring search", "images/b.png", List.of())
+        ));
+        strategy.rebuild();
+        ImageVariantResponse variant = new ImageVariantResponse(320, 180, "webp", "images/a-320.webp");
+        givenLoaded(thumbnailItem(1L, "Spring cache", "images/a.png", List.of(variant)));
+
+        strategy.onImageVariantsCreated(new ImageVariantsCreatedEvent(5L, "images/a.png"));
+        strategy.awaitIndexer();
+
+        assertThat(strategy.autocomplete("cache", 10)).extracting(PostResponse.PostItems::getThumbnailVariants)
+                .containsExactly(List.of(variant));
+        verify(loader).loadPublished(List.of(1L));
+    }
+
+    @Test
+    void authorChangeUpdatesAuthorOfThatAuthorsPostsOnly() {
+        strategy.onAuthorChanged(new AuthorChangedEvent(10L, "writer", "renamed", "profile.png"));
+
+        List<PostResponse.PostItems> results = strategy.autocomplete("spring", 10);
+
+        assertThat(results).extracting(item -> item.getAuthor().getNickname())
+                .containsExactly("renamed", "renamed", "other");
+        assertThat(results.get(0).getAuthor().getProfileImagePath()).isEqualTo("profile.png");
+        verify(loader, times(1)).loadAllPublished();
+    }
+
+    private void givenLoaded(PostResponse.PostItems... items) {
+        when(loader.loadPublished(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> postIds = invocation.getArgument(0);
+            return Arrays.stream(items)
+                    .filter(item -> postIds.contains(item.getId()))
+                    .collect(Collectors.toMap(PostResponse.PostItems::getId, item -> item));
+        });
+    }
+
+    private static List<Long> ids(List<PostResponse.PostItems> items) {
+        return items.stream().map(PostResponse.PostItems::getId).toList();
+    }
+
+    private static PostResponse.PostItems thumbnailItem(Long id, String title, String thumbnailPath,
+                                                        List<ImageVariantResponse> variants) {
+        return PostResponse.PostItems.of(id, "post-" + id, title, "", null, null, thumbnailPath, variants,
+                List.of(), List.of(), PostResponse.AuthorInfo.of("writer", null), BASE.plusDays(id.intValue()));
+    }
+
+    private static PostResponse.PostItems item(Long id, String title, String excerpt, String nickname, int day) {
+        return PostResponse.PostItems.of(id, "post-" + id, title, excerpt, null, null, null, null,
+                List.of(), List.of(), PostResponse.AuthorInfo.of(nickname, null), BASE.plusDays(day));
+    }
+}
@@ -0,0 +1,110 @@
+package com.blog.backend.feature.stack.catalog;
+
+import com.blog.backend.feature.stack.dto.StackResponse;
+import com.blog.backend.global.cache.version.ContentScope;
+import com.blog.backend.global.cache.version.ContentVersionChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StackCatalogTest {
+
+    private StackCatalogLoader loader;
+    private StackCatalog catalog;
+    private List<StackResponse.StackItem> stacks;
+
+    @BeforeEach
+    void setUp() {
+        stacks = new ArrayList<>(List.of(
+                stack(1L, "Java"),
+                stack(2L, "JavaScript"),
+                stack(3L, "Spring Boot"),
+                stack(4L, "NestJS"),
+                stack(5L, "React")
+        ));
+        loader = mock(StackCatalogLoader.class);
+        when(loader.loadAll()).thenAnswer(invocation -> List.copyOf(stacks));
+        catalog = new StackCatalog(loader);
+    }
+
+    @Test
+    void prefixMatchesComeBeforeInfixMatchesEachSortedByName() {
+        assertThat(names(catalog.autocomplete("js", 10))).containsExactly("NestJS");
+        assertThat(names(catalog.autocomplete("ja", 10))).containsExactly("Java", "JavaScript");
+        assertThat(names(catalog.autocomplete("s", 10))).containsExactly("Spring Boot", "JavaScript", "NestJS");
+    }
+
+    @Test
+    void autocompleteIgnoresCaseAndSurroundingWhitespace() {
+        assertThat(names(catalog.autocomplete("  SPRING b ", 10))).containsExactly("Spring Boot");
+    }
+
+    @Test
+    void autocompleteStopsAtLimitAndHandlesNoMatchOrBlankKeyword() {
+        assertThat(names(catalog.autocomplete("s", 1))).containsExactly("Spring Boot");
+        assertThat(catalog.autocomplete("kotlin", 10)).isEmpty();
+        assertThat(catalog.autocomplete("zzz", 10)).isEmpty();
+        assertThat(catalog.autocomplete(" ", 10)).isEmpty();
+        assertThat(catalog.autocomplete(null, 10)).isEmpty();
+    }
+
+    @Test
+    void resolveIdsMatchesNamesIgnoringCaseAndSkipsUnknown() {
+        assertThat(catalog.resolveIds(List.of("java", "REACT", "kotlin"))).containsExactly(1L, 5L);
+    }
+
+    @Test
+    void snapshotIsLoadedOnceAndReplacedOnlyOnRefresh() {
+        catalog.getAll();
+        catalog.autocomplete("ja", 10);
+        stacks.add(stack(6L, "Jakarta EE"));
+
+        assertThat(names(catalog.autocomplete("jak", 10))).isEmpty();
+
+        catalog.refresh();
+
+        assertThat(names(catalog.autocomplete("jak", 10))).containsExactly("Jakarta EE");
+        assertThat(catalog.findById(6L)).isPresent();
+        verify(loader, times(2)).loadAll();
+    }
+
+    @Test
+    void resolveIdsChecksDatabaseForNamesMissingFromCatalog() {
+        when(loader.findIdsByNames(List.of("Kotlin"))).thenReturn(List.of(7L));
+
+        assertThat(catalog.resolveIds(List.of("java", " Kotlin "))).containsExactly(1L, 7L);
+    }
+
+    @Test
+    void newerStackVersionFromAnotherNodeReloadsSnapshot() {
+        when(loader.loadVersion()).thenReturn(10L);
+        catalog.refresh();
+        stacks.add(stack(6L, "Jakarta EE"));
+
+        // 이미 반영된 버전이나 다른 범위는 무시
+        catalog.onContentVersionChanged(new ContentVersionChangedEvent(ContentScope.STACKS, 10L));
+        catalog.onContentVersionChanged(new ContentVersionChangedEvent(ContentScope.POSTS, 20L));
+        assertThat(catalog.findById(6L)).isEmpty();
+
+        catalog.onContentVersionChanged(new ContentVersionChangedEvent(ContentScope.STACKS, 11L));
+
+        assertThat(catalog.findById(6L)).isPresent();
+        verify(loader, times(2)).loadAll();
+    }
+
+    private StackResponse.StackItem stack(Long id, String name) {
+        return StackResponse.StackItem.builder().id(id).name(name).build();
+    }
+
+    private List<String> names(List<StackResponse.StackItem> items) {
+        return items.stream().map(StackResponse.StackItem::getName).toList();
+    }
+}
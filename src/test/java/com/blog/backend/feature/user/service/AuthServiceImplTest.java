@@ -0,0 +1,73 @@
+package com.blog.backend.feature.user.service;
+
+import com.blog.backend.feature.user.cache.UserSnapshotCache;
+import com.blog.backend.feature.user.dto.UserSnapshot;
+import com.blog.backend.feature.user.entity.UserRole;
+import com.blog.backend.feature.user.repository.UserFileRepository;
+import com.blog.backend.feature.user.repository.UserRepository;
+import com.blog.backend.global.core.exception.CustomException;
+import com.blog.backend.global.file.repository.FileMetadataRepository;
+import com.blog.backend.global.security.password.PasswordHasher;
+import com.blog.backend.infra.s3.service.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AuthServiceImplTest {
+
+    private static final UserSnapshot USER = new UserSnapshot(
+            1L, "user@example.com", "name", "nickname", UserRole.USER, null, null, null, 3);
+
+    private UserRepository userRepository;
+    private UserSnapshotCache userSnapshotCache;
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userSnapshotCache = mock(UserSnapshotCache.class);
+        authService = new AuthServiceImpl(
+                userRepository,
+                mock(UserFileRepository.class),
+                mock(FileMetadataRepository.class),
+                mock(PasswordHasher.class),
+                mock(S3Service.class),
+                mock(UserValidatorService.class),
+                userSnapshotCache
+        );
+    }
+
+    @Test
+    void refreshReadsUserFromSnapshotCache() {
+        when(userSnapshotCache.findById(1L)).thenReturn(Optional.of(USER));
+
+        assertThat(authService.getUserForRefresh(1L, 3)).isEqualTo(USER);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void refreshWithOutdatedTokenVersionIsRejected() {
+        when(userSnapshotCache.findById(1L)).thenReturn(Optional.of(USER));
+
+        assertThatThrownBy(() -> authService.getUserForRefresh(1L, 2))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED));
+    }
+
+    @Test
+    void refreshForMissingUserIsRejected() {
+        when(userSnapshotCache.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authService.getUserForRefresh(1L, 3))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED));
+    }
+}
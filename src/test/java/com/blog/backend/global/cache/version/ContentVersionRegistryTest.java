@@ -0,0 +1,116 @@
+package com.blog.backend.global.cache.version;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContentVersionRegistryTest {
+
+    private ContentVersionRepository contentVersionRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private ContentVersionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        contentVersionRepository = mock(ContentVersionRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        registry = new ContentVersionRegistry(contentVersionRepository, eventPublisher, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadUsesPersistedVersionsSoAllNodesIssueSameEtag() {
+        when(contentVersionRepository.existsById(any())).thenReturn(true);
+        when(contentVersionRepository.findAll()).thenReturn(List.of(
+                new ContentVersion(ContentScope.POSTS, 100L),
+                new ContentVersion(ContentScope.STACKS, 200L)
+        ));
+
+        registry.load();
+
+        assertThat(registry.etag(ContentScope.POSTS, ContentScope.STACKS)).isEqualTo("\"posts.64-stacks.c8\"");
+    }
+
+    @Test
+    void bumpStoresIncrementedVersionAndPublishesChange() {
+        when(contentVersionRepository.increment(eq(ContentScope.POSTS), anyLong())).thenReturn(1);
+        when(contentVersionRepository.findVersion(ContentScope.POSTS)).thenReturn(Long.MAX_VALUE - 1);
+
+        registry.bump(ContentScope.POSTS);
+
+        assertThat(registry.current(ContentScope.POSTS)).isEqualTo(Long.MAX_VALUE - 1);
+        verify(eventPublisher).publishEvent(new ContentVersionChangedEvent(ContentScope.POSTS, Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    void bumpAfterCommitIncrementsInTransactionButAppliesOnlyAfterCommit() {
+        long before = registry.current(ContentScope.STACKS);
+        when(contentVersionRepository.increment(eq(ContentScope.STACKS), anyLong())).thenReturn(1);
+        when(contentVersionRepository.findVersion(ContentScope.STACKS)).thenReturn(before + 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        registry.bumpAfterCommit(ContentScope.STACKS);
+
+        // DB 값은 트랜잭션 안에서 올리고, 메모리는 커밋 전까지 그대로
+        verify(contentVersionRepository).increment(eq(ContentScope.STACKS), anyLong());
+        assertThat(registry.current(ContentScope.STACKS)).isEqualTo(before);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(registry.current(ContentScope.STACKS)).isEqualTo(before + 10);
+    }
+
+    @Test
+    void resyncPicksUpVersionsBumpedOnOtherNodes() {
+        long before = registry.current(ContentScope.POSTS);
+        when(contentVersionRepository.findAll()).thenReturn(List.of(new ContentVersion(ContentScope.POSTS, before + 5)));
+
+        registry.resync();
+
+        assertThat(registry.current(ContentScope.POSTS)).isEqualTo(before + 5);
+        verify(eventPublisher).publishEvent(new ContentVersionChangedEvent(ContentScope.POSTS, before + 5));
+    }
+
+    @Test
+    void resyncIgnoresOlderVersions() {
+        long before = registry.current(ContentScope.POSTS);
+        when(contentVersionRepository.findAll()).thenReturn(List.of(new ContentVersion(ContentScope.POSTS, before - 5)));
+
+        registry.resync();
+
+        assertThat(registry.current(ContentScope.POSTS)).isEqualTo(before);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void bumpStillChangesLocalVersionWhenDatabaseFails() {
+        long before = registry.current(ContentScope.POSTS);
+        when(contentVersionRepository.increment(eq(ContentScope.POSTS), anyLong()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        registry.bump(ContentScope.POSTS);
+
+        assertThat(registry.current(ContentScope.POSTS)).isGreaterThan(before);
+    }
+}
@@ -0,0 +1,37 @@
+package com.blog.backend.global.core.response;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPageResponseTest {
+
+    @Test
+    void extraItemMeansNextPageAndCursorPointsAtLastReturnedItem() {
+        CursorPageResponse<Integer> page = CursorPageResponse.of(List.of(1, 2, 3), 2, String::valueOf);
+
+        assertThat(page.getContent()).containsExactly(1, 2);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("2");
+    }
+
+    @Test
+    void exactlyFullPageIsLastPage() {
+        CursorPageResponse<Integer> page = CursorPageResponse.of(List.of(1, 2), 2, String::valueOf);
+
+        assertThat(page.getContent()).containsExactly(1, 2);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void emptyResultIsLastPage() {
+        CursorPageResponse<Integer> page = CursorPageResponse.of(List.of(), 2, String::valueOf);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,130 @@
+package com.blog.backend.global.file.cleanup;
+
+import com.blog.backend.global.file.collector.FileUsageCollector;
+import com.blog.backend.global.file.entity.FileCleanupCheckpoint;
+import com.blog.backend.global.file.entity.FileMetadata;
+import com.blog.backend.global.file.service.FileMetadataService;
+import com.blog.backend.infra.s3.service.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrphanFileSweeperTest {
+
+    private static final int FILE_COUNT = 3000;
+    private static final int CHUNK_SIZE = 500;
+
+    private final List<FileMetadata> files = new ArrayList<>();
+    private final Set<Long> deletedFileIds = new HashSet<>();
+    private final Set<String> deletedS3Keys = new HashSet<>();
+    private final List<Integer> candidateSizes = new ArrayList<>();
+
+    private FileCleanupCheckpointStore checkpointStore;
+    private OrphanFileSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        LongStream.rangeClosed(1, FILE_COUNT).forEach(id -> files.add(file(id)));
+
+        FileMetadataService fileMetadataService = mock(FileMetadataService.class);
+        when(fileMetadataService.findCleanupBoundaryId(anyInt())).thenReturn(Optional.of((long) FILE_COUNT));
+        when(fileMetadataService.findCleanupChunk(anyLong(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            long boundaryId = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return files.stream()
+                    .filter(file -> file.getId() > afterId && file.getId() <= boundaryId)
+                    .limit(limit)
+                    .toList();
+        });
+
+        S3Service s3Service = mock(S3Service.class);
+        when(s3Service.deleteFiles(anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            deletedS3Keys.addAll(keys);
+            return keys;
+        });
+
+        checkpointStore = mock(FileCleanupCheckpointStore.class);
+        when(checkpointStore.load()).thenReturn(new FileCleanupCheckpoint(FileCleanupCheckpointStore.CHECKPOINT_NAME));
+        // 각 경로를 참조하는 행이 하나뿐이라 삭제한 행의 경로가 모두 S3 삭제 대상
+        doAnswer(invocation -> {
+            deletedFileIds.addAll(invocation.<List<Long>>getArgument(0));
+            return new FileCleanupCheckpointStore.ReleasedObjects(invocation.getArgument(1), List.of());
+        }).when(checkpointStore).commitChunk(anyList(), anyList(), anyLong());
+
+        // 2,500개가 사용 중: 게시글은 3의 배수가 아닌 ID, 사용자는 6의 배수 → 홀수인 3의 배수 500개만 고아
+        FileUsageCollector postFiles = usedWhere(id -> id % 3 != 0);
+        FileUsageCollector userFiles = usedWhere(id -> id % 6 == 0);
+
+        sweeper = new OrphanFileSweeper(s3Service, fileMetadataService, checkpointStore,
+                List.of(postFiles, userFiles), 24, CHUNK_SIZE, 30);
+    }
+
+    @Test
+    void onlyFilesUnusedByEveryCollectorAreDeletedWhenThousandsAreInUse() {
+        Set<Long> expectedOrphans = LongStream.rangeClosed(1, FILE_COUNT)
+                .filter(id -> id % 3 == 0 && id % 2 != 0)
+                .boxed()
+                .collect(Collectors.toSet());
+        assertThat(FILE_COUNT - expectedOrphans.size()).isGreaterThan(1000);
+
+        Optional<OrphanFileSweeper.SweepResult> result = sweeper.sweep();
+
+        assertThat(result).isPresent();
+        assertThat(deletedFileIds).isEqualTo(expectedOrphans);
+        assertThat(deletedS3Keys).isEqualTo(expectedOrphans.stream().map(this::path).collect(Collectors.toSet()));
+        verify(checkpointStore).completePass();
+    }
+
+    @Test
+    void collectorsOnlyEverSeeOneChunkOfCandidates() {
+        sweeper.sweep();
+
+        // 컬렉터 2개 × 청크 6개, IN 절 크기는 청크 크기를 넘지 않음
+        assertThat(candidateSizes).hasSize(2 * FILE_COUNT / CHUNK_SIZE);
+        assertThat(candidateSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(CHUNK_SIZE));
+    }
+
+    private FileUsageCollector usedWhere(LongPredicate used) {
+        return candidateFileIds -> {
+            candidateSizes.add(candidateFileIds.size());
+            return candidateFileIds.stream()
+                    .filter(used::test)
+                    .collect(Collectors.toSet());
+        };
+    }
+
+    private FileMetadata file(long id) {
+        FileMetadata file = FileMetadata.builder()
+                .originalName("file-" + id + ".png")
+                .path(path(id))
+                .contentType("image/png")
+                .size(1L)
+                .build();
+        ReflectionTestUtils.setField(file, "id", id);
+        return file;
+    }
+
+    private String path(long id) {
+        return "public/images/" + id + ".png";
+    }
+}
@@ -0,0 +1,94 @@
+package com.blog.backend.global.security.password;
+
+import com.blog.backend.global.core.exception.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private static final long WAIT_TIMEOUT_MILLIS = 200;
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger encodeCalls = new AtomicInteger();
+
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        // 해시 스레드 1개: 첫 해시가 끝날 때까지 다음 요청은 대기열에 머묾
+        passwordHasher = new PasswordHasher(new BlockingEncoder(), 1, 4, WAIT_TIMEOUT_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void hashAlreadyRunningPastTimeoutIsAwaitedInsteadOfRejected() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("slow"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        Thread.sleep(WAIT_TIMEOUT_MILLIS * 2);
+        release.countDown();
+
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("hash:slow");
+        assertThat(passwordHasher.stats().overrunCount()).isEqualTo(1);
+        assertThat(passwordHasher.stats().timeoutCount()).isZero();
+    }
+
+    @Test
+    void requestStillQueuedAtTimeoutIsRejectedAndNeverHashed() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("slow"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> passwordHasher.encode("queued"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+
+        release.countDown();
+        running.get(1, TimeUnit.SECONDS);
+        // 단일 스레드 FIFO: 다음 요청이 끝났으면 버려진 요청은 이미 대기열에서 빠짐
+        assertThat(passwordHasher.encode("next")).isEqualTo("hash:next");
+
+        assertThat(encodeCalls.get()).isEqualTo(2);
+        assertThat(passwordHasher.stats().timeoutCount()).isEqualTo(1);
+    }
+
+    /**
+     * 첫 호출은 release 전까지 멈추는 인코더
+     */
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (encodeCalls.incrementAndGet() == 1) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.blog.backend.global.security.revocation;
+
+import com.blog.backend.global.security.jwt.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationStoreTest {
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private TokenRevocationStore store;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        store = new TokenRevocationStore(revokedTokenRepository, 0.01, 30_000, 3_600_000);
+    }
+
+    @Test
+    void revokedJtiIsRejectedAndOtherJtiPasses() {
+        VerifiedToken revoked = token("jti-1", Instant.now().plus(1, ChronoUnit.HOURS));
+        VerifiedToken other = token("jti-2", Instant.now().plus(1, ChronoUnit.HOURS));
+
+        store.revoke(revoked);
+
+        assertThat(store.isRevoked(revoked)).isTrue();
+        assertThat(store.isRevoked(other)).isFalse();
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    void revocationSurvivesResyncBeforeDbRowIsVisible() {
+        VerifiedToken revoked = token("jti-1", Instant.now().plus(1, ChronoUnit.HOURS));
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(List.of());
+
+        store.revoke(revoked);
+        store.resync();
+
+        assertThat(store.isRevoked(revoked)).isTrue();
+    }
+
+    @Test
+    void resyncPicksUpRevocationsFromOtherNodes() {
+        VerifiedToken revokedElsewhere = token("jti-remote", Instant.now().plus(1, ChronoUnit.HOURS));
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                RevokedToken.builder()
+                        .tokenId("jti-remote")
+                        .expiresAt(LocalDateTime.now().plusHours(1))
+                        .build()
+        ));
+
+        assertThat(store.isRevoked(revokedElsewhere)).isFalse();
+
+        store.resync();
+
+        assertThat(store.isRevoked(revokedElsewhere)).isTrue();
+    }
+
+    @Test
+    void expiredOrLegacyTokensAreIgnored() {
+        VerifiedToken expired = token("jti-expired", Instant.now().minus(1, ChronoUnit.MINUTES));
+        VerifiedToken legacy = token(null, Instant.now().plus(1, ChronoUnit.HOURS));
+
+        store.revoke(expired);
+        store.revoke(legacy);
+
+        assertThat(store.isRevoked(expired)).isFalse();
+        assertThat(store.isRevoked(legacy)).isFalse();
+        verify(revokedTokenRepository, never()).save(any(RevokedToken.class));
+    }
+
+    private VerifiedToken token(String tokenId, Instant expiresAt) {
+        return new VerifiedToken(tokenId, 1L, "user@example.com", null, null, null, expiresAt);
+    }
+}